@@ -0,0 +1,154 @@
+package com.tamnara.backend.alarm.cache;
+
+import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 확인하지 않은 회원 알림 수를 회원마다 별도의 Redis 키에 짧은 TTL로 보관한다.
+ * 값이 있는 회원만 증감하고, 값이 없으면 조회 시점에 DB에서 다시 세어 채운다.
+ * DB 집계와 적재 사이에 커밋된 배포처럼 유실된 증감은 키가 만료되어 다시 셀 때 바로잡힌다.
+ * INCR를 사용하려면 값이 문자열로 저장되어야 하므로 StringRedisTemplate을 사용한다.
+ * Redis 장애 시에는 카운터를 건너뛰고 DB 집계로 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmUnreadCounter {
+
+    // INCR/DECR은 키의 TTL을 유지하므로, 적재 시점부터 TTL이 지나면 DB에서 다시 센다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                if redis.call('exists', key) == 1 then
+                    redis.call('incr', key)
+                end
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local count = tonumber(redis.call('get', KEYS[1]))
+            if count ~= nil and count > 0 then
+                return redis.call('decr', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<Long> get(Long userId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(getKey(userId));
+            return value == null ? Optional.empty() : Optional.of(Long.parseLong(value));
+        } catch (RuntimeException e) {
+            log.warn("[ALARM] 확인하지 않은 알림 수 조회 실패 - userId:{} error:{}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에서 센 값으로 카운터를 채운다. 그 사이 다른 요청이 먼저 채웠다면 덮어쓰지 않는다.
+     */
+    public void load(Long userId, long count) {
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(getKey(userId), String.valueOf(count), AlarmServiceConstant.ALARM_UNREAD_COUNT_TTL);
+        } catch (RuntimeException e) {
+            log.warn("[ALARM] 확인하지 않은 알림 수 저장 실패 - userId:{} error:{}", userId, e.getMessage());
+        }
+    }
+
+    public void increment(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> {
+            List<String> keys = userIds.stream().map(this::getKey).toList();
+            for (int from = 0; from < keys.size(); from += AlarmServiceConstant.ALARM_FANOUT_CHUNK_SIZE) {
+                int to = Math.min(from + AlarmServiceConstant.ALARM_FANOUT_CHUNK_SIZE, keys.size());
+                stringRedisTemplate.execute(INCREMENT_SCRIPT, keys.subList(from, to));
+            }
+        }, "increment");
+    }
+
+    public void decrement(Long userId) {
+        afterCommit(() -> stringRedisTemplate.execute(DECREMENT_SCRIPT, List.of(getKey(userId))), "decrement");
+    }
+
+    /**
+     * 다음 조회 때 DB에서 다시 세도록 회원의 카운터를 지운다.
+     */
+    public void evict(Long userId) {
+        afterCommit(() -> stringRedisTemplate.delete(getKey(userId)), "evict");
+    }
+
+    /**
+     * 알림이 일괄 삭제되어 모든 회원의 카운터가 달라질 수 있을 때 전체를 지운다.
+     */
+    public void evictAll() {
+        afterCommit(this::deleteAllKeys, "evictAll");
+    }
+
+    /**
+     * 헬퍼 메서드
+     */
+    private String getKey(Long userId) {
+        return AlarmServiceConstant.ALARM_UNREAD_COUNT_KEY_PREFIX + userId;
+    }
+
+    // KEYS 대신 SCAN으로 나누어 찾아, 회원 수가 많아도 Redis를 오래 막지 않는다.
+    private void deleteAllKeys() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(AlarmServiceConstant.ALARM_UNREAD_COUNT_KEY_PREFIX + "*")
+                .count(AlarmServiceConstant.ALARM_FANOUT_CHUNK_SIZE)
+                .build();
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() >= AlarmServiceConstant.ALARM_FANOUT_CHUNK_SIZE) {
+                    stringRedisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+
+    // 롤백된 변경이 카운터에 반영되지 않도록, 트랜잭션 안에서 호출되면 커밋 이후에 실행한다.
+    private void afterCommit(Runnable action, String operation) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("[ALARM] 확인하지 않은 알림 수 갱신 실패 - operation:{} error:{}", operation, e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+}
@@ -17,6 +17,13 @@ public final class AlarmMessage {
     public static final String BOOKMARK_DELETION_TITLE = "북마크 삭제";
     public static final String BOOKMARK_DELETION_CONTENT = "'%s'가 삭제되었습니다.";
 
+    // 뉴스 생성 알림 메시지
+    public static final String NEWS_CREATE_SUCCESS_TITLE = "뉴스 생성 완료";
+    public static final String NEWS_CREATE_SUCCESS_CONTENT = "요청하신 '%s' 뉴스가 생성되었습니다.";
+
+    public static final String NEWS_CREATE_FAILURE_TITLE = "뉴스 생성 실패";
+    public static final String NEWS_CREATE_FAILURE_CONTENT = "'%s'에 대한 뉴스를 생성하지 못했습니다.";
+
     // 투표 알림 메시지
     public static final String POLL_START_TITLE = "이번 주 투표 시작";
     public static final String POLL_START_CONTENT = "이번 주 투표 '%s'에 참여하세요!";
@@ -6,6 +6,8 @@ public final class AlarmResponseMessage {
     // 알림 성공 메시지
     public static final String ALARM_FETCH_SUCCESS = "요청하신 알림 목록을 성공적으로 불러왔습니다.";
     public static final String ALARM_CHECK_SUCCESS = "알림을 성공적으로 확인하였습니다.";
+    public static final String ALARM_CHECK_ALL_SUCCESS = "모든 알림을 성공적으로 확인하였습니다.";
+    public static final String ALARM_UNREAD_COUNT_FETCH_SUCCESS = "확인하지 않은 알림 수를 성공적으로 불러왔습니다.";
 
     // 알림 예외 메시지
     public static final String ALARM_NOT_FOUND = "존재하지 않는 알림입니다.";
@@ -1,5 +1,7 @@
 package com.tamnara.backend.alarm.constant;
 
+import java.time.Duration;
+
 public final class AlarmServiceConstant {
     private AlarmServiceConstant() {}
 
@@ -7,5 +9,22 @@ public final class AlarmServiceConstant {
     public static final Long ALARM_DELETE_DAYS = 14L;
     public static final String ALARM_RESPONSE_TYPE_ALL = "all";
     public static final String ALARM_RESPONSE_TYPE_BOOKMARK = "bookmark";
+    public static final String ALARM_PURGE_TARGET = "alarm";
+
+    public static final int ALARM_FANOUT_CHUNK_SIZE = 1000;
+
+    public static final String ALARM_UNREAD_COUNT_KEY_PREFIX = "ALARM_UNREAD_COUNT:";
+    public static final Duration ALARM_UNREAD_COUNT_TTL = Duration.ofMinutes(5);
+
+    public static final int ALARM_OUTBOX_BATCH_SIZE = 100;
+    public static final int ALARM_OUTBOX_WORKER_CNT = 4;
+    public static final long ALARM_OUTBOX_POLL_DELAY_MS = 1000L;
+    public static final int ALARM_OUTBOX_MAX_ATTEMPTS = 5;
+    public static final Duration ALARM_OUTBOX_RETRY_BASE_DELAY = Duration.ofSeconds(10);
+    public static final Duration ALARM_OUTBOX_CLAIM_LEASE = Duration.ofMinutes(5);
+    public static final Long ALARM_OUTBOX_RETENTION_DAYS = 1L;
+
+    public static final long ALARM_SSE_TIMEOUT_MS = 30 * 60 * 1000L;
+    public static final long ALARM_SSE_HEARTBEAT_MS = 25 * 1000L;
 
 }
@@ -2,6 +2,7 @@ package com.tamnara.backend.alarm.controller;
 
 import com.tamnara.backend.alarm.constant.AlarmResponseMessage;
 import com.tamnara.backend.alarm.dto.response.AlarmListResponse;
+import com.tamnara.backend.alarm.push.AlarmEmitterRegistry;
 import com.tamnara.backend.alarm.service.AlarmService;
 import com.tamnara.backend.global.constant.ResponseMessage;
 import com.tamnara.backend.global.dto.WrappedDTO;
@@ -9,14 +10,17 @@ import com.tamnara.backend.global.exception.CustomException;
 import com.tamnara.backend.user.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +31,7 @@ import java.util.List;
 public class AlarmController {
 
     private final AlarmService alarmService;
+    private final AlarmEmitterRegistry alarmEmitterRegistry;
 
     @GetMapping
     public ResponseEntity<WrappedDTO<List<AlarmListResponse>>> getAlarmPage(
@@ -60,9 +65,59 @@ public class AlarmController {
         }
     }
 
+    @GetMapping("/unread-count")
+    public ResponseEntity<WrappedDTO<Long>> getUnreadAlarmCount(
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        try {
+            if (userDetails == null || userDetails.getUser() == null) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, ResponseMessage.USER_NOT_CERTIFICATION);
+            }
+
+            Long userId = userDetails.getUser().getId();
+            Long unreadCount = alarmService.getUnreadAlarmCount(userId);
+
+            return ResponseEntity.ok().body(
+                    new WrappedDTO<>(
+                            true,
+                            AlarmResponseMessage.ALARM_UNREAD_COUNT_FETCH_SUCCESS,
+                            unreadCount
+                    ));
+
+        } catch (ResponseStatusException e) {
+            throw new CustomException(HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ResponseMessage.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAlarms(
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        try {
+            if (userDetails == null || userDetails.getUser() == null) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, ResponseMessage.USER_NOT_CERTIFICATION);
+            }
+
+            Long userId = userDetails.getUser().getId();
+            return alarmEmitterRegistry.connect(userId, alarmService.getUnreadAlarmCount(userId));
+
+        } catch (ResponseStatusException e) {
+            throw new CustomException(HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @PatchMapping("/{alarmId}")
     public ResponseEntity<WrappedDTO<Long>> checkAlarm(
             @PathVariable Long alarmId,
+            @RequestParam(defaultValue = "false") boolean broadcast,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
         try {
@@ -71,7 +126,9 @@ public class AlarmController {
             }
 
             Long userId = userDetails.getUser().getId();
-            Long checkedAlarmId = alarmService.checkUserAlarm(alarmId, userId);
+            Long checkedAlarmId = broadcast
+                    ? alarmService.checkBroadcastAlarm(alarmId, userId)
+                    : alarmService.checkUserAlarm(alarmId, userId);
 
             return ResponseEntity.ok().body(
                     new WrappedDTO<>(
@@ -89,4 +146,33 @@ public class AlarmController {
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @PatchMapping("/read-all")
+    public ResponseEntity<WrappedDTO<Integer>> checkAllAlarms(
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        try {
+            if (userDetails == null || userDetails.getUser() == null) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, ResponseMessage.USER_NOT_CERTIFICATION);
+            }
+
+            Long userId = userDetails.getUser().getId();
+            Integer checkedCount = alarmService.checkAllAlarms(userId);
+
+            return ResponseEntity.ok().body(
+                    new WrappedDTO<>(
+                            true,
+                            AlarmResponseMessage.ALARM_CHECK_ALL_SUCCESS,
+                            checkedCount
+                    ));
+
+        } catch (ResponseStatusException e) {
+            throw new CustomException(HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ResponseMessage.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
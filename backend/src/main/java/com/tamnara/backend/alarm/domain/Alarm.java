@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -22,7 +23,7 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(of = "id")
-@Table(name = "alarms")
+@Table(name = "alarms", indexes = @Index(name = "idx_is_broadcast_id_desc", columnList = "is_broadcast, id DESC"))
 public class Alarm {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -44,4 +45,7 @@ public class Alarm {
 
     @Column(name = "target_id", nullable = true)
     private Long targetId;
+
+    @Column(name = "is_broadcast", nullable = false)
+    private Boolean isBroadcast = false;
 }
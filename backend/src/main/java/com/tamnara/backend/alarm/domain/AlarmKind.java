@@ -0,0 +1,9 @@
+package com.tamnara.backend.alarm.domain;
+
+/**
+ * 회원 알림이 어느 알림 탭에 속하는지 나타낸다. 배포 시점에 정해지며, 탭별 목록은 이 값으로 조회한다.
+ */
+public enum AlarmKind {
+    GENERAL,
+    BOOKMARK
+}
@@ -0,0 +1,88 @@
+package com.tamnara.backend.alarm.domain;
+
+import com.tamnara.backend.alarm.domain.converter.LongListConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 발행된 알림 이벤트를 발행한 트랜잭션과 함께 저장해 두는 아웃박스.
+ * 커밋된 이벤트만 릴레이가 읽어 알림으로 배포하므로, 재시작 중에도 이벤트가 유실되지 않는다.
+ */
+@Getter
+@Setter
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@EqualsAndHashCode(of = "id")
+@Table(name = "alarm_outbox", indexes = @Index(name = "idx_status_next_attempt_at", columnList = "status, next_attempt_at"))
+public class AlarmOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "title", length = 14, nullable = false)
+    private String title;
+
+    @Column(name = "content", length = 255, nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 50, nullable = true)
+    private AlarmType targetType;
+
+    @Column(name = "target_id", nullable = true)
+    private Long targetId;
+
+    @Column(name = "is_broadcast", nullable = false)
+    private Boolean isBroadcast = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 20, nullable = false, columnDefinition = "VARCHAR(20) NOT NULL DEFAULT 'GENERAL'")
+    private AlarmKind kind = AlarmKind.GENERAL;
+
+    @Convert(converter = LongListConverter.class)
+    @Column(name = "receiver_ids", columnDefinition = "MEDIUMTEXT", nullable = false)
+    private List<Long> receiverIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private AlarmOutboxStatus status = AlarmOutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_by", length = 36, nullable = true)
+    private String claimedBy;
+
+    @Column(name = "claimed_at", nullable = true)
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 255, nullable = true)
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at", nullable = true)
+    private LocalDateTime processedAt;
+}
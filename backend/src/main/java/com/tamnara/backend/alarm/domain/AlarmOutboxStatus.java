@@ -0,0 +1,8 @@
+package com.tamnara.backend.alarm.domain;
+
+public enum AlarmOutboxStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,51 @@
+package com.tamnara.backend.alarm.domain;
+
+import com.tamnara.backend.user.domain.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 알림은 회원별 행을 만들지 않으므로, 회원이 확인한 전체 알림만 기록한다.
+ */
+@Getter
+@Setter
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@EqualsAndHashCode(of = "id")
+@Table(name = "broadcast_alarm_read",
+        uniqueConstraints = @UniqueConstraint(name = "uk_broadcast_alarm_read_user_alarm", columnNames = {"user_id", "alarm_id"}))
+public class BroadcastAlarmRead {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "alarm_id", referencedColumnName = "id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Alarm alarm;
+
+    @Column(name = "checked_at", nullable = false)
+    private LocalDateTime checkedAt;
+}
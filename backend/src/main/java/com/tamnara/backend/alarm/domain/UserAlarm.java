@@ -4,6 +4,8 @@ import com.tamnara.backend.user.domain.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -26,7 +28,10 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(of = "id")
-@Table(name = "user_alarm", indexes = @Index(name = "idx_user_id_id_desc", columnList = "user_id, id DESC"))
+@Table(name = "user_alarm", indexes = {
+        @Index(name = "idx_user_id_id_desc", columnList = "user_id, id DESC"),
+        @Index(name = "idx_user_id_kind_id_desc", columnList = "user_id, kind, id DESC")
+})
 public class UserAlarm {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,6 +43,10 @@ public class UserAlarm {
     @Column(name = "checked_at", nullable = true)
     private LocalDateTime checkedAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 20, nullable = false, columnDefinition = "VARCHAR(20) NOT NULL DEFAULT 'GENERAL'")
+    private AlarmKind kind = AlarmKind.GENERAL;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false, updatable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
@@ -25,4 +25,5 @@ public class AlarmCardDTO {
     @ValueOfEnum(enumClass = AlarmType.class, message = "타겟 종류 값이 올바르지 않습니다.")
     private String targetType;
     private Long targetId;
+    private Boolean isBroadcast;
 }
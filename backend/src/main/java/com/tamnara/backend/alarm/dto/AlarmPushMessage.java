@@ -0,0 +1,41 @@
+package com.tamnara.backend.alarm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 서버 간 Redis 채널로 전달되는 실시간 알림.
+ * 회원 알림 카드는 회원마다 id가 다르므로, 알림 내용 한 벌과 회원별 회원 알림 id를 함께 담는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlarmPushMessage {
+    private Long alarmId;
+    private String title;
+    private String content;
+    private LocalDateTime createdAt;
+    private String targetType;
+    private Long targetId;
+    private Boolean isBroadcast;
+
+    // 회원 id -> 회원 알림 id (전체 알림이면 비어 있음)
+    private Map<Long, Long> userAlarmIds;
+
+    public AlarmCardDTO toAlarmCardDTO(Long id) {
+        return new AlarmCardDTO(
+                id,
+                title,
+                content,
+                false,
+                createdAt,
+                targetType,
+                targetId,
+                isBroadcast
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.tamnara.backend.alarm.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 알림 이벤트를 한 번에 아웃박스에 기록하도록 묶은 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class AlarmBatchEvent {
+    private final List<AlarmEvent> events;
+}
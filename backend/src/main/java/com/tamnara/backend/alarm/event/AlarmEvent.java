@@ -1,17 +1,47 @@
 package com.tamnara.backend.alarm.event;
 
+import com.tamnara.backend.alarm.domain.AlarmKind;
 import com.tamnara.backend.alarm.domain.AlarmType;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 @Getter
-@RequiredArgsConstructor
 public class AlarmEvent {
     private final List<Long> receiverId;
     private final String title;
     private final String content;
     private final AlarmType targetType;
     private final Long targetId;
+    private final boolean broadcast;
+    private final AlarmKind kind;
+
+    public AlarmEvent(List<Long> receiverId, String title, String content, AlarmType targetType, Long targetId) {
+        this(receiverId, title, content, targetType, targetId, false, AlarmKind.GENERAL);
+    }
+
+    private AlarmEvent(List<Long> receiverId, String title, String content, AlarmType targetType, Long targetId,
+                       boolean broadcast, AlarmKind kind) {
+        this.receiverId = receiverId;
+        this.title = title;
+        this.content = content;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.broadcast = broadcast;
+        this.kind = kind;
+    }
+
+    /**
+     * 전체 회원에게 보내는 알림 이벤트. 회원별 알림 없이 전체 알림 한 건으로 저장된다.
+     */
+    public static AlarmEvent broadcast(String title, String content, AlarmType targetType, Long targetId) {
+        return new AlarmEvent(List.of(), title, content, targetType, targetId, true, AlarmKind.GENERAL);
+    }
+
+    /**
+     * 뉴스를 북마크한 회원에게 보내는 알림 이벤트. 북마크 알림 탭에 표시된다.
+     */
+    public static AlarmEvent bookmark(List<Long> receiverId, String title, String content, AlarmType targetType, Long targetId) {
+        return new AlarmEvent(receiverId, title, content, targetType, targetId, false, AlarmKind.BOOKMARK);
+    }
 }
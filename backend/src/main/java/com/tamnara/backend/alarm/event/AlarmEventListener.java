@@ -1,46 +1,42 @@
 package com.tamnara.backend.alarm.event;
 
-import com.tamnara.backend.alarm.domain.Alarm;
-import com.tamnara.backend.alarm.domain.UserAlarm;
-import com.tamnara.backend.alarm.repository.AlarmRepository;
-import com.tamnara.backend.alarm.repository.UserAlarmRepository;
-import com.tamnara.backend.user.domain.User;
-import com.tamnara.backend.user.repository.UserRepository;
+import com.tamnara.backend.alarm.domain.AlarmOutbox;
+import com.tamnara.backend.alarm.repository.AlarmOutboxBulkRepository;
+import com.tamnara.backend.alarm.repository.AlarmOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
+/**
+ * 알림 이벤트를 발행한 스레드에서 바로 아웃박스에 기록한다.
+ * 발행한 쪽의 트랜잭션에 함께 참여하므로, 롤백된 작업의 알림은 배포되지 않는다.
+ * 실제 배포는 {@link com.tamnara.backend.alarm.outbox.AlarmOutboxRelay}가 커밋된 이벤트를 읽어 수행한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class AlarmEventListener {
 
-    private final AlarmRepository alarmRepository;
-    private final UserAlarmRepository userAlarmRepository;
-    private final UserRepository userRepository;
+    private final AlarmOutboxRepository alarmOutboxRepository;
+    private final AlarmOutboxBulkRepository alarmOutboxBulkRepository;
 
-    @Async
     @EventListener
     public void handleAlarmEvent(AlarmEvent event) {
-        Alarm alarm = new Alarm();
-        alarm.setTitle(event.getTitle());
-        alarm.setContent(event.getContent());
-        alarm.setTargetType(event.getTargetType());
-        alarm.setTargetId(event.getTargetId());
-        alarmRepository.save(alarm);
-
-        for (Long userId : event.getReceiverId()) {
-            Optional<User> user = userRepository.findById(userId);
-            if (user.isEmpty()) {
-                continue;
-            }
+        AlarmOutbox outbox = new AlarmOutbox();
+        outbox.setTitle(event.getTitle());
+        outbox.setContent(event.getContent());
+        outbox.setTargetType(event.getTargetType());
+        outbox.setTargetId(event.getTargetId());
+        outbox.setIsBroadcast(event.isBroadcast());
+        outbox.setKind(event.getKind());
+        outbox.setReceiverIds(event.getReceiverId());
+        outbox.setNextAttemptAt(LocalDateTime.now());
+        alarmOutboxRepository.save(outbox);
+    }
 
-            UserAlarm userAlarm = new UserAlarm();
-            userAlarm.setUser(user.get());
-            userAlarm.setAlarm(alarm);
-            userAlarmRepository.save(userAlarm);
-        }
+    @EventListener
+    public void handleAlarmBatchEvent(AlarmBatchEvent event) {
+        alarmOutboxBulkRepository.insertAll(event.getEvents());
     }
 }
@@ -0,0 +1,247 @@
+package com.tamnara.backend.alarm.outbox;
+
+import com.tamnara.backend.alarm.cache.AlarmUnreadCounter;
+import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
+import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmOutbox;
+import com.tamnara.backend.alarm.domain.AlarmOutboxStatus;
+import com.tamnara.backend.alarm.dto.AlarmPushMessage;
+import com.tamnara.backend.alarm.push.AlarmPushBroker;
+import com.tamnara.backend.alarm.repository.AlarmOutboxRepository;
+import com.tamnara.backend.alarm.repository.AlarmRepository;
+import com.tamnara.backend.alarm.repository.UserAlarmBulkRepository;
+import com.tamnara.backend.alarm.service.AlarmFanoutEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스에 쌓인 알림 이벤트를 배치 단위로 선점해 정해진 수의 작업자로 배포한다.
+ * 한 배치를 모두 처리한 뒤에 다음 배치를 선점하므로, 이벤트가 몰려도 DB와 작업자 부하는 일정하게 유지되고
+ * 처리하지 못한 이벤트는 아웃박스에 남아 다음 주기에 이어서 처리된다.
+ * 실패한 이벤트는 지수 백오프로 재시도하고, 최대 시도 횟수를 넘기면 FAILED로 남긴다.
+ * 배포가 커밋된 알림은 {@link AlarmPushBroker}를 통해 연결된 회원에게 실시간으로 전송한다.
+ */
+@Slf4j
+@Component
+public class AlarmOutboxRelay {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 255;
+
+    private final AlarmOutboxRepository alarmOutboxRepository;
+    private final AlarmRepository alarmRepository;
+    private final AlarmFanoutEngine alarmFanoutEngine;
+    private final UserAlarmBulkRepository userAlarmBulkRepository;
+    private final AlarmPushBroker alarmPushBroker;
+    private final AlarmUnreadCounter alarmUnreadCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String relayId = UUID.randomUUID().toString();
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private final Timer processLatency;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    public AlarmOutboxRelay(AlarmOutboxRepository alarmOutboxRepository,
+                            AlarmRepository alarmRepository,
+                            AlarmFanoutEngine alarmFanoutEngine,
+                            UserAlarmBulkRepository userAlarmBulkRepository,
+                            AlarmPushBroker alarmPushBroker,
+                            AlarmUnreadCounter alarmUnreadCounter,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.alarmOutboxRepository = alarmOutboxRepository;
+        this.alarmRepository = alarmRepository;
+        this.alarmFanoutEngine = alarmFanoutEngine;
+        this.userAlarmBulkRepository = userAlarmBulkRepository;
+        this.alarmPushBroker = alarmPushBroker;
+        this.alarmUnreadCounter = alarmUnreadCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = new ThreadPoolExecutor(
+                AlarmServiceConstant.ALARM_OUTBOX_WORKER_CNT,
+                AlarmServiceConstant.ALARM_OUTBOX_WORKER_CNT,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(AlarmServiceConstant.ALARM_OUTBOX_BATCH_SIZE),
+                Thread.ofVirtual().name("alarm-outbox-", 0).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        Gauge.builder("alarm.outbox.depth", pendingCount, AtomicLong::get)
+                .description("배포 대기 중인 알림 이벤트 수")
+                .register(meterRegistry);
+        this.processLatency = Timer.builder("alarm.outbox.latency")
+                .description("알림 이벤트 발행부터 배포 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("alarm.outbox.retries")
+                .description("재시도 예약된 알림 이벤트 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("alarm.outbox.failed")
+                .description("최대 시도 횟수를 넘겨 실패 처리된 알림 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = AlarmServiceConstant.ALARM_OUTBOX_POLL_DELAY_MS)
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = alarmOutboxRepository.releaseExpiredClaims(now.minus(AlarmServiceConstant.ALARM_OUTBOX_CLAIM_LEASE));
+        if (released > 0) {
+            log.warn("[ALARM] 처리되지 않은 알림 이벤트 선점 해제 - count:{}", released);
+        }
+
+        while (true) {
+            int claimed = alarmOutboxRepository.claimBatch(relayId, LocalDateTime.now(), AlarmServiceConstant.ALARM_OUTBOX_BATCH_SIZE);
+            if (claimed == 0) {
+                break;
+            }
+
+            List<AlarmOutbox> batch = alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(relayId, AlarmOutboxStatus.PROCESSING);
+            List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+            for (AlarmOutbox outbox : batch) {
+                futures.add(CompletableFuture.runAsync(() -> process(outbox), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            if (claimed < AlarmServiceConstant.ALARM_OUTBOX_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        pendingCount.set(alarmOutboxRepository.countByStatus(AlarmOutboxStatus.PENDING));
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeProcessed() {
+        int deleted = alarmOutboxRepository.deleteProcessedBefore(
+                LocalDateTime.now().minusDays(AlarmServiceConstant.ALARM_OUTBOX_RETENTION_DAYS));
+        log.info("[ALARM] 처리 완료된 알림 이벤트 삭제 - count:{}", deleted);
+    }
+
+    /**
+     * 알림 저장, 회원 알림 배포, 완료 표시를 하나의 트랜잭션으로 수행해 재시도 시 알림이 중복되지 않도록 한다.
+     * 처리 도중 선점이 만료되어 다른 서버가 이벤트를 다시 가져갔다면 완료 표시가 실패하고, 배포 전체를 롤백한다.
+     * @return 커밋 후 실시간으로 전송할 알림
+     */
+    public AlarmPushMessage deliver(AlarmOutbox outbox) {
+        Alarm alarm = new Alarm();
+        alarm.setTitle(outbox.getTitle());
+        alarm.setContent(outbox.getContent());
+        alarm.setTargetType(outbox.getTargetType());
+        alarm.setTargetId(outbox.getTargetId());
+        alarm.setIsBroadcast(outbox.getIsBroadcast());
+        Alarm savedAlarm = alarmRepository.save(alarm);
+
+        // 전체 알림은 알림 한 건만 저장하고, 회원별 알림은 만들지 않는다.
+        Map<Long, Long> userAlarmIds = Map.of();
+        if (!outbox.getIsBroadcast()) {
+            alarmFanoutEngine.fanOut(savedAlarm.getId(), outbox.getKind(), outbox.getReceiverIds(), outbox.getCreatedAt());
+            userAlarmIds = userAlarmBulkRepository.findUserAlarmIdsByAlarmId(savedAlarm.getId());
+            alarmUnreadCounter.increment(userAlarmIds.keySet());
+        }
+
+        LocalDateTime processedAt = LocalDateTime.now();
+        if (alarmOutboxRepository.markDone(outbox.getId(), relayId, processedAt) == 0) {
+            throw new ClaimLostException(outbox.getId());
+        }
+        outbox.setStatus(AlarmOutboxStatus.DONE);
+        outbox.setProcessedAt(processedAt);
+
+        return new AlarmPushMessage(
+                savedAlarm.getId(),
+                savedAlarm.getTitle(),
+                savedAlarm.getContent(),
+                savedAlarm.getCreatedAt(),
+                savedAlarm.getTargetType() == null ? null : savedAlarm.getTargetType().toString(),
+                savedAlarm.getTargetId(),
+                savedAlarm.getIsBroadcast(),
+                userAlarmIds
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        log.info("[ALARM] 알림 아웃박스 작업자 종료 시작 - queueSize:{} active:{}", executor.getQueue().size(), executor.getActiveCount());
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private void process(AlarmOutbox outbox) {
+        try {
+            AlarmPushMessage message = transactionTemplate.execute(status -> deliver(outbox));
+            if (outbox.getCreatedAt() != null) {
+                processLatency.record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+            }
+            alarmPushBroker.publish(message);
+        } catch (ClaimLostException e) {
+            // 이벤트를 다시 가져간 서버가 배포하므로, 재시도를 예약해 그 서버의 상태를 덮어쓰지 않는다.
+            log.warn("[ALARM] 선점이 만료된 알림 이벤트 배포 취소 - outboxId:{}", outbox.getId());
+        } catch (RuntimeException e) {
+            log.error("[ALARM] 알림 이벤트 배포 실패 - outboxId:{} attempts:{} error:{}", outbox.getId(), outbox.getAttempts() + 1, e.getMessage());
+            scheduleRetry(outbox, e);
+        }
+    }
+
+    private void scheduleRetry(AlarmOutbox outbox, RuntimeException e) {
+        int attempts = outbox.getAttempts() + 1;
+        outbox.setAttempts(attempts);
+        outbox.setClaimedBy(null);
+        outbox.setProcessedAt(null);
+        outbox.setLastError(truncate(e.getMessage()));
+
+        if (attempts >= AlarmServiceConstant.ALARM_OUTBOX_MAX_ATTEMPTS) {
+            outbox.setStatus(AlarmOutboxStatus.FAILED);
+            failureCounter.increment();
+        } else {
+            Duration delay = AlarmServiceConstant.ALARM_OUTBOX_RETRY_BASE_DELAY.multipliedBy(1L << (attempts - 1));
+            outbox.setStatus(AlarmOutboxStatus.PENDING);
+            outbox.setNextAttemptAt(LocalDateTime.now().plus(delay));
+            retryCounter.increment();
+        }
+
+        try {
+            alarmOutboxRepository.save(outbox);
+        } catch (RuntimeException saveException) {
+            // 상태를 저장하지 못해도 선점 만료 후 다시 처리 대기 상태로 돌아간다.
+            log.error("[ALARM] 알림 이벤트 재시도 예약 실패 - outboxId:{} error:{}", outbox.getId(), saveException.getMessage());
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= LAST_ERROR_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+
+    static class ClaimLostException extends RuntimeException {
+        ClaimLostException(Long outboxId) {
+            super("선점이 만료된 알림 이벤트입니다. outboxId:" + outboxId);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.tamnara.backend.alarm.push;
+
+import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
+import com.tamnara.backend.alarm.dto.AlarmPushMessage;
+import com.tamnara.backend.global.sse.KeyedEmitterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 서버에 연결된 회원들에게 실시간 알림을 전송한다. 연결 관리는 {@link KeyedEmitterRegistry}가 회원별로 맡는다.
+ * 다른 서버에서 생성된 알림은 {@link AlarmPushBroker}가 Redis 채널로 받아 이곳으로 전달한다.
+ */
+@Slf4j
+@Component
+public class AlarmEmitterRegistry {
+
+    private static final String CONNECT_EVENT_NAME = "connect";
+    private static final String ALARM_EVENT_NAME = "alarm";
+
+    private final KeyedEmitterRegistry emitters;
+    private final Counter pushCounter;
+
+    public AlarmEmitterRegistry(MeterRegistry meterRegistry) {
+        this.emitters = new KeyedEmitterRegistry(
+                "alarm",
+                AlarmServiceConstant.ALARM_SSE_TIMEOUT_MS,
+                meterRegistry,
+                "alarm.sse.connections",
+                "이 서버에 연결된 실시간 알림 구독 수"
+        );
+        this.pushCounter = Counter.builder("alarm.sse.pushed")
+                .description("실시간으로 전송된 알림 카드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param unreadCnt 연결 직후 전송할 확인하지 않은 알림 수
+     */
+    public SseEmitter connect(Long userId, Long unreadCnt) {
+        SseEmitter emitter = emitters.register(userId);
+
+        // 연결 직후 이벤트를 보내야 프록시가 응답을 붙잡아 두지 않고 스트림을 바로 연다.
+        emitters.send(userId, emitter, SseEmitter.event().name(CONNECT_EVENT_NAME).data(unreadCnt));
+        log.info("[ALARM] 실시간 알림 구독 - userId:{} connectionCnt:{}", userId, emitters.getConnectionCnt());
+        return emitter;
+    }
+
+    public void dispatch(AlarmPushMessage message) {
+        if (message.getIsBroadcast()) {
+            emitters.getKeys().forEach(userId -> sendAsync(userId, message, message.getAlarmId()));
+            return;
+        }
+
+        message.getUserAlarmIds().forEach((userId, userAlarmId) -> sendAsync(userId, message, userAlarmId));
+    }
+
+    @Scheduled(fixedDelay = AlarmServiceConstant.ALARM_SSE_HEARTBEAT_MS)
+    public void heartbeat() {
+        emitters.heartbeat();
+    }
+
+    public int getConnectionCnt() {
+        return emitters.getConnectionCnt();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.shutdown();
+    }
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private void sendAsync(Long userId, AlarmPushMessage message, Long cardId) {
+        emitters.sendAsync(userId, () -> SseEmitter.event()
+                        .id(String.valueOf(message.getAlarmId()))
+                        .name(ALARM_EVENT_NAME)
+                        .data(message.toAlarmCardDTO(cardId), MediaType.APPLICATION_JSON),
+                pushCounter::increment);
+    }
+}
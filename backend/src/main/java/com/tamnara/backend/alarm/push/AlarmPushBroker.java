@@ -0,0 +1,60 @@
+package com.tamnara.backend.alarm.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tamnara.backend.alarm.dto.AlarmPushMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장이 끝난 알림을 Redis pub/sub 채널로 모든 서버에 전달한다.
+ * 각 서버는 채널을 구독하다가 자신에게 연결된 회원에게만 알림을 전송하므로,
+ * 알림을 만든 서버와 회원이 연결된 서버가 달라도 실시간으로 전달된다.
+ * 실시간 전송은 부가 기능이므로 실패해도 예외를 던지지 않으며, 알림은 목록 조회로 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmPushBroker implements MessageListener {
+
+    static final String CHANNEL = "ALARM_PUSH";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final AlarmEmitterRegistry alarmEmitterRegistry;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void publish(AlarmPushMessage message) {
+        if (message == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[ALARM] 실시간 알림 발행 실패 - alarmId:{} error:{}", message.getAlarmId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            alarmEmitterRegistry.dispatch(objectMapper.readValue((String) body, AlarmPushMessage.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[ALARM] 실시간 알림 수신 처리 실패 - error:{}", e.getMessage());
+        }
+    }
+}
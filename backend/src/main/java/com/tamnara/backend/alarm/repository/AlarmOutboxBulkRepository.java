@@ -0,0 +1,55 @@
+package com.tamnara.backend.alarm.repository;
+
+import com.tamnara.backend.alarm.domain.AlarmOutboxStatus;
+import com.tamnara.backend.alarm.domain.converter.LongListConverter;
+import com.tamnara.backend.alarm.event.AlarmEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 알림 이벤트를 JDBC 배치로 아웃박스에 저장한다.
+ * IDENTITY 전략의 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmOutboxBulkRepository {
+
+    private static final String INSERT_OUTBOX_SQL = """
+        INSERT INTO alarm_outbox
+            (title, content, target_type, target_id, is_broadcast, kind, receiver_ids, status, attempts, next_attempt_at, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LongListConverter longListConverter = new LongListConverter();
+
+    public void insertAll(List<AlarmEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (AlarmEvent event : events) {
+            args.add(new Object[]{
+                    event.getTitle(),
+                    event.getContent(),
+                    event.getTargetType() == null ? null : event.getTargetType().name(),
+                    event.getTargetId(),
+                    event.isBroadcast(),
+                    event.getKind().name(),
+                    longListConverter.convertToDatabaseColumn(event.getReceiverId()),
+                    AlarmOutboxStatus.PENDING.name(),
+                    now,
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, args);
+    }
+}
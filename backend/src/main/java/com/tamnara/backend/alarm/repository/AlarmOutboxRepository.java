@@ -0,0 +1,73 @@
+package com.tamnara.backend.alarm.repository;
+
+import com.tamnara.backend.alarm.domain.AlarmOutbox;
+import com.tamnara.backend.alarm.domain.AlarmOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AlarmOutboxRepository extends JpaRepository<AlarmOutbox, Long> {
+    /**
+     * 처리할 차례가 된 이벤트를 오래된 순으로 최대 limit개 선점한다.
+     * 한 번의 UPDATE로 선점하므로 여러 서버가 같은 이벤트를 중복 처리하지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE alarm_outbox
+        SET status = 'PROCESSING', claimed_by = :claimedBy, claimed_at = :now
+        WHERE status = 'PENDING'
+          AND next_attempt_at <= :now
+        ORDER BY id
+        LIMIT :limit
+    """, nativeQuery = true)
+    int claimBatch(@Param("claimedBy") String claimedBy, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    List<AlarmOutbox> findByClaimedByAndStatusOrderByIdAsc(String claimedBy, AlarmOutboxStatus status);
+
+    /**
+     * 선점한 서버가 처리 도중 종료되어 남은 이벤트를 다시 처리 대기 상태로 되돌린다.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE AlarmOutbox o
+        SET o.status = com.tamnara.backend.alarm.domain.AlarmOutboxStatus.PENDING, o.claimedBy = null
+        WHERE o.status = com.tamnara.backend.alarm.domain.AlarmOutboxStatus.PROCESSING
+          AND o.claimedAt < :cutoff
+    """)
+    int releaseExpiredClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 이 서버가 선점한 상태 그대로일 때만 완료 처리한다.
+     * 선점이 만료되어 다른 서버가 다시 가져간 이벤트라면 0을 반환한다.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE AlarmOutbox o
+        SET o.status = com.tamnara.backend.alarm.domain.AlarmOutboxStatus.DONE, o.processedAt = :processedAt
+        WHERE o.id = :id
+          AND o.claimedBy = :claimedBy
+          AND o.status = com.tamnara.backend.alarm.domain.AlarmOutboxStatus.PROCESSING
+    """)
+    int markDone(@Param("id") Long id, @Param("claimedBy") String claimedBy, @Param("processedAt") LocalDateTime processedAt);
+
+    long countByStatus(AlarmOutboxStatus status);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        DELETE FROM AlarmOutbox o
+        WHERE o.status = com.tamnara.backend.alarm.domain.AlarmOutboxStatus.DONE
+          AND o.processedAt < :cutoff
+    """)
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
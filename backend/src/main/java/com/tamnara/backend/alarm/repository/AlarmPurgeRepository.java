@@ -0,0 +1,54 @@
+package com.tamnara.backend.alarm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 삭제 전에 알림에 딸린 회원 알림과 전체 알림 확인 기록을 정해진 행 수씩 나누어 삭제한다.
+ * 알림을 바로 지우면 ON DELETE CASCADE가 딸린 행 전체를 한 문장에서 지우므로, 하위 행을 먼저 비워 한 번에 잡는 잠금을 줄인다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmPurgeRepository {
+
+    private static final String DELETE_USER_ALARMS_SQL = "DELETE FROM user_alarm WHERE alarm_id IN (%s) LIMIT ?";
+    private static final String DELETE_BROADCAST_ALARM_READS_SQL = "DELETE FROM broadcast_alarm_read WHERE alarm_id IN (%s) LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 삭제된 회원 알림 수 (최대 limit개)
+     */
+    public int deleteUserAlarms(List<Long> alarmIds, int limit) {
+        return deleteByAlarmIds(DELETE_USER_ALARMS_SQL, alarmIds, limit);
+    }
+
+    /**
+     * @return 삭제된 전체 알림 확인 기록 수 (최대 limit개)
+     */
+    public int deleteBroadcastAlarmReads(List<Long> alarmIds, int limit) {
+        return deleteByAlarmIds(DELETE_BROADCAST_ALARM_READS_SQL, alarmIds, limit);
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+    private int deleteByAlarmIds(String sql, List<Long> alarmIds, int limit) {
+        if (alarmIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(alarmIds.size(), "?"));
+        Object[] args = new Object[alarmIds.size() + 1];
+        for (int i = 0; i < alarmIds.size(); i++) {
+            args[i] = alarmIds.get(i);
+        }
+        args[alarmIds.size()] = limit;
+        return jdbcTemplate.update(String.format(sql, placeholders), args);
+    }
+}
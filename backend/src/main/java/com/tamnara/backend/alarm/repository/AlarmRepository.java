@@ -2,6 +2,7 @@ package com.tamnara.backend.alarm.repository;
 
 import com.tamnara.backend.alarm.domain.Alarm;
 import com.tamnara.backend.alarm.domain.AlarmType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,17 +11,47 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
     List<Alarm> findByTargetTypeAndTargetIdOrderByIdDesc(AlarmType targetType, Long targetId);
 
+    @Query("""
+        SELECT a FROM Alarm a
+        WHERE a.isBroadcast = true
+          AND a.createdAt >= :since
+        ORDER BY a.id DESC
+    """)
+    List<Alarm> findBroadcastAlarms(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("""
+        SELECT COUNT(a) FROM Alarm a
+        WHERE a.isBroadcast = true
+          AND a.createdAt >= :since
+          AND NOT EXISTS (
+              SELECT r FROM BroadcastAlarmRead r
+              WHERE r.alarm = a
+                AND r.user.id = :userId
+          )
+    """)
+    long countUnreadBroadcastAlarms(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Query("""
+        SELECT a.id FROM Alarm a
+        WHERE a.createdAt < :cutoff
+          AND a.id > :afterId
+        ORDER BY a.id ASC
+    """)
+    List<Long> findIdsOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+
     @Modifying
     @Transactional
     @Query("""
         DELETE FROM Alarm a
-        WHERE a.createdAt < :cutoff
+        WHERE a.id IN :ids
+          AND a.createdAt < :cutoff
     """)
-    void deleteAllOlderThan(@Param("cutoff") LocalDateTime cutoff);
+    int deleteAllByIdInAndOlderThan(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
 }
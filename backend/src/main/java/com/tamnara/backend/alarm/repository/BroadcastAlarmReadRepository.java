@@ -0,0 +1,41 @@
+package com.tamnara.backend.alarm.repository;
+
+import com.tamnara.backend.alarm.domain.BroadcastAlarmRead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BroadcastAlarmReadRepository extends JpaRepository<BroadcastAlarmRead, Long> {
+    boolean existsByUserIdAndAlarmId(Long userId, Long alarmId);
+
+    @Query("""
+        SELECT r.alarm.id FROM BroadcastAlarmRead r
+        WHERE r.user.id = :userId
+          AND r.alarm.id IN :alarmIds
+    """)
+    List<Long> findReadAlarmIds(@Param("userId") Long userId, @Param("alarmIds") Collection<Long> alarmIds);
+
+    /**
+     * 기간 내 전체 알림 중 확인하지 않은 알림을 한 번에 확인 처리한다.
+     * 이미 확인한 알림은 유니크 제약으로 건너뛴다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO broadcast_alarm_read (user_id, alarm_id, checked_at)
+        SELECT :userId, a.id, :checkedAt FROM alarms a
+        WHERE a.is_broadcast = true
+          AND a.created_at >= :since
+    """, nativeQuery = true)
+    int checkAllBroadcastAlarms(
+            @Param("userId") Long userId,
+            @Param("since") LocalDateTime since,
+            @Param("checkedAt") LocalDateTime checkedAt
+    );
+}
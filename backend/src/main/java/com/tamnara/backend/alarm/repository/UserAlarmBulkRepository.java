@@ -0,0 +1,61 @@
+package com.tamnara.backend.alarm.repository;
+
+import com.tamnara.backend.alarm.domain.AlarmKind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 알림을 회원 엔티티 조회 없이 여러 행 단위로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserAlarmBulkRepository {
+
+    private static final String INSERT_USER_ALARMS_SQL_PREFIX = """
+        INSERT INTO user_alarm (user_id, alarm_id, kind, is_checked)
+        SELECT u.id, ?, ?, false FROM users u WHERE u.id IN (
+    """;
+
+    private static final String SELECT_USER_ALARM_IDS_SQL = "SELECT user_id, id FROM user_alarm WHERE alarm_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 존재하는 회원에 대해서만 회원 알림을 한 번의 INSERT ... SELECT 문으로 저장한다.
+     * @return 저장된 회원 알림 수
+     */
+    public int insertUserAlarms(Long alarmId, AlarmKind kind, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        Object[] args = new Object[userIds.size() + 2];
+        args[0] = alarmId;
+        args[1] = kind.name();
+        for (int i = 0; i < userIds.size(); i++) {
+            args[i + 2] = userIds.get(i);
+        }
+        return jdbcTemplate.update(INSERT_USER_ALARMS_SQL_PREFIX + placeholders + ")", args);
+    }
+
+    /**
+     * @return 회원 id -> 회원 알림 id
+     */
+    public Map<Long, Long> findUserAlarmIdsByAlarmId(Long alarmId) {
+        Map<Long, Long> userAlarmIds = new HashMap<>();
+        jdbcTemplate.query(
+                SELECT_USER_ALARM_IDS_SQL,
+                (RowCallbackHandler) rs -> userAlarmIds.put(rs.getLong("user_id"), rs.getLong("id")),
+                alarmId
+        );
+        return userAlarmIds;
+    }
+}
@@ -1,8 +1,11 @@
 package com.tamnara.backend.alarm.repository;
 
+import com.tamnara.backend.alarm.domain.AlarmKind;
 import com.tamnara.backend.alarm.domain.UserAlarm;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,27 +16,32 @@ import java.time.LocalDateTime;
 
 @Repository
 public interface UserAlarmRepository extends JpaRepository<UserAlarm, Long> {
+    @EntityGraph(attributePaths = "alarm")
     Page<UserAlarm> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
 
+    /**
+     * 알림 탭별 목록을 (user_id, kind, id DESC) 인덱스 범위로 조회한다. 전체 개수는 세지 않는다.
+     */
+    @EntityGraph(attributePaths = "alarm")
+    Slice<UserAlarm> findByUserIdAndKindOrderByIdDesc(Long userId, AlarmKind kind, Pageable pageable);
+
+    long countByUserIdAndIsCheckedFalse(Long userId);
+
+    @Modifying
     @Query("""
-        SELECT ua FROM UserAlarm ua
-        JOIN ua.alarm a
-        JOIN Bookmark b ON b.news.id = a.targetId
-        WHERE ua.user.id = :userId
-          AND b.user.id = :userId
-          AND a.targetType = com.tamnara.backend.alarm.domain.AlarmType.NEWS
-        ORDER BY ua.id DESC
+        UPDATE UserAlarm ua
+        SET ua.isChecked = true, ua.checkedAt = :checkedAt
+        WHERE ua.id = :userAlarmId
+          AND ua.isChecked = false
     """)
-    Page<UserAlarm> findBookmarkAlarms(
-            @Param("userId") Long userId,
-            Pageable pageable
-    );
+    int checkUserAlarm(@Param("userAlarmId") Long userAlarmId, @Param("checkedAt") LocalDateTime checkedAt);
 
     @Modifying
     @Query("""
         UPDATE UserAlarm ua
         SET ua.isChecked = true, ua.checkedAt = :checkedAt
-        WHERE ua.id = :userAlarmId
+        WHERE ua.user.id = :userId
+          AND ua.isChecked = false
     """)
-    void checkUserAlarm(@Param("userAlarmId") Long userAlarmId, @Param("checkedAt") LocalDateTime checkedAt);
+    int checkAllUserAlarms(@Param("userId") Long userId, @Param("checkedAt") LocalDateTime checkedAt);
 }
@@ -0,0 +1,69 @@
+package com.tamnara.backend.alarm.service;
+
+import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
+import com.tamnara.backend.alarm.domain.AlarmKind;
+import com.tamnara.backend.alarm.repository.UserAlarmBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 알림을 수신자들에게 청크 단위로 배포한다.
+ * 수신자 id만 다루고 회원 엔티티는 조회하지 않으며, 청크마다 한 번의 INSERT ... SELECT로 회원 알림을 저장한다.
+ * 전체 알림은 회원별 알림을 만들지 않으므로 이 엔진을 거치지 않는다.
+ */
+@Slf4j
+@Component
+public class AlarmFanoutEngine {
+
+    private final UserAlarmBulkRepository userAlarmBulkRepository;
+
+    private final Counter fanoutRows;
+    private final Timer fanoutDuration;
+    private final Timer fanoutLag;
+
+    public AlarmFanoutEngine(UserAlarmBulkRepository userAlarmBulkRepository, MeterRegistry meterRegistry) {
+        this.userAlarmBulkRepository = userAlarmBulkRepository;
+        this.fanoutRows = Counter.builder("alarm.fanout.rows")
+                .description("배포된 회원 알림 수")
+                .register(meterRegistry);
+        this.fanoutDuration = Timer.builder("alarm.fanout.duration")
+                .description("알림 한 건을 수신자 전체에게 배포하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.fanoutLag = Timer.builder("alarm.fanout.lag")
+                .description("알림 이벤트 발행부터 배포 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param kind 회원 알림이 표시될 알림 탭
+     * @param requestedAt 알림 이벤트가 발행된 시각
+     * @return 저장된 회원 알림 수
+     */
+    public int fanOut(Long alarmId, AlarmKind kind, List<Long> receiverIds, LocalDateTime requestedAt) {
+        long startedAt = System.nanoTime();
+
+        List<Long> distinctIds = receiverIds.stream().distinct().toList();
+        int inserted = 0;
+        for (int from = 0; from < distinctIds.size(); from += AlarmServiceConstant.ALARM_FANOUT_CHUNK_SIZE) {
+            int to = Math.min(from + AlarmServiceConstant.ALARM_FANOUT_CHUNK_SIZE, distinctIds.size());
+            inserted += userAlarmBulkRepository.insertUserAlarms(alarmId, kind, distinctIds.subList(from, to));
+        }
+
+        fanoutDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (requestedAt != null) {
+            fanoutLag.record(Duration.between(requestedAt, LocalDateTime.now()));
+        }
+        fanoutRows.increment(inserted);
+
+        log.info("[ALARM] 알림 배포 완료 - alarmId:{} userAlarmCnt:{}", alarmId, inserted);
+        return inserted;
+    }
+}
@@ -1,5 +1,7 @@
 package com.tamnara.backend.alarm.service;
 
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import com.tamnara.backend.global.scheduler.ScheduledJobRunner;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,25 +12,21 @@ import org.springframework.stereotype.Service;
 public class AlarmSchedulerServiceImpl implements AlarmSchedulerService {
 
     private final AlarmService alarmService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
-    public AlarmSchedulerServiceImpl(AlarmService alarmService) {
+    public AlarmSchedulerServiceImpl(AlarmService alarmService, ScheduledJobRunner scheduledJobRunner) {
         this.alarmService = alarmService;
+        this.scheduledJobRunner = scheduledJobRunner;
     }
 
     @Override
     @Async
     @Scheduled(cron = "0 0 9 * * *")
     public void deleteOldAlarms() {
-        try {
-            log.info("[ALARM] deleteOldAlarms 시작");
-            Long start = System.currentTimeMillis();
-
-            alarmService.deleteAlarms();
-
-            Long end = System.currentTimeMillis();
-            log.info("[ALARM] deleteOldAlarms 완료 - {}ms", (end - start));
-        } catch (Exception e) {
-            log.error("[ALARM] deleteOldAlarms 실패 - 오래된 알림 일괄 삭제 중 오류 발생: {}", e.getMessage(), e);
-        }
+        scheduledJobRunner.run(
+                ScheduledJobConstant.ALARM_PURGE_JOB,
+                ScheduledJobConstant.ALARM_PURGE_LOCK_LEASE,
+                alarmService::deleteAlarms
+        );
     }
 }
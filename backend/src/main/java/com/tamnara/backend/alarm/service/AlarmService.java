@@ -6,6 +6,9 @@ public interface AlarmService {
     AlarmListResponse getAllAlarmPageByUserId(Long userId);
     AlarmListResponse getBookmarkAlarmPageByUserId(Long userId);
     Long checkUserAlarm(Long userAlarmId, Long userId);
+    Long checkBroadcastAlarm(Long alarmId, Long userId);
+    Long getUnreadAlarmCount(Long userId);
+    Integer checkAllAlarms(Long userId);
 
-    void deleteAlarms();
+    long deleteAlarms();
 }
@@ -1,14 +1,21 @@
 package com.tamnara.backend.alarm.service;
 
+import com.tamnara.backend.alarm.cache.AlarmUnreadCounter;
 import com.tamnara.backend.alarm.constant.AlarmResponseMessage;
 import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
 import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmKind;
+import com.tamnara.backend.alarm.domain.BroadcastAlarmRead;
 import com.tamnara.backend.alarm.domain.UserAlarm;
 import com.tamnara.backend.alarm.dto.AlarmCardDTO;
 import com.tamnara.backend.alarm.dto.response.AlarmListResponse;
+import com.tamnara.backend.alarm.repository.AlarmPurgeRepository;
 import com.tamnara.backend.alarm.repository.AlarmRepository;
+import com.tamnara.backend.alarm.repository.BroadcastAlarmReadRepository;
 import com.tamnara.backend.alarm.repository.UserAlarmRepository;
 import com.tamnara.backend.global.constant.ResponseMessage;
+import com.tamnara.backend.global.purge.RetentionPurgeEngine;
+import com.tamnara.backend.user.domain.User;
 import com.tamnara.backend.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -16,13 +23,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -32,22 +42,30 @@ public class AlarmServiceImpl implements AlarmService {
     private final UserAlarmRepository userAlarmRepository;
     private final UserRepository userRepository;
     private final AlarmRepository alarmRepository;
+    private final BroadcastAlarmReadRepository broadcastAlarmReadRepository;
+    private final AlarmPurgeRepository alarmPurgeRepository;
+    private final AlarmUnreadCounter alarmUnreadCounter;
+    private final RetentionPurgeEngine retentionPurgeEngine;
 
     @Override
     public AlarmListResponse getAllAlarmPageByUserId(Long userId) {
         log.info("[ALARM] getAllAlarmPageByUserId 시작 - userId:{}", userId);
 
-        userRepository.findById(userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.USER_NOT_FOUND));
         log.info("[ALARM] getAllAlarmPageByUserId 처리 중 - 회원 조회 성공, userId:{}", userId);
 
         Pageable pageable = PageRequest.of(0, AlarmServiceConstant.ALARM_LIST_SIZE);
         Page<UserAlarm> userAlarmPage = userAlarmRepository.findByUserIdOrderByIdDesc(userId, pageable);
 
+        // 전체 알림은 회원별 행이 없으므로 따로 조회해 알림 id 순으로 합친다.
+        List<Alarm> broadcastAlarms = alarmRepository.findBroadcastAlarms(getBroadcastSince(user), pageable);
+        log.info("[ALARM] getAllAlarmPageByUserId 처리 중 - 전체 알림 조회 성공, userId:{} broadcastCnt:{}", userId, broadcastAlarms.size());
+
         log.info("[ALARM] getAllAlarmPageByUserId 완료 - userId:{}", userId);
         return new AlarmListResponse(
                 AlarmServiceConstant.ALARM_RESPONSE_TYPE_ALL,
-                getAlarmCardDTOList(userAlarmPage)
+                mergeAlarmCardDTOList(userId, userAlarmPage.getContent(), broadcastAlarms)
         );
     }
 
@@ -60,12 +78,12 @@ public class AlarmServiceImpl implements AlarmService {
         log.info("[ALARM] getBookmarkAlarmPageByUserId 처리 중 - 회원 조회 성공, userId:{}", userId);
 
         Pageable pageable = PageRequest.of(0, AlarmServiceConstant.ALARM_LIST_SIZE);
-        Page<UserAlarm> userAlarmPage = userAlarmRepository.findBookmarkAlarms(userId, pageable);
+        Slice<UserAlarm> userAlarmSlice = userAlarmRepository.findByUserIdAndKindOrderByIdDesc(userId, AlarmKind.BOOKMARK, pageable);
 
         log.info("[ALARM] getBookmarkAlarmPageByUserId 완료 - userId:{}", userId);
         return new AlarmListResponse(
                 AlarmServiceConstant.ALARM_RESPONSE_TYPE_BOOKMARK,
-                getAlarmCardDTOList(userAlarmPage)
+                getAlarmCardDTOList(userAlarmSlice)
         );
     }
 
@@ -78,46 +96,196 @@ public class AlarmServiceImpl implements AlarmService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.USER_NOT_FOUND));
         log.info("[ALARM] checkUserAlarm 처리 중 - 회원 조회 성공, userId:{} userAlarmId:{}", userId, userAlarmId);
 
+        // 다른 회원의 알림은 존재 여부를 드러내지 않도록 없는 알림과 같이 처리한다.
         UserAlarm userAlarm = userAlarmRepository.findById(userAlarmId)
+                .filter(ua -> ua.getUser().getId().equals(userId))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, AlarmResponseMessage.ALARM_NOT_FOUND));
         log.info("[ALARM] checkUserAlarm 처리 중 - 회원 알림 조회 성공, userId:{} userAlarmId:{}", userId, userAlarmId);
 
-        if (!userAlarm.getIsChecked()) {
-            userAlarmRepository.checkUserAlarm(userAlarmId, LocalDateTime.now());
+        // 동시에 같은 알림을 확인해도 실제로 갱신한 요청만 알림 주인의 카운터를 줄인다.
+        if (!userAlarm.getIsChecked() && userAlarmRepository.checkUserAlarm(userAlarmId, LocalDateTime.now()) > 0) {
+            alarmUnreadCounter.decrement(userAlarm.getUser().getId());
         }
         log.info("[ALARM] checkUserAlarm 완료 - userId:{} userAlarmId:{}", userId, userAlarmId);
         return userAlarm.getId();
     }
 
     @Override
-    public void deleteAlarms() {
+    @Transactional
+    public Long checkBroadcastAlarm(Long alarmId, Long userId) {
+        log.info("[ALARM] checkBroadcastAlarm 시작 - userId:{} alarmId:{}", userId, alarmId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.USER_NOT_FOUND));
+        log.info("[ALARM] checkBroadcastAlarm 처리 중 - 회원 조회 성공, userId:{} alarmId:{}", userId, alarmId);
+
+        Alarm alarm = alarmRepository.findById(alarmId)
+                .filter(Alarm::getIsBroadcast)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, AlarmResponseMessage.ALARM_NOT_FOUND));
+        log.info("[ALARM] checkBroadcastAlarm 처리 중 - 전체 알림 조회 성공, userId:{} alarmId:{}", userId, alarmId);
+
+        if (!broadcastAlarmReadRepository.existsByUserIdAndAlarmId(userId, alarmId)) {
+            BroadcastAlarmRead read = new BroadcastAlarmRead();
+            read.setUser(user);
+            read.setAlarm(alarm);
+            read.setCheckedAt(LocalDateTime.now());
+            broadcastAlarmReadRepository.save(read);
+        }
+        log.info("[ALARM] checkBroadcastAlarm 완료 - userId:{} alarmId:{}", userId, alarmId);
+        return alarm.getId();
+    }
+
+    @Override
+    public Long getUnreadAlarmCount(Long userId) {
+        log.info("[ALARM] getUnreadAlarmCount 시작 - userId:{}", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.USER_NOT_FOUND));
+        log.info("[ALARM] getUnreadAlarmCount 처리 중 - 회원 조회 성공, userId:{}", userId);
+
+        long userAlarmCnt = alarmUnreadCounter.get(userId).orElseGet(() -> {
+            long count = userAlarmRepository.countByUserIdAndIsCheckedFalse(userId);
+            alarmUnreadCounter.load(userId, count);
+            log.info("[ALARM] getUnreadAlarmCount 처리 중 - 회원 알림 카운터 적재, userId:{} count:{}", userId, count);
+            return count;
+        });
+        long broadcastAlarmCnt = alarmRepository.countUnreadBroadcastAlarms(userId, getBroadcastSince(user));
+
+        log.info("[ALARM] getUnreadAlarmCount 완료 - userId:{}", userId);
+        return userAlarmCnt + broadcastAlarmCnt;
+    }
+
+    @Override
+    @Transactional
+    public Integer checkAllAlarms(Long userId) {
+        log.info("[ALARM] checkAllAlarms 시작 - userId:{}", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.USER_NOT_FOUND));
+        log.info("[ALARM] checkAllAlarms 처리 중 - 회원 조회 성공, userId:{}", userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        int userAlarmCnt = userAlarmRepository.checkAllUserAlarms(userId, now);
+        int broadcastAlarmCnt = broadcastAlarmReadRepository.checkAllBroadcastAlarms(userId, getBroadcastSince(user), now);
+
+        // 일괄 확인 도중 배포된 알림이 있을 수 있으므로 0으로 두지 않고, 다음 조회 때 다시 센다.
+        alarmUnreadCounter.evict(userId);
+
+        log.info("[ALARM] checkAllAlarms 완료 - userId:{} userAlarmCnt:{} broadcastAlarmCnt:{}", userId, userAlarmCnt, broadcastAlarmCnt);
+        return userAlarmCnt + broadcastAlarmCnt;
+    }
+
+    @Override
+    public long deleteAlarms() {
         log.info("[ALARM] deleteAlarms 시작");
-        alarmRepository.deleteAllOlderThan(LocalDateTime.now().minusDays(AlarmServiceConstant.ALARM_DELETE_DAYS));
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(AlarmServiceConstant.ALARM_DELETE_DAYS);
+        long deletedCnt = retentionPurgeEngine.purge(
+                AlarmServiceConstant.ALARM_PURGE_TARGET,
+                (afterId, limit) -> alarmRepository.findIdsOlderThan(cutoff, afterId, PageRequest.of(0, limit)),
+                alarmIds -> deleteAlarmChunk(alarmIds, cutoff)
+        );
+        log.info("[ALARM] deleteAlarms 처리 중 - 알림 삭제 성공, count:{}", deletedCnt);
+
+        // 확인하지 않은 알림도 함께 삭제되므로 카운터를 모두 비우고 다음 조회 때 다시 센다.
+        alarmUnreadCounter.evictAll();
         log.info("[ALARM] deleteAlarms 완료");
+        return deletedCnt;
     }
 
 
     /**
      * 헬퍼 메서드
      */
-    private List<AlarmCardDTO> getAlarmCardDTOList(Page<UserAlarm> userAlarmPage) {
+    private int deleteAlarmChunk(List<Long> alarmIds, LocalDateTime cutoff) {
+        // 딸린 행을 먼저 나누어 지워, 알림 삭제가 큰 연쇄 삭제로 이어지지 않게 한다.
+        int limit = retentionPurgeEngine.getBatchSize();
+        int deletedCnt;
+        do {
+            deletedCnt = alarmPurgeRepository.deleteUserAlarms(alarmIds, limit);
+        } while (deletedCnt >= limit);
+        do {
+            deletedCnt = alarmPurgeRepository.deleteBroadcastAlarmReads(alarmIds, limit);
+        } while (deletedCnt >= limit);
+
+        return alarmRepository.deleteAllByIdInAndOlderThan(alarmIds, cutoff);
+    }
+
+    private List<AlarmCardDTO> getAlarmCardDTOList(Slice<UserAlarm> userAlarmSlice) {
         List<AlarmCardDTO> alarmCardDTOList = new ArrayList<>();
+        for (UserAlarm userAlarm : userAlarmSlice) {
+            alarmCardDTOList.add(toAlarmCardDTO(userAlarm));
+        }
+        return alarmCardDTOList;
+    }
 
-        for (UserAlarm userAlarm : userAlarmPage) {
-            Alarm alarm = userAlarm.getAlarm();
-
-            AlarmCardDTO dto = new AlarmCardDTO(
-                    userAlarm.getId(),
-                    alarm.getTitle(),
-                    alarm.getContent(),
-                    userAlarm.getIsChecked(),
-                    alarm.getCreatedAt(),
-                    alarm.getTargetType() == null ? null : alarm.getTargetType().toString(),
-                    alarm.getTargetId()
-            );
-            alarmCardDTOList.add(dto);
+    private List<AlarmCardDTO> mergeAlarmCardDTOList(Long userId, List<UserAlarm> userAlarms, List<Alarm> broadcastAlarms) {
+        if (broadcastAlarms.isEmpty()) {
+            return userAlarms.stream().map(this::toAlarmCardDTO).toList();
         }
 
+        Set<Long> readAlarmIds = new HashSet<>(broadcastAlarmReadRepository.findReadAlarmIds(
+                userId,
+                broadcastAlarms.stream().map(Alarm::getId).toList()
+        ));
+
+        // 두 목록 모두 알림 id 내림차순이므로, 앞에서부터 비교하며 목록 크기만큼 합친다.
+        List<AlarmCardDTO> alarmCardDTOList = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (alarmCardDTOList.size() < AlarmServiceConstant.ALARM_LIST_SIZE
+                && (i < userAlarms.size() || j < broadcastAlarms.size())) {
+            if (j >= broadcastAlarms.size()
+                    || (i < userAlarms.size() && isNewer(userAlarms.get(i).getAlarm(), broadcastAlarms.get(j)))) {
+                alarmCardDTOList.add(toAlarmCardDTO(userAlarms.get(i++)));
+            } else {
+                Alarm alarm = broadcastAlarms.get(j++);
+                alarmCardDTOList.add(toAlarmCardDTO(alarm, readAlarmIds.contains(alarm.getId())));
+            }
+        }
         return alarmCardDTOList;
     }
+
+    private boolean isNewer(Alarm personal, Alarm broadcast) {
+        if (personal.getId() == null || broadcast.getId() == null) {
+            return broadcast.getId() == null;
+        }
+        return personal.getId() > broadcast.getId();
+    }
+
+    private LocalDateTime getBroadcastSince(User user) {
+        // 가입 전에 발행된 전체 알림과 보관 기간이 지난 알림은 보여주지 않는다.
+        LocalDateTime since = LocalDateTime.now().minusDays(AlarmServiceConstant.ALARM_DELETE_DAYS);
+        if (user.getCreatedAt() != null && user.getCreatedAt().isAfter(since)) {
+            return user.getCreatedAt();
+        }
+        return since;
+    }
+
+    private AlarmCardDTO toAlarmCardDTO(UserAlarm userAlarm) {
+        Alarm alarm = userAlarm.getAlarm();
+        return new AlarmCardDTO(
+                userAlarm.getId(),
+                alarm.getTitle(),
+                alarm.getContent(),
+                userAlarm.getIsChecked(),
+                alarm.getCreatedAt(),
+                alarm.getTargetType() == null ? null : alarm.getTargetType().toString(),
+                alarm.getTargetId(),
+                false
+        );
+    }
+
+    private AlarmCardDTO toAlarmCardDTO(Alarm alarm, boolean isChecked) {
+        return new AlarmCardDTO(
+                alarm.getId(),
+                alarm.getTitle(),
+                alarm.getContent(),
+                isChecked,
+                alarm.getCreatedAt(),
+                alarm.getTargetType() == null ? null : alarm.getTargetType().toString(),
+                alarm.getTargetId(),
+                true
+        );
+    }
 }
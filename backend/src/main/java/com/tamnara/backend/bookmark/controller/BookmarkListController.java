@@ -27,7 +27,8 @@ public class BookmarkListController {
     @GetMapping
     public ResponseEntity<WrappedDTO<BookmarkListResponse>> findBookmarkedNewsList(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @RequestParam(defaultValue = "0") Integer offset
+            @RequestParam(defaultValue = "0") Integer offset,
+            @RequestParam(required = false) String cursor
     ) {
         try {
             if (userDetails == null || userDetails.getUser() == null) {
@@ -36,7 +37,9 @@ public class BookmarkListController {
 
             Long userId = userDetails.getUser().getId();
 
-            BookmarkListResponse bookmarkListResponse = bookmarkService.getBookmarkedNewsList(userId, offset);
+            BookmarkListResponse bookmarkListResponse = cursor != null
+                    ? bookmarkService.getBookmarkedNewsListByCursor(userId, cursor)
+                    : bookmarkService.getBookmarkedNewsList(userId, offset);
 
             return ResponseEntity.ok().body(
                     new WrappedDTO<>(
@@ -0,0 +1,15 @@
+package com.tamnara.backend.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 북마크 알림 대상 (뉴스 id, 뉴스 제목, 북마크한 회원 id) 한 행.
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkAlarmTargetDTO {
+    private Long newsId;
+    private String title;
+    private Long userId;
+}
@@ -12,4 +12,9 @@ public class BookmarkListResponse {
     private List<NewsCardDTO> bookmarks;
     private int offset;
     private boolean hasNext;
+    private String nextCursor;
+
+    public BookmarkListResponse(List<NewsCardDTO> bookmarks, int offset, boolean hasNext) {
+        this(bookmarks, offset, hasNext, null);
+    }
 }
@@ -1,23 +1,47 @@
 package com.tamnara.backend.bookmark.repository;
 
 import com.tamnara.backend.bookmark.domain.Bookmark;
+import com.tamnara.backend.bookmark.dto.BookmarkAlarmTargetDTO;
 import com.tamnara.backend.news.domain.News;
 import com.tamnara.backend.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     Optional<Bookmark> findByUserAndNews(User user, News news);
+
+    boolean existsByUserIdAndNewsId(Long userId, Long newsId);
+
+    @EntityGraph(attributePaths = "news")
     Page<Bookmark> findByUser(User user, Pageable pageable);
 
+    @EntityGraph(attributePaths = "news")
+    Slice<Bookmark> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long id, Pageable pageable);
+
+    List<Bookmark> findAllByUserIdAndNewsIdIn(Long userId, Collection<Long> newsIds);
+
     @Query("SELECT b.user.id FROM Bookmark b WHERE b.news = :news")
     List<Long> findUsersByNews(@Param("news") News news);
+
+    @Query("""
+        SELECT new com.tamnara.backend.bookmark.dto.BookmarkAlarmTargetDTO(n.id, n.title, b.user.id)
+        FROM Bookmark b
+        JOIN b.news n
+        WHERE n.id IN :newsIds
+          AND n.updatedAt < :cutoff
+        ORDER BY n.id ASC, b.user.id ASC
+    """)
+    List<BookmarkAlarmTargetDTO> findAlarmTargetsByNewsIdIn(@Param("newsIds") Collection<Long> newsIds, @Param("cutoff") LocalDateTime cutoff);
 }
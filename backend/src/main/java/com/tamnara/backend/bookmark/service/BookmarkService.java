@@ -7,4 +7,5 @@ public interface BookmarkService {
     BookmarkAddResponse save(Long userId, Long newsId);
     void delete(Long userId, Long newsId);
     BookmarkListResponse getBookmarkedNewsList(Long userId, Integer offset);
+    BookmarkListResponse getBookmarkedNewsListByCursor(Long userId, String cursor);
 }
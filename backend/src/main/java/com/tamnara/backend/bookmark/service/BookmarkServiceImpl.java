@@ -7,11 +7,11 @@ import com.tamnara.backend.bookmark.dto.response.BookmarkAddResponse;
 import com.tamnara.backend.bookmark.dto.response.BookmarkListResponse;
 import com.tamnara.backend.bookmark.repository.BookmarkRepository;
 import com.tamnara.backend.global.constant.ResponseMessage;
+import com.tamnara.backend.global.util.CursorCodec;
 import com.tamnara.backend.news.domain.News;
-import com.tamnara.backend.news.domain.NewsImage;
 import com.tamnara.backend.news.dto.NewsCardDTO;
-import com.tamnara.backend.news.repository.NewsImageRepository;
 import com.tamnara.backend.news.repository.NewsRepository;
+import com.tamnara.backend.news.service.NewsCardAssembler;
 import com.tamnara.backend.user.domain.User;
 import com.tamnara.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,12 +19,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -35,7 +35,7 @@ public class BookmarkServiceImpl implements BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final NewsRepository newsRepository;
-    private final NewsImageRepository newsImageRepository;
+    private final NewsCardAssembler newsCardAssembler;
 
     @Override
     public BookmarkAddResponse save(Long userId, Long newsId) {
@@ -96,34 +96,50 @@ public class BookmarkServiceImpl implements BookmarkService {
         int page = offset / BookmarkServiceConstant.PAGE_SIZE;
         int nextOffset = offset + BookmarkServiceConstant.PAGE_SIZE;
 
-        Pageable pageable = PageRequest.of(page, BookmarkServiceConstant.PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // 다음 커서를 북마크 id로 만들므로, 커서 조회와 같은 id 역순으로 정렬해야 이어지는 목록이 어긋나지 않는다.
+        Pageable pageable = PageRequest.of(page, BookmarkServiceConstant.PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
         Page<Bookmark> bookmarkPage = bookmarkRepository.findByUser(user, pageable);
         List<Bookmark> bookmarkList = bookmarkPage.getContent();
         log.info("[BOOKMARK] getBookmarkedNewsList 처리 중 - 북마크 목록 조회 성공, userId:{}", userId);
 
-        boolean hasNext = bookmarkRepository.findByUser(user, pageable).hasNext();
-
-        List<NewsCardDTO> newsCardDTOList = new ArrayList<>();
-        for (Bookmark b : bookmarkList) {
-            News news = newsRepository.findById(b.getNews().getId()).orElse(null);
-            if (news == null) { continue; }
-
-            NewsImage image = newsImageRepository.findByNewsId(b.getNews().getId()).orElse(null);
-
-            NewsCardDTO newsCardDTO = new NewsCardDTO(
-                    news.getId(),
-                    news.getTitle(),
-                    news.getSummary(),
-                    image != null ? image.getUrl() : null,
-                    news.getCategory() != null ? news.getCategory().toString() : null,
-                    news.getUpdatedAt(),
-                    true,
-                    b.getCreatedAt()
-            );
-            newsCardDTOList.add(newsCardDTO);
-        }
+        boolean hasNext = bookmarkPage.hasNext();
+
+        List<NewsCardDTO> newsCardDTOList = newsCardAssembler.assembleBookmarked(bookmarkList);
 
         log.info("[BOOKMARK] getBookmarkedNewsList 완료 - userId:{}", userId);
-        return new BookmarkListResponse(newsCardDTOList, nextOffset, hasNext);
+        return new BookmarkListResponse(newsCardDTOList, nextOffset, hasNext, getNextCursor(bookmarkList, hasNext));
+    }
+
+    @Override
+    public BookmarkListResponse getBookmarkedNewsListByCursor(Long userId, String cursor) {
+        log.info("[BOOKMARK] getBookmarkedNewsListByCursor 시작 - userId:{}", userId);
+
+        Long lastBookmarkId = CursorCodec.toLong(CursorCodec.decode(cursor, 1).get(0));
+
+        userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.USER_NOT_FOUND));
+        log.info("[BOOKMARK] getBookmarkedNewsListByCursor 처리 중 - 회원 조회 성공, userId:{}", userId);
+
+        Pageable pageable = PageRequest.of(0, BookmarkServiceConstant.PAGE_SIZE);
+        Slice<Bookmark> bookmarkSlice = bookmarkRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, lastBookmarkId, pageable);
+        List<Bookmark> bookmarkList = bookmarkSlice.getContent();
+        log.info("[BOOKMARK] getBookmarkedNewsListByCursor 처리 중 - 북마크 목록 조회 성공, userId:{}", userId);
+
+        List<NewsCardDTO> newsCardDTOList = newsCardAssembler.assembleBookmarked(bookmarkList);
+
+        log.info("[BOOKMARK] getBookmarkedNewsListByCursor 완료 - userId:{}", userId);
+        return new BookmarkListResponse(newsCardDTOList, 0, bookmarkSlice.hasNext(), getNextCursor(bookmarkList, bookmarkSlice.hasNext()));
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private String getNextCursor(List<Bookmark> bookmarkList, boolean hasNext) {
+        if (!hasNext || bookmarkList.isEmpty()) {
+            return null;
+        }
+        return CursorCodec.encode(bookmarkList.get(bookmarkList.size() - 1).getId());
     }
 }
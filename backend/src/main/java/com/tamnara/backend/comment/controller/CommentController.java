@@ -33,11 +33,14 @@ public class CommentController {
     @GetMapping
     public ResponseEntity<WrappedDTO<CommentListResponse>> getComments(
             @PathVariable Long newsId,
-            @RequestParam(defaultValue = "0") Integer offset
+            @RequestParam(defaultValue = "0") Integer offset,
+            @RequestParam(required = false) String cursor
     ) {
 
         try {
-            CommentListResponse commentListResponse = commentService.getComments(newsId, offset);
+            CommentListResponse commentListResponse = cursor != null
+                    ? commentService.getCommentsByCursor(newsId, cursor)
+                    : commentService.getComments(newsId, offset);
 
             return ResponseEntity.ok().body(
                     new WrappedDTO<> (
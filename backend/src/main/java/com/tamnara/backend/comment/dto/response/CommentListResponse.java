@@ -12,4 +12,9 @@ public class CommentListResponse {
     private List<CommentDTO> comments;
     private int offset;
     private boolean hasNext;
+    private String nextCursor;
+
+    public CommentListResponse(List<CommentDTO> comments, int offset, boolean hasNext) {
+        this(comments, offset, hasNext, null);
+    }
 }
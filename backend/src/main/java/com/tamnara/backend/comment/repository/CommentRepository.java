@@ -3,6 +3,7 @@ package com.tamnara.backend.comment.repository;
 import com.tamnara.backend.comment.domain.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,4 +11,5 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findAllByNewsIdOrderByIdDesc(@Param("id") Long id, Pageable pageable);
+    Slice<Comment> findByNewsIdAndIdLessThanOrderByIdDesc(Long newsId, Long id, Pageable pageable);
 }
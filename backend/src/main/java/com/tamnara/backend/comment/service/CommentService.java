@@ -5,6 +5,7 @@ import com.tamnara.backend.comment.dto.response.CommentListResponse;
 
 public interface CommentService {
     CommentListResponse getComments(Long newsId, Integer offset);
+    CommentListResponse getCommentsByCursor(Long newsId, String cursor);
     Long save(Long userId, Long newsId, CommentCreateRequest commentCreateRequest);
     void delete(Long userId, Long newsId, Long commentId);
 }
@@ -8,6 +8,7 @@ import com.tamnara.backend.comment.dto.request.CommentCreateRequest;
 import com.tamnara.backend.comment.dto.response.CommentListResponse;
 import com.tamnara.backend.comment.repository.CommentRepository;
 import com.tamnara.backend.global.constant.ResponseMessage;
+import com.tamnara.backend.global.util.CursorCodec;
 import com.tamnara.backend.news.domain.News;
 import com.tamnara.backend.news.repository.NewsRepository;
 import com.tamnara.backend.user.domain.User;
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -48,23 +50,38 @@ public class CommentServiceImpl implements CommentService {
         Page<Comment> comments = commentRepository.findAllByNewsIdOrderByIdDesc(newsId, PageRequest.of(page, CommentServiceConstant.PAGE_SIZE));
         boolean hasNext = !commentRepository.findAllByNewsIdOrderByIdDesc(newsId, PageRequest.of(page + 1, CommentServiceConstant.PAGE_SIZE)).isEmpty();
 
-        List<CommentDTO> commentDTOList = new ArrayList<>();
-        for (Comment c : comments.getContent()) {
-            CommentDTO dto = new CommentDTO(
-                    c.getId(),
-                    c.getUser() != null ? c.getUser().getId() : null,
-                    c.getUser() != null ? c.getUser().getUsername() : null,
-                    c.getContent(),
-                    c.getCreatedAt()
-            );
-            commentDTOList.add(dto);
-        }
+        List<CommentDTO> commentDTOList = getCommentDTOList(comments.getContent());
 
         log.info("[COMMENT] getComments 완료 - newsId:{}", newsId);
         return new CommentListResponse(
                 commentDTOList,
                 nextOffset,
-                hasNext
+                hasNext,
+                getNextCursor(comments.getContent(), hasNext)
+        );
+    }
+
+    @Override
+    public CommentListResponse getCommentsByCursor(Long newsId, String cursor) {
+        log.info("[COMMENT] getCommentsByCursor 시작 - newsId:{}", newsId);
+
+        Long lastCommentId = CursorCodec.toLong(CursorCodec.decode(cursor, 1).get(0));
+
+        if (!newsRepository.existsById(newsId)) {
+            log.error("[COMMENT] getCommentsByCursor 실패 - 뉴스가 존재하지 않음, newsId:{}", newsId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.NEWS_NOT_FOUND);
+        }
+        log.info("[COMMENT] getCommentsByCursor 처리 중 - 뉴스 조회 성공, newsId:{}", newsId);
+
+        Slice<Comment> comments = commentRepository.findByNewsIdAndIdLessThanOrderByIdDesc(newsId, lastCommentId, PageRequest.of(0, CommentServiceConstant.PAGE_SIZE));
+        List<CommentDTO> commentDTOList = getCommentDTOList(comments.getContent());
+
+        log.info("[COMMENT] getCommentsByCursor 완료 - newsId:{}", newsId);
+        return new CommentListResponse(
+                commentDTOList,
+                0,
+                comments.hasNext(),
+                getNextCursor(comments.getContent(), comments.hasNext())
         );
     }
 
@@ -114,4 +131,31 @@ public class CommentServiceImpl implements CommentService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, CommentResponseMessage.COMMENT_DELETE_FORBIDDEN);
         }
     }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private List<CommentDTO> getCommentDTOList(List<Comment> comments) {
+        List<CommentDTO> commentDTOList = new ArrayList<>();
+        for (Comment c : comments) {
+            CommentDTO dto = new CommentDTO(
+                    c.getId(),
+                    c.getUser() != null ? c.getUser().getId() : null,
+                    c.getUser() != null ? c.getUser().getUsername() : null,
+                    c.getContent(),
+                    c.getCreatedAt()
+            );
+            commentDTOList.add(dto);
+        }
+        return commentDTOList;
+    }
+
+    private String getNextCursor(List<Comment> comments, boolean hasNext) {
+        if (!hasNext || comments.isEmpty()) {
+            return null;
+        }
+        return CursorCodec.encode(comments.get(comments.size() - 1).getId());
+    }
 }
@@ -1,19 +1,37 @@
 package com.tamnara.backend.global.config;
 
+import com.tamnara.backend.news.constant.AiClientConstant;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
     @Bean
     public WebClient aiWebClient(@Value("${AI_BASE_URL}") String aiBaseUrl) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("ai-client")
+                .maxConnections(AiClientConstant.MAX_CONNECTIONS)
+                .pendingAcquireTimeout(AiClientConstant.PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(AiClientConstant.MAX_IDLE_TIME)
+                .evictInBackground(AiClientConstant.EVICT_INTERVAL)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, AiClientConstant.CONNECT_TIMEOUT_MILLIS)
+                .responseTimeout(AiClientConstant.RESPONSE_TIMEOUT);
+
         return WebClient.builder()
                 .baseUrl(aiBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
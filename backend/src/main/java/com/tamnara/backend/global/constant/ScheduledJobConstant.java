@@ -0,0 +1,27 @@
+package com.tamnara.backend.global.constant;
+
+import java.time.Duration;
+
+public final class ScheduledJobConstant {
+    private ScheduledJobConstant() {}
+
+    public static final String NEWS_HOTISSUE_JOB = "news.hotissue";
+    public static final String NEWS_PURGE_JOB = "news.purge";
+    public static final String NEWS_PUBLIC_JOB = "news.public";
+    public static final String ALARM_PURGE_JOB = "alarm.purge";
+    public static final String POLL_STATE_JOB = "poll.state";
+    public static final String POLL_STATISTICS_RECONCILE_JOB = "poll.statistics.reconcile";
+    public static final String POLL_BALLOT_BACKFILL_JOB = "poll.ballot.backfill";
+
+    public static final Duration NEWS_HOTISSUE_LOCK_LEASE = Duration.ofMinutes(30);
+    public static final Duration NEWS_PURGE_LOCK_LEASE = Duration.ofHours(2);
+    public static final Duration NEWS_PUBLIC_LOCK_LEASE = Duration.ofMinutes(10);
+    public static final Duration ALARM_PURGE_LOCK_LEASE = Duration.ofHours(2);
+    public static final Duration POLL_STATE_LOCK_LEASE = Duration.ofMinutes(10);
+    public static final Duration POLL_STATISTICS_RECONCILE_LOCK_LEASE = Duration.ofMinutes(5);
+    public static final Duration POLL_BALLOT_BACKFILL_LOCK_LEASE = Duration.ofMinutes(30);
+
+    // 서버 간 시계 차이로 늦게 시작한 서버가 끝난 작업을 다시 실행하지 않도록 락을 최소한 이만큼 유지한다.
+    public static final Duration JOB_LOCK_MIN_HOLD = Duration.ofMinutes(5);
+    public static final int JOB_RUN_ERROR_MAX_LENGTH = 255;
+}
@@ -0,0 +1,106 @@
+package com.tamnara.backend.global.purge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 보존 기간이 지난 행을 기본 키 순서의 청크로 나누어 삭제한다.
+ * 청크마다 따로 커밋하고 청크 사이에 잠시 쉬므로, 대량 삭제가 잠금과 언두 로그를 오래 붙잡지 않는다.
+ * 삭제 조건은 청크마다 다시 확인되므로 작업이 중간에 중단되어도 다음 실행이 남은 행부터 이어서 삭제한다.
+ */
+@Slf4j
+@Component
+public class RetentionPurgeEngine {
+
+    /**
+     * 삭제 대상 id를 기본 키 오름차순으로 조회한다.
+     */
+    @FunctionalInterface
+    public interface ChunkSource {
+        /**
+         * @return afterId보다 큰 삭제 대상 id 목록 (최대 limit개, 오름차순)
+         */
+        List<Long> next(Long afterId, int limit);
+    }
+
+    private final int batchSize;
+    private final long pauseMs;
+    private final MeterRegistry meterRegistry;
+
+    public RetentionPurgeEngine(@Value("${retention.purge.batch-size:500}") int batchSize,
+                                @Value("${retention.purge.pause-ms:200}") long pauseMs,
+                                MeterRegistry meterRegistry) {
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 삭제 대상이 없을 때까지 청크 단위로 조회와 삭제를 반복한다.
+     * @param target 메트릭과 로그에 남길 삭제 대상 이름
+     * @param source 삭제 대상 id 조회
+     * @param deleter 청크 하나를 한 트랜잭션으로 삭제하고 삭제된 행 수를 반환
+     * @return 삭제된 행 수
+     */
+    public long purge(String target, ChunkSource source, ToIntFunction<List<Long>> deleter) {
+        log.info("[PURGE] purge 시작 - target:{}, batchSize:{}", target, batchSize);
+
+        Counter deletedCounter = meterRegistry.counter("retention.purge.deleted", "target", target);
+        Timer chunkTimer = meterRegistry.timer("retention.purge.chunk.duration", "target", target);
+
+        long total = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> ids = source.next(afterId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            int deleted = deleter.applyAsInt(ids);
+            sample.stop(chunkTimer);
+
+            deletedCounter.increment(deleted);
+            total += deleted;
+            afterId = ids.getLast();
+            log.info("[PURGE] purge 처리 중 - target:{}, lastId:{}, deleted:{}, total:{}", target, afterId, deleted, total);
+
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        log.info("[PURGE] purge 완료 - target:{}, total:{}", target, total);
+        return total;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[PURGE] purge 중단 - 대기 중 인터럽트 발생");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.tamnara.backend.global.scheduler;
+
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스케줄 작업별 Redis 임대 락. 여러 서버에서 같은 시각에 작업이 시작되어도 락을 얻은 한 서버만 실행한다.
+ * 실행 중 서버가 종료되어도 임대 시간이 지나면 락이 풀린다.
+ * 작업이 빨리 끝나도 최소 유지 시간 동안은 락을 남겨, 늦게 시작한 서버가 같은 회차를 다시 실행하지 않게 한다.
+ * PEXPIRE 인자를 숫자로 넘기려면 값이 문자열로 저장되어야 하므로 StringRedisTemplate을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobLock {
+
+    private static final String LOCK_PREFIX = "SCHEDULED_JOB_LOCK:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            local holdMs = tonumber(ARGV[2])
+            if holdMs > 0 then
+                return redis.call('pexpire', KEYS[1], holdMs)
+            end
+            return redis.call('del', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Redis를 사용할 수 없으면 여러 서버가 함께 실행하지 않도록 락을 얻지 못한 것으로 본다.
+     */
+    public boolean tryAcquire(String jobName, String token, Duration lease) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + jobName, token, lease));
+        } catch (RuntimeException e) {
+            log.warn("[SCHEDULER] 스케줄 작업 락 획득 실패 - job:{} error:{}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @param elapsed 작업 실행에 걸린 시간. 최소 유지 시간보다 짧으면 남은 시간만큼 락을 유지한다.
+     */
+    public void release(String jobName, String token, Duration elapsed) {
+        long holdMs = Math.max(ScheduledJobConstant.JOB_LOCK_MIN_HOLD.minus(elapsed).toMillis(), 0L);
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + jobName), token, String.valueOf(holdMs));
+        } catch (RuntimeException e) {
+            // 해제에 실패해도 임대 시간이 지나면 락이 만료된다.
+            log.warn("[SCHEDULER] 스케줄 작업 락 해제 실패 - job:{} error:{}", jobName, e.getMessage());
+        }
+    }
+}
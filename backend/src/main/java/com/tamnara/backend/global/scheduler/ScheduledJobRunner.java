@@ -0,0 +1,137 @@
+package com.tamnara.backend.global.scheduler;
+
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import com.tamnara.backend.global.scheduler.domain.ScheduledJobOutcome;
+import com.tamnara.backend.global.scheduler.domain.ScheduledJobRun;
+import com.tamnara.backend.global.scheduler.repository.ScheduledJobRunRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 스케줄 작업을 서버 간 락으로 한 서버에서만 실행하고, 실행 기록과 메트릭을 남긴다.
+ * 락을 얻지 못한 서버는 작업을 건너뛴다.
+ * 실행 기록 저장에 실패해도 작업 자체는 계속 진행한다.
+ */
+@Slf4j
+@Component
+public class ScheduledJobRunner {
+
+    private final ScheduledJobLock scheduledJobLock;
+    private final ScheduledJobRunRepository scheduledJobRunRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId;
+
+    public ScheduledJobRunner(ScheduledJobLock scheduledJobLock,
+                              ScheduledJobRunRepository scheduledJobRunRepository,
+                              MeterRegistry meterRegistry) {
+        this.scheduledJobLock = scheduledJobLock;
+        this.scheduledJobRunRepository = scheduledJobRunRepository;
+        this.meterRegistry = meterRegistry;
+        this.instanceId = resolveInstanceId();
+    }
+
+    /**
+     * @param jobName 작업 이름 (락 키, 실행 기록, 메트릭 태그로 사용)
+     * @param lease 작업이 비정상 종료되었을 때 락이 자동으로 풀리기까지의 시간
+     * @param job 작업. 처리한 항목 수를 반환한다.
+     */
+    public void run(String jobName, Duration lease, LongSupplier job) {
+        String token = UUID.randomUUID().toString();
+        if (!scheduledJobLock.tryAcquire(jobName, token, lease)) {
+            log.info("[SCHEDULER] run 건너뜀 - 다른 서버에서 실행 중이거나 이미 실행됨, job:{}", jobName);
+            meterRegistry.counter("scheduled.job.skipped", "job", jobName).increment();
+            return;
+        }
+
+        log.info("[SCHEDULER] run 시작 - job:{} instanceId:{}", jobName, instanceId);
+        ScheduledJobRun run = startRun(jobName);
+        long start = System.nanoTime();
+        try {
+            long items = job.getAsLong();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            finishRun(run, ScheduledJobOutcome.SUCCESS, elapsed, items, null);
+            log.info("[SCHEDULER] run 완료 - job:{} items:{} {}ms", jobName, items, elapsed.toMillis());
+        } catch (RuntimeException e) {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            finishRun(run, ScheduledJobOutcome.FAILED, elapsed, null, e.getMessage());
+            log.error("[SCHEDULER] run 실패 - job:{} error:{}", jobName, e.getMessage(), e);
+        } finally {
+            scheduledJobLock.release(jobName, token, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * 데이터 이관처럼 한 번만 성공하면 되는 작업을 실행한다. 성공한 실행 기록이 있으면 건너뛰고, 실패하면 다음 기동 때 다시 실행한다.
+     */
+    public void runOnce(String jobName, Duration lease, LongSupplier job) {
+        if (scheduledJobRunRepository.existsByJobNameAndOutcome(jobName, ScheduledJobOutcome.SUCCESS)) {
+            log.info("[SCHEDULER] runOnce 건너뜀 - 이미 완료된 작업, job:{}", jobName);
+            return;
+        }
+        run(jobName, lease, job);
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+    private ScheduledJobRun startRun(String jobName) {
+        ScheduledJobRun run = new ScheduledJobRun();
+        run.setJobName(jobName);
+        run.setInstanceId(instanceId);
+        run.setStartedAt(LocalDateTime.now());
+        try {
+            scheduledJobRunRepository.save(run);
+        } catch (RuntimeException e) {
+            log.warn("[SCHEDULER] 실행 기록 저장 실패 - job:{} error:{}", jobName, e.getMessage());
+        }
+        return run;
+    }
+
+    private void finishRun(ScheduledJobRun run, ScheduledJobOutcome outcome, Duration elapsed, Long items, String errorMessage) {
+        Timer.builder("scheduled.job.duration")
+                .tag("job", run.getJobName())
+                .tag("outcome", outcome.name())
+                .register(meterRegistry)
+                .record(elapsed.toNanos(), TimeUnit.NANOSECONDS);
+        if (items != null) {
+            meterRegistry.counter("scheduled.job.items", "job", run.getJobName()).increment(items);
+        }
+
+        run.setOutcome(outcome);
+        run.setFinishedAt(LocalDateTime.now());
+        run.setDurationMs(elapsed.toMillis());
+        run.setItemsProcessed(items);
+        run.setErrorMessage(truncate(errorMessage));
+        try {
+            scheduledJobRunRepository.save(run);
+        } catch (RuntimeException e) {
+            log.warn("[SCHEDULER] 실행 기록 저장 실패 - job:{} error:{}", run.getJobName(), e.getMessage());
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= ScheduledJobConstant.JOB_RUN_ERROR_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, ScheduledJobConstant.JOB_RUN_ERROR_MAX_LENGTH);
+    }
+
+    private static String resolveInstanceId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
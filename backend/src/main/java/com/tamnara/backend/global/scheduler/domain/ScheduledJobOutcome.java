@@ -0,0 +1,5 @@
+package com.tamnara.backend.global.scheduler.domain;
+
+public enum ScheduledJobOutcome {
+    RUNNING, SUCCESS, FAILED
+}
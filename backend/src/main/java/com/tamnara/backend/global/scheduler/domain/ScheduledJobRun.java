@@ -0,0 +1,55 @@
+package com.tamnara.backend.global.scheduler.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 한 번의 실행 기록. 락을 얻어 실제로 실행한 서버만 기록을 남긴다.
+ */
+@Getter
+@Setter
+@Entity
+@EqualsAndHashCode(of = "id")
+@Table(name = "scheduled_job_run", indexes = @Index(name = "idx_job_name_started_at", columnList = "job_name, started_at"))
+public class ScheduledJobRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", length = 50, nullable = false)
+    private String jobName;
+
+    @Column(name = "instance_id", length = 100, nullable = false)
+    private String instanceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", length = 20, nullable = false)
+    private ScheduledJobOutcome outcome = ScheduledJobOutcome.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = true)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms", nullable = true)
+    private Long durationMs;
+
+    @Column(name = "items_processed", nullable = true)
+    private Long itemsProcessed;
+
+    @Column(name = "error_message", length = 255, nullable = true)
+    private String errorMessage;
+}
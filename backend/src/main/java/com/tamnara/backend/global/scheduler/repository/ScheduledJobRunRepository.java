@@ -0,0 +1,11 @@
+package com.tamnara.backend.global.scheduler.repository;
+
+import com.tamnara.backend.global.scheduler.domain.ScheduledJobOutcome;
+import com.tamnara.backend.global.scheduler.domain.ScheduledJobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+    boolean existsByJobNameAndOutcome(String jobName, ScheduledJobOutcome outcome);
+}
@@ -0,0 +1,154 @@
+package com.tamnara.backend.global.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 키(회원, 투표 등)별로 이 서버에 연결된 SSE 연결을 관리한다.
+ * 연결마다 스레드를 점유하지 않고, 전송할 때만 가상 스레드를 사용하므로 유휴 연결이 많아도 부담이 적다.
+ * 전송할 이벤트의 내용은 이 레지스트리를 사용하는 쪽에서 정하고, 이곳은 연결 수명과 전송만 담당한다.
+ */
+@Slf4j
+public class KeyedEmitterRegistry {
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final String name;
+    private final long timeoutMs;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCnt = new AtomicInteger();
+    private final ExecutorService sender;
+
+    /**
+     * @param name 스레드 이름과 로그에 남길 레지스트리 이름
+     * @param gaugeName 연결 수를 노출할 게이지 이름
+     */
+    public KeyedEmitterRegistry(String name, long timeoutMs, MeterRegistry meterRegistry,
+                                String gaugeName, String gaugeDescription) {
+        this.name = name;
+        this.timeoutMs = timeoutMs;
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-sse-", 0).factory());
+        Gauge.builder(gaugeName, connectionCnt, AtomicInteger::get)
+                .description(gaugeDescription)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 연결을 등록한다. 연결이 끝나거나 시간이 초과되면 스스로 목록에서 빠진다.
+     */
+    public SseEmitter register(Long key) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // 마지막 연결이 빠지며 집합이 맵에서 제거되는 remove()와 겹쳐도 새 연결이 유실되지 않도록 맵 잠금 안에서 추가한다.
+        emitters.compute(key, (id, keyEmitters) -> {
+            if (keyEmitters == null) {
+                keyEmitters = ConcurrentHashMap.newKeySet();
+            }
+            if (keyEmitters.add(emitter)) {
+                connectionCnt.incrementAndGet();
+            }
+            return keyEmitters;
+        });
+
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(() -> remove(key, emitter));
+        emitter.onError(e -> remove(key, emitter));
+        return emitter;
+    }
+
+    /**
+     * 호출한 스레드에서 바로 전송한다. 실패한 연결은 목록에서 제거한다.
+     * @return 전송 성공 여부
+     */
+    public boolean send(Long key, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊은 경우로, 연결만 정리하고 재연결 시 다시 받는다.
+            log.debug("[SSE] 실시간 전송 실패 - name:{} key:{} error:{}", name, key, e.getMessage());
+            remove(key, emitter);
+            return false;
+        }
+    }
+
+    /**
+     * 키에 연결된 모든 연결로 가상 스레드에서 전송한다. 연결이 없으면 아무것도 하지 않는다.
+     * @param event 연결마다 새로 만들 이벤트
+     */
+    public void sendAsync(Long key, Supplier<SseEmitter.SseEventBuilder> event) {
+        sendAsync(key, event, () -> {});
+    }
+
+    /**
+     * @param onSent 연결 하나에 전송이 성공할 때마다 실행
+     */
+    public void sendAsync(Long key, Supplier<SseEmitter.SseEventBuilder> event, Runnable onSent) {
+        Set<SseEmitter> keyEmitters = emitters.get(key);
+        if (keyEmitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : keyEmitters) {
+            sender.execute(() -> {
+                if (send(key, emitter, event.get())) {
+                    onSent.run();
+                }
+            });
+        }
+    }
+
+    public Set<Long> getKeys() {
+        return Set.copyOf(emitters.keySet());
+    }
+
+    /**
+     * 키에 연결된 모든 연결을 종료한다.
+     */
+    public void complete(Long key) {
+        Set<SseEmitter> keyEmitters = emitters.get(key);
+        if (keyEmitters != null) {
+            keyEmitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    /**
+     * 주석 이벤트를 보내 프록시의 유휴 연결 종료를 막고, 끊어진 연결을 정리한다.
+     */
+    public void heartbeat() {
+        emitters.keySet().forEach(key -> sendAsync(key, () -> SseEmitter.event().comment(HEARTBEAT_COMMENT)));
+    }
+
+    public int getConnectionCnt() {
+        return connectionCnt.get();
+    }
+
+    public void shutdown() {
+        log.info("[SSE] 실시간 연결 종료 시작 - name:{} connectionCnt:{}", name, connectionCnt.get());
+        emitters.values().forEach(keyEmitters -> keyEmitters.forEach(SseEmitter::complete));
+        sender.shutdown();
+    }
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private void remove(Long key, SseEmitter emitter) {
+        emitters.computeIfPresent(key, (id, keyEmitters) -> {
+            if (keyEmitters.remove(emitter)) {
+                connectionCnt.decrementAndGet();
+            }
+            return keyEmitters.isEmpty() ? null : keyEmitters;
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.tamnara.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서를 인코딩/디코딩한다.
+ * 정렬 키 값들을 구분자로 이어 붙인 뒤 URL-safe Base64로 인코딩하며,
+ * 형식이 올바르지 않은 커서는 IllegalArgumentException으로 처리한다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... values) {
+        List<String> parts = new ArrayList<>();
+        for (Object value : values) {
+            parts.add(String.valueOf(value));
+        }
+        String raw = String.join(DELIMITER, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            throw new IllegalArgumentException("커서 값이 비어 있습니다.");
+        }
+
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        List<String> parts = List.of(raw.split("\\" + DELIMITER, -1));
+        if (parts.size() != size) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+        return parts;
+    }
+
+    public static Long toLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    public static LocalDateTime toDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.", e);
+        }
+    }
+}
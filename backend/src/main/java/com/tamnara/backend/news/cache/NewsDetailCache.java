@@ -0,0 +1,158 @@
+package com.tamnara.backend.news.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.dto.NewsDetailDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원과 무관한 뉴스 상세 정보(제목, 이미지, 카테고리, 타임라인, 통계)를 Redis에 캐싱한다.
+ * 북마크 여부는 회원마다 다르므로 캐시에 담지 않고 조회 시점에 합친다.
+ * 무효화할 때마다 뉴스별 버전을 올리고, 캐시를 채울 때는 조회 전에 읽은 버전이 그대로일 때만 저장한다.
+ * 그래서 DB 조회 도중 커밋된 수정이나 삭제를 이전 상세 정보로 덮어써 TTL 동안 남기지 않는다.
+ * 버전 비교와 증가를 Lua 스크립트로 처리하므로 값이 문자열로 저장되는 StringRedisTemplate을 사용한다.
+ * Redis 장애 시에는 캐시를 건너뛰고 DB 조회로 동작한다.
+ */
+@Slf4j
+@Component
+public class NewsDetailCache {
+
+    private static final String KEY_PREFIX = "NEWS_DETAIL:";
+    private static final String VERSION_KEY_PREFIX = "NEWS_DETAIL_VERSION:";
+    private static final long UNKNOWN_VERSION = -1L;
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('get', KEYS[2]) or '0') == ARGV[1] then
+                redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+    // 버전 키는 캐시와 같은 TTL로 두어, 그보다 오래 걸리는 조회가 없는 한 무효화 기록이 사라지지 않는다.
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local deleted = 0
+            for i = 1, #KEYS, 2 do
+                deleted = deleted + redis.call('del', KEYS[i])
+                redis.call('incr', KEYS[i + 1])
+                redis.call('pexpire', KEYS[i + 1], ARGV[1])
+            end
+            return deleted
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public NewsDetailCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.hitCounter = Counter.builder("news.detail.cache")
+                .tag("result", "hit")
+                .description("뉴스 상세 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("news.detail.cache")
+                .tag("result", "miss")
+                .description("뉴스 상세 캐시 미스 횟수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("news.detail.cache")
+                .tag("result", "eviction")
+                .description("뉴스 상세 캐시 무효화 횟수")
+                .register(meterRegistry);
+    }
+
+    public Optional<NewsDetailDTO> get(Long newsId) {
+        try {
+            String value = redisTemplate.opsForValue().get(getKey(newsId));
+            if (value == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            NewsDetailDTO newsDetail = objectMapper.readValue(value, NewsDetailDTO.class);
+            hitCounter.increment();
+            return Optional.of(newsDetail);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[NEWS] 뉴스 상세 캐시 조회 실패 - newsId:{} error:{}", newsId, e.getMessage());
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에서 상세 정보를 조회하기 전에 호출하여, 그 결과를 {@link #put(NewsDetailDTO, long)}에 넘긴다.
+     */
+    public long getVersion(Long newsId) {
+        try {
+            String value = redisTemplate.opsForValue().get(getVersionKey(newsId));
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            log.warn("[NEWS] 뉴스 상세 캐시 버전 조회 실패 - newsId:{} error:{}", newsId, e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    /**
+     * 조회 전에 읽은 버전 이후로 무효화되지 않았을 때만 저장한다.
+     */
+    public void put(NewsDetailDTO newsDetail, long version) {
+        if (version == UNKNOWN_VERSION) {
+            return;
+        }
+
+        try {
+            String value = objectMapper.writeValueAsString(newsDetail);
+            Long stored = redisTemplate.execute(
+                    PUT_SCRIPT,
+                    List.of(getKey(newsDetail.getId()), getVersionKey(newsDetail.getId())),
+                    String.valueOf(version),
+                    value,
+                    String.valueOf(NewsServiceConstant.NEWS_DETAIL_CACHE_TTL.toMillis())
+            );
+            if (stored == null || stored == 0) {
+                log.info("[NEWS] 조회 중 무효화된 뉴스 상세 캐시 저장 생략 - newsId:{}", newsDetail.getId());
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[NEWS] 뉴스 상세 캐시 저장 실패 - newsId:{} error:{}", newsDetail.getId(), e.getMessage());
+        }
+    }
+
+    public void evict(Collection<Long> newsIds) {
+        if (newsIds == null || newsIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(newsIds.size() * 2);
+        for (Long newsId : newsIds) {
+            keys.add(getKey(newsId));
+            keys.add(getVersionKey(newsId));
+        }
+        try {
+            Long deleted = redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(NewsServiceConstant.NEWS_DETAIL_CACHE_TTL.toMillis()));
+            evictionCounter.increment(deleted != null ? deleted : 0);
+        } catch (RuntimeException e) {
+            log.warn("[NEWS] 뉴스 상세 캐시 무효화 실패 - newsIds:{} error:{}", newsIds, e.getMessage());
+        }
+    }
+
+    private String getKey(Long newsId) {
+        return KEY_PREFIX + newsId;
+    }
+
+    private String getVersionKey(Long newsId) {
+        return VERSION_KEY_PREFIX + newsId;
+    }
+}
@@ -0,0 +1,88 @@
+package com.tamnara.backend.news.cache;
+
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.repository.TagRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 이름과 태그 id의 대응을 서버 메모리에 캐싱한다.
+ * 태그 이름은 바뀌지 않고 고아 태그 삭제로만 사라지므로, 삭제한 서버는 바로 비우고 다른 서버는 유효 시간이 지나면 DB에서 다시 불러온다.
+ * 존재하지 않는 태그 이름은 이후에 생성될 수 있으므로 캐싱하지 않는다.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private record Entry(Long tagId, long expiresAt) {
+        boolean isValid(long now) {
+            return now - expiresAt < 0;
+        }
+    }
+
+    private final TagRepository tagRepository;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TagDictionary(TagRepository tagRepository, MeterRegistry meterRegistry) {
+        this.tagRepository = tagRepository;
+        this.hitCounter = Counter.builder("news.tag.dictionary")
+                .tag("result", "hit")
+                .description("태그 사전 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("news.tag.dictionary")
+                .tag("result", "miss")
+                .description("태그 사전 미스 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 존재하는 태그의 id 목록 (존재하지 않는 태그 이름은 제외)
+     */
+    public Set<Long> resolve(Collection<String> names) {
+        long now = System.nanoTime();
+        Set<Long> tagIds = new LinkedHashSet<>();
+        List<String> missingNames = new ArrayList<>();
+        for (String name : names) {
+            Entry entry = entries.get(name);
+            if (entry != null && entry.isValid(now)) {
+                hitCounter.increment();
+                tagIds.add(entry.tagId());
+            } else {
+                missCounter.increment();
+                missingNames.add(name);
+            }
+        }
+
+        if (!missingNames.isEmpty()) {
+            // 태그 수만큼 메모리가 늘어나지 않도록 상한을 넘으면 비우고 다시 채운다.
+            if (entries.size() + missingNames.size() > NewsServiceConstant.TAG_DICTIONARY_MAX_SIZE) {
+                entries.clear();
+            }
+
+            long expiresAt = now + NewsServiceConstant.TAG_DICTIONARY_TTL.toNanos();
+            tagRepository.findAllByNameIn(missingNames).forEach(tag -> {
+                entries.put(tag.getName(), new Entry(tag.getId(), expiresAt));
+                tagIds.add(tag.getId());
+            });
+        }
+        return tagIds;
+    }
+
+    public void clear() {
+        entries.clear();
+        log.info("[NEWS] 태그 사전 무효화");
+    }
+}
@@ -0,0 +1,74 @@
+package com.tamnara.backend.news.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * AI 서버 호출용 서킷 브레이커.
+ * 연속 실패가 임계치에 도달하면 일정 시간 동안 요청을 즉시 거절(OPEN)하고,
+ * 대기 시간이 지나면 한 건의 시험 요청(HALF_OPEN)으로 복구 여부를 판단한다.
+ */
+public class AiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private Instant openedAt;
+
+    public AiCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+
+        // OPEN 상태이거나, HALF_OPEN 상태에서 이미 시험 요청이 진행 중인 경우
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * 호출자가 응답을 기다리지 않고 취소한 요청은 AI 서버의 실패가 아니므로 실패로 세지 않는다.
+     * 취소된 요청이 시험 요청이었다면 다음 요청이 바로 시험 요청이 될 수 있도록 반납한다.
+     */
+    public synchronized void onCancel() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+            openedAt = clock.instant().minus(openDuration);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
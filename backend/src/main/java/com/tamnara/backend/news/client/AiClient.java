@@ -0,0 +1,148 @@
+package com.tamnara.backend.news.client;
+
+import com.tamnara.backend.global.dto.WrappedDTO;
+import com.tamnara.backend.global.exception.AIException;
+import com.tamnara.backend.news.constant.AiClientConstant;
+import com.tamnara.backend.news.constant.NewsResponseMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Clock;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 서버 호출을 담당한다.
+ * 모든 요청에 엔드포인트별 타이머와 서킷 브레이커를 적용하고,
+ * 멱등한 요청은 서버 측 장애(5xx, 연결 실패, 타임아웃)에 한해 지터가 있는 백오프로 재시도한다.
+ */
+@Slf4j
+@Component
+public class AiClient {
+
+    private final WebClient aiWebClient;
+    private final MeterRegistry meterRegistry;
+    private final AiCircuitBreaker circuitBreaker;
+
+    @Autowired
+    public AiClient(WebClient aiWebClient, MeterRegistry meterRegistry) {
+        this(aiWebClient, meterRegistry, new AiCircuitBreaker(
+                AiClientConstant.CIRCUIT_FAILURE_THRESHOLD,
+                AiClientConstant.CIRCUIT_OPEN_DURATION,
+                Clock.systemUTC()
+        ));
+    }
+
+    AiClient(WebClient aiWebClient, MeterRegistry meterRegistry, AiCircuitBreaker circuitBreaker) {
+        this.aiWebClient = aiWebClient;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreaker;
+        Gauge.builder("ai.client.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("AI 서버 서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<WrappedDTO<T>> post(String endpoint, Object body, ParameterizedTypeReference<WrappedDTO<T>> responseType, boolean idempotent) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                log.warn("[AI] 서킷 브레이커 열림 - 요청 거절, endpoint:{}", endpoint);
+                Counter.builder("ai.client.rejected")
+                        .description("서킷 브레이커에 의해 거절된 AI 요청 수")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .increment();
+                return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, NewsResponseMessage.AI_SERVER_UNAVAILABLE));
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Mono<WrappedDTO<T>> request = exchange(endpoint, body, responseType);
+            if (idempotent) {
+                request = request.retryWhen(getRetrySpec(endpoint));
+            }
+
+            return request
+                    .doOnSuccess(res -> {
+                        circuitBreaker.onSuccess();
+                        stopTimer(sample, endpoint, "success");
+                    })
+                    .doOnError(e -> {
+                        if (isServerFailure(e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                        stopTimer(sample, endpoint, "error");
+                    })
+                    .doOnCancel(() -> {
+                        // 호출자의 타임아웃이나 함께 요청한 다른 작업의 실패로 취소된 경우로, AI 서버 실패로 세지 않는다.
+                        circuitBreaker.onCancel();
+                        stopTimer(sample, endpoint, "cancelled");
+                    });
+        });
+    }
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private <T> Mono<WrappedDTO<T>> exchange(String endpoint, Object body, ParameterizedTypeReference<WrappedDTO<T>> responseType) {
+        return aiWebClient.post()
+                .uri(endpoint)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(
+                        HttpStatusCode::isError,
+                        clientResponse -> clientResponse
+                                .bodyToMono(responseType)
+                                .flatMap(errorBody -> Mono.<Throwable>error(new AIException(clientResponse.statusCode(), errorBody)))
+                                .switchIfEmpty(clientResponse.createError())
+                )
+                .bodyToMono(responseType);
+    }
+
+    private Retry getRetrySpec(String endpoint) {
+        return Retry.backoff(AiClientConstant.RETRY_MAX_ATTEMPTS, AiClientConstant.RETRY_MIN_BACKOFF)
+                .jitter(AiClientConstant.RETRY_JITTER)
+                .filter(this::isServerFailure)
+                .doBeforeRetry(signal -> {
+                    log.warn("[AI] 요청 재시도 - endpoint:{} attempt:{} error:{}", endpoint, signal.totalRetries() + 1, signal.failure().getMessage());
+                    Counter.builder("ai.client.retries")
+                            .description("AI 요청 재시도 횟수")
+                            .tag("endpoint", endpoint)
+                            .register(meterRegistry)
+                            .increment();
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private boolean isServerFailure(Throwable e) {
+        if (e instanceof AIException aiEx) {
+            return aiEx.getStatus().is5xxServerError();
+        }
+        if (e instanceof WebClientResponseException responseEx) {
+            return responseEx.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private void stopTimer(Timer.Sample sample, String endpoint, String outcome) {
+        sample.stop(Timer.builder("ai.client.requests")
+                .description("AI 서버 요청 소요 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
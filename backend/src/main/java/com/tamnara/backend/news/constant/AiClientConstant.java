@@ -0,0 +1,26 @@
+package com.tamnara.backend.news.constant;
+
+import java.time.Duration;
+
+public final class AiClientConstant {
+    private AiClientConstant() {}
+
+    // 커넥션 풀
+    public static final Integer MAX_CONNECTIONS = 50;
+    public static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(5);
+    public static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+    public static final Duration EVICT_INTERVAL = Duration.ofSeconds(60);
+
+    // 타임아웃
+    public static final Integer CONNECT_TIMEOUT_MILLIS = 3_000;
+    public static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(90);
+
+    // 재시도
+    public static final Integer RETRY_MAX_ATTEMPTS = 2;
+    public static final Duration RETRY_MIN_BACKOFF = Duration.ofMillis(200);
+    public static final Double RETRY_JITTER = 0.5;
+
+    // 서킷 브레이커
+    public static final Integer CIRCUIT_FAILURE_THRESHOLD = 5;
+    public static final Duration CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
+}
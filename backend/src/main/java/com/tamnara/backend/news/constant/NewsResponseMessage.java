@@ -12,10 +12,19 @@ public final class NewsResponseMessage {
     public static final String NEWS_DETAIL_FETCH_SUCCESS = "요청하신 뉴스의 상세 정보를 성공적으로 불러왔습니다.";
     public static final String NEWS_CREATED_SUCCESS = "뉴스가 성공적으로 생성되었습니다.";
     public static final String NEWS_UPDATED_SUCCESS = "데이터가 성공적으로 업데이트되었습니다.";
+    public static final String NEWS_JOB_ACCEPTED = "뉴스 생성 요청이 접수되었습니다.";
+    public static final String NEWS_JOB_FETCH_SUCCESS = "뉴스 생성 작업 상태를 성공적으로 불러왔습니다.";
 
     // 뉴스 예외 메시지
     public static final String NEWS_UPDATE_CONFLICT = "마지막 업데이트 이후 24시간이 지나지 않았습니다.";
     public static final String NEWS_DELETE_FORBIDDEN = "뉴스를 삭제할 권한이 없습니다.";
     public static final String NEWS_DELETE_CONFLICT = "마지막 업데이트 이후 24시간이 지나지 않았습니다.";
     public static final String CATEGORY_NOT_FOUND = "존재하지 않는 카테고리입니다.";
+    public static final String NEWS_JOB_NOT_FOUND = "존재하지 않는 뉴스 생성 작업입니다.";
+    public static final String NEWS_JOB_QUEUE_FULL = "뉴스 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+    public static final String NEWS_CREATE_IN_PROGRESS = "같은 키워드의 뉴스가 생성 중입니다. 잠시 후 다시 시도해주세요.";
+    public static final String NEWS_JOB_NO_RESULT = "키워드와 관련된 뉴스를 찾을 수 없습니다.";
+    public static final String NEWS_JOB_FAILED = "뉴스 생성 중 오류가 발생했습니다.";
+    public static final String AI_SERVER_UNAVAILABLE = "AI 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.";
+    public static final String TIMELINE_MERGE_TIMEOUT = "타임라인 카드 병합 요청 시간이 초과되었습니다.";
 }
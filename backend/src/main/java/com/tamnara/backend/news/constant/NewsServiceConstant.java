@@ -1,14 +1,33 @@
 package com.tamnara.backend.news.constant;
 
+import java.time.Duration;
+
 public final class NewsServiceConstant {
     private NewsServiceConstant() {}
 
     public static final Integer PAGE_SIZE = 20;
     public static final Integer TAGS_MIN_SIZE = 1;
     public static final Integer TAGS_MAX_SIZE = 6;
+    public static final Duration TAG_DICTIONARY_TTL = Duration.ofMinutes(10);
+    public static final Integer TAG_DICTIONARY_MAX_SIZE = 10_000;
     public static final Integer STATISTICS_AI_SEARCH_CNT = 10;
     public static final Integer HOTISSUE_CREATE_CNT = 3;
+    public static final Integer HOTISSUE_CREATE_CONCURRENCY = 3;
     public static final Integer NEWS_CREATE_DAYS = 30;
     public static final Integer NEWS_UPDATE_HOURS = 24;
     public static final Integer NEWS_DELETE_DAYS = 90;
+    public static final String NEWS_PURGE_TARGET = "news";
+    public static final String ORPHAN_TAG_PURGE_TARGET = "orphan_tag";
+    public static final Integer NEWS_DELETE_WARNING_BATCH_SIZE = 500;
+    public static final Duration NEWS_DETAIL_CACHE_TTL = Duration.ofHours(6);
+    public static final long VIEW_COUNT_FLUSH_DELAY_MS = 10_000L;
+    public static final Integer VIEW_COUNT_FLUSH_BATCH_SIZE = 500;
+    public static final Integer TIMELINE_MERGE_CONCURRENCY = 4;
+    public static final Duration TIMELINE_MERGE_TIMEOUT = Duration.ofSeconds(30);
+    public static final Integer NEWS_JOB_WORKER_CNT = 4;
+    public static final Integer NEWS_JOB_QUEUE_CAPACITY = 100;
+    public static final Duration NEWS_JOB_TTL = Duration.ofDays(1);
+    public static final Duration NEWS_CREATE_LOCK_LEASE = Duration.ofMinutes(5);
+    public static final Duration NEWS_CREATE_LOCK_WAIT = Duration.ofMinutes(5);
+    public static final long NEWS_CREATE_LOCK_POLL_MS = 500L;
 }
@@ -5,12 +5,15 @@ import com.tamnara.backend.global.dto.WrappedDTO;
 import com.tamnara.backend.global.exception.CustomException;
 import com.tamnara.backend.news.constant.NewsResponseMessage;
 import com.tamnara.backend.news.dto.NewsDetailDTO;
+import com.tamnara.backend.news.dto.NewsJobDTO;
 import com.tamnara.backend.news.dto.request.KtbNewsCreateRequest;
 import com.tamnara.backend.news.dto.request.NewsCreateRequest;
 import com.tamnara.backend.news.dto.response.HotissueNewsListResponse;
 import com.tamnara.backend.news.dto.response.NewsDetailResponse;
+import com.tamnara.backend.news.dto.response.NewsJobResponse;
 import com.tamnara.backend.news.dto.response.NewsListResponse;
 import com.tamnara.backend.news.dto.response.category.MultiCategoryResponse;
+import com.tamnara.backend.news.service.NewsJobService;
 import com.tamnara.backend.news.service.NewsService;
 import com.tamnara.backend.user.domain.Role;
 import com.tamnara.backend.user.security.UserDetailsImpl;
@@ -38,6 +41,7 @@ import java.util.List;
 public class NewsController {
 
     private final NewsService newsService;
+    private final NewsJobService newsJobService;
 
     @GetMapping("/hotissue")
     public ResponseEntity<WrappedDTO<HotissueNewsListResponse>> findHotissueNews() {
@@ -64,10 +68,23 @@ public class NewsController {
     public ResponseEntity<WrappedDTO<?>> findNormalNews(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam(required = false) String category,
-            @RequestParam(defaultValue = "0") Integer offset
+            @RequestParam(defaultValue = "0") Integer offset,
+            @RequestParam(required = false) String cursor
     ) {
         try {
-            if (offset == 0) {
+            if (cursor != null) {
+                // 커서 기반 추가 요청
+                Long userId = (userDetails != null && userDetails.getUser() != null) ? userDetails.getUser().getId() : null;
+
+                Object singleCategoryResponse = newsService.getSingleCategoryPageByCursor(userId, category, cursor);
+
+                return ResponseEntity.ok().body(
+                        new WrappedDTO<> (
+                                true,
+                                NewsResponseMessage.NORMAL_NEWS_CARD_FETCH_MORE_SUCCESS,
+                                singleCategoryResponse
+                        ));
+            } else if (offset == 0) {
                 // 최초 요청
                 Long userId = (userDetails != null && userDetails.getUser() != null) ? userDetails.getUser().getId() : null;
 
@@ -106,16 +123,19 @@ public class NewsController {
     public ResponseEntity<WrappedDTO<NewsListResponse>> searchNewsByTags(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam List<String> tags,
-            @RequestParam(defaultValue = "0") Integer offset
+            @RequestParam(defaultValue = "0") Integer offset,
+            @RequestParam(required = false) String cursor
     ) {
         try {
             Long userId = (userDetails != null && userDetails.getUser() != null) ? userDetails.getUser().getId() : null;
 
-            NewsListResponse newsListResponse = newsService.getSearchNewsCardPage(userId, tags, offset);
+            NewsListResponse newsListResponse = cursor != null
+                    ? newsService.getSearchNewsCardPageByCursor(userId, tags, cursor)
+                    : newsService.getSearchNewsCardPage(userId, tags, offset);
 
             return ResponseEntity.ok(new WrappedDTO<>(
                     true,
-                    offset == 0
+                    offset == 0 && cursor == null
                             ? NewsResponseMessage.SEARCHED_NEWS_CARD_FETCH_SUCCESS
                             : NewsResponseMessage.SEARCHED_NEWS_CARD_FETCH_MORE_SUCCESS,
                     newsListResponse
@@ -159,7 +179,7 @@ public class NewsController {
     }
 
     @PostMapping
-    public ResponseEntity<WrappedDTO<NewsDetailResponse>> createNews(
+    public ResponseEntity<WrappedDTO<NewsJobResponse>> createNews(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestBody NewsCreateRequest req
     ) {
@@ -170,18 +190,45 @@ public class NewsController {
 
             Long userId = userDetails.getUser().getId();
 
-            NewsDetailDTO newsDetailDTO = newsService.save(userId, false, req);
-            if (newsDetailDTO == null) {
-                return ResponseEntity.noContent().build();
+            // AI 뉴스 생성은 작업자 풀에서 처리하고, 작업 ID만 즉시 반환한다.
+            NewsJobDTO newsJobDTO = newsJobService.submit(userId, req);
+
+            URI location = URI.create("/news/jobs/" + newsJobDTO.getId());
+            return ResponseEntity.accepted().location(location).body(
+                    new WrappedDTO<>(
+                            true,
+                            NewsResponseMessage.NEWS_JOB_ACCEPTED,
+                            new NewsJobResponse(newsJobDTO)
+                    ));
+
+        } catch (ResponseStatusException e) {
+            throw new CustomException(HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ResponseMessage.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<WrappedDTO<NewsJobResponse>> findNewsJob(
+            @PathVariable("jobId") String jobId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        try {
+            if (userDetails == null || userDetails.getUser() == null) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, ResponseMessage.USER_NOT_CERTIFICATION);
             }
 
-            URI location = URI.create("/news/" + newsDetailDTO.getId());
-            NewsDetailResponse newsDetailResponse = new NewsDetailResponse(newsDetailDTO);
-            return ResponseEntity.created(location).body(
+            Long userId = userDetails.getUser().getId();
+            NewsJobDTO newsJobDTO = newsJobService.getJob(userId, jobId);
+
+            return ResponseEntity.ok().body(
                     new WrappedDTO<>(
                             true,
-                            NewsResponseMessage.NEWS_CREATED_SUCCESS,
-                            newsDetailResponse
+                            NewsResponseMessage.NEWS_JOB_FETCH_SUCCESS,
+                            new NewsJobResponse(newsJobDTO)
                     ));
 
         } catch (ResponseStatusException e) {
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,7 +28,7 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(of = "id")
-@Table(name = "news")
+@Table(name = "news", indexes = @Index(name = "idx_hotissue_public_category_updated_at_id", columnList = "is_hotissue, is_public, category_id, updated_at DESC, id DESC"))
 public class News {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,8 @@
+package com.tamnara.backend.news.domain;
+
+public enum NewsJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
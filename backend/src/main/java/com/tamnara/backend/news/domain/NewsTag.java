@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +22,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(of = "id")
-@Table(name = "news_tag")
+@Table(name = "news_tag",
+        indexes = @Index(name = "idx_news_tag_tag_news", columnList = "tag_id, news_id"))
 public class NewsTag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,21 @@
+package com.tamnara.backend.news.dto;
+
+import com.tamnara.backend.news.domain.NewsJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class NewsJobDTO {
+    private String id;
+    private Long userId;
+    private NewsJobStatus status;
+    private List<String> keywords;
+    private Long newsId;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
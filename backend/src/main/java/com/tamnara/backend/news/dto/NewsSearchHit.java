@@ -0,0 +1,12 @@
+package com.tamnara.backend.news.dto;
+
+import com.tamnara.backend.news.domain.News;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NewsSearchHit {
+    private News news;
+    private long matchCount;
+}
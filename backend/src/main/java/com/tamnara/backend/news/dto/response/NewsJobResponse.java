@@ -0,0 +1,11 @@
+package com.tamnara.backend.news.dto.response;
+
+import com.tamnara.backend.news.dto.NewsJobDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NewsJobResponse {
+    private NewsJobDTO job;
+}
@@ -12,4 +12,9 @@ public class NewsListResponse {
     private List<NewsCardDTO> newsList;
     private int offset;
     private boolean hasNext;
+    private String nextCursor;
+
+    public NewsListResponse(List<NewsCardDTO> newsList, int offset, boolean hasNext) {
+        this(newsList, offset, hasNext, null);
+    }
 }
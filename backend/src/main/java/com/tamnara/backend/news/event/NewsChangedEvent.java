@@ -0,0 +1,12 @@
+package com.tamnara.backend.news.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class NewsChangedEvent {
+    private final List<Long> newsIds;
+}
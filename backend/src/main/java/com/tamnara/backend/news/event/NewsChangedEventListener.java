@@ -0,0 +1,20 @@
+package com.tamnara.backend.news.event;
+
+import com.tamnara.backend.news.cache.NewsDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class NewsChangedEventListener {
+
+    private final NewsDetailCache newsDetailCache;
+
+    // 커밋 이후에 캐시를 비워야 다른 요청이 커밋 전 데이터를 다시 캐싱하지 않는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNewsChangedEvent(NewsChangedEvent event) {
+        newsDetailCache.evict(event.getNewsIds());
+    }
+}
@@ -0,0 +1,177 @@
+package com.tamnara.backend.news.job;
+
+import com.tamnara.backend.news.constant.NewsResponseMessage;
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.dto.NewsDetailDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키워드 조합에 대한 뉴스 생성 요청을 하나로 합친다.
+ * 한 서버 안에서는 진행 중인 생성 작업의 결과를 함께 기다리고,
+ * 서버 간에는 Redis 락으로 한 서버만 AI 생성을 수행하도록 한다.
+ * 락을 기다린 요청은 먼저 끝난 생성 결과(기존 뉴스)를 조회해 반환한다.
+ */
+@Slf4j
+@Component
+public class NewsCreationCoalescer {
+
+    private static final String LOCK_PREFIX = "NEWS_CREATE_LOCK:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcurrentHashMap<String, CompletableFuture<NewsDetailDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+    private final Counter lockWaitCounter;
+
+    public NewsCreationCoalescer(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.coalescedCounter = Counter.builder("news.create.coalesced")
+                .description("진행 중인 생성 작업에 합쳐진 뉴스 생성 요청 수")
+                .register(meterRegistry);
+        this.lockWaitCounter = Counter.builder("news.create.lock.wait")
+                .description("다른 서버의 생성 작업을 기다린 뉴스 생성 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param keywords 뉴스 생성 키워드 목록
+     * @param generator AI 생성부터 저장까지 수행하는 작업 (생성할 뉴스가 없으면 null 반환)
+     * @param existing 같은 키워드 조합으로 이미 생성된 뉴스를 조회하는 작업
+     */
+    public NewsDetailDTO execute(List<String> keywords, Supplier<NewsDetailDTO> generator, Supplier<Optional<NewsDetailDTO>> existing) {
+        String key = normalize(keywords);
+
+        CompletableFuture<NewsDetailDTO> future = new CompletableFuture<>();
+        CompletableFuture<NewsDetailDTO> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            log.info("[NEWS] 진행 중인 뉴스 생성 작업에 합류 - key:{}", key);
+            coalescedCounter.increment();
+            return join(running);
+        }
+
+        try {
+            NewsDetailDTO result = executeWithLock(key, generator, existing);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private NewsDetailDTO executeWithLock(String key, Supplier<NewsDetailDTO> generator, Supplier<Optional<NewsDetailDTO>> existing) {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + NewsServiceConstant.NEWS_CREATE_LOCK_WAIT.toMillis();
+        boolean waited = false;
+
+        while (true) {
+            Boolean acquired = tryAcquire(lockKey, token);
+            if (acquired == null) {
+                // Redis를 사용할 수 없으면 서버 간 중복 제거 없이 생성한다.
+                return generator.get();
+            }
+
+            if (acquired) {
+                try {
+                    // 락을 기다리는 동안 다른 서버가 같은 뉴스를 생성했을 수 있다.
+                    if (waited) {
+                        Optional<NewsDetailDTO> created = existing.get();
+                        if (created.isPresent()) {
+                            return created.get();
+                        }
+                    }
+                    return generator.get();
+                } finally {
+                    release(lockKey, token);
+                }
+            }
+
+            if (!waited) {
+                log.info("[NEWS] 다른 서버의 뉴스 생성 작업 대기 - key:{}", key);
+                lockWaitCounter.increment();
+                waited = true;
+            }
+
+            if (System.currentTimeMillis() > deadline) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, NewsResponseMessage.NEWS_CREATE_IN_PROGRESS);
+            }
+            sleep();
+        }
+    }
+
+    private Boolean tryAcquire(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, NewsServiceConstant.NEWS_CREATE_LOCK_LEASE));
+        } catch (RuntimeException e) {
+            log.warn("[NEWS] 뉴스 생성 락 획득 실패 - lockKey:{} error:{}", lockKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (RuntimeException e) {
+            // 해제에 실패해도 임대 시간이 지나면 락이 만료된다.
+            log.warn("[NEWS] 뉴스 생성 락 해제 실패 - lockKey:{} error:{}", lockKey, e.getMessage());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(NewsServiceConstant.NEWS_CREATE_LOCK_POLL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("뉴스 생성 락 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private NewsDetailDTO join(CompletableFuture<NewsDetailDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    static String normalize(List<String> keywords) {
+        return keywords.stream()
+                .map(String::trim)
+                .filter(k -> !k.isEmpty())
+                .distinct()
+                .sorted()
+                .reduce((a, b) -> a + "," + b)
+                .orElse("");
+    }
+}
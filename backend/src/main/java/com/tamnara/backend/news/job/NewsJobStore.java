@@ -0,0 +1,51 @@
+package com.tamnara.backend.news.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.dto.NewsJobDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 뉴스 생성 작업의 상태를 Redis에 보관한다.
+ * 작업을 접수한 서버와 상태를 조회하는 서버가 다를 수 있으므로 메모리가 아닌 Redis를 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsJobStore {
+
+    private static final String KEY_PREFIX = "NEWS_JOB:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void save(NewsJobDTO job) {
+        try {
+            String value = objectMapper.writeValueAsString(job);
+            redisTemplate.opsForValue().set(getKey(job.getId()), value, NewsServiceConstant.NEWS_JOB_TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("뉴스 생성 작업을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    public Optional<NewsJobDTO> findById(String jobId) {
+        String value = redisTemplate.opsForValue().get(getKey(jobId));
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(value, NewsJobDTO.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("뉴스 생성 작업을 역직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private String getKey(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+}
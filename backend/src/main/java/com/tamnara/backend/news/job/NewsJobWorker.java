@@ -0,0 +1,57 @@
+package com.tamnara.backend.news.job;
+
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 뉴스 생성 작업을 처리하는 작업자 풀.
+ * 동시에 실행되는 생성 작업 수를 작업자 수로 제한하고, 대기열이 가득 차면 새 작업을 거절한다.
+ * 스프링 빈으로 Executor를 노출하지 않아 @Async 기본 실행기에는 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+public class NewsJobWorker {
+
+    private final ThreadPoolExecutor executor;
+
+    public NewsJobWorker(MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(
+                NewsServiceConstant.NEWS_JOB_WORKER_CNT,
+                NewsServiceConstant.NEWS_JOB_WORKER_CNT,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(NewsServiceConstant.NEWS_JOB_QUEUE_CAPACITY),
+                Thread.ofVirtual().name("news-job-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("news.job.queue.size", executor, e -> e.getQueue().size())
+                .description("대기 중인 뉴스 생성 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("news.job.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 뉴스 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    public void execute(Runnable task) throws RejectedExecutionException {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        log.info("[NEWS] 뉴스 생성 작업자 종료 시작 - queueSize:{} active:{}", executor.getQueue().size(), executor.getActiveCount());
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tamnara.backend.news.repository;
+
+import com.tamnara.backend.news.domain.TimelineCard;
+import com.tamnara.backend.news.domain.converter.StringListConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 뉴스 생성/업데이트 시 여러 행을 한 번에 저장한다.
+ * IDENTITY 전략의 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsBulkWriteRepository {
+
+    private static final String INSERT_TIMELINE_CARD_SQL = """
+        INSERT INTO timeline_cards (news_id, title, content, source, duration, start_at, end_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+    """;
+    private static final String INSERT_NEWS_TAG_SQL = "INSERT INTO news_tag (news_id, tag_id) VALUES (?, ?)";
+    private static final String INSERT_TAGS_SQL_PREFIX = "INSERT INTO tags (name) VALUES ";
+    private static final String INSERT_TAGS_SQL_SUFFIX = " ON DUPLICATE KEY UPDATE name = name";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringListConverter stringListConverter = new StringListConverter();
+
+    public void insertTimelineCards(Long newsId, List<TimelineCard> timelineCards) {
+        if (timelineCards.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(timelineCards.size());
+        for (TimelineCard tc : timelineCards) {
+            args.add(new Object[]{
+                    newsId,
+                    tc.getTitle(),
+                    tc.getContent(),
+                    stringListConverter.convertToDatabaseColumn(tc.getSource()),
+                    tc.getDuration().name(),
+                    Date.valueOf(tc.getStartAt()),
+                    Date.valueOf(tc.getEndAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_TIMELINE_CARD_SQL, args);
+    }
+
+    /**
+     * 이미 존재하는 태그는 건너뛰고, 없는 태그만 한 번의 INSERT 문으로 저장한다.
+     */
+    public void insertTagsIfAbsent(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "(?)"));
+        jdbcTemplate.update(INSERT_TAGS_SQL_PREFIX + placeholders + INSERT_TAGS_SQL_SUFFIX, names.toArray());
+    }
+
+    public void insertNewsTags(Long newsId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(tagIds.size());
+        tagIds.forEach(tagId -> args.add(new Object[]{newsId, tagId}));
+        jdbcTemplate.batchUpdate(INSERT_NEWS_TAG_SQL, args);
+    }
+}
@@ -4,9 +4,12 @@ import com.tamnara.backend.news.domain.NewsImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NewsImageRepository extends JpaRepository<NewsImage, Long> {
     Optional<NewsImage> findByNewsId(Long newsId);
+    List<NewsImage> findAllByNewsIdIn(Collection<Long> newsIds);
 }
@@ -3,6 +3,8 @@ package com.tamnara.backend.news.repository;
 import com.tamnara.backend.news.domain.News;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,11 +13,17 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long>, NewsSearchRepository {
+    // 트랜잭션 밖(뉴스 생성 작업 스레드)에서도 카테고리를 사용할 수 있도록 함께 조회한다.
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Optional<News> findById(Long id);
+
     Page<News> findAllByIsHotissueTrueOrderByIdAsc(Pageable pageable);
 
     @Query("""
@@ -38,6 +46,51 @@ public interface NewsRepository extends JpaRepository<News, Long>, NewsSearchRep
     """)
     Page<News> findByIsHotissueFalseAndCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 
+    @Query("""
+        SELECT n FROM News n
+        WHERE n.isHotissue = false
+        AND (n.isPublic IS NULL OR n.isPublic = true)
+        ORDER BY n.updatedAt DESC, n.id DESC
+    """)
+    Slice<News> findSliceByIsHotissueFalse(Pageable pageable);
+
+    @Query("""
+        SELECT n FROM News n
+        WHERE n.isHotissue = false
+          AND (n.isPublic IS NULL OR n.isPublic = true)
+          AND n.category.id = :categoryId
+        ORDER BY n.updatedAt DESC, n.id DESC
+    """)
+    Slice<News> findSliceByIsHotissueFalseAndCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query("""
+        SELECT n FROM News n
+        WHERE n.isHotissue = false
+          AND (n.isPublic IS NULL OR n.isPublic = true)
+          AND (n.updatedAt < :updatedAt OR (n.updatedAt = :updatedAt AND n.id < :id))
+        ORDER BY n.updatedAt DESC, n.id DESC
+    """)
+    Slice<News> findSliceByIsHotissueFalseAfter(
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT n FROM News n
+        WHERE n.isHotissue = false
+          AND (n.isPublic IS NULL OR n.isPublic = true)
+          AND n.category.id = :categoryId
+          AND (n.updatedAt < :updatedAt OR (n.updatedAt = :updatedAt AND n.id < :id))
+        ORDER BY n.updatedAt DESC, n.id DESC
+    """)
+    Slice<News> findSliceByIsHotissueFalseAndCategoryIdAfter(
+            @Param("categoryId") Long categoryId,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     @Query(value = """
         SELECT n.*
         FROM news n
@@ -55,27 +108,32 @@ public interface NewsRepository extends JpaRepository<News, Long>, NewsSearchRep
     Optional<News> findNewsByExactlyMatchingTags(@Param("keywords") List<String> keywords, @Param("size") Integer size);
 
 
-    @Query("""
-        SELECT n FROM News n
-        WHERE n.updatedAt < :cutoff
-    """)
-    List<News> findAllOlderThan(@Param("cutoff") LocalDateTime cutoff);
-
     List<News> findAllByIsPublicFalseOrderByUpdatedAtDesc();
 
     @Modifying
-    @Query("UPDATE News n SET n.isHotissue = :isHotissue WHERE n.id = :newsId")
-    void updateIsHotissue(@Param("newsId") Long newsId, @Param("isHotissue") boolean isHotissue);
+    @Transactional
+    @Query("""
+        UPDATE News n
+        SET n.isHotissue = CASE WHEN n.id IN :newsIds THEN true ELSE false END
+        WHERE n.isHotissue = true OR n.id IN :newsIds
+    """)
+    int replaceHotissues(@Param("newsIds") Collection<Long> newsIds);
 
-    @Modifying
-    @Query("UPDATE News n SET n.viewCount = n.viewCount + 1 WHERE n.id = :newsId")
-    void increaseViewCount(@Param("newsId") Long newsId);
+    @Query("""
+        SELECT n.id FROM News n
+        WHERE n.updatedAt < :cutoff
+          AND n.id > :afterId
+        ORDER BY n.id ASC
+    """)
+    List<Long> findIdsOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
 
+    // 조회 이후 수정된 뉴스는 남겨두도록 기준 시간을 다시 확인한다.
     @Modifying
     @Transactional
     @Query("""
         DELETE FROM News n
-        WHERE n.updatedAt < :cutoff
+        WHERE n.id IN :ids
+          AND n.updatedAt < :cutoff
     """)
-    void deleteAllOlderThan(@Param("cutoff") LocalDateTime cutoff);
+    int deleteAllByIdInAndOlderThan(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
 }
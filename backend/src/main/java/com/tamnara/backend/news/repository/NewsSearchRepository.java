@@ -1,11 +1,13 @@
 package com.tamnara.backend.news.repository;
 
-import com.tamnara.backend.news.domain.News;
-import org.springframework.data.domain.Page;
+import com.tamnara.backend.news.dto.NewsSearchHit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 public interface NewsSearchRepository {
-    Page<News> searchNewsPageByTags(List<String> keywords, Pageable pageable);
+    Slice<NewsSearchHit> searchNewsSliceByTagIds(Collection<Long> tagIds, Pageable pageable);
+    Slice<NewsSearchHit> searchNewsSliceByTagIdsAfter(Collection<Long> tagIds, Long matchCount, LocalDateTime updatedAt, Long id, int size);
 }
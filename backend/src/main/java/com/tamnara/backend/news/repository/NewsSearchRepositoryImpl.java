@@ -1,15 +1,19 @@
 package com.tamnara.backend.news.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.tamnara.backend.news.domain.News;
 import com.tamnara.backend.news.domain.QNews;
 import com.tamnara.backend.news.domain.QNewsTag;
-import com.tamnara.backend.news.domain.QTag;
+import com.tamnara.backend.news.dto.NewsSearchHit;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -18,35 +22,69 @@ public class NewsSearchRepositoryImpl implements NewsSearchRepository {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<News> searchNewsPageByTags(List<String> keywords, Pageable pageable) {
+    public Slice<NewsSearchHit> searchNewsSliceByTagIds(Collection<Long> tagIds, Pageable pageable) {
         QNews news = QNews.news;
-        QTag tag = QTag.tag;
         QNewsTag newsTag = QNewsTag.newsTag;
 
-        List<News> content = queryFactory
-                .select(news)
+        // 일치 태그 수는 tags 조인 없이 news_tag의 tag_id로 센다.
+        NumberExpression<Long> matched = newsTag.tag.id.count();
+        List<Tuple> rows = queryFactory
+                .select(news, matched)
                 .from(newsTag)
                 .join(newsTag.news, news)
-                .join(newsTag.tag, tag)
-                .where(tag.name.in(keywords))
+                .where(newsTag.tag.id.in(tagIds))
                 .groupBy(news.id)
                 .orderBy(
-                        tag.name.count().desc(),
+                        matched.desc(),
                         news.updatedAt.desc(),
                         news.id.desc()
                 )
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        Long total = queryFactory
-                .select(news.countDistinct())
+        return toSlice(rows, news, matched, pageable);
+    }
+
+    @Override
+    public Slice<NewsSearchHit> searchNewsSliceByTagIdsAfter(Collection<Long> tagIds, Long matchCount, LocalDateTime updatedAt, Long id, int size) {
+        QNews news = QNews.news;
+        QNewsTag newsTag = QNewsTag.newsTag;
+
+        // (일치 태그 수, 수정일자, ID) 내림차순 정렬 기준으로 커서 이후의 뉴스만 조회한다.
+        NumberExpression<Long> matched = newsTag.tag.id.count();
+        List<Tuple> rows = queryFactory
+                .select(news, matched)
                 .from(newsTag)
                 .join(newsTag.news, news)
-                .join(newsTag.tag, tag)
-                .where(tag.name.in(keywords))
-                .fetchOne();
+                .where(newsTag.tag.id.in(tagIds))
+                .groupBy(news.id)
+                .having(
+                        matched.lt(matchCount)
+                                .or(matched.eq(matchCount).and(news.updatedAt.lt(updatedAt)))
+                                .or(matched.eq(matchCount).and(news.updatedAt.eq(updatedAt)).and(news.id.lt(id)))
+                )
+                .orderBy(
+                        matched.desc(),
+                        news.updatedAt.desc(),
+                        news.id.desc()
+                )
+                .limit(size + 1)
+                .fetch();
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> total != null ? total : 0L);
+        return toSlice(rows, news, matched, PageRequest.of(0, size));
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+    private Slice<NewsSearchHit> toSlice(List<Tuple> rows, QNews news, NumberExpression<Long> matched, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<NewsSearchHit> content = rows.stream()
+                .limit(pageable.getPageSize())
+                .map(row -> new NewsSearchHit(row.get(news), row.get(matched)))
+                .toList();
+        return new SliceImpl<>(content, pageable, hasNext);
     }
 }
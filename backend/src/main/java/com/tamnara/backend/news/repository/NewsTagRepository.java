@@ -1,6 +1,7 @@
 package com.tamnara.backend.news.repository;
 
 import com.tamnara.backend.news.domain.NewsTag;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +9,6 @@ import java.util.List;
 
 @Repository
 public interface NewsTagRepository extends JpaRepository<NewsTag, Long> {
+    @EntityGraph(attributePaths = "tag")
     List<NewsTag> findByNewsId(Long newsId);
 }
@@ -0,0 +1,24 @@
+package com.tamnara.backend.news.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NewsViewCountRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE news SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((newsId, delta) -> args.add(new Object[]{delta, newsId}));
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, args);
+    }
+}
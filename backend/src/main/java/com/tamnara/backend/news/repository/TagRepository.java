@@ -1,26 +1,44 @@
 package com.tamnara.backend.news.repository;
 
 import com.tamnara.backend.news.domain.Tag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
+    @Query("""
+        SELECT t.id FROM Tag t
+        WHERE t.id > :afterId
+          AND NOT EXISTS (
+              SELECT 1 FROM NewsTag nt
+              WHERE nt.tag = t
+          )
+        ORDER BY t.id ASC
+    """)
+    List<Long> findOrphanIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 조회 이후 다시 사용된 태그는 남겨두도록 고아 여부를 다시 확인한다.
     @Modifying
     @Transactional
     @Query("""
         DELETE FROM Tag t
-        WHERE NOT EXISTS (
-            SELECT 1 FROM NewsTag nt
-            WHERE nt.tag = t
-        )
+        WHERE t.id IN :ids
+          AND NOT EXISTS (
+              SELECT 1 FROM NewsTag nt
+              WHERE nt.tag = t
+          )
     """)
-    void deleteAllOrphan();
+    int deleteOrphanByIdIn(@Param("ids") Collection<Long> ids);
 
     Optional<Tag> findByName(String name);
+    List<Tag> findAllByNameIn(Collection<String> names);
 }
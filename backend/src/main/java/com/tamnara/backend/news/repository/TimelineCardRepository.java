@@ -2,6 +2,9 @@ package com.tamnara.backend.news.repository;
 
 import com.tamnara.backend.news.domain.TimelineCard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,5 +12,8 @@ import java.util.List;
 @Repository
 public interface TimelineCardRepository extends JpaRepository<TimelineCard, Long> {
     List<TimelineCard> findAllByNewsIdOrderByStartAtDesc(Long newsId);
-    void deleteAllByNewsId(Long newsId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineCard tc WHERE tc.news.id = :newsId")
+    void deleteAllByNewsId(@Param("newsId") Long newsId);
 }
@@ -0,0 +1,51 @@
+package com.tamnara.backend.news.search;
+
+import com.tamnara.backend.news.cache.TagDictionary;
+import com.tamnara.backend.news.dto.NewsSearchHit;
+import com.tamnara.backend.news.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 태그 이름을 태그 사전에서 id로 바꾼 뒤, news_tag의 (tag_id, news_id) 인덱스만으로 뉴스별 일치 태그 수를 센다.
+ * tags 테이블 조인과 전체 개수 조회 없이 다음 페이지 존재 여부만 확인하므로, news_tag가 커져도 검색한 태그에 달린 뉴스 수만큼만 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsTagSearchEngine {
+
+    private final TagDictionary tagDictionary;
+    private final NewsRepository newsRepository;
+
+    public Slice<NewsSearchHit> search(Collection<String> tags, Pageable pageable) {
+        Set<Long> tagIds = tagDictionary.resolve(tags);
+        if (tagIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        return newsRepository.searchNewsSliceByTagIds(tagIds, pageable);
+    }
+
+    public Slice<NewsSearchHit> searchAfter(Collection<String> tags, Long matchCount, LocalDateTime updatedAt, Long id, int size) {
+        Set<Long> tagIds = tagDictionary.resolve(tags);
+        if (tagIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+        }
+        return newsRepository.searchNewsSliceByTagIdsAfter(tagIds, matchCount, updatedAt, id, size);
+    }
+
+    /**
+     * 삭제된 태그가 검색에 쓰이지 않도록 태그 사전을 비운다.
+     */
+    public void evictTags() {
+        tagDictionary.clear();
+    }
+}
@@ -1,11 +1,9 @@
 package com.tamnara.backend.news.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.tamnara.backend.global.dto.WrappedDTO;
-import com.tamnara.backend.global.exception.AIException;
+import com.tamnara.backend.news.client.AiClient;
 import com.tamnara.backend.news.constant.NewsExternalApiEndpoint;
+import com.tamnara.backend.news.constant.NewsResponseMessage;
 import com.tamnara.backend.news.constant.NewsServiceConstant;
 import com.tamnara.backend.news.domain.TimelineCardType;
 import com.tamnara.backend.news.dto.StatisticsDTO;
@@ -16,12 +14,16 @@ import com.tamnara.backend.news.dto.request.AIStatisticsRequest;
 import com.tamnara.backend.news.dto.request.AITimelineMergeRequest;
 import com.tamnara.backend.news.dto.response.AIHotissueResponse;
 import com.tamnara.backend.news.dto.response.AINewsResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -30,12 +32,14 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
 public class AiServiceImpl implements AiService {
 
-    private final WebClient aiWebClient;
+    private final AiClient aiClient;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public WrappedDTO<AINewsResponse> createAINews(List<String> keywords, LocalDate startAt, LocalDate endAt) {
@@ -45,26 +49,18 @@ public class AiServiceImpl implements AiService {
                 endAt
         );
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        return aiWebClient.post()
-                .uri(NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT)
-                .bodyValue(aiNewsRequest)
-                .retrieve()
-                .onStatus(
-                        HttpStatusCode::isError,
-                        clientResponse -> clientResponse
-                                .bodyToMono(new ParameterizedTypeReference<WrappedDTO<AINewsResponse>>() {})
-                                .flatMap(errorBody -> Mono.error(new AIException(clientResponse.statusCode(), errorBody)))
-                )
-                .bodyToMono(new ParameterizedTypeReference<WrappedDTO<AINewsResponse>>() {})
-                .block();
+        return aiClient.post(
+                NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT,
+                aiNewsRequest,
+                new ParameterizedTypeReference<WrappedDTO<AINewsResponse>>() {},
+                false
+        ).block();
     }
 
     @Override
     public List<TimelineCardDTO> mergeTimelineCards(List<TimelineCardDTO> timeline) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
         // 1. 1일카드 -> 1주카드
         timeline = mergeAITimelineCards(timeline, TimelineCardType.DAY, 7);
 
@@ -75,6 +71,10 @@ public class AiServiceImpl implements AiService {
         timeline.removeIf(tc -> (TimelineCardType.valueOf(tc.getDuration()) == TimelineCardType.MONTH)
                 && (tc.getStartAt().isBefore(LocalDate.now().minusMonths(3))));
 
+        sample.stop(Timer.builder("ai.timeline.merge.latency")
+                .description("타임라인 카드 병합 전체 소요 시간")
+                .register(meterRegistry));
+
         return timeline;
     }
 
@@ -82,22 +82,12 @@ public class AiServiceImpl implements AiService {
     public WrappedDTO<AIHotissueResponse> createAIHotissueKeywords() {
         AIHotissueRequest aiHotissueRequest = new AIHotissueRequest(NewsServiceConstant.HOTISSUE_CREATE_CNT);
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        return aiWebClient.post()
-                .uri(NewsExternalApiEndpoint.HOTISSUE_AI_ENDPOINT)
-                .bodyValue(aiHotissueRequest)
-                .retrieve()
-                .onStatus(
-                        HttpStatusCode::isError,
-                        clientResponse -> clientResponse
-                                .bodyToMono(new ParameterizedTypeReference<WrappedDTO<AIHotissueResponse>>() {})
-                                .flatMap(errorBody -> Mono.error(new AIException(clientResponse.statusCode(), errorBody)))
-                )
-                .bodyToMono(new ParameterizedTypeReference<WrappedDTO<AIHotissueResponse>>() {})
-                .block();
+        return aiClient.post(
+                NewsExternalApiEndpoint.HOTISSUE_AI_ENDPOINT,
+                aiHotissueRequest,
+                new ParameterizedTypeReference<WrappedDTO<AIHotissueResponse>>() {},
+                true
+        ).block();
     }
 
     @Async
@@ -108,28 +98,22 @@ public class AiServiceImpl implements AiService {
                 NewsServiceConstant.STATISTICS_AI_SEARCH_CNT
         );
 
-        return aiWebClient.post()
-                .uri(NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT)
-                .bodyValue(req)
-                .retrieve()
-                .onStatus(
-                        HttpStatusCode::isError,
-                        clientResponse -> clientResponse
-                                .bodyToMono(new ParameterizedTypeReference<WrappedDTO<StatisticsDTO>>() {})
-                                .flatMap(errorBody -> Mono.error(new AIException(clientResponse.statusCode(), errorBody)))
-                )
-                .bodyToMono(new ParameterizedTypeReference<WrappedDTO<StatisticsDTO>>() {})
-                .toFuture();
+        return aiClient.post(
+                NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT,
+                req,
+                new ParameterizedTypeReference<WrappedDTO<StatisticsDTO>>() {},
+                true
+        ).toFuture();
     }
 
     private List<TimelineCardDTO> mergeAITimelineCards(List<TimelineCardDTO> timeline, TimelineCardType duration, Integer countNum) {
         timeline.sort(Comparator.comparing(TimelineCardDTO::getStartAt));
 
         List<TimelineCardDTO> mergedList = new ArrayList<>();
+        List<List<TimelineCardDTO>> groups = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
         List<TimelineCardDTO> temp = new ArrayList<>();
 
-        int count = 0;
-
         for (TimelineCardDTO tc : timeline) {
             if (TimelineCardType.valueOf(tc.getDuration()) != duration) {
                 mergedList.add(tc);
@@ -137,37 +121,52 @@ public class AiServiceImpl implements AiService {
             }
 
             temp.add(tc);
-            count++;
-
-            if (count == countNum) {
-                AITimelineMergeRequest mergeRequest = new AITimelineMergeRequest(temp);
-
-                WrappedDTO<TimelineCardDTO> merged = aiWebClient.post()
-                        .uri(NewsExternalApiEndpoint.MERGE_AI_ENDPOINT)
-                        .bodyValue(mergeRequest)
-                        .retrieve()
-                        .onStatus(
-                                HttpStatusCode::isError,
-                                clientResponse -> clientResponse
-                                        .bodyToMono(new ParameterizedTypeReference<WrappedDTO<TimelineCardDTO>>() {})
-                                        .flatMap(errorBody -> Mono.error(new AIException(clientResponse.statusCode(), errorBody)))
-                        )
-                        .bodyToMono(new ParameterizedTypeReference<WrappedDTO<TimelineCardDTO>>() {})
-                        .block();
-
-                mergedList.add(Objects.requireNonNull(merged).getData());
-
-                temp.clear();
-                count = 0;
+
+            if (temp.size() == countNum) {
+                // 병합 결과가 들어갈 자리를 비워 두고, 병합 요청은 한 번에 동시 전송한다.
+                slots.add(mergedList.size());
+                mergedList.add(null);
+                groups.add(temp);
+                temp = new ArrayList<>();
             }
         }
 
         mergedList.addAll(temp);
-        temp.clear();
+
+        DistributionSummary.builder("ai.timeline.merge.fanout")
+                .description("한 번의 병합 단계에서 동시에 요청한 병합 그룹 수")
+                .tag("duration", duration.name())
+                .register(meterRegistry)
+                .record(groups.size());
+
+        if (!groups.isEmpty()) {
+            List<TimelineCardDTO> mergedCards = Flux.fromIterable(groups)
+                    .flatMapSequential(this::requestMerge, NewsServiceConstant.TIMELINE_MERGE_CONCURRENCY)
+                    .collectList()
+                    .block();
+
+            for (int i = 0; i < slots.size(); i++) {
+                mergedList.set(slots.get(i), Objects.requireNonNull(mergedCards).get(i));
+            }
+        }
 
         timeline = mergedList;
         timeline.sort(Comparator.comparing(TimelineCardDTO::getStartAt).reversed());
 
         return timeline;
     }
+
+    private Mono<TimelineCardDTO> requestMerge(List<TimelineCardDTO> group) {
+        AITimelineMergeRequest mergeRequest = new AITimelineMergeRequest(group);
+
+        return aiClient.post(
+                        NewsExternalApiEndpoint.MERGE_AI_ENDPOINT,
+                        mergeRequest,
+                        new ParameterizedTypeReference<WrappedDTO<TimelineCardDTO>>() {},
+                        true
+                )
+                .timeout(NewsServiceConstant.TIMELINE_MERGE_TIMEOUT)
+                .onErrorMap(TimeoutException.class, e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, NewsResponseMessage.TIMELINE_MERGE_TIMEOUT, e))
+                .map(WrappedDTO::getData);
+    }
 }
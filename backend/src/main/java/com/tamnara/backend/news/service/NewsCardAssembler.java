@@ -0,0 +1,122 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.bookmark.domain.Bookmark;
+import com.tamnara.backend.bookmark.repository.BookmarkRepository;
+import com.tamnara.backend.news.domain.Category;
+import com.tamnara.backend.news.domain.CategoryType;
+import com.tamnara.backend.news.domain.News;
+import com.tamnara.backend.news.domain.NewsImage;
+import com.tamnara.backend.news.dto.NewsCardDTO;
+import com.tamnara.backend.news.repository.CategoryRepository;
+import com.tamnara.backend.news.repository.NewsImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스 카드 목록을 조립한다.
+ * 카드마다 이미지/카테고리/북마크를 개별 조회하지 않고, 목록 전체에 대해 IN 쿼리로 한 번씩만 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsCardAssembler {
+
+    private final NewsImageRepository newsImageRepository;
+    private final CategoryRepository categoryRepository;
+    private final BookmarkRepository bookmarkRepository;
+
+    public List<NewsCardDTO> assemble(Long userId, List<News> newsList) {
+        if (newsList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> newsIds = newsList.stream().map(News::getId).toList();
+        Map<Long, String> images = getImageUrls(newsIds);
+        Map<Long, CategoryType> categories = getCategoryNames();
+
+        Map<Long, LocalDateTime> bookmarkedAt = new HashMap<>();
+        if (userId != null) {
+            for (Bookmark b : bookmarkRepository.findAllByUserIdAndNewsIdIn(userId, newsIds)) {
+                bookmarkedAt.put(b.getNews().getId(), b.getCreatedAt());
+            }
+        }
+
+        List<NewsCardDTO> newsCardDTOList = new ArrayList<>();
+        for (News news : newsList) {
+            newsCardDTOList.add(toNewsCardDTO(
+                    news,
+                    images,
+                    categories,
+                    bookmarkedAt.containsKey(news.getId()),
+                    bookmarkedAt.get(news.getId())
+            ));
+        }
+        return newsCardDTOList;
+    }
+
+    public List<NewsCardDTO> assembleBookmarked(List<Bookmark> bookmarks) {
+        if (bookmarks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> newsIds = bookmarks.stream().map(b -> b.getNews().getId()).toList();
+        Map<Long, String> images = getImageUrls(newsIds);
+        Map<Long, CategoryType> categories = getCategoryNames();
+
+        List<NewsCardDTO> newsCardDTOList = new ArrayList<>();
+        for (Bookmark b : bookmarks) {
+            newsCardDTOList.add(toNewsCardDTO(b.getNews(), images, categories, true, b.getCreatedAt()));
+        }
+        return newsCardDTOList;
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private Map<Long, String> getImageUrls(List<Long> newsIds) {
+        Map<Long, String> images = new HashMap<>();
+        for (NewsImage newsImage : newsImageRepository.findAllByNewsIdIn(newsIds)) {
+            images.putIfAbsent(newsImage.getNews().getId(), newsImage.getUrl());
+        }
+        return images;
+    }
+
+    private Map<Long, CategoryType> getCategoryNames() {
+        Map<Long, CategoryType> categories = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categories.put(category.getId(), category.getName());
+        }
+        return categories;
+    }
+
+    private NewsCardDTO toNewsCardDTO(News news, Map<Long, String> images, Map<Long, CategoryType> categories,
+                                      boolean bookmarked, LocalDateTime bookmarkedAt) {
+        String categoryName = null;
+        if (news.getCategory() != null) {
+            // 카테고리 프록시를 초기화하지 않도록 id로 이름을 찾는다.
+            CategoryType categoryType = categories.get(news.getCategory().getId());
+            if (categoryType == null) {
+                categoryType = news.getCategory().getName();
+            }
+            categoryName = categoryType != null ? categoryType.toString() : null;
+        }
+
+        return new NewsCardDTO(
+                news.getId(),
+                news.getTitle(),
+                news.getSummary(),
+                images.get(news.getId()),
+                categoryName,
+                news.getUpdatedAt(),
+                bookmarked,
+                bookmarkedAt
+        );
+    }
+}
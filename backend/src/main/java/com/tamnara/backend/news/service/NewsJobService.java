@@ -0,0 +1,9 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.news.dto.NewsJobDTO;
+import com.tamnara.backend.news.dto.request.NewsCreateRequest;
+
+public interface NewsJobService {
+    NewsJobDTO submit(Long userId, NewsCreateRequest req);
+    NewsJobDTO getJob(Long userId, String jobId);
+}
@@ -0,0 +1,149 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.alarm.constant.AlarmMessage;
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.event.AlarmEvent;
+import com.tamnara.backend.news.constant.NewsResponseMessage;
+import com.tamnara.backend.news.domain.NewsJobStatus;
+import com.tamnara.backend.news.dto.NewsDetailDTO;
+import com.tamnara.backend.news.dto.NewsJobDTO;
+import com.tamnara.backend.news.dto.request.NewsCreateRequest;
+import com.tamnara.backend.news.job.NewsJobStore;
+import com.tamnara.backend.news.job.NewsJobWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsJobServiceImpl implements NewsJobService {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final NewsService newsService;
+    private final NewsJobStore newsJobStore;
+    private final NewsJobWorker newsJobWorker;
+
+    @Override
+    public NewsJobDTO submit(Long userId, NewsCreateRequest req) {
+        log.info("[NEWS] submit 시작 - userId:{}", userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        NewsJobDTO job = new NewsJobDTO(
+                UUID.randomUUID().toString(),
+                userId,
+                NewsJobStatus.PENDING,
+                req.getKeywords(),
+                null,
+                null,
+                now,
+                now
+        );
+        newsJobStore.save(job);
+        log.info("[NEWS] submit 처리 중 - 뉴스 생성 작업 등록 성공, userId:{} jobId:{}", userId, job.getId());
+
+        try {
+            newsJobWorker.execute(() -> run(job, req));
+        } catch (RejectedExecutionException e) {
+            log.warn("[NEWS] submit 실패 - 뉴스 생성 작업 대기열 초과, userId:{} jobId:{}", userId, job.getId());
+            newsJobStore.save(changeStatus(job, NewsJobStatus.FAILED, null, NewsResponseMessage.NEWS_JOB_QUEUE_FULL));
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, NewsResponseMessage.NEWS_JOB_QUEUE_FULL);
+        }
+
+        log.info("[NEWS] submit 완료 - userId:{} jobId:{}", userId, job.getId());
+        return job;
+    }
+
+    @Override
+    public NewsJobDTO getJob(Long userId, String jobId) {
+        log.info("[NEWS] getJob 시작 - userId:{} jobId:{}", userId, jobId);
+
+        NewsJobDTO job = newsJobStore.findById(jobId)
+                .filter(j -> j.getUserId().equals(userId))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, NewsResponseMessage.NEWS_JOB_NOT_FOUND));
+
+        log.info("[NEWS] getJob 완료 - userId:{} jobId:{} status:{}", userId, jobId, job.getStatus());
+        return job;
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    private void run(NewsJobDTO job, NewsCreateRequest req) {
+        Long userId = job.getUserId();
+        log.info("[NEWS] 뉴스 생성 작업 시작 - userId:{} jobId:{}", userId, job.getId());
+        newsJobStore.save(changeStatus(job, NewsJobStatus.RUNNING, null, null));
+
+        NewsJobDTO result;
+        String newsTitle = null;
+        try {
+            NewsDetailDTO newsDetail = newsService.save(userId, false, req);
+            if (newsDetail == null) {
+                result = changeStatus(job, NewsJobStatus.FAILED, null, NewsResponseMessage.NEWS_JOB_NO_RESULT);
+            } else {
+                result = changeStatus(job, NewsJobStatus.SUCCEEDED, newsDetail.getId(), null);
+                newsTitle = newsDetail.getTitle();
+            }
+        } catch (ResponseStatusException e) {
+            log.error("[NEWS] 뉴스 생성 작업 실패 - userId:{} jobId:{} reason:{}", userId, job.getId(), e.getReason());
+            result = changeStatus(job, NewsJobStatus.FAILED, null, e.getReason());
+        } catch (RuntimeException e) {
+            log.error("[NEWS] 뉴스 생성 작업 실패 - userId:{} jobId:{} error:{}", userId, job.getId(), e.getMessage());
+            result = changeStatus(job, NewsJobStatus.FAILED, null, NewsResponseMessage.NEWS_JOB_FAILED);
+        }
+        newsJobStore.save(result);
+
+        // 작업 결과를 요청한 회원에게 알린다.
+        if (result.getStatus() == NewsJobStatus.SUCCEEDED) {
+            publishAlarm(
+                    userId,
+                    AlarmMessage.NEWS_CREATE_SUCCESS_TITLE,
+                    String.format(AlarmMessage.NEWS_CREATE_SUCCESS_CONTENT, newsTitle),
+                    result.getNewsId()
+            );
+        } else {
+            publishAlarm(
+                    userId,
+                    AlarmMessage.NEWS_CREATE_FAILURE_TITLE,
+                    String.format(AlarmMessage.NEWS_CREATE_FAILURE_CONTENT, String.join(", ", job.getKeywords())),
+                    null
+            );
+        }
+        log.info("[NEWS] 뉴스 생성 작업 완료 - userId:{} jobId:{} status:{}", userId, job.getId(), result.getStatus());
+    }
+
+    private NewsJobDTO changeStatus(NewsJobDTO job, NewsJobStatus status, Long newsId, String message) {
+        return new NewsJobDTO(
+                job.getId(),
+                job.getUserId(),
+                status,
+                job.getKeywords(),
+                newsId,
+                message,
+                job.getCreatedAt(),
+                LocalDateTime.now()
+        );
+    }
+
+    private void publishAlarm(Long userId, String title, String content, Long newsId) {
+        AlarmEvent event = new AlarmEvent(
+                List.of(userId),
+                title,
+                content,
+                newsId != null ? AlarmType.NEWS : null,
+                newsId
+        );
+        eventPublisher.publishEvent(event);
+    }
+}
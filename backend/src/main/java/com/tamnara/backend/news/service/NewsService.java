@@ -13,14 +13,16 @@ public interface NewsService {
     HotissueNewsListResponse getHotissueNewsCardPage();
     MultiCategoryResponse getMultiCategoryPage(Long userId, Integer offset);
     Object getSingleCategoryPage(Long userId, String category, Integer offset);
+    Object getSingleCategoryPageByCursor(Long userId, String category, String cursor);
     NewsListResponse getSearchNewsCardPage(Long userId, List<String> tags, Integer offset);
+    NewsListResponse getSearchNewsCardPageByCursor(Long userId, List<String> tags, String cursor);
     NewsDetailDTO getNewsDetail(Long newsId, Long userId);
     NewsDetailDTO save(Long userId, boolean isHotissue, NewsCreateRequest req);
     NewsDetailDTO saveKtbNews(Long userId, KtbNewsCreateRequest req);
     NewsDetailDTO update(Long newsId, Long userId, boolean isHotissue);
     void delete(Long newsId, Long userId);
 
-    void createHotissueNews();
-    void deleteOldNewsAndOrphanTags();
-    void makeNewsPublic();
+    int createHotissueNews();
+    long deleteOldNewsAndOrphanTags();
+    int makeNewsPublic();
 }
@@ -2,12 +2,17 @@ package com.tamnara.backend.news.service;
 
 import com.tamnara.backend.alarm.constant.AlarmMessage;
 import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.event.AlarmBatchEvent;
 import com.tamnara.backend.alarm.event.AlarmEvent;
 import com.tamnara.backend.bookmark.domain.Bookmark;
+import com.tamnara.backend.bookmark.dto.BookmarkAlarmTargetDTO;
 import com.tamnara.backend.bookmark.repository.BookmarkRepository;
 import com.tamnara.backend.global.constant.ResponseMessage;
 import com.tamnara.backend.global.dto.WrappedDTO;
 import com.tamnara.backend.global.exception.AIException;
+import com.tamnara.backend.global.purge.RetentionPurgeEngine;
+import com.tamnara.backend.global.util.CursorCodec;
+import com.tamnara.backend.news.cache.NewsDetailCache;
 import com.tamnara.backend.news.constant.NewsResponseMessage;
 import com.tamnara.backend.news.constant.NewsServiceConstant;
 import com.tamnara.backend.news.domain.Category;
@@ -15,11 +20,11 @@ import com.tamnara.backend.news.domain.CategoryType;
 import com.tamnara.backend.news.domain.News;
 import com.tamnara.backend.news.domain.NewsImage;
 import com.tamnara.backend.news.domain.NewsTag;
-import com.tamnara.backend.news.domain.Tag;
 import com.tamnara.backend.news.domain.TimelineCard;
 import com.tamnara.backend.news.domain.TimelineCardType;
 import com.tamnara.backend.news.dto.NewsCardDTO;
 import com.tamnara.backend.news.dto.NewsDetailDTO;
+import com.tamnara.backend.news.dto.NewsSearchHit;
 import com.tamnara.backend.news.dto.StatisticsDTO;
 import com.tamnara.backend.news.dto.TimelineCardDTO;
 import com.tamnara.backend.news.dto.request.KtbNewsCreateRequest;
@@ -34,12 +39,16 @@ import com.tamnara.backend.news.dto.response.category.EntertainmentResponse;
 import com.tamnara.backend.news.dto.response.category.KtbResponse;
 import com.tamnara.backend.news.dto.response.category.MultiCategoryResponse;
 import com.tamnara.backend.news.dto.response.category.SportsResponse;
+import com.tamnara.backend.news.event.NewsChangedEvent;
+import com.tamnara.backend.news.job.NewsCreationCoalescer;
 import com.tamnara.backend.news.repository.CategoryRepository;
+import com.tamnara.backend.news.repository.NewsBulkWriteRepository;
 import com.tamnara.backend.news.repository.NewsImageRepository;
 import com.tamnara.backend.news.repository.NewsRepository;
 import com.tamnara.backend.news.repository.NewsTagRepository;
 import com.tamnara.backend.news.repository.TagRepository;
 import com.tamnara.backend.news.repository.TimelineCardRepository;
+import com.tamnara.backend.news.search.NewsTagSearchEngine;
 import com.tamnara.backend.user.domain.Role;
 import com.tamnara.backend.user.domain.User;
 import com.tamnara.backend.user.repository.UserRepository;
@@ -49,21 +58,29 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
@@ -73,6 +90,13 @@ public class NewsServiceImpl implements NewsService {
     private final ApplicationEventPublisher eventPublisher;
 
     private final AiService aiService;
+    private final NewsCardAssembler newsCardAssembler;
+    private final NewsDetailCache newsDetailCache;
+    private final NewsViewCounter newsViewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final NewsCreationCoalescer newsCreationCoalescer;
+    private final RetentionPurgeEngine retentionPurgeEngine;
+    private final NewsTagSearchEngine newsTagSearchEngine;
 
     private final NewsRepository newsRepository;
     private final TimelineCardRepository timelineCardRepository;
@@ -80,6 +104,7 @@ public class NewsServiceImpl implements NewsService {
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
     private final NewsTagRepository newsTagRepository;
+    private final NewsBulkWriteRepository newsBulkWriteRepository;
 
     private final UserRepository userRepository;
     private final BookmarkRepository bookmarkRepository;
@@ -102,59 +127,39 @@ public class NewsServiceImpl implements NewsService {
 
         int page = offset / NewsServiceConstant.PAGE_SIZE;
         int nextOffset = (page + 1) * NewsServiceConstant.PAGE_SIZE;
+        Pageable pageable = PageRequest.of(page, NewsServiceConstant.PAGE_SIZE);
 
-        Page<News> newsPage;
-        MultiCategoryResponse res = new MultiCategoryResponse();
+        Map<CategoryType, Long> categoryIds = getCategoryIds();
+        log.info("[NEWS] getMultiCategoryPage 처리 중 - 카테고리 목록 조회 성공");
 
-        newsPage = newsRepository.findByIsHotissueFalseOrderByUpdatedAtDescIdDesc(PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
-        res.setAll(
-                new NewsListResponse(
-                        getNewsCardDTOList(userId, newsPage),
-                        nextOffset,
-                        !newsRepository.findByIsHotissueFalseOrderByUpdatedAtDescIdDesc(PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)).isEmpty()
-                )
-        );
-        log.info("[NEWS] getMultiCategoryPage 처리 중 - 뉴스 조회 성공, category:{}", "ALL");
-
-        newsPage = newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.ECONOMY.name()), PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
-        res.setEconomy(
-                new NewsListResponse(
-                        getNewsCardDTOList(userId, newsPage),
-                        nextOffset,
-                        !newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.ECONOMY.name()), PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)).isEmpty()
-                )
-        );
-        log.info("[NEWS] getMultiCategoryPage 처리 중 - 뉴스 조회 성공, category:{}", CategoryType.ECONOMY.name());
-
-        newsPage = newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.ENTERTAINMENT.name()), PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
-        res.setEntertainment(
-                new NewsListResponse(
-                        getNewsCardDTOList(userId, newsPage),
-                        nextOffset,
-                        !newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.ENTERTAINMENT.name()), PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)).isEmpty()
-                )
-        );
-        log.info("[NEWS] getMultiCategoryPage 처리 중 - 뉴스 조회 성공, category:{}", CategoryType.ENTERTAINMENT.name());
-
-        newsPage = newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.SPORTS.name()), PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
-        res.setSports(
-                new NewsListResponse(
-                        getNewsCardDTOList(userId, newsPage),
-                        nextOffset,
-                        !newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.SPORTS.name()), PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)).isEmpty()
-                )
-        );
-        log.info("[NEWS] getMultiCategoryPage 처리 중 - 뉴스 조회 성공, category:{}", CategoryType.SPORTS.name());
-
-        newsPage = newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.KTB.name()), PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
-        res.setKtb(
-                new NewsListResponse(
-                        getNewsCardDTOList(userId, newsPage),
-                        nextOffset,
-                        !newsRepository.findByIsHotissueFalseAndCategoryId(getCategoryId(CategoryType.KTB.name()), PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)).isEmpty()
-                )
-        );
-        log.info("[NEWS] getMultiCategoryPage 처리 중 - 뉴스 조회 성공, category:{}", CategoryType.KTB.name());
+        // 카테고리별 목록은 서로 독립적이므로 가상 스레드에서 동시에 조회한다.
+        // Slice로 PAGE_SIZE + 1건을 조회하여 다음 페이지 여부를 판단하므로 COUNT 쿼리와 다음 페이지 조회가 발생하지 않는다.
+        MultiCategoryResponse res = new MultiCategoryResponse();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<NewsListResponse> all = CompletableFuture.supplyAsync(
+                    () -> toNewsListResponse(userId, newsRepository.findSliceByIsHotissueFalse(pageable), nextOffset), executor);
+            CompletableFuture<NewsListResponse> economy = CompletableFuture.supplyAsync(
+                    () -> toNewsListResponse(userId, newsRepository.findSliceByIsHotissueFalseAndCategoryId(categoryIds.get(CategoryType.ECONOMY), pageable), nextOffset), executor);
+            CompletableFuture<NewsListResponse> entertainment = CompletableFuture.supplyAsync(
+                    () -> toNewsListResponse(userId, newsRepository.findSliceByIsHotissueFalseAndCategoryId(categoryIds.get(CategoryType.ENTERTAINMENT), pageable), nextOffset), executor);
+            CompletableFuture<NewsListResponse> sports = CompletableFuture.supplyAsync(
+                    () -> toNewsListResponse(userId, newsRepository.findSliceByIsHotissueFalseAndCategoryId(categoryIds.get(CategoryType.SPORTS), pageable), nextOffset), executor);
+            CompletableFuture<NewsListResponse> ktb = CompletableFuture.supplyAsync(
+                    () -> toNewsListResponse(userId, newsRepository.findSliceByIsHotissueFalseAndCategoryId(categoryIds.get(CategoryType.KTB), pageable), nextOffset), executor);
+
+            res.setAll(all.join());
+            res.setEconomy(economy.join());
+            res.setEntertainment(entertainment.join());
+            res.setSports(sports.join());
+            res.setKtb(ktb.join());
+        } catch (CompletionException e) {
+            log.error("[NEWS] getMultiCategoryPage 실패 - 카테고리별 뉴스 조회 실패");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        log.info("[NEWS] getMultiCategoryPage 처리 중 - 뉴스 조회 성공");
 
         log.info("[NEWS] getMultiCategoryPage 완료");
         return res;
@@ -174,14 +179,30 @@ public class NewsServiceImpl implements NewsService {
         NewsListResponse newsListResponse = getNewsListResponse(userId, category, page);
 
         log.info("[NEWS] getSingleCategoryPage 완료");
-        return switch (category != null ? category.toUpperCase() : "ALL") {
-            case "ALL" -> new AllResponse(newsListResponse);
-            case "ECONOMY" -> new EconomyResponse(newsListResponse);
-            case "ENTERTAINMENT" -> new EntertainmentResponse(newsListResponse);
-            case "SPORTS" -> new SportsResponse(newsListResponse);
-            case "KTB" -> new KtbResponse(newsListResponse);
-            default -> throw new IllegalArgumentException();
-        };
+        return getCategoryResponse(category, newsListResponse);
+    }
+
+    @Override
+    public Object getSingleCategoryPageByCursor(Long userId, String category, String cursor) {
+        log.info("[NEWS] getSingleCategoryPageByCursor 시작");
+
+        List<String> cursorValues = CursorCodec.decode(cursor, 2);
+        LocalDateTime updatedAt = CursorCodec.toDateTime(cursorValues.get(0));
+        Long lastNewsId = CursorCodec.toLong(cursorValues.get(1));
+
+        Pageable pageable = PageRequest.of(0, NewsServiceConstant.PAGE_SIZE);
+        Slice<News> newsSlice;
+        if (category == null || category.equalsIgnoreCase("ALL")) {
+            newsSlice = newsRepository.findSliceByIsHotissueFalseAfter(updatedAt, lastNewsId, pageable);
+        } else {
+            Category c = categoryRepository.findByName(CategoryType.valueOf(category.toUpperCase()))
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, NewsResponseMessage.CATEGORY_NOT_FOUND));
+            newsSlice = newsRepository.findSliceByIsHotissueFalseAndCategoryIdAfter(c.getId(), updatedAt, lastNewsId, pageable);
+        }
+        log.info("[NEWS] getSingleCategoryPageByCursor 처리 중 - 뉴스 조회 성공, category:{}", category);
+
+        log.info("[NEWS] getSingleCategoryPageByCursor 완료");
+        return getCategoryResponse(category, toNewsListResponse(userId, newsSlice, 0));
     }
 
     @Override
@@ -196,64 +217,83 @@ public class NewsServiceImpl implements NewsService {
 
         int page = offset / NewsServiceConstant.PAGE_SIZE;
         int nextOffset = (page + 1) * NewsServiceConstant.PAGE_SIZE;
-        Page<News> newsPage = newsRepository.searchNewsPageByTags(tags, PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
+        Slice<NewsSearchHit> hitSlice = newsTagSearchEngine.search(tags, PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
         log.info("[NEWS] getSearchNewsCardPage 처리 중 - 뉴스 목록 검색 성공, userId:{}", userId);
 
         log.info("[NEWS] getSearchNewsCardPage 완료 - userId:{}", userId);
         return new NewsListResponse(
-                getNewsCardDTOList(userId, newsPage),
+                getNewsCardDTOList(userId, hitSlice.map(NewsSearchHit::getNews)),
                 nextOffset,
-                newsPage.hasNext()
+                hitSlice.hasNext(),
+                getSearchCursor(hitSlice)
         );
     }
 
     @Override
-    @Transactional
+    public NewsListResponse getSearchNewsCardPageByCursor(Long userId, List<String> tags, String cursor) {
+        log.info("[NEWS] getSearchNewsCardPageByCursor 시작 - userId:{}", userId);
+
+        tags = new ArrayList<>(new LinkedHashSet<>(tags));
+        if (tags.size() < NewsServiceConstant.TAGS_MIN_SIZE || tags.size() > NewsServiceConstant.TAGS_MAX_SIZE) {
+            log.error("[NEWS] getSearchNewsCardPageByCursor 실패 - 유효하지 않은 태그 개수, tagsSize:{} userId:{}", tags.size(), userId);
+            throw new IllegalArgumentException();
+        }
+
+        List<String> cursorValues = CursorCodec.decode(cursor, 3);
+        Long matchCount = CursorCodec.toLong(cursorValues.get(0));
+        LocalDateTime updatedAt = CursorCodec.toDateTime(cursorValues.get(1));
+        Long lastNewsId = CursorCodec.toLong(cursorValues.get(2));
+
+        Slice<NewsSearchHit> hitSlice = newsTagSearchEngine.searchAfter(tags, matchCount, updatedAt, lastNewsId, NewsServiceConstant.PAGE_SIZE);
+        log.info("[NEWS] getSearchNewsCardPageByCursor 처리 중 - 뉴스 목록 검색 성공, userId:{}", userId);
+
+        log.info("[NEWS] getSearchNewsCardPageByCursor 완료 - userId:{}", userId);
+        return new NewsListResponse(
+                getNewsCardDTOList(userId, hitSlice.map(NewsSearchHit::getNews)),
+                0,
+                hitSlice.hasNext(),
+                getSearchCursor(hitSlice)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public NewsDetailDTO getNewsDetail(Long newsId, Long userId) {
         log.info("[NEWS] getNewsDetail 시작 - userId:{} newsId:{}", userId, newsId);
 
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.NEWS_NOT_FOUND));
-        log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 조회 성공, userId:{} newsId:{}", userId, newsId);
-
-        Optional<User> user;
-        if (userId != null) {
-            user = userRepository.findById(userId);
-            log.info("[NEWS] getNewsDetail 처리 중 - 회원 조회 성공, userId:{} newsId:{}", userId, newsId);
+        // 회원과 무관한 상세 정보는 캐시에서 먼저 찾고, 없으면 DB에서 조회하여 캐싱한다.
+        Optional<NewsDetailDTO> cachedNewsDetail = newsDetailCache.get(newsId);
+        NewsDetailDTO newsDetail;
+        if (cachedNewsDetail.isPresent()) {
+            newsDetail = cachedNewsDetail.get();
+            log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 상세 캐시 조회 성공, userId:{} newsId:{}", userId, newsId);
         } else {
-            user = Optional.empty();
-            log.info("[NEWS] getNewsDetail 처리 중 - 비회원 확인, userId:{} newsId:{}", userId, newsId);
+            // 조회 도중 커밋된 수정이 캐시를 비워도 이전 값으로 다시 채우지 않도록, 조회 전의 캐시 버전을 함께 넘긴다.
+            long cacheVersion = newsDetailCache.getVersion(newsId);
+            newsDetail = loadNewsDetail(newsId, userId);
+            newsDetailCache.put(newsDetail, cacheVersion);
         }
 
-        List<TimelineCardDTO> timelineCardDTOList = getTimelineCardDTOList(news);
-        log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 타임라인 조회 성공, userId:{} newsId:{}", userId, newsId);
-
-        Optional<NewsImage> newsImage = newsImageRepository.findByNewsId(news.getId());
-        String image = newsImage.map(NewsImage::getUrl).orElse(null);
-        log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 썸네일 조회 성공, userId:{} newsId:{}", userId, newsId);
-
-        StatisticsDTO statistics = getStatisticsDTO(news);
-        boolean bookmarked = user.map(u -> getBookmarked(u, news)).orElse(false);
+        boolean bookmarked = userId != null && bookmarkRepository.existsByUserIdAndNewsId(userId, newsId);
         log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 북마크 조회 성공, userId:{} newsId:{}", userId, newsId);
 
-        newsRepository.increaseViewCount(news.getId());
+        newsViewCounter.increment(newsId);
         log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 조회수 상승 처리 성공, userId:{} newsId:{}", userId, newsId);
 
         log.info("[NEWS] getNewsDetail 완료 - userId:{} newsId:{}", userId, newsId);
         return new NewsDetailDTO(
-                news.getId(),
-                news.getTitle(),
-                image,
-                news.getCategory().getName().toString(),
-                news.getUpdatedAt(),
+                newsDetail.getId(),
+                newsDetail.getTitle(),
+                newsDetail.getImage(),
+                newsDetail.getCategory(),
+                newsDetail.getUpdatedAt(),
                 bookmarked,
-                timelineCardDTOList,
-                statistics
+                newsDetail.getTimeline(),
+                newsDetail.getStatistics()
         );
     }
 
     @Override
-    @Transactional
     public NewsDetailDTO save(Long userId, boolean isHotissue, NewsCreateRequest req) {
         log.info("[NEWS] save 시작 - hotissue:{}, userId:{}", isHotissue, userId);
 
@@ -274,128 +314,42 @@ public class NewsServiceImpl implements NewsService {
         }
         log.info("[NEWS] save 처리 중 - 태그 목록이 일치하는 기존 뉴스가 존재하지 않음, hotissue:{}, userId:{}", isHotissue, userId);
 
-        // 1. 뉴스의 여론 통계 생성을 비동기적으로 시작한다.
-        log.info("[NEWS] save 처리 중 - 뉴스 여론 통계 비동기 생성 시작, hotissue:{}, userId:{}", isHotissue, userId);
-        CompletableFuture<WrappedDTO<StatisticsDTO>> statsAsync = aiService
-                .getAIStatistics(req.getKeywords())
-                .exceptionally(ex -> {
-                    Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
-                    if (cause instanceof AIException aiEx) {
-                        HttpStatusCode status = aiEx.getStatus();
-                        if (status.is4xxClientError()) {
-                            log.warn("[NEWS] save 처리 중 - 뉴스 여론 통계 비동기 생성 실패, hotissue:{}, userId:{}", isHotissue, userId);
-                            return null;
-                        }
-                    }
-                    throw new CompletionException(cause);
-                });
-
-        // 2. AI에 요청하여 뉴스를 생성한다.
-        AINewsResponse aiNewsResponse;
-        try {
-            log.info("[NEWS] save 처리 중 - 타임라인 생성 시작, hotissue:{}, userId:{}", isHotissue, userId);
-            LocalDate endAt = LocalDate.now();
-            LocalDate startAt = endAt.minusDays(NewsServiceConstant.NEWS_CREATE_DAYS);
-            WrappedDTO<AINewsResponse> res = aiService.createAINews(req.getKeywords(), startAt, endAt);
-            aiNewsResponse = res.getData();
-            log.info("[NEWS] save 처리 중 - 타임라인 생성 성공, hotissue:{}, userId:{}", isHotissue, userId);
-        } catch (AIException e) {
-            log.error("[NEWS] save 실패 - 타임라인 생성 실패, hotissue:{}, userId:{}", isHotissue, userId);
-            if (e.getStatus() == HttpStatus.NOT_FOUND) {
-                return null;
-            }
-            throw e;
-        }
-
-        // 3. AI에 요청하여 타임라인 카드들을 병합한다.
-        List<TimelineCardDTO> timeline = aiService.mergeTimelineCards(aiNewsResponse.getTimeline());
-        log.info("[NEWS] save 처리 중 - 타임라인 카드 병합 성공, hotissue:{}, userId:{}", isHotissue, userId);
-
-        // 4. 뉴스의 여론 통계 생성 응답을 기다린다.
-        WrappedDTO<StatisticsDTO> resStats = statsAsync.join();
-        StatisticsDTO statistics = (resStats != null && resStats.getData() != null) ? resStats.getData() : null;
-        log.info("[NEWS] save 처리 중 - 뉴스 여론 통계 비동기 처리 응답 반환, hotissue:{}, userId:{}", isHotissue, userId);
-
-        // 5. 저장
-        // 5-1. 뉴스를 저장한다.
-        Category category = null;
-        if (aiNewsResponse.getCategory() != null && !aiNewsResponse.getCategory().isBlank()) {
-            try {
-                CategoryType categoryType = CategoryType.valueOf(aiNewsResponse.getCategory());
-                category = categoryRepository.findByName(categoryType).orElse(null);
-            } catch (IllegalArgumentException ignored) {
-                // 유효하지 않은 카테고리는 기타(null)로 처리한다.
-            }
-        }
-        log.info("[NEWS] save 처리 중 - 카테고리 유효성 검사 완료, hotissue:{}, userId:{}", isHotissue, userId);
-
-        News news = new News();
-        news.setTitle(aiNewsResponse.getTitle());
-        news.setSummary(aiNewsResponse.getSummary());
-        news.setIsHotissue(isHotissue);
-        if (statistics != null) {
-            news.setRatioPosi(statistics.getPositive());
-            news.setRatioNeut(statistics.getNeutral());
-            news.setRatioNega(statistics.getNegative());
+        // 1. 같은 키워드 조합의 생성 요청은 하나로 합쳐, AI 생성은 한 번만 수행한다.
+        User creator = user;
+        AtomicBoolean generated = new AtomicBoolean(false);
+        NewsDetailDTO newsDetail = newsCreationCoalescer.execute(
+                req.getKeywords(),
+                () -> {
+                    generated.set(true);
+                    return generateNews(userId, creator, isHotissue, req);
+                },
+                () -> newsRepository.findNewsByExactlyMatchingTags(req.getKeywords(), req.getKeywords().size())
+                        .map(news -> loadNewsDetail(news.getId(), userId))
+        );
+        if (newsDetail == null || generated.get()) {
+            return newsDetail;
         }
-        news.setUser(user);
-        news.setCategory(category);
-        newsRepository.save(news);
-        log.info("[NEWS] save 처리 중 - 뉴스 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
-
-        // 5-2. 타임라인 카드들을 저장한다.
-        saveTimelineCards(timeline, news);
-        log.info("[NEWS] save 처리 중 - 타임라인 카드 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
-
-        // 5-3. 뉴스 이미지를 저장한다.
-        NewsImage newsImage = new NewsImage();
-        newsImage.setNews(news);
-        newsImage.setUrl(aiNewsResponse.getImage());
-        newsImageRepository.save(newsImage);
-        log.info("[NEWS] save 처리 중 - 뉴스 이미지 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
+        log.info("[NEWS] save 처리 중 - 진행 중인 뉴스 생성 결과 공유, hotissue:{}, userId:{}", isHotissue, userId);
 
-        // 5-4. 뉴스 태그들을 저장하고, DB에 없는 태그를 저장한다.
-        log.info("[NEWS] save 처리 중 - 뉴스 태그 저장 시작, hotissue:{}, userId:{}", isHotissue, userId);
-        req.getKeywords().forEach(keyword -> {
-            NewsTag newsTag = new NewsTag();
-            newsTag.setNews(news);
-
-            Optional<Tag> tag = tagRepository.findByName(keyword);
-            if (tag.isPresent()) {
-                newsTag.setTag(tag.get());
-                newsTagRepository.save(newsTag);
-            } else {
-                Tag newTag = new Tag();
-                newTag.setName(keyword);
-                tagRepository.save(newTag);
-
-                newsTag.setTag(newTag);
-                newsTagRepository.save(newsTag);
-                log.info("[NEWS] save 처리 중 - 새로운 태그 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
-            }
-        });
-        log.info("[NEWS] save 처리 중 - 뉴스 태그 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
-
-        // 6. 생성된 뉴스에 대해 북마크 설정한다.
-        if (!isHotissue) {
+        // 2. 다른 요청이 생성한 뉴스를 받은 경우, 요청한 회원에게도 북마크를 설정한다.
+        if (!isHotissue && !bookmarkRepository.existsByUserIdAndNewsId(userId, newsDetail.getId())) {
             Bookmark bookmark = new Bookmark();
-            bookmark.setUser(user);
-            bookmark.setNews(news);
+            bookmark.setUser(creator);
+            bookmark.setNews(newsRepository.getReferenceById(newsDetail.getId()));
             bookmarkRepository.save(bookmark);
             log.info("[NEWS] save 처리 중 - 북마크 처리 완료, hotissue:{}, userId:{}", isHotissue, userId);
         }
 
-        // 7. 뉴스의 상세 페이지 데이터를 반환한다.
         log.info("[NEWS] save 완료 - hotissue:{}, userId:{}", isHotissue, userId);
         return new NewsDetailDTO(
-                news.getId(),
-                news.getTitle(),
-                newsImage.getUrl(),
-                news.getCategory().getName().toString(),
-                news.getUpdatedAt(),
+                newsDetail.getId(),
+                newsDetail.getTitle(),
+                newsDetail.getImage(),
+                newsDetail.getCategory(),
+                newsDetail.getUpdatedAt(),
                 true,
-                timeline,
-                statistics != null ? statistics : new StatisticsDTO(0, 0, 0)
+                newsDetail.getTimeline(),
+                newsDetail.getStatistics()
         );
     }
 
@@ -430,6 +384,7 @@ public class NewsServiceImpl implements NewsService {
             log.info("[NEWS] saveKtbNews 처리 중 - 뉴스 이미지 저장 성공, userId:{}", userId);
         }
 
+        List<TimelineCard> timelineCards = new ArrayList<>();
         for (TimelineCardDTO dto : req.getTimeline()) {
             TimelineCard timelineCard = new TimelineCard();
             timelineCard.setNews(news);
@@ -439,8 +394,9 @@ public class NewsServiceImpl implements NewsService {
             timelineCard.setDuration(TimelineCardType.DAY);
             timelineCard.setStartAt(dto.getStartAt());
             timelineCard.setEndAt(dto.getEndAt());
-            timelineCardRepository.save(timelineCard);
+            timelineCards.add(timelineCard);
         }
+        newsBulkWriteRepository.insertTimelineCards(news.getId(), timelineCards);
         log.info("[NEWS] saveKtbNews 처리 중 - 타임라인 카드 저장 성공, userId:{}", userId);
 
         log.info("[NEWS] saveKtbNews 완료 - userId:{}", userId);
@@ -457,7 +413,6 @@ public class NewsServiceImpl implements NewsService {
     }
 
     @Override
-    @Transactional
     public NewsDetailDTO update(Long newsId, Long userId, boolean isHotissue) {
         log.info("[NEWS] update 시작 - hotissue:{} userId:{}", isHotissue, userId);
 
@@ -475,9 +430,8 @@ public class NewsServiceImpl implements NewsService {
 
         if (news.getUpdatedAt().isAfter(LocalDateTime.now().minusHours(NewsServiceConstant.NEWS_UPDATE_HOURS))) {
             if (isHotissue) {
-                news.setIsHotissue(true);
-                newsRepository.save(news);
-                log.info("[NEWS] update 처리 중 - 기존 뉴스 핫이슈 전환 성공, hotissue:{} userId:{}", isHotissue, userId);
+                // 핫이슈 지정은 createHotissueNews의 replaceHotissues 한 문장에서만 처리하므로, 여기서는 후보로만 반환한다.
+                log.info("[NEWS] update 처리 중 - 기존 뉴스 핫이슈 후보 선정, hotissue:{} userId:{}", isHotissue, userId);
 
                 log.info("[NEWS] update 완료 - hotissue:{} userId:{}", isHotissue, userId);
                 return new NewsDetailDTO(
@@ -559,68 +513,10 @@ public class NewsServiceImpl implements NewsService {
         StatisticsDTO statistics = (resStats != null && resStats.getData() != null) ? resStats.getData() : null;
         log.info("[NEWS] update 처리 중 - 뉴스 여론 통계 비동기 생성 응답 반환, hotissue:{} userId:{}", isHotissue, userId);
 
-        // 4. 저장
-        // 4-1. 뉴스를 저장한다.
-        news.setSummary(aiNewsResponse.getSummary());
-        news.setIsHotissue(isHotissue);
-
-        news.setUpdateCount(news.getUpdateCount() + 1);
-        if (statistics != null) {
-            news.setRatioPosi(statistics.getPositive());
-            news.setRatioNeut(statistics.getNeutral());
-            news.setRatioNega(statistics.getNegative());
-        }
-        newsRepository.save(news);
-        log.info("[NEWS] update 처리 중 - 뉴스 저장 완료, hotissue:{} userId:{}", isHotissue, userId);
-
-        // 4-2. 타임라인 카드들을 저장한다.
-        timelineCardRepository.deleteAllByNewsId(news.getId());
-        saveTimelineCards(newTimeline, news);
-        log.info("[NEWS] update 처리 중 - 타임라인 카드 저장 완료, hotissue:{} userId:{}", isHotissue, userId);
-
-        // 4-3. 기존 뉴스 이미지를 삭제하고 새로운 뉴스 이미지를 저장한다.
-        if (newsImageRepository.findByNewsId(news.getId()).isPresent()) {
-            Optional<NewsImage> oldNewsImage = newsImageRepository.findByNewsId(news.getId());
-            oldNewsImage.ifPresent(newsImageRepository::delete);
-            log.info("[NEWS] update 처리 중 - 기존 뉴스 이미지 삭제, hotissue:{} userId:{}", isHotissue, userId);
-        }
-        NewsImage updatedNewsImage = new NewsImage();
-        updatedNewsImage.setNews(news);
-        updatedNewsImage.setUrl(aiNewsResponse.getImage());
-        newsImageRepository.save(updatedNewsImage);
-        log.info("[NEWS] update 처리 중 - 새로운 뉴스 이미지 저장 완료, hotissue:{} userId:{}", isHotissue, userId);
-
-        // 5. 기존에 북마크를 설정했던 회원들에게 알림 생성
-        publishAlarm(
-                bookmarkRepository.findUsersByNews(news),
-                AlarmMessage.BOOKMARK_UPDATE_TITLE,
-                String.format(AlarmMessage.BOOKMARK_UPDATE_CONTENT, news.getTitle()),
-                AlarmType.NEWS,
-                newsId
-        );
-        log.info("[NEWS] update 처리 중 - 뉴스를 북마크한 회원에게 업데이트 알림 발행, hotissue:{} userId:{}", isHotissue, userId);
-
-        // 6. 생성된 뉴스에 대해 북마크 설정한다.
-        Optional<Bookmark> bookmark = bookmarkRepository.findByUserAndNews(user, news);
-        if (bookmark.isEmpty()) {
-            Bookmark savedBookmark = new Bookmark();
-            savedBookmark.setUser(user);
-            savedBookmark.setNews(news);
-            bookmarkRepository.save(savedBookmark);
-        }
-        log.info("[NEWS] update 처리 중 - hotissue:{} userId:{}", isHotissue, userId);
-
-        // 7. 뉴스의 상세 페이지 데이터를 반환한다.
-        return new NewsDetailDTO(
-                news.getId(),
-                news.getTitle(),
-                updatedNewsImage.getUrl(),
-                news.getCategory().getName().toString(),
-                news.getUpdatedAt(),
-                true,
-                newTimeline,
-                statistics != null ? statistics : new StatisticsDTO(0, 0, 0)
-        );
+        // 4. AI 응답을 받은 뒤 짧은 트랜잭션 안에서 저장한다.
+        User requester = user;
+        return transactionTemplate.execute(status ->
+                persistNewsUpdate(newsId, userId, requester, isHotissue, news, aiNewsResponse, newTimeline, statistics));
     }
 
     @Override
@@ -649,7 +545,7 @@ public class NewsServiceImpl implements NewsService {
         }
 
 
-        publishAlarm(
+        publishBookmarkAlarm(
                 bookmarkRepository.findUsersByNews(news),
                 AlarmMessage.BOOKMARK_DELETION_TITLE,
                 String.format(AlarmMessage.BOOKMARK_DELETION_CONTENT, news.getTitle()),
@@ -660,31 +556,44 @@ public class NewsServiceImpl implements NewsService {
 
         log.info("[NEWS] delete 완료 - newsId:{} userId:{}", newsId, userId);
         newsRepository.delete(news);
+        eventPublisher.publishEvent(new NewsChangedEvent(List.of(newsId)));
     }
 
     @Override
-    @Transactional
-    public void createHotissueNews() {
+    public int createHotissueNews() {
         log.info("[NEWS] createHotissueNews 시작");
 
         AIHotissueResponse aiHotissueResponse;
         WrappedDTO<AIHotissueResponse> res = aiService.createAIHotissueKeywords();
         aiHotissueResponse = res.getData();
 
-        List<News> previousHotissuesList = newsRepository.findAllByIsHotissueTrueOrderByIdAsc(Pageable.unpaged()).getContent();
-        for (News news : previousHotissuesList) {
-            newsRepository.updateIsHotissue(news.getId(), false);
+        // 키워드별 뉴스 생성은 서로 독립적이므로 동시에 수행하고, 각 뉴스는 생성 경로의 짧은 트랜잭션으로 저장된다.
+        List<Long> hotissueIds = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                NewsServiceConstant.HOTISSUE_CREATE_CONCURRENCY,
+                Thread.ofVirtual().name("hotissue-create-", 0).factory())) {
+            List<CompletableFuture<Long>> futures = aiHotissueResponse.getKeywords().stream()
+                    .map(keyword -> CompletableFuture.supplyAsync(() -> createHotissue(keyword), executor))
+                    .toList();
+            for (CompletableFuture<Long> future : futures) {
+                Long newsId = future.join();
+                if (newsId != null && !hotissueIds.contains(newsId)) {
+                    hotissueIds.add(newsId);
+                }
+            }
         }
-        log.info("[NEWS] createHotissueNews 처리 중 - 이전 핫이슈 뉴스들을 일반 뉴스로 전환 성공");
+        log.info("[NEWS] createHotissueNews 처리 중 - 새로운 핫이슈 뉴스 생성, count:{}", hotissueIds.size());
 
-        for (String keyword : aiHotissueResponse.getKeywords()) {
-            NewsCreateRequest req = new NewsCreateRequest(List.of(keyword));
-            save(null, true, req);
+        if (hotissueIds.isEmpty()) {
+            log.warn("[NEWS] createHotissueNews 실패 - 생성된 핫이슈 뉴스가 없어 기존 핫이슈 뉴스 유지");
+            return 0;
         }
-        log.info("[NEWS] createHotissueNews 처리 중 - 새로운 핫이슈 뉴스 생성");
 
-        publishAlarm(
-                userRepository.findAll().stream().map(User::getId).collect(Collectors.toList()),
+        // 이전 핫이슈 해제와 새 핫이슈 지정을 한 문장으로 처리해, 조회 시 핫이슈 목록이 비는 순간이 없도록 한다.
+        int changedCnt = newsRepository.replaceHotissues(hotissueIds);
+        log.info("[NEWS] createHotissueNews 처리 중 - 핫이슈 뉴스 교체 성공, changed:{}", changedCnt);
+
+        publishBroadcastAlarm(
                 AlarmMessage.HOTISSUE_CREATE_TITLE,
                 AlarmMessage.HOTISSUE_CREATE_CONTENT,
                 AlarmType.NEWS,
@@ -693,52 +602,44 @@ public class NewsServiceImpl implements NewsService {
         log.info("[NEWS] createHotissueNews 처리 중 - 핫이슈 뉴스 생성 알림 생성 성공");
 
         log.info("[NEWS] createHotissueNews 완료");
+        return hotissueIds.size();
     }
 
     @Override
-    public void deleteOldNewsAndOrphanTags() {
+    public long deleteOldNewsAndOrphanTags() {
         log.info("[NEWS] deleteOldNewsAndOrphanTags 시작");
 
         LocalDateTime cutoff = LocalDateTime.now().minusDays(NewsServiceConstant.NEWS_DELETE_DAYS);
 
         // 삭제 예정
-        List<News> newsWarningList = newsRepository.findAllOlderThan(cutoff.plusDays(1));
-        for (News news : newsWarningList) {
-            publishAlarm(
-                    bookmarkRepository.findUsersByNews(news),
-                    AlarmMessage.BOOKMARK_DELETE_WARNING_TITLE,
-                    String.format(AlarmMessage.BOOKMARK_DELETE_WARNING_CONTENT, news.getTitle()),
-                    AlarmType.NEWS,
-                    news.getId()
-            );
-        }
-        log.info("[NEWS] deleteOldNewsAndOrphanTags 처리 중 - 삭제 예정 뉴스 알림 발행");
+        int warnedNewsCnt = publishBookmarkDeleteWarnings(cutoff.plusDays(1));
+        log.info("[NEWS] deleteOldNewsAndOrphanTags 처리 중 - 삭제 예정 뉴스 알림 발행, count:{}", warnedNewsCnt);
 
         // 삭제
-        List<News> newsDeletionList = newsRepository.findAllOlderThan(cutoff);
-        for (News news : newsDeletionList) {
-            publishAlarm(
-                    bookmarkRepository.findUsersByNews(news),
-                    AlarmMessage.BOOKMARK_DELETION_TITLE,
-                    String.format(AlarmMessage.BOOKMARK_DELETION_CONTENT, news.getTitle()),
-                    null,
-                    null
-            );
-        }
-        log.info("[NEWS] deleteOldNewsAndOrphanTags 처리 중 - 삭제 대상 뉴스 알림 발행");
-
-        newsRepository.deleteAllOlderThan(cutoff);
-        log.info("[NEWS] deleteOldNewsAndOrphanTags 처리 중 - 뉴스 삭제 성공");
+        long deletedNewsCnt = retentionPurgeEngine.purge(
+                NewsServiceConstant.NEWS_PURGE_TARGET,
+                (afterId, limit) -> newsRepository.findIdsOlderThan(cutoff, afterId, PageRequest.of(0, limit)),
+                newsIds -> deleteNewsChunk(newsIds, cutoff)
+        );
+        log.info("[NEWS] deleteOldNewsAndOrphanTags 처리 중 - 뉴스 삭제 성공, count:{}", deletedNewsCnt);
 
-        tagRepository.deleteAllOrphan();
-        log.info("[NEWS] deleteOldNewsAndOrphanTags 처리 중 - 고아 태그 삭제 성공");
+        long deletedTagCnt = retentionPurgeEngine.purge(
+                NewsServiceConstant.ORPHAN_TAG_PURGE_TARGET,
+                (afterId, limit) -> tagRepository.findOrphanIds(afterId, PageRequest.of(0, limit)),
+                tagRepository::deleteOrphanByIdIn
+        );
+        if (deletedTagCnt > 0) {
+            newsTagSearchEngine.evictTags();
+        }
+        log.info("[NEWS] deleteOldNewsAndOrphanTags 처리 중 - 고아 태그 삭제 성공, count:{}", deletedTagCnt);
 
         log.info("[NEWS] deleteOldNewsAndOrphanTags 완료");
+        return deletedNewsCnt;
     }
 
     @Override
     @Transactional
-    public void makeNewsPublic() {
+    public int makeNewsPublic() {
         log.info("[NEWS] makeNewsPublic 시작");
 
         List<News> newsList = newsRepository.findAllByIsPublicFalseOrderByUpdatedAtDesc();
@@ -749,8 +650,7 @@ public class NewsServiceImpl implements NewsService {
         log.info("[NEWS] makeNewsPublic 처리 중 - 뉴스 공개 전환 성공");
 
         if (!newsList.isEmpty()) {
-            publishAlarm(
-                    userRepository.findAll().stream().map(User::getId).collect(Collectors.toList()),
+            publishBroadcastAlarm(
                     AlarmMessage.POLL_RESULT_TITLE,
                     String.format(AlarmMessage.POLL_RESULT_CONTENT, newsList.getFirst().getTitle()),
                     AlarmType.NEWS,
@@ -760,6 +660,7 @@ public class NewsServiceImpl implements NewsService {
         }
 
         log.info("[NEWS] makeNewsPublic 완료");
+        return newsList.size();
     }
 
 
@@ -767,6 +668,99 @@ public class NewsServiceImpl implements NewsService {
         함수 편의용
     */
 
+    // 키워드 하나의 실패가 나머지 핫이슈 생성을 막지 않도록, 실패한 키워드는 기록만 하고 건너뛴다.
+    private Long createHotissue(String keyword) {
+        try {
+            NewsDetailDTO newsDetail = save(null, true, new NewsCreateRequest(List.of(keyword)));
+            if (newsDetail == null) {
+                log.warn("[NEWS] createHotissueNews 처리 중 - 핫이슈 뉴스 생성 결과 없음, keyword:{}", keyword);
+                return null;
+            }
+            return newsDetail.getId();
+        } catch (RuntimeException e) {
+            log.error("[NEWS] createHotissueNews 처리 중 - 핫이슈 뉴스 생성 실패, keyword:{}, message:{}", keyword, e.getMessage());
+            return null;
+        }
+    }
+
+    // 뉴스 id 청크마다 북마크 알림 대상을 한 번에 조회해, 만료 뉴스가 많아도 쿼리 수와 메모리가 청크 크기에 묶이도록 한다.
+    private int publishBookmarkDeleteWarnings(LocalDateTime warningCutoff) {
+        int batchSize = NewsServiceConstant.NEWS_DELETE_WARNING_BATCH_SIZE;
+        int publishedCnt = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> newsIds = newsRepository.findIdsOlderThan(warningCutoff, afterId, PageRequest.of(0, batchSize));
+            if (newsIds.isEmpty()) {
+                break;
+            }
+
+            publishedCnt += publishBookmarkAlarms(
+                    bookmarkRepository.findAlarmTargetsByNewsIdIn(newsIds, warningCutoff),
+                    AlarmMessage.BOOKMARK_DELETE_WARNING_TITLE,
+                    AlarmMessage.BOOKMARK_DELETE_WARNING_CONTENT,
+                    AlarmType.NEWS
+            );
+
+            afterId = newsIds.getLast();
+            if (newsIds.size() < batchSize) {
+                break;
+            }
+        }
+        return publishedCnt;
+    }
+
+    // 삭제 알림 발행과 뉴스 삭제를 청크 하나의 트랜잭션으로 묶어, 알림이 발행된 뉴스만 삭제되도록 한다.
+    private int deleteNewsChunk(List<Long> newsIds, LocalDateTime cutoff) {
+        Integer deletedCnt = transactionTemplate.execute(status -> {
+            publishBookmarkAlarms(
+                    bookmarkRepository.findAlarmTargetsByNewsIdIn(newsIds, cutoff),
+                    AlarmMessage.BOOKMARK_DELETION_TITLE,
+                    AlarmMessage.BOOKMARK_DELETION_CONTENT,
+                    null
+            );
+
+            int cnt = newsRepository.deleteAllByIdInAndOlderThan(newsIds, cutoff);
+            if (cnt > 0) {
+                eventPublisher.publishEvent(new NewsChangedEvent(newsIds));
+            }
+            return cnt;
+        });
+        return deletedCnt == null ? 0 : deletedCnt;
+    }
+
+    /**
+     * 뉴스 id 순으로 정렬된 알림 대상을 뉴스별로 묶어 알림 이벤트를 만들고, 한 번의 배치 이벤트로 발행한다.
+     * targetType이 null이면 알림에서 뉴스로 이동하지 않는다.
+     * @return 알림을 발행한 뉴스 수
+     */
+    private int publishBookmarkAlarms(List<BookmarkAlarmTargetDTO> targets, String title, String contentFormat, AlarmType targetType) {
+        List<AlarmEvent> events = new ArrayList<>();
+        int from = 0;
+        while (from < targets.size()) {
+            BookmarkAlarmTargetDTO first = targets.get(from);
+            List<Long> userIds = new ArrayList<>();
+            int to = from;
+            while (to < targets.size() && targets.get(to).getNewsId().equals(first.getNewsId())) {
+                userIds.add(targets.get(to).getUserId());
+                to++;
+            }
+
+            events.add(AlarmEvent.bookmark(
+                    userIds,
+                    title,
+                    String.format(contentFormat, first.getTitle()),
+                    targetType,
+                    targetType == null ? null : first.getNewsId()
+            ));
+            from = to;
+        }
+
+        if (!events.isEmpty()) {
+            eventPublisher.publishEvent(new AlarmBatchEvent(events));
+        }
+        return events.size();
+    }
+
     private StatisticsDTO getStatisticsDTO(News news) {
         return new StatisticsDTO(
                 news.getRatioPosi(),
@@ -775,7 +769,194 @@ public class NewsServiceImpl implements NewsService {
         );
     }
 
+    private NewsDetailDTO generateNews(Long userId, User user, boolean isHotissue, NewsCreateRequest req) {
+        // 1. 뉴스의 여론 통계 생성을 비동기적으로 시작한다.
+        log.info("[NEWS] save 처리 중 - 뉴스 여론 통계 비동기 생성 시작, hotissue:{}, userId:{}", isHotissue, userId);
+        CompletableFuture<WrappedDTO<StatisticsDTO>> statsAsync = aiService
+                .getAIStatistics(req.getKeywords())
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                    if (cause instanceof AIException aiEx) {
+                        HttpStatusCode status = aiEx.getStatus();
+                        if (status.is4xxClientError()) {
+                            log.warn("[NEWS] save 처리 중 - 뉴스 여론 통계 비동기 생성 실패, hotissue:{}, userId:{}", isHotissue, userId);
+                            return null;
+                        }
+                    }
+                    throw new CompletionException(cause);
+                });
+
+        // 2. AI에 요청하여 뉴스를 생성한다.
+        AINewsResponse aiNewsResponse;
+        try {
+            log.info("[NEWS] save 처리 중 - 타임라인 생성 시작, hotissue:{}, userId:{}", isHotissue, userId);
+            LocalDate endAt = LocalDate.now();
+            LocalDate startAt = endAt.minusDays(NewsServiceConstant.NEWS_CREATE_DAYS);
+            WrappedDTO<AINewsResponse> res = aiService.createAINews(req.getKeywords(), startAt, endAt);
+            aiNewsResponse = res.getData();
+            log.info("[NEWS] save 처리 중 - 타임라인 생성 성공, hotissue:{}, userId:{}", isHotissue, userId);
+        } catch (AIException e) {
+            log.error("[NEWS] save 실패 - 타임라인 생성 실패, hotissue:{}, userId:{}", isHotissue, userId);
+            if (e.getStatus() == HttpStatus.NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+
+        // 3. AI에 요청하여 타임라인 카드들을 병합한다.
+        List<TimelineCardDTO> timeline = aiService.mergeTimelineCards(aiNewsResponse.getTimeline());
+        log.info("[NEWS] save 처리 중 - 타임라인 카드 병합 성공, hotissue:{}, userId:{}", isHotissue, userId);
+
+        // 4. 뉴스의 여론 통계 생성 응답을 기다린다.
+        WrappedDTO<StatisticsDTO> resStats = statsAsync.join();
+        StatisticsDTO statistics = (resStats != null && resStats.getData() != null) ? resStats.getData() : null;
+        log.info("[NEWS] save 처리 중 - 뉴스 여론 통계 비동기 처리 응답 반환, hotissue:{}, userId:{}", isHotissue, userId);
+
+        // 5. AI 응답을 받은 뒤 짧은 트랜잭션 안에서 저장한다.
+        return transactionTemplate.execute(status ->
+                persistNews(userId, user, isHotissue, req, aiNewsResponse, timeline, statistics));
+    }
+
+    private NewsDetailDTO persistNews(Long userId, User user, boolean isHotissue, NewsCreateRequest req,
+                                      AINewsResponse aiNewsResponse, List<TimelineCardDTO> timeline, StatisticsDTO statistics) {
+        // 5-1. 뉴스를 저장한다.
+        Category category = null;
+        if (aiNewsResponse.getCategory() != null && !aiNewsResponse.getCategory().isBlank()) {
+            try {
+                CategoryType categoryType = CategoryType.valueOf(aiNewsResponse.getCategory());
+                category = categoryRepository.findByName(categoryType).orElse(null);
+            } catch (IllegalArgumentException ignored) {
+                // 유효하지 않은 카테고리는 기타(null)로 처리한다.
+            }
+        }
+        log.info("[NEWS] save 처리 중 - 카테고리 유효성 검사 완료, hotissue:{}, userId:{}", isHotissue, userId);
+
+        News news = new News();
+        news.setTitle(aiNewsResponse.getTitle());
+        news.setSummary(aiNewsResponse.getSummary());
+        // 핫이슈 후보도 일반 뉴스로 저장하고, replaceHotissues에서 한 번에 핫이슈로 지정한다.
+        news.setIsHotissue(false);
+        if (statistics != null) {
+            news.setRatioPosi(statistics.getPositive());
+            news.setRatioNeut(statistics.getNeutral());
+            news.setRatioNega(statistics.getNegative());
+        }
+        news.setUser(user);
+        news.setCategory(category);
+        newsRepository.save(news);
+        log.info("[NEWS] save 처리 중 - 뉴스 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
+
+        // 5-2. 타임라인 카드들을 저장한다.
+        saveTimelineCards(timeline, news);
+        log.info("[NEWS] save 처리 중 - 타임라인 카드 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
+
+        // 5-3. 뉴스 이미지를 저장한다.
+        NewsImage newsImage = new NewsImage();
+        newsImage.setNews(news);
+        newsImage.setUrl(aiNewsResponse.getImage());
+        newsImageRepository.save(newsImage);
+        log.info("[NEWS] save 처리 중 - 뉴스 이미지 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
+
+        // 5-4. 뉴스 태그들을 저장하고, DB에 없는 태그를 저장한다.
+        log.info("[NEWS] save 처리 중 - 뉴스 태그 저장 시작, hotissue:{}, userId:{}", isHotissue, userId);
+        saveNewsTags(req.getKeywords(), news);
+        log.info("[NEWS] save 처리 중 - 뉴스 태그 저장 완료, hotissue:{}, userId:{}", isHotissue, userId);
+
+        // 6. 생성된 뉴스에 대해 북마크 설정한다.
+        if (!isHotissue) {
+            Bookmark bookmark = new Bookmark();
+            bookmark.setUser(user);
+            bookmark.setNews(news);
+            bookmarkRepository.save(bookmark);
+            log.info("[NEWS] save 처리 중 - 북마크 처리 완료, hotissue:{}, userId:{}", isHotissue, userId);
+        }
+
+        // 7. 뉴스의 상세 페이지 데이터를 반환한다.
+        log.info("[NEWS] save 완료 - hotissue:{}, userId:{}", isHotissue, userId);
+        return new NewsDetailDTO(
+                news.getId(),
+                news.getTitle(),
+                newsImage.getUrl(),
+                news.getCategory().getName().toString(),
+                news.getUpdatedAt(),
+                true,
+                timeline,
+                statistics != null ? statistics : new StatisticsDTO(0, 0, 0)
+        );
+    }
+
+    private NewsDetailDTO persistNewsUpdate(Long newsId, Long userId, User user, boolean isHotissue, News news,
+                                            AINewsResponse aiNewsResponse, List<TimelineCardDTO> newTimeline, StatisticsDTO statistics) {
+        // 4-1. 뉴스를 저장한다.
+        news.setSummary(aiNewsResponse.getSummary());
+        // 핫이슈 후보는 교체 전까지 기존 핫이슈 여부를 그대로 두고, replaceHotissues에서 한 번에 지정한다.
+        if (!isHotissue) {
+            news.setIsHotissue(false);
+        }
+
+        news.setUpdateCount(news.getUpdateCount() + 1);
+        if (statistics != null) {
+            news.setRatioPosi(statistics.getPositive());
+            news.setRatioNeut(statistics.getNeutral());
+            news.setRatioNega(statistics.getNegative());
+        }
+        newsRepository.save(news);
+        log.info("[NEWS] update 처리 중 - 뉴스 저장 완료, hotissue:{} userId:{}", isHotissue, userId);
+
+        // 4-2. 타임라인 카드들을 저장한다.
+        timelineCardRepository.deleteAllByNewsId(news.getId());
+        saveTimelineCards(newTimeline, news);
+        log.info("[NEWS] update 처리 중 - 타임라인 카드 저장 완료, hotissue:{} userId:{}", isHotissue, userId);
+
+        // 4-3. 기존 뉴스 이미지를 삭제하고 새로운 뉴스 이미지를 저장한다.
+        if (newsImageRepository.findByNewsId(news.getId()).isPresent()) {
+            Optional<NewsImage> oldNewsImage = newsImageRepository.findByNewsId(news.getId());
+            oldNewsImage.ifPresent(newsImageRepository::delete);
+            log.info("[NEWS] update 처리 중 - 기존 뉴스 이미지 삭제, hotissue:{} userId:{}", isHotissue, userId);
+        }
+        NewsImage updatedNewsImage = new NewsImage();
+        updatedNewsImage.setNews(news);
+        updatedNewsImage.setUrl(aiNewsResponse.getImage());
+        newsImageRepository.save(updatedNewsImage);
+        log.info("[NEWS] update 처리 중 - 새로운 뉴스 이미지 저장 완료, hotissue:{} userId:{}", isHotissue, userId);
+
+        // 5. 기존에 북마크를 설정했던 회원들에게 알림 생성
+        publishBookmarkAlarm(
+                bookmarkRepository.findUsersByNews(news),
+                AlarmMessage.BOOKMARK_UPDATE_TITLE,
+                String.format(AlarmMessage.BOOKMARK_UPDATE_CONTENT, news.getTitle()),
+                AlarmType.NEWS,
+                newsId
+        );
+        log.info("[NEWS] update 처리 중 - 뉴스를 북마크한 회원에게 업데이트 알림 발행, hotissue:{} userId:{}", isHotissue, userId);
+
+        eventPublisher.publishEvent(new NewsChangedEvent(List.of(newsId)));
+
+        // 6. 생성된 뉴스에 대해 북마크 설정한다.
+        Optional<Bookmark> bookmark = bookmarkRepository.findByUserAndNews(user, news);
+        if (bookmark.isEmpty()) {
+            Bookmark savedBookmark = new Bookmark();
+            savedBookmark.setUser(user);
+            savedBookmark.setNews(news);
+            bookmarkRepository.save(savedBookmark);
+        }
+        log.info("[NEWS] update 처리 중 - hotissue:{} userId:{}", isHotissue, userId);
+
+        // 7. 뉴스의 상세 페이지 데이터를 반환한다.
+        return new NewsDetailDTO(
+                news.getId(),
+                news.getTitle(),
+                updatedNewsImage.getUrl(),
+                news.getCategory().getName().toString(),
+                news.getUpdatedAt(),
+                true,
+                newTimeline,
+                statistics != null ? statistics : new StatisticsDTO(0, 0, 0)
+        );
+    }
+
     private void saveTimelineCards (List<TimelineCardDTO> timeline, News news) {
+        List<TimelineCard> timelineCards = new ArrayList<>(timeline.size());
         for (TimelineCardDTO dto : timeline) {
             TimelineCard tc = new TimelineCard();
             tc.setTitle(dto.getTitle());
@@ -785,44 +966,63 @@ public class NewsServiceImpl implements NewsService {
             tc.setStartAt(dto.getStartAt());
             tc.setEndAt(dto.getEndAt());
             tc.setNews(news);
-            timelineCardRepository.save(tc);
+            timelineCards.add(tc);
         }
+        newsBulkWriteRepository.insertTimelineCards(news.getId(), timelineCards);
     }
 
-    private List<NewsCardDTO> getNewsCardDTOList(Long userId, Page<News> newsPage) {
-        Optional<User> user;
-        if (userId != null) {
-            user = userRepository.findById(userId);
-        } else {
-            user = Optional.empty();
-        }
+    private void saveNewsTags(List<String> keywords, News news) {
+        List<String> names = keywords.stream().distinct().toList();
 
-        List<NewsCardDTO> newsCardDTOList = new ArrayList<>();
+        // 기존 태그를 한 번에 조회하고, 없는 태그만 한 번에 저장한 뒤 다시 조회한다.
+        Map<String, Long> tagIds = new HashMap<>();
+        tagRepository.findAllByNameIn(names).forEach(tag -> tagIds.put(tag.getName(), tag.getId()));
 
-        newsPage.forEach(news -> {
-            Optional<NewsImage> newsImage = newsImageRepository.findByNewsId(news.getId());
-            String image = newsImage.map(NewsImage::getUrl).orElse(null);
+        List<String> missingNames = names.stream().filter(name -> !tagIds.containsKey(name)).toList();
+        if (!missingNames.isEmpty()) {
+            newsBulkWriteRepository.insertTagsIfAbsent(missingNames);
+            tagRepository.findAllByNameIn(missingNames).forEach(tag -> tagIds.put(tag.getName(), tag.getId()));
+            log.info("[NEWS] save 처리 중 - 새로운 태그 저장 완료, newsId:{} tagCnt:{}", news.getId(), missingNames.size());
+        }
 
-            String categoryName = news.getCategory() != null ? news.getCategory().getName().toString() : null;
+        List<Long> newsTagIds = names.stream().map(tagIds::get).filter(Objects::nonNull).toList();
+        newsBulkWriteRepository.insertNewsTags(news.getId(), newsTagIds);
+    }
 
-            boolean bookmarked = user.map(u -> getBookmarked(u, news)).orElse(false);
-            LocalDateTime bookmarkedAt = user.map(u -> getBookmarkedAt(u, news)).orElse(null);
+    private List<NewsCardDTO> getNewsCardDTOList(Long userId, Slice<News> newsSlice) {
+        return newsCardAssembler.assemble(userId, newsSlice.getContent());
+    }
 
+    private NewsListResponse toNewsListResponse(Long userId, Slice<News> newsSlice, int nextOffset) {
+        List<NewsCardDTO> newsCardDTOList = getNewsCardDTOList(userId, newsSlice);
+        return new NewsListResponse(newsCardDTOList, nextOffset, newsSlice.hasNext(), getNextCursor(newsCardDTOList, newsSlice.hasNext()));
+    }
 
-            NewsCardDTO dto = new NewsCardDTO(
-                    news.getId(),
-                    news.getTitle(),
-                    news.getSummary(),
-                    image,
-                    categoryName,
-                    news.getUpdatedAt(),
-                    bookmarked,
-                    bookmarkedAt
-            );
-            newsCardDTOList.add(dto);
-        });
+    private String getNextCursor(List<NewsCardDTO> newsCardDTOList, boolean hasNext) {
+        if (!hasNext || newsCardDTOList.isEmpty()) {
+            return null;
+        }
+        NewsCardDTO last = newsCardDTOList.get(newsCardDTOList.size() - 1);
+        return CursorCodec.encode(last.getUpdatedAt(), last.getId());
+    }
 
-        return newsCardDTOList;
+    private String getSearchCursor(Slice<NewsSearchHit> hitSlice) {
+        if (!hitSlice.hasNext() || hitSlice.getContent().isEmpty()) {
+            return null;
+        }
+        NewsSearchHit last = hitSlice.getContent().get(hitSlice.getContent().size() - 1);
+        return CursorCodec.encode(last.getMatchCount(), last.getNews().getUpdatedAt(), last.getNews().getId());
+    }
+
+    private Object getCategoryResponse(String category, NewsListResponse newsListResponse) {
+        return switch (category != null ? category.toUpperCase() : "ALL") {
+            case "ALL" -> new AllResponse(newsListResponse);
+            case "ECONOMY" -> new EconomyResponse(newsListResponse);
+            case "ENTERTAINMENT" -> new EntertainmentResponse(newsListResponse);
+            case "SPORTS" -> new SportsResponse(newsListResponse);
+            case "KTB" -> new KtbResponse(newsListResponse);
+            default -> throw new IllegalArgumentException();
+        };
     }
 
     private NewsListResponse getNewsListResponse(Long userId, String category, Integer page) {
@@ -841,17 +1041,41 @@ public class NewsServiceImpl implements NewsService {
             List<NewsCardDTO> newsCardDTOList = getNewsCardDTOList(userId, newsPage);
             boolean hasNext = !newsRepository.findByIsHotissueFalseOrderByUpdatedAtDescIdDesc(PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)).isEmpty();
 
-            newsListResponse = new NewsListResponse(newsCardDTOList, nextOffset, hasNext);
+            newsListResponse = new NewsListResponse(newsCardDTOList, nextOffset, hasNext, getNextCursor(newsCardDTOList, hasNext));
         } else {
             Page<News> newsPage = newsRepository.findByIsHotissueFalseAndCategoryId(categoryId, PageRequest.of(page, NewsServiceConstant.PAGE_SIZE));
             List<NewsCardDTO> newsCardDTOList = getNewsCardDTOList(userId, newsPage);
             boolean hasNext = !newsRepository.findByIsHotissueFalseAndCategoryId(categoryId, PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)).isEmpty();
 
-            newsListResponse = new NewsListResponse(newsCardDTOList, nextOffset, hasNext);
+            newsListResponse = new NewsListResponse(newsCardDTOList, nextOffset, hasNext, getNextCursor(newsCardDTOList, hasNext));
         }
         return newsListResponse;
     }
 
+    private NewsDetailDTO loadNewsDetail(Long newsId, Long userId) {
+        News news = newsRepository.findById(newsId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ResponseMessage.NEWS_NOT_FOUND));
+        log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 조회 성공, userId:{} newsId:{}", userId, newsId);
+
+        List<TimelineCardDTO> timelineCardDTOList = getTimelineCardDTOList(news);
+        log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 타임라인 조회 성공, userId:{} newsId:{}", userId, newsId);
+
+        Optional<NewsImage> newsImage = newsImageRepository.findByNewsId(news.getId());
+        String image = newsImage.map(NewsImage::getUrl).orElse(null);
+        log.info("[NEWS] getNewsDetail 처리 중 - 뉴스 썸네일 조회 성공, userId:{} newsId:{}", userId, newsId);
+
+        return new NewsDetailDTO(
+                news.getId(),
+                news.getTitle(),
+                image,
+                news.getCategory().getName().toString(),
+                news.getUpdatedAt(),
+                false,
+                timelineCardDTOList,
+                getStatisticsDTO(news)
+        );
+    }
+
     private List<TimelineCardDTO> getTimelineCardDTOList(News news) {
         List<TimelineCard> timeline = timelineCardRepository.findAllByNewsIdOrderByStartAtDesc(news.getId());
         List<TimelineCardDTO> timelineCardDTOList = new ArrayList<>();
@@ -869,36 +1093,23 @@ public class NewsServiceImpl implements NewsService {
         return timelineCardDTOList;
     }
 
-    private boolean getBookmarked(User user, News news) {
-        if (user == null) return false;
-        Optional<Bookmark> bookmark = bookmarkRepository.findByUserAndNews(user, news);
-        return bookmark.isPresent();
-    }
+    private Map<CategoryType, Long> getCategoryIds() {
+        Map<CategoryType, Long> categoryIds = new EnumMap<>(CategoryType.class);
+        categoryRepository.findAll().forEach(c -> categoryIds.put(c.getName(), c.getId()));
 
-    private LocalDateTime getBookmarkedAt(User user, News news) {
-        if (user == null) return null;
-        Optional<Bookmark> bookmark = bookmarkRepository.findByUserAndNews(user, news);
-        return bookmark.map(Bookmark::getCreatedAt).orElse(null);
+        for (CategoryType type : CategoryType.values()) {
+            if (!categoryIds.containsKey(type)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, NewsResponseMessage.CATEGORY_NOT_FOUND);
+            }
+        }
+        return categoryIds;
     }
 
-    private Long getCategoryId(String category) {
-        Long categoryId = null;
-        if (category != null && !category.equalsIgnoreCase("ALL")) {
-            Category c = categoryRepository.findByName(CategoryType.valueOf(category.toUpperCase()))
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, NewsResponseMessage.CATEGORY_NOT_FOUND));
-            categoryId = c.getId();
-        }
-        return categoryId;
+    private void publishBookmarkAlarm(List<Long> userIdList, String title, String content, AlarmType targetType, Long targetId) {
+        eventPublisher.publishEvent(AlarmEvent.bookmark(userIdList, title, content, targetType, targetId));
     }
 
-    private void publishAlarm(List<Long> userIdList, String title, String content, AlarmType targetType, Long targetId) {
-        AlarmEvent event = new AlarmEvent(
-                userIdList,
-                title,
-                content,
-                targetType,
-                targetId
-        );
-        eventPublisher.publishEvent(event);
+    private void publishBroadcastAlarm(String title, String content, AlarmType targetType, Long targetId) {
+        eventPublisher.publishEvent(AlarmEvent.broadcast(title, content, targetType, targetId));
     }
 }
@@ -0,0 +1,96 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.repository.NewsViewCountRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 뉴스 조회수를 메모리에 누적했다가 주기적으로 DB에 일괄 반영한다.
+ * 상세 조회마다 news 행에 UPDATE 락을 잡지 않도록, 조회 요청은 뉴스별 LongAdder만 증가시킨다.
+ * 애플리케이션 종료 시에도 남은 조회수를 반영한다.
+ */
+@Slf4j
+@Component
+public class NewsViewCounter {
+
+    private final NewsViewCountRepository newsViewCountRepository;
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final AtomicLong lastFlushedAt = new AtomicLong(System.currentTimeMillis());
+    private final DistributionSummary flushBatchSize;
+
+    public NewsViewCounter(NewsViewCountRepository newsViewCountRepository, MeterRegistry meterRegistry) {
+        this.newsViewCountRepository = newsViewCountRepository;
+        this.flushBatchSize = DistributionSummary.builder("news.view.count.flush.batch.size")
+                .description("한 번의 반영에서 조회수가 갱신된 뉴스 수")
+                .register(meterRegistry);
+        Gauge.builder("news.view.count.flush.lag.seconds", lastFlushedAt, t -> (System.currentTimeMillis() - t.get()) / 1000.0)
+                .description("마지막 조회수 반영 이후 경과 시간")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long newsId) {
+        LongAdder adder = pendingViews.computeIfAbsent(newsId, id -> new LongAdder());
+        adder.increment();
+        // 반영 중에 비어 있던 카운터가 정리된 직후라면, 정리된 카운터 대신 새 카운터에 다시 더한다.
+        if (pendingViews.get(newsId) != adder) {
+            pendingViews.computeIfAbsent(newsId, id -> new LongAdder()).increment();
+        }
+    }
+
+    @Scheduled(fixedDelay = NewsServiceConstant.VIEW_COUNT_FLUSH_DELAY_MS)
+    public void flush() {
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                // 지난 반영 이후 조회가 없던 뉴스는 정리해, 조회된 적 있는 모든 뉴스가 계속 남지 않도록 한다.
+                pendingViews.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+                continue;
+            }
+
+            batch.put(entry.getKey(), delta);
+            if (batch.size() >= NewsServiceConstant.VIEW_COUNT_FLUSH_BATCH_SIZE) {
+                write(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        lastFlushedAt.set(System.currentTimeMillis());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[NEWS] 종료 전 누적 조회수 반영 시작 - pendingNewsCnt:{}", getPendingNewsCnt());
+        flush();
+    }
+
+    public int getPendingNewsCnt() {
+        return pendingViews.size();
+    }
+
+    private void write(Map<Long, Long> batch) {
+        try {
+            newsViewCountRepository.addViewCounts(batch);
+            flushBatchSize.record(batch.size());
+        } catch (RuntimeException e) {
+            // 반영에 실패한 조회수는 다음 주기에 다시 반영되도록 되돌려 둔다.
+            log.error("[NEWS] 누적 조회수 반영 실패 - newsCnt:{} error:{}", batch.size(), e.getMessage());
+            batch.forEach((newsId, delta) -> pendingViews.computeIfAbsent(newsId, id -> new LongAdder()).add(delta));
+        }
+    }
+}
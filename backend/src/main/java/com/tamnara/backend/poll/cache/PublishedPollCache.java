@@ -0,0 +1,98 @@
+package com.tamnara.backend.poll.cache;
+
+import com.tamnara.backend.poll.constant.PollServiceConstant;
+import com.tamnara.backend.poll.dto.PollInfoDTO;
+import com.tamnara.backend.poll.repository.PollOptionRepository;
+import com.tamnara.backend.poll.repository.PollRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 현재 공개 중인 투표와 선택지를 서버 메모리에 캐싱한다.
+ * 투표 상태 전환은 한 서버에서만 실행되므로, 다른 서버의 캐시는 유효 시간이 지나면 DB에서 다시 불러온다.
+ * 공개 중인 투표가 없다는 결과도 같은 유효 시간 동안 캐싱한다.
+ */
+@Slf4j
+@Component
+public class PublishedPollCache {
+
+    private record Snapshot(PollInfoDTO poll, long expiresAt) {
+        boolean isValid(long now) {
+            return now - expiresAt < 0;
+        }
+    }
+
+    private final PollRepository pollRepository;
+    private final PollOptionRepository pollOptionRepository;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public PublishedPollCache(PollRepository pollRepository, PollOptionRepository pollOptionRepository, MeterRegistry meterRegistry) {
+        this.pollRepository = pollRepository;
+        this.pollOptionRepository = pollOptionRepository;
+        this.hitCounter = Counter.builder("poll.published.cache")
+                .tag("result", "hit")
+                .description("공개 투표 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("poll.published.cache")
+                .tag("result", "miss")
+                .description("공개 투표 캐시 미스 횟수")
+                .register(meterRegistry);
+    }
+
+    public Optional<PollInfoDTO> get() {
+        Snapshot current = snapshot;
+        if (current != null && current.isValid(System.nanoTime())) {
+            hitCounter.increment();
+            return Optional.ofNullable(current.poll());
+        }
+
+        // 만료 직후 몰린 요청이 모두 DB를 조회하지 않도록 한 요청만 다시 불러온다.
+        loadLock.lock();
+        try {
+            current = snapshot;
+            if (current != null && current.isValid(System.nanoTime())) {
+                hitCounter.increment();
+                return Optional.ofNullable(current.poll());
+            }
+
+            missCounter.increment();
+            long loadedGeneration = generation.get();
+            PollInfoDTO poll = load();
+            // 불러오는 동안 무효화되었다면 이전 상태일 수 있으므로 저장하지 않는다.
+            if (generation.get() == loadedGeneration) {
+                snapshot = new Snapshot(poll, System.nanoTime() + PollServiceConstant.PUBLISHED_POLL_CACHE_TTL.toNanos());
+            }
+            return Optional.ofNullable(poll);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+        log.info("[POLL] 공개 투표 캐시 무효화");
+    }
+
+
+    /**
+     * 헬퍼 메서드
+     */
+    private PollInfoDTO load() {
+        return pollRepository.findLatestPollByPublishedPoll()
+                .map(poll -> new PollInfoDTO(poll, pollOptionRepository.findByPollId(poll.getId())))
+                .orElse(null);
+    }
+}
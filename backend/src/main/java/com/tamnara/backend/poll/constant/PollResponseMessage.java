@@ -17,4 +17,5 @@ public final class PollResponseMessage {
     public static final String POLL_OR_OPTION_NOT_FOUND = "요청하신 투표 또는 선택지를 찾을 수 없습니다.";
     public static final String POLL_INVALID_SELECTION_COUNT = "응답 수가 올바르지 않습니다.";
     public static final String POLL_ALREADY_VOTED = "이미 투표하셨습니다.";
+    public static final String POLL_INVALID_IDEMPOTENCY_KEY = "Idempotency-Key는 64자 이하여야 합니다.";
 }
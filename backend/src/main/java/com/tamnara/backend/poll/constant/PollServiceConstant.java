@@ -0,0 +1,13 @@
+package com.tamnara.backend.poll.constant;
+
+import java.time.Duration;
+
+public final class PollServiceConstant {
+    private PollServiceConstant() {}
+
+    public static final Duration PUBLISHED_POLL_CACHE_TTL = Duration.ofSeconds(30);
+    public static final long POLL_RESULT_TICK_MS = 1000L;
+    public static final long POLL_RESULT_SSE_TIMEOUT_MS = 30 * 60 * 1000L;
+    public static final long POLL_RESULT_SSE_HEARTBEAT_MS = 25 * 1000L;
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+}
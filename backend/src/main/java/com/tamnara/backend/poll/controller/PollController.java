@@ -9,6 +9,7 @@ import com.tamnara.backend.poll.dto.request.VoteRequest;
 import com.tamnara.backend.poll.dto.response.PollIdResponse;
 import com.tamnara.backend.poll.dto.response.PollInfoResponse;
 import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import com.tamnara.backend.poll.push.PollResultEmitterRegistry;
 import com.tamnara.backend.poll.service.PollService;
 import com.tamnara.backend.user.domain.State;
 import com.tamnara.backend.user.security.UserDetailsImpl;
@@ -17,11 +18,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 
@@ -39,6 +42,7 @@ import static com.tamnara.backend.poll.constant.PollResponseMessage.VOTE_SUCCESS
 public class PollController {
 
     private final PollService pollService;
+    private final PollResultEmitterRegistry pollResultEmitterRegistry;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -104,6 +108,7 @@ public class PollController {
     )
     public ResponseEntity<WrappedDTO<PollIdResponse>> vote(
             @Valid @RequestBody VoteRequest voteRequest,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
         try {
@@ -119,7 +124,7 @@ public class PollController {
                 );
             }
 
-            PollIdResponse response = pollService.vote(userDetails.getUser(), voteRequest);
+            PollIdResponse response = pollService.vote(userDetails.getUser(), voteRequest, idempotencyKey);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new WrappedDTO<>(
@@ -199,4 +204,23 @@ public class PollController {
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @GetMapping(value = "/{pollId}/stats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "실시간 투표 결과 구독",
+            description = "특정 투표의 결과를 SSE로 구독합니다. 연결 직후 현재 결과를 전송하고, 이후 결과가 바뀔 때마다 1초 간격으로 최신 결과를 전송합니다."
+    )
+    public SseEmitter subscribeVoteStatistics(
+            @PathVariable Long pollId
+    ) {
+        try {
+            return pollResultEmitterRegistry.connect(pollId, pollService.getVoteStatistics(pollId));
+
+        } catch (ResponseStatusException e) {
+            throw new CustomException(HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
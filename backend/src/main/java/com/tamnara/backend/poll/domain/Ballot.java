@@ -0,0 +1,47 @@
+package com.tamnara.backend.poll.domain;
+
+import com.tamnara.backend.user.domain.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원이 투표에 참여했다는 기록으로, 투표당 회원 한 명에 한 행만 존재한다.
+ * 투표 제출은 이 행을 먼저 삽입하므로, 같은 회원의 중복 요청은 DB의 유니크 제약으로 걸러진다.
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "poll_ballots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_poll_ballots_poll_user", columnNames = {"poll_id", "user_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Ballot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "poll_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Poll poll;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = true)
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private User user;
+
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
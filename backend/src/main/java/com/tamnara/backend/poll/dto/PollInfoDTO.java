@@ -1,6 +1,7 @@
 package com.tamnara.backend.poll.dto;
 
 import com.tamnara.backend.poll.domain.Poll;
+import com.tamnara.backend.poll.domain.PollOption;
 import com.tamnara.backend.poll.dto.response.PollOptionInfoResponse;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,13 +22,17 @@ public class PollInfoDTO {
     private List<PollOptionInfoResponse> options;
 
     public PollInfoDTO(Poll poll) {
+        this(poll, poll.getOptions());
+    }
+
+    public PollInfoDTO(Poll poll, List<PollOption> options) {
         this.id = poll.getId();
         this.title = poll.getTitle();
         this.minChoices = poll.getMinChoices();
         this.maxChoices = poll.getMaxChoices();
         this.startAt = poll.getStartAt();
         this.endAt = poll.getEndAt();
-        this.options = poll.getOptions().stream()
+        this.options = options.stream()
                 .map(option -> new PollOptionInfoResponse(option.getId(), option.getTitle(), option.getImageUrl()))
                 .collect(Collectors.toList());
     }
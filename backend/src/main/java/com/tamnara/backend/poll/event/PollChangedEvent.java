@@ -0,0 +1,10 @@
+package com.tamnara.backend.poll.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PollChangedEvent {
+    private final Long pollId;
+}
@@ -0,0 +1,113 @@
+package com.tamnara.backend.poll.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tamnara.backend.poll.constant.PollResponseMessage;
+import com.tamnara.backend.poll.constant.PollServiceConstant;
+import com.tamnara.backend.poll.dto.OptionResult;
+import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import com.tamnara.backend.poll.repository.PollRepository;
+import com.tamnara.backend.poll.repository.VoteStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구독 중인 투표의 결과를 주기마다 한 번 집계해, 이 서버의 구독자 전체에 같은 결과를 전송한다.
+ * 집계 결과는 Redis에 한 주기 동안 공유하므로, 서버가 여러 대여도 주기마다 한 서버만 DB에서 집계하고 모든 서버가 같은 결과를 보낸다.
+ * 이전 주기와 결과가 같으면 전송하지 않는다.
+ * 매 주기 실행되므로 서비스 계층을 거치지 않고 통계만 직접 조회해, 투표 조회와 요청 단위 로그를 남기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PollResultBroadcaster {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "POLL_RESULT:";
+    private static final String AGGREGATE_LOCK_KEY_PREFIX = "POLL_RESULT_LOCK:";
+    private static final Duration TICK = Duration.ofMillis(PollServiceConstant.POLL_RESULT_TICK_MS);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final VoteStatisticsRepository voteStatisticsRepository;
+    private final PollRepository pollRepository;
+    private final PollResultEmitterRegistry pollResultEmitterRegistry;
+
+    private final Map<Long, String> lastBroadcast = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedRate = PollServiceConstant.POLL_RESULT_TICK_MS)
+    public void tick() {
+        Set<Long> pollIds = pollResultEmitterRegistry.getPollIds();
+        lastBroadcast.keySet().retainAll(pollIds);
+
+        for (Long pollId : pollIds) {
+            try {
+                String snapshot = loadSnapshot(pollId);
+                if (snapshot != null && !snapshot.equals(lastBroadcast.put(pollId, snapshot))) {
+                    pollResultEmitterRegistry.broadcast(pollId, snapshot);
+                }
+            } catch (ResponseStatusException e) {
+                log.warn("[POLL] 실시간 투표 결과 전송 종료 - pollId:{} reason:{}", pollId, e.getReason());
+                pollResultEmitterRegistry.close(pollId);
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("[POLL] 실시간 투표 결과 집계 실패 - pollId:{} error:{}", pollId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 헬퍼 메서드
+     */
+
+    // 이번 주기의 투표 결과를 반환하고, 다른 서버가 이번 주기의 집계를 맡았다면 null을 반환한다.
+    private String loadSnapshot(Long pollId) throws JsonProcessingException {
+        String snapshotKey = SNAPSHOT_KEY_PREFIX + pollId;
+        try {
+            String shared = stringRedisTemplate.opsForValue().get(snapshotKey);
+            if (shared != null) {
+                return shared;
+            }
+
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(AGGREGATE_LOCK_KEY_PREFIX + pollId, "1", TICK);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return null;
+            }
+        } catch (RuntimeException e) {
+            // Redis 장애 시에는 서버마다 직접 집계해 실시간 결과를 계속 보낸다.
+            log.warn("[POLL] 실시간 투표 결과 공유 조회 실패 - pollId:{} error:{}", pollId, e.getMessage());
+            return aggregate(pollId);
+        }
+
+        String snapshot = aggregate(pollId);
+        try {
+            stringRedisTemplate.opsForValue().set(snapshotKey, snapshot, TICK);
+        } catch (RuntimeException e) {
+            log.warn("[POLL] 실시간 투표 결과 공유 저장 실패 - pollId:{} error:{}", pollId, e.getMessage());
+        }
+        return snapshot;
+    }
+
+    private String aggregate(Long pollId) throws JsonProcessingException {
+        List<OptionResult> results = voteStatisticsRepository.findOptionResultsByPollId(pollId);
+
+        // 통계가 없을 때만 투표가 삭제되었는지 확인하므로, 진행 중인 투표는 주기마다 쿼리 한 번으로 집계된다.
+        if (results.isEmpty() && !pollRepository.existsById(pollId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, PollResponseMessage.POLL_NOT_FOUND);
+        }
+
+        long totalVotes = results.stream()
+                .mapToLong(OptionResult::getCount)
+                .sum();
+        return objectMapper.writeValueAsString(new PollStatisticsResponse(pollId, results, totalVotes));
+    }
+}
@@ -0,0 +1,83 @@
+package com.tamnara.backend.poll.push;
+
+import com.tamnara.backend.global.sse.KeyedEmitterRegistry;
+import com.tamnara.backend.poll.constant.PollServiceConstant;
+import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * 이 서버에 연결된 투표 결과 구독자에게 투표 결과를 전송한다. 연결 관리는 {@link KeyedEmitterRegistry}가 투표별로 맡는다.
+ * 결과 집계는 {@link PollResultBroadcaster}가 주기마다 한 번 수행하고, 이곳은 같은 결과를 구독자 전체에 전송만 한다.
+ */
+@Slf4j
+@Component
+public class PollResultEmitterRegistry {
+
+    private static final String RESULT_EVENT_NAME = "result";
+
+    private final KeyedEmitterRegistry emitters;
+
+    public PollResultEmitterRegistry(MeterRegistry meterRegistry) {
+        this.emitters = new KeyedEmitterRegistry(
+                "poll-result",
+                PollServiceConstant.POLL_RESULT_SSE_TIMEOUT_MS,
+                meterRegistry,
+                "poll.result.sse.connections",
+                "이 서버에 연결된 실시간 투표 결과 구독 수"
+        );
+    }
+
+    /**
+     * @param statistics 연결 직후 전송할 현재 투표 결과
+     */
+    public SseEmitter connect(Long pollId, PollStatisticsResponse statistics) {
+        SseEmitter emitter = emitters.register(pollId);
+
+        emitters.send(pollId, emitter, SseEmitter.event().name(RESULT_EVENT_NAME).data(statistics, MediaType.APPLICATION_JSON));
+        log.info("[POLL] 실시간 투표 결과 구독 - pollId:{} connectionCnt:{}", pollId, emitters.getConnectionCnt());
+        return emitter;
+    }
+
+    public Set<Long> getPollIds() {
+        return emitters.getKeys();
+    }
+
+    /**
+     * @param statisticsJson 구독자 전체가 공유하는, 이미 직렬화된 투표 결과
+     */
+    public void broadcast(Long pollId, String statisticsJson) {
+        emitters.sendAsync(pollId, () -> SseEmitter.event().name(RESULT_EVENT_NAME).data(statisticsJson, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 더 이상 결과를 보낼 수 없는 투표(삭제 등)의 구독을 모두 종료한다.
+     */
+    public void close(Long pollId) {
+        emitters.complete(pollId);
+    }
+
+    /**
+     * 결과가 바뀌지 않아 전송이 없는 동안에도 프록시가 연결을 끊지 않도록 한다.
+     */
+    @Scheduled(fixedDelay = PollServiceConstant.POLL_RESULT_SSE_HEARTBEAT_MS)
+    public void heartbeat() {
+        emitters.heartbeat();
+    }
+
+    public int getConnectionCnt() {
+        return emitters.getConnectionCnt();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.shutdown();
+    }
+}
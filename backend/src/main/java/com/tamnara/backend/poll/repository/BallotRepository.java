@@ -0,0 +1,37 @@
+package com.tamnara.backend.poll.repository;
+
+import com.tamnara.backend.poll.domain.Ballot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface BallotRepository extends JpaRepository<Ballot, Long> {
+    Optional<Ballot> findByPollIdAndUserId(Long pollId, Long userId);
+
+    // 이미 참여 기록이 있으면 삽입하지 않고 0을 반환하며, 동시에 들어온 요청은 먼저 삽입한 요청이 끝날 때까지 기다린다.
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT IGNORE INTO poll_ballots (poll_id, user_id, idempotency_key, created_at)
+        VALUES (:pollId, :userId, :idempotencyKey, NOW())
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("pollId") Long pollId, @Param("userId") Long userId, @Param("idempotencyKey") String idempotencyKey);
+
+    /**
+     * 참여 기록 테이블 도입 전에 투표한 회원의 참여 기록을 투표 기록으로 채운다. 이미 있는 기록은 건너뛴다.
+     * @return 새로 채운 참여 기록 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT IGNORE INTO poll_ballots (poll_id, user_id, created_at)
+        SELECT DISTINCT v.poll_id, v.user_id, NOW()
+        FROM votes v
+        WHERE v.user_id IS NOT NULL
+    """, nativeQuery = true)
+    int backfillFromVotes();
+}
@@ -12,29 +12,11 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     List<Vote> findByPollId(Long pollId);
     long countByPollIdAndOptionId(Long pollId, Long optionId);
 
-    @Query("""
-    SELECT CASE WHEN COUNT(v) > 0 THEN true ELSE false END
-    FROM Vote v
-    WHERE v.user.id = :userId
-      AND v.poll.state = 'PUBLISHED'
-      AND v.poll.id = (
-          SELECT MAX(p.id)
-          FROM Poll p
-          WHERE p.state = 'PUBLISHED'
-      )
-    """)
-    Boolean hasVotedLatestPublishedPoll(@Param("userId") Long userId);
-
     @Query("""
     SELECT v.option.id
     FROM Vote v
     WHERE v.user.id = :userId
-      AND v.poll.state = 'PUBLISHED'
-      AND v.poll.id = (
-          SELECT MAX(p.id)
-          FROM Poll p
-          WHERE p.state = 'PUBLISHED'
-      )
+      AND v.poll.id = :pollId
     """)
-    List<Long> findVotedOptionIdsOfLatestPublishedPoll(@Param("userId") Long userId);
+    List<Long> findOptionIdsByUserIdAndPollId(@Param("userId") Long userId, @Param("pollId") Long pollId);
 }
@@ -1,7 +1,12 @@
 package com.tamnara.backend.poll.repository;
 
 import com.tamnara.backend.poll.domain.VoteStatistics;
+import com.tamnara.backend.poll.dto.OptionResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.List;
@@ -9,4 +14,34 @@ import java.util.List;
 public interface VoteStatisticsRepository extends JpaRepository<VoteStatistics, Long> {
     List<VoteStatistics> findByPollId(Long pollId);
     Optional<VoteStatistics> findByPollIdAndOptionId(Long pollId, Long optionId);
+
+    @Query("""
+        SELECT new com.tamnara.backend.poll.dto.OptionResult(o.id, o.title, vs.count)
+        FROM VoteStatistics vs
+        JOIN vs.option o
+        WHERE vs.poll.id = :pollId
+        ORDER BY vs.count DESC, o.id ASC
+    """)
+    List<OptionResult> findOptionResultsByPollId(@Param("pollId") Long pollId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO vote_statistics (poll_id, option_id, count, created_at)
+        VALUES (:pollId, :optionId, 1, NOW())
+        ON DUPLICATE KEY UPDATE count = count + 1
+    """, nativeQuery = true)
+    int incrementCount(@Param("pollId") Long pollId, @Param("optionId") Long optionId);
+
+    // 투표 기록을 읽는 것과 통계를 쓰는 것을 한 문장으로 처리하므로, 동시에 들어온 투표의 증가분을 덮어쓰지 않는다.
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO vote_statistics (poll_id, option_id, count, created_at)
+        SELECT o.poll_id, o.id, (SELECT COUNT(*) FROM votes v WHERE v.option_id = o.id), NOW()
+        FROM poll_options o
+        WHERE o.poll_id = :pollId
+        ON DUPLICATE KEY UPDATE count = VALUES(count)
+    """, nativeQuery = true)
+    int reconcileCounts(@Param("pollId") Long pollId);
 }
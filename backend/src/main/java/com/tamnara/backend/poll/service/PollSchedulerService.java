@@ -2,4 +2,6 @@ package com.tamnara.backend.poll.service;
 
 public interface PollSchedulerService {
     void updatePollStates();
+    void reconcileVoteStatistics();
+    void backfillBallots();
 }
@@ -1,6 +1,10 @@
 package com.tamnara.backend.poll.service;
 
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import com.tamnara.backend.global.scheduler.ScheduledJobRunner;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -10,21 +14,46 @@ import org.springframework.stereotype.Service;
 public class PollSchedulerServiceImpl implements PollSchedulerService {
 
     private final PollService pollService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
-    public PollSchedulerServiceImpl(PollService pollService) {
+    public PollSchedulerServiceImpl(PollService pollService, ScheduledJobRunner scheduledJobRunner) {
         this.pollService = pollService;
+        this.scheduledJobRunner = scheduledJobRunner;
     }
 
     @Override
     @Async
     @Scheduled(cron = "0 0 10 * * MON")
     public void updatePollStates() {
-        log.info("[POLL] updatePollStates 시작");
-        Long start = System.currentTimeMillis();
+        scheduledJobRunner.run(
+                ScheduledJobConstant.POLL_STATE_JOB,
+                ScheduledJobConstant.POLL_STATE_LOCK_LEASE,
+                pollService::updatePollStates
+        );
+    }
 
-        pollService.updatePollStates();
+    @Override
+    @Async
+    @Scheduled(cron = "0 */10 * * * *")
+    public void reconcileVoteStatistics() {
+        scheduledJobRunner.run(
+                ScheduledJobConstant.POLL_STATISTICS_RECONCILE_JOB,
+                ScheduledJobConstant.POLL_STATISTICS_RECONCILE_LOCK_LEASE,
+                pollService::reconcileVoteStatistics
+        );
+    }
 
-        Long end = System.currentTimeMillis();
-        log.info("[POLL] updatePollStates 완료 - 소요 시간:{}ms", end - start);
+    /**
+     * 투표 제출은 참여 기록만으로 중복을 거르므로, 참여 기록 테이블 도입 전의 투표 기록을 기동 시 한 번 옮겨 둔다.
+     */
+    @Override
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBallots() {
+        scheduledJobRunner.runOnce(
+                ScheduledJobConstant.POLL_BALLOT_BACKFILL_JOB,
+                ScheduledJobConstant.POLL_BALLOT_BACKFILL_LOCK_LEASE,
+                pollService::backfillBallots
+        );
     }
 }
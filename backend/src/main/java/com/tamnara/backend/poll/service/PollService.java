@@ -13,8 +13,10 @@ public interface PollService {
     Poll getPollById(Long pollId);
     PollInfoResponse getLatestPublishedPoll(Long userId);
     void schedulePoll(Long pollId);
-    PollIdResponse vote(User user, VoteRequest voteRequest);
+    PollIdResponse vote(User user, VoteRequest voteRequest, String idempotencyKey);
     PollStatisticsResponse getVoteStatistics(Long pollId);
 
-    void updatePollStates();
+    int updatePollStates();
+    int reconcileVoteStatistics();
+    int backfillBallots();
 }
@@ -3,6 +3,7 @@ package com.tamnara.backend.poll.service;
 import com.tamnara.backend.alarm.constant.AlarmMessage;
 import com.tamnara.backend.alarm.domain.AlarmType;
 import com.tamnara.backend.alarm.event.AlarmEvent;
+import com.tamnara.backend.poll.cache.PublishedPollCache;
 import com.tamnara.backend.poll.domain.*;
 import com.tamnara.backend.poll.dto.OptionResult;
 import com.tamnara.backend.poll.dto.PollInfoDTO;
@@ -10,13 +11,15 @@ import com.tamnara.backend.poll.dto.request.PollCreateRequest;
 import com.tamnara.backend.poll.dto.request.VoteRequest;
 import com.tamnara.backend.poll.dto.response.PollIdResponse;
 import com.tamnara.backend.poll.dto.response.PollInfoResponse;
+import com.tamnara.backend.poll.dto.response.PollOptionInfoResponse;
 import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import com.tamnara.backend.poll.event.PollChangedEvent;
+import com.tamnara.backend.poll.repository.BallotRepository;
 import com.tamnara.backend.poll.repository.PollOptionRepository;
 import com.tamnara.backend.poll.repository.PollRepository;
 import com.tamnara.backend.poll.repository.VoteRepository;
 import com.tamnara.backend.poll.repository.VoteStatisticsRepository;
 import com.tamnara.backend.user.domain.User;
-import com.tamnara.backend.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,21 +29,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.tamnara.backend.poll.constant.PollResponseMessage.*;
-import static com.tamnara.backend.poll.constant.PollResponseMessage.POLL_ALREADY_VOTED;
-import static com.tamnara.backend.poll.constant.PollResponseMessage.POLL_INVALID_SELECTION_COUNT;
-import static com.tamnara.backend.poll.constant.PollResponseMessage.POLL_NOT_IN_VOTING_PERIOD;
-import static com.tamnara.backend.poll.constant.PollResponseMessage.POLL_OR_OPTION_NOT_FOUND;
+import static com.tamnara.backend.poll.constant.PollServiceConstant.IDEMPOTENCY_KEY_MAX_LENGTH;
 import static com.tamnara.backend.poll.util.PollBuilder.buildPollFromRequest;
 import static com.tamnara.backend.poll.util.PollBuilder.buildPollOptionsFromRequest;
-import static com.tamnara.backend.poll.util.VoteStatisticsBuilder.buildNew;
-import static com.tamnara.backend.poll.util.VoteStatisticsBuilder.buildUpdated;
 
 @Slf4j
 @Service
@@ -53,7 +50,9 @@ public class PollServiceImpl implements PollService {
     private final PollOptionRepository pollOptionRepository;
     private final VoteRepository voteRepository;
     private final VoteStatisticsRepository voteStatisticsRepository;
-    private final UserRepository userRepository;
+    private final BallotRepository ballotRepository;
+
+    private final PublishedPollCache publishedPollCache;
 
     @Override
     @Transactional
@@ -88,20 +87,23 @@ public class PollServiceImpl implements PollService {
     public PollInfoResponse getLatestPublishedPoll(Long userId) {
         log.info("[POLL] getLatestPublishedPoll 시작 - userId:{}", userId);
 
-        Poll poll = pollRepository.findLatestPollByPublishedPoll()
+        PollInfoDTO poll = publishedPollCache.get()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, POLL_NOT_FOUND));
 
+        List<Long> votedOptionIds = voteRepository.findOptionIdsByUserIdAndPollId(userId, poll.getId());
+        log.info("[POLL] getLatestPublishedPoll 처리 중 - 회원 투표 선택지 조회 성공, userId:{}", userId);
+
         log.info("[POLL] getLatestPublishedPoll 완료 - userId:{}", userId);
         return new PollInfoResponse(
-                voteRepository.hasVotedLatestPublishedPoll(userId),
-                voteRepository.findVotedOptionIdsOfLatestPublishedPoll(userId),
-                new PollInfoDTO(poll)
+                !votedOptionIds.isEmpty(),
+                votedOptionIds,
+                poll
         );
     }
 
     @Override
     @Transactional
-    public void updatePollStates() {
+    public int updatePollStates() {
         log.info("[POLL] updatePollStates 시작");
 
         Optional<Poll> scheduled = pollRepository.findLatesPollByScheduledPoll();
@@ -119,9 +121,13 @@ public class PollServiceImpl implements PollService {
 
             pollRepository.save(scheduled.get());
 
+            // 아직 득표가 없는 선택지도 결과에 0표로 보이도록 통계 행을 미리 만든다.
+            voteStatisticsRepository.reconcileCounts(scheduled.get().getId());
+
+            eventPublisher.publishEvent(new PollChangedEvent(scheduled.get().getId()));
+
             // 알림 이벤트 발행 추가
-            publishAlarm(
-                    userRepository.findAll().stream().map(User::getId).collect(Collectors.toList()),
+            publishBroadcastAlarm(
                     AlarmMessage.POLL_START_TITLE,
                     String.format(AlarmMessage.POLL_START_CONTENT, scheduled.get().getTitle()),
                     AlarmType.POLLS,
@@ -129,33 +135,49 @@ public class PollServiceImpl implements PollService {
             );
         } else {
             log.warn("[POLL] updatePollStates 경고 - 투표 공개 대상 없음(공개 예정인 투표가 존재하지 않음)");
-            return;
+            return 0;
         }
         log.info("[POLL] updatePollStates 처리 중 - 신규 투표 공개 및 투표 알림 이벤트 발행 성공");
 
+        int changedCnt = 1;
         Optional<Poll> published = pollRepository.findLatestPollByPublishedPoll();
         if (published.isPresent()) {
             published.get().changeState(PollState.DELETED);
             pollRepository.save(published.get());
+            changedCnt++;
         } else {
             log.warn("[POLL] updatePollStates 경고 - 투표 삭제 대상 없음(공개 중인 투표가 존재하지 않음)");
         }
         log.info("[POLL] updatePollStates 처리 중 - 기존 투표 삭제 성공");
 
         log.info("[POLL] updatePollStates 완료");
+        return changedCnt;
     }
 
     @Override
     @Transactional
-    public PollIdResponse vote(User user, VoteRequest voteRequest) {
+    public PollIdResponse vote(User user, VoteRequest voteRequest, String idempotencyKey) {
         log.info("[POLL] vote 시작 - userId:{}", user.getId());
 
-        Poll poll = pollRepository.findLatestPollByPublishedPoll()
+        if (idempotencyKey != null && idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, POLL_INVALID_IDEMPOTENCY_KEY);
+        }
+
+        PollInfoDTO poll = publishedPollCache.get()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, POLL_NOT_FOUND));
 
-        if (poll.getState() != PollState.PUBLISHED) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, POLL_NOT_PUBLISHED);
+        // 참여 기록을 먼저 삽입해 같은 회원의 동시 요청 중 하나만 통과시키고, 이후 검증에 실패하면 트랜잭션과 함께 되돌린다.
+        if (ballotRepository.insertIfAbsent(poll.getId(), user.getId(), idempotencyKey) == 0) {
+            Ballot ballot = ballotRepository.findByPollIdAndUserId(poll.getId(), user.getId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, POLL_NOT_FOUND));
+
+            if (idempotencyKey != null && idempotencyKey.equals(ballot.getIdempotencyKey())) {
+                log.info("[POLL] vote 완료 - 같은 요청의 재시도, userId:{}", user.getId());
+                return new PollIdResponse(poll.getId());
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT, POLL_ALREADY_VOTED);
         }
+        log.info("[POLL] vote 처리 중 - 투표 참여 기록 저장 성공, userId:{}", user.getId());
 
         LocalDateTime now = LocalDateTime.now();
         if (poll.getStartAt().isAfter(now) || poll.getEndAt().isBefore(now)) {
@@ -163,45 +185,64 @@ public class PollServiceImpl implements PollService {
         }
         log.info("[POLL] vote 처리 중 - 투표 유효성 확인, userId:{}", user.getId());
 
-        if (voteRepository.hasVotedLatestPublishedPoll(user.getId())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, POLL_ALREADY_VOTED);
-        }
-        log.info("[POLL] vote 처리 중 - 투표 가능 여부 확인, userId:{}", user.getId());
-
-        List<PollOption> options = pollOptionRepository.findAllById(voteRequest.getOptionIds());
-        if (options.size() != voteRequest.getOptionIds().size()) {
+        List<Long> optionIds = voteRequest.getOptionIds().stream().distinct().sorted().toList();
+        Set<Long> pollOptionIds = poll.getOptions().stream()
+                .map(PollOptionInfoResponse::getId)
+                .collect(Collectors.toSet());
+        if (optionIds.size() != voteRequest.getOptionIds().size() || !pollOptionIds.containsAll(optionIds)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, POLL_OR_OPTION_NOT_FOUND);
         }
 
-        boolean allMatch = options.stream().allMatch(option -> option.getPoll().getId().equals(poll.getId()));
-        if (!allMatch) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, POLL_OR_OPTION_NOT_FOUND);
-        }
-
-        if (voteRequest.getOptionIds().size() < poll.getMinChoices() || voteRequest.getOptionIds().size() > poll.getMaxChoices()) {
+        if (optionIds.size() < poll.getMinChoices() || optionIds.size() > poll.getMaxChoices()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, POLL_INVALID_SELECTION_COUNT);
         }
         log.info("[POLL] vote 처리 중 - 투표 선택지 유효성 확인, userId:{}", user.getId());
 
-        List<Vote> votes = options.stream()
-                .map(option -> Vote.builder()
-                        .poll(poll)
+        Poll pollRef = pollRepository.getReferenceById(poll.getId());
+        List<Vote> votes = optionIds.stream()
+                .map(optionId -> Vote.builder()
+                        .poll(pollRef)
                         .user(user)
-                        .option(option)
-                        .votedAt(LocalDateTime.now())
-                        .createdAt(LocalDateTime.now())
+                        .option(pollOptionRepository.getReferenceById(optionId))
+                        .votedAt(now)
+                        .createdAt(now)
                         .build())
                 .toList();
         voteRepository.saveAll(votes);
         log.info("[POLL] vote 처리 중 - 투표 기록 저장 성공, userId:{}", user.getId());
 
-        generateAllStatistics();
+        // 선택한 선택지의 통계만 1씩 올리고, 동시에 투표한 요청끼리 교착 상태가 생기지 않도록 선택지 id 순서로 갱신한다.
+        optionIds.forEach(optionId -> voteStatisticsRepository.incrementCount(poll.getId(), optionId));
         log.info("[POLL] vote 처리 중 - 투표 결과 통계 업데이트 성공, userId:{}", user.getId());
 
-        log.info("[POLL] vote 완료- 투표 선택지 유효성 확인, userId:{}", user.getId());
+        log.info("[POLL] vote 완료 - userId:{}", user.getId());
         return new PollIdResponse(poll.getId());
     }
 
+    @Override
+    public int reconcileVoteStatistics() {
+        log.info("[POLL] reconcileVoteStatistics 시작");
+
+        List<Poll> polls = pollRepository.findByState(PollState.PUBLISHED);
+        for (Poll poll : polls) {
+            int changedCnt = voteStatisticsRepository.reconcileCounts(poll.getId());
+            log.info("[POLL] reconcileVoteStatistics 처리 중 - 투표 결과 통계 재계산 성공, pollId:{} changed:{}", poll.getId(), changedCnt);
+        }
+
+        log.info("[POLL] reconcileVoteStatistics 완료 - pollCount:{}", polls.size());
+        return polls.size();
+    }
+
+    @Override
+    public int backfillBallots() {
+        log.info("[POLL] backfillBallots 시작");
+
+        int insertedCnt = ballotRepository.backfillFromVotes();
+
+        log.info("[POLL] backfillBallots 완료 - insertedCnt:{}", insertedCnt);
+        return insertedCnt;
+    }
+
     @Override
     @Transactional
     public void schedulePoll(Long pollId) {
@@ -230,21 +271,13 @@ public class PollServiceImpl implements PollService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, POLL_NOT_FOUND));
         log.info("[POLL] pollStatisticsReponse 처리 중 - 투표 유효성 확인, pollId:{}", pollId);
 
-        List<VoteStatistics> voteStatisticsList = voteStatisticsRepository.findByPollId(pollId);
+        // 선택지 제목까지 한 번에 조회해, 실시간 결과 집계에서도 선택지마다 추가 조회가 생기지 않도록 한다.
+        List<OptionResult> results = voteStatisticsRepository.findOptionResultsByPollId(pollId);
         log.info("[POLL] pollStatisticsReponse 처리 중 - 투표 결과 통계 조회 성공, pollId:{}", pollId);
 
-        List<OptionResult> results = new ArrayList<>();
-        Long totalVotes = 0L;
-        for (VoteStatistics vs : voteStatisticsList) {
-            OptionResult optionResult = new OptionResult(
-                    vs.getOption().getId(),
-                    vs.getOption().getTitle(),
-                    vs.getCount()
-            );
-            results.add(optionResult);
-            totalVotes += vs.getCount();
-        }
-        results.sort(Comparator.comparing(OptionResult::getCount).reversed());
+        long totalVotes = results.stream()
+                .mapToLong(OptionResult::getCount)
+                .sum();
         log.info("[POLL] pollStatisticsReponse 처리 중 - 투표 결과 통계 응답 생성 성공, pollId:{}", pollId);
 
         log.info("[POLL] pollStatisticsReponse 완료 - pollId:{}", pollId);
@@ -260,33 +293,7 @@ public class PollServiceImpl implements PollService {
      * 헬퍼 메서드
      */
 
-    private void generateAllStatistics() {
-        log.info("[POLL] generateAllStatistics 시작");
-
-        List<Poll> polls = pollRepository.findByState(PollState.PUBLISHED);
-        for (Poll poll : polls) {
-            for (PollOption option : poll.getOptions()) {
-                long count = voteRepository.countByPollIdAndOptionId(poll.getId(), option.getId());
-
-                VoteStatistics updated = voteStatisticsRepository.findByPollIdAndOptionId(poll.getId(), option.getId())
-                        .map(existing -> buildUpdated(existing, count))
-                        .orElseGet(() -> buildNew(poll, option, count));
-
-                voteStatisticsRepository.save(updated);
-            }
-        }
-
-        log.info("[POLL] generateAllStatistics 완료");
-    }
-
-    private void publishAlarm(List<Long> userIdList, String title, String content, AlarmType targetType, Long targetId) {
-        AlarmEvent event = new AlarmEvent(
-                userIdList,
-                title,
-                content,
-                targetType,
-                targetId
-        );
-        eventPublisher.publishEvent(event);
+    private void publishBroadcastAlarm(String title, String content, AlarmType targetType, Long targetId) {
+        eventPublisher.publishEvent(AlarmEvent.broadcast(title, content, targetType, targetId));
     }
 }
@@ -0,0 +1,123 @@
+package com.tamnara.backend.alarm.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmUnreadCounterTest {
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks private AlarmUnreadCounter alarmUnreadCounter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void 카운터_조회_검증() {
+        // given
+        when(valueOperations.get("ALARM_UNREAD_COUNT:1")).thenReturn("3");
+
+        // when
+        Optional<Long> count = alarmUnreadCounter.get(1L);
+
+        // then
+        assertEquals(Optional.of(3L), count);
+    }
+
+    @Test
+    void Redis_장애_시_카운터_없음으로_처리_검증() {
+        // given
+        when(valueOperations.get("ALARM_UNREAD_COUNT:1")).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        Optional<Long> count = alarmUnreadCounter.get(1L);
+
+        // then
+        assertTrue(count.isEmpty());
+    }
+
+    @Test
+    void DB에서_센_값은_카운터가_없을_때만_TTL과_함께_저장_검증() {
+        // when
+        alarmUnreadCounter.load(1L, 5L);
+
+        // then
+        verify(valueOperations, times(1)).setIfAbsent("ALARM_UNREAD_COUNT:1", "5", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void 알림_배포_시_수신자_카운터_증가_검증() {
+        // when
+        alarmUnreadCounter.increment(List.of(1L, 2L));
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("ALARM_UNREAD_COUNT:1", "ALARM_UNREAD_COUNT:2")));
+    }
+
+    @Test
+    void 수신자가_없으면_카운터를_갱신하지_않음_검증() {
+        // when
+        alarmUnreadCounter.increment(List.of());
+
+        // then
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    void 카운터_갱신_실패_시_예외를_던지지_않음_검증() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList()))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when & then
+        assertDoesNotThrow(() -> alarmUnreadCounter.decrement(1L));
+    }
+
+    @Test
+    void 전체_카운터_삭제_시_회원별_키를_모두_삭제_검증() {
+        // given
+        @SuppressWarnings("unchecked")
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("ALARM_UNREAD_COUNT:1", "ALARM_UNREAD_COUNT:2");
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        // when
+        alarmUnreadCounter.evictAll();
+
+        // then
+        verify(stringRedisTemplate, times(1)).delete(List.of("ALARM_UNREAD_COUNT:1", "ALARM_UNREAD_COUNT:2"));
+        verify(cursor, times(1)).close();
+    }
+}
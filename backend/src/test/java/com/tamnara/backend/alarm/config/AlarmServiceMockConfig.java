@@ -1,5 +1,6 @@
 package com.tamnara.backend.alarm.config;
 
+import com.tamnara.backend.alarm.push.AlarmEmitterRegistry;
 import com.tamnara.backend.alarm.service.AlarmService;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -11,4 +12,9 @@ public class AlarmServiceMockConfig {
     public AlarmService alarmService() {
         return Mockito.mock(AlarmService.class);
     }
+
+    @Bean
+    public AlarmEmitterRegistry alarmEmitterRegistry() {
+        return Mockito.mock(AlarmEmitterRegistry.class);
+    }
 }
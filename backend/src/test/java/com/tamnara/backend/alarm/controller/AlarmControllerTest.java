@@ -7,6 +7,7 @@ import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
 import com.tamnara.backend.alarm.domain.AlarmType;
 import com.tamnara.backend.alarm.dto.AlarmCardDTO;
 import com.tamnara.backend.alarm.dto.response.AlarmListResponse;
+import com.tamnara.backend.alarm.push.AlarmEmitterRegistry;
 import com.tamnara.backend.alarm.service.AlarmService;
 import com.tamnara.backend.global.constant.ResponseMessage;
 import com.tamnara.backend.user.domain.Role;
@@ -22,6 +23,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,6 +32,7 @@ import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = AlarmController.class)
@@ -42,6 +45,7 @@ public class AlarmControllerTest {
     @Autowired private ObjectMapper objectMapper;
 
     @Autowired private AlarmService alarmService;
+    @Autowired private AlarmEmitterRegistry alarmEmitterRegistry;
 
     private static final Long USER_ID = 1L;
 
@@ -53,7 +57,8 @@ public class AlarmControllerTest {
                 isChecked,
                 isChecked ? LocalDateTime.now() : null,
                 targetType,
-                targetId
+                targetId,
+                false
         );
     }
 
@@ -143,4 +148,78 @@ public class AlarmControllerTest {
                 .andExpect(jsonPath("$.message").value(AlarmResponseMessage.ALARM_CHECK_SUCCESS))
                 .andExpect(jsonPath("$.data").value(alarmId));
     }
+
+    @Test
+    void 로그인_상태에서_전체_알림_확인_검증() throws Exception {
+        // given
+        Long alarmId = 1L;
+        given(alarmService.checkBroadcastAlarm(alarmId, USER_ID)).willReturn(alarmId);
+
+        // when & then
+        mockMvc.perform(patch("/users/me/alarms/{alarmId}", alarmId).param("broadcast", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value(AlarmResponseMessage.ALARM_CHECK_SUCCESS))
+                .andExpect(jsonPath("$.data").value(alarmId));
+    }
+
+    @Test
+    void 로그아웃_상태에서_실시간_알림_구독_불가_검증() throws Exception {
+        // given
+        SecurityContextHolder.clearContext();
+
+        // when & then
+        mockMvc.perform(get("/users/me/alarms/subscribe"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 로그인_상태에서_실시간_알림_구독_검증() throws Exception {
+        // given
+        given(alarmService.getUnreadAlarmCount(USER_ID)).willReturn(3L);
+        given(alarmEmitterRegistry.connect(USER_ID, 3L)).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/users/me/alarms/subscribe"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void 로그인_상태에서_확인하지_않은_알림_수_조회_검증() throws Exception {
+        // given
+        given(alarmService.getUnreadAlarmCount(USER_ID)).willReturn(7L);
+
+        // when & then
+        mockMvc.perform(get("/users/me/alarms/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value(AlarmResponseMessage.ALARM_UNREAD_COUNT_FETCH_SUCCESS))
+                .andExpect(jsonPath("$.data").value(7));
+    }
+
+    @Test
+    void 로그아웃_상태에서_모든_알림_확인_불가_검증() throws Exception {
+        // given
+        SecurityContextHolder.clearContext();
+
+        // when & then
+        mockMvc.perform(patch("/users/me/alarms/read-all"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(ResponseMessage.USER_NOT_CERTIFICATION));
+    }
+
+    @Test
+    void 로그인_상태에서_모든_알림_확인_검증() throws Exception {
+        // given
+        given(alarmService.checkAllAlarms(USER_ID)).willReturn(5);
+
+        // when & then
+        mockMvc.perform(patch("/users/me/alarms/read-all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value(AlarmResponseMessage.ALARM_CHECK_ALL_SUCCESS))
+                .andExpect(jsonPath("$.data").value(5));
+    }
 }
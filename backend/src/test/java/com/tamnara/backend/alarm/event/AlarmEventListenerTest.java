@@ -1,23 +1,25 @@
 package com.tamnara.backend.alarm.event;
 
-import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmKind;
+import com.tamnara.backend.alarm.domain.AlarmOutbox;
+import com.tamnara.backend.alarm.domain.AlarmOutboxStatus;
 import com.tamnara.backend.alarm.domain.AlarmType;
-import com.tamnara.backend.alarm.domain.UserAlarm;
-import com.tamnara.backend.alarm.repository.AlarmRepository;
-import com.tamnara.backend.alarm.repository.UserAlarmRepository;
-import com.tamnara.backend.user.domain.User;
-import com.tamnara.backend.user.repository.UserRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.tamnara.backend.alarm.repository.AlarmOutboxBulkRepository;
+import com.tamnara.backend.alarm.repository.AlarmOutboxRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -27,134 +29,94 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class AlarmEventListenerTest {
 
-    @Mock private AlarmRepository alarmRepository;
-    @Mock private UserAlarmRepository userAlarmRepository;
-    @Mock private UserRepository userRepository;
+    @Mock private AlarmOutboxRepository alarmOutboxRepository;
+    @Mock private AlarmOutboxBulkRepository alarmOutboxBulkRepository;
 
     @InjectMocks private AlarmEventListener alarmEventListener;
 
-    User user1;
-    User user2;
-
-    AlarmEvent eventWithUsers;
-    AlarmEvent eventWithoutUsers;
-
-    Alarm alarm;
-
-    @BeforeEach
-    void setUp() {
-        user1 = User.builder().id(1L).build();
-        user2 = User.builder().id(2L).build();
-
-        eventWithUsers = new AlarmEvent(
-                List.of(user1.getId(), user2.getId()),
-                "알림 제목",
-                "알림 내용",
-                AlarmType.NEWS,
-                100L
-        );
-
-        eventWithoutUsers = new AlarmEvent(
-                List.of(),
+    @Test
+    void 알림_이벤트_수신_시_아웃박스에_기록_검증() {
+        // given
+        AlarmEvent event = new AlarmEvent(
+                List.of(1L, 2L),
                 "알림 제목",
                 "알림 내용",
                 AlarmType.NEWS,
                 100L
         );
 
-        alarm = new Alarm();
-        alarm.setId(10L);
-    }
-
-    @Test
-    void 알림_이벤트_수신_시_알림과_회원알림_저장_검증() {
-        // given
-        Alarm savedAlarm = new Alarm();
-        savedAlarm.setId(10L);
-
-        when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
-        when(userRepository.findById(user2.getId())).thenReturn(Optional.of(user2));
-        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm);
-
         // when
-        alarmEventListener.handleAlarmEvent(eventWithUsers);
+        alarmEventListener.handleAlarmEvent(event);
 
         // then
-        verify(alarmRepository, times(1)).save(any(Alarm.class));
-        verify(userAlarmRepository, times(2)).save(any(UserAlarm.class));
-        verify(userRepository, times(1)).findById(user1.getId());
-        verify(userRepository, times(1)).findById(user2.getId());
+        ArgumentCaptor<AlarmOutbox> captor = ArgumentCaptor.forClass(AlarmOutbox.class);
+        verify(alarmOutboxRepository, times(1)).save(captor.capture());
+
+        AlarmOutbox outbox = captor.getValue();
+        assertEquals("알림 제목", outbox.getTitle());
+        assertEquals("알림 내용", outbox.getContent());
+        assertEquals(AlarmType.NEWS, outbox.getTargetType());
+        assertEquals(100L, outbox.getTargetId());
+        assertEquals(List.of(1L, 2L), outbox.getReceiverIds());
+        assertFalse(outbox.getIsBroadcast());
+        assertEquals(AlarmKind.GENERAL, outbox.getKind());
+        assertEquals(AlarmOutboxStatus.PENDING, outbox.getStatus());
+        assertNotNull(outbox.getNextAttemptAt());
     }
 
     @Test
-    void 일부_수신자가_없을_때_알림과_회원알림_저장_검증() {
+    void 전체_알림_이벤트_수신_시_전체_알림으로_기록_검증() {
         // given
-        Alarm savedAlarm = new Alarm();
-        savedAlarm.setId(10L);
-
-        when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
-        when(userRepository.findById(user2.getId())).thenReturn(Optional.empty());
-        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm);
+        AlarmEvent event = AlarmEvent.broadcast("알림 제목", "알림 내용", AlarmType.POLLS, null);
 
         // when
-        alarmEventListener.handleAlarmEvent(eventWithUsers);
+        alarmEventListener.handleAlarmEvent(event);
 
         // then
-        verify(alarmRepository, times(1)).save(any(Alarm.class));
-        verify(userAlarmRepository, times(1)).save(any(UserAlarm.class));
-        verify(userRepository, times(1)).findById(user1.getId());
-        verify(userRepository, times(1)).findById(user2.getId());
+        ArgumentCaptor<AlarmOutbox> captor = ArgumentCaptor.forClass(AlarmOutbox.class);
+        verify(alarmOutboxRepository, times(1)).save(captor.capture());
+        assertTrue(captor.getValue().getIsBroadcast());
+        assertTrue(captor.getValue().getReceiverIds().isEmpty());
     }
 
     @Test
-    void 모든_수신자가_없을_때_알림과_회원알림_저장_검증() {
+    void 북마크_알림_이벤트_수신_시_북마크_알림으로_기록_검증() {
         // given
-        Alarm savedAlarm = new Alarm();
-        savedAlarm.setId(10L);
-
-        when(userRepository.findById(user1.getId())).thenReturn(Optional.empty());
-        when(userRepository.findById(user2.getId())).thenReturn(Optional.empty());
-        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm);
+        AlarmEvent event = AlarmEvent.bookmark(List.of(1L), "알림 제목", "알림 내용", AlarmType.NEWS, 100L);
 
         // when
-        alarmEventListener.handleAlarmEvent(eventWithUsers);
+        alarmEventListener.handleAlarmEvent(event);
 
         // then
-        verify(alarmRepository, times(1)).save(any(Alarm.class));
-        verify(userAlarmRepository, never()).save(any(UserAlarm.class));
-        verify(userRepository, times(1)).findById(user1.getId());
-        verify(userRepository, times(1)).findById(user2.getId());
+        ArgumentCaptor<AlarmOutbox> captor = ArgumentCaptor.forClass(AlarmOutbox.class);
+        verify(alarmOutboxRepository, times(1)).save(captor.capture());
+        assertEquals(AlarmKind.BOOKMARK, captor.getValue().getKind());
+        assertFalse(captor.getValue().getIsBroadcast());
     }
 
     @Test
-    void 빈_수신자_리스트가_반환되었을_때_알림과_회원알림_저장_검증() {
+    void 알림_배치_이벤트_수신_시_아웃박스에_한_번에_기록_검증() {
         // given
-        Alarm savedAlarm = new Alarm();
-        savedAlarm.setId(10L);
-
-        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm);
+        List<AlarmEvent> events = List.of(
+                AlarmEvent.bookmark(List.of(1L, 2L), "알림 제목", "알림 내용1", AlarmType.NEWS, 100L),
+                AlarmEvent.bookmark(List.of(1L), "알림 제목", "알림 내용2", AlarmType.NEWS, 101L)
+        );
 
         // when
-        alarmEventListener.handleAlarmEvent(eventWithUsers);
+        alarmEventListener.handleAlarmBatchEvent(new AlarmBatchEvent(events));
 
         // then
-        verify(alarmRepository, times(1)).save(any(Alarm.class));
-        verify(userAlarmRepository, never()).save(any(UserAlarm.class));
+        verify(alarmOutboxBulkRepository, times(1)).insertAll(events);
+        verify(alarmOutboxRepository, never()).save(any(AlarmOutbox.class));
     }
 
     @Test
-    void 알림_저장_실패_시_예외_처리_검증() {
+    void 아웃박스_기록_실패_시_예외_전파_검증() {
         // given
-        when(alarmRepository.save(any(Alarm.class)))
-                .thenThrow(new RuntimeException("알림 저장 실패"));
+        AlarmEvent event = new AlarmEvent(List.of(1L), "알림 제목", "알림 내용", AlarmType.NEWS, 100L);
+        when(alarmOutboxRepository.save(any(AlarmOutbox.class))).thenThrow(new RuntimeException("저장 실패"));
 
         // when & then
-        assertThrows(RuntimeException.class, () ->
-                alarmEventListener.handleAlarmEvent(eventWithUsers)
-        );
-
-        verify(alarmRepository, times(1)).save(any(Alarm.class));
-        verify(userAlarmRepository, never()).save(any());
-        verify(userRepository, never()).findById(any());
+        assertThrows(RuntimeException.class, () -> alarmEventListener.handleAlarmEvent(event));
     }
 }
@@ -1,9 +1,13 @@
 package com.tamnara.backend.alarm.integration;
 
 import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmOutbox;
+import com.tamnara.backend.alarm.domain.AlarmOutboxStatus;
 import com.tamnara.backend.alarm.domain.AlarmType;
 import com.tamnara.backend.alarm.domain.UserAlarm;
 import com.tamnara.backend.alarm.event.AlarmEvent;
+import com.tamnara.backend.alarm.outbox.AlarmOutboxRelay;
+import com.tamnara.backend.alarm.repository.AlarmOutboxRepository;
 import com.tamnara.backend.alarm.repository.AlarmRepository;
 import com.tamnara.backend.alarm.repository.UserAlarmRepository;
 import com.tamnara.backend.config.SyncAsyncConfig;
@@ -37,6 +41,8 @@ public class AlarmIntegrationTest {
 
     @Autowired private ApplicationEventPublisher eventPublisher;
     @Autowired private AlarmRepository alarmRepository;
+    @Autowired private AlarmOutboxRepository alarmOutboxRepository;
+    @Autowired private AlarmOutboxRelay alarmOutboxRelay;
     @Autowired private UserAlarmRepository userAlarmRepository;
     @Autowired private UserRepository userRepository;
 
@@ -45,6 +51,7 @@ public class AlarmIntegrationTest {
         userAlarmRepository.deleteAll();
         userRepository.deleteAll();
         alarmRepository.deleteAll();
+        alarmOutboxRepository.deleteAll();
         em.flush();
         em.clear();
     }
@@ -81,6 +88,12 @@ public class AlarmIntegrationTest {
         AlarmEvent event = new AlarmEvent(receiverIds, title, content, targetType, targetId);
         eventPublisher.publishEvent(event);
 
+        // 테스트 트랜잭션은 커밋되지 않으므로, 기록된 아웃박스 이벤트를 직접 배포한다.
+        List<AlarmOutbox> outboxes = alarmOutboxRepository.findAll();
+        assertThat(outboxes).hasSize(1);
+        assertThat(outboxes.get(0).getStatus()).isEqualTo(AlarmOutboxStatus.PENDING);
+        alarmOutboxRelay.deliver(outboxes.get(0));
+
         // then
         List<Alarm> alarms = alarmRepository.findAll();
         List<UserAlarm> userAlarms = userAlarmRepository.findAll();
@@ -90,5 +103,6 @@ public class AlarmIntegrationTest {
         assertThat(userAlarms).hasSize(2);
         assertThat(userAlarms.get(0).getUser().getId()).isEqualTo(user1.getId());
         assertThat(userAlarms.get(1).getUser().getId()).isEqualTo(user2.getId());
+        assertThat(alarmOutboxRepository.findAll().get(0).getStatus()).isEqualTo(AlarmOutboxStatus.DONE);
     }
 }
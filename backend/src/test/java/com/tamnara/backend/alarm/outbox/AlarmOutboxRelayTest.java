@@ -0,0 +1,240 @@
+package com.tamnara.backend.alarm.outbox;
+
+import com.tamnara.backend.alarm.cache.AlarmUnreadCounter;
+import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
+import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmOutbox;
+import com.tamnara.backend.alarm.domain.AlarmKind;
+import com.tamnara.backend.alarm.domain.AlarmOutboxStatus;
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.dto.AlarmPushMessage;
+import com.tamnara.backend.alarm.push.AlarmPushBroker;
+import com.tamnara.backend.alarm.repository.AlarmOutboxRepository;
+import com.tamnara.backend.alarm.repository.AlarmRepository;
+import com.tamnara.backend.alarm.repository.UserAlarmBulkRepository;
+import com.tamnara.backend.alarm.service.AlarmFanoutEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmOutboxRelayTest {
+
+    @Mock private AlarmOutboxRepository alarmOutboxRepository;
+    @Mock private AlarmRepository alarmRepository;
+    @Mock private AlarmFanoutEngine alarmFanoutEngine;
+    @Mock private UserAlarmBulkRepository userAlarmBulkRepository;
+    @Mock private AlarmPushBroker alarmPushBroker;
+    @Mock private AlarmUnreadCounter alarmUnreadCounter;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private MeterRegistry meterRegistry;
+    private AlarmOutboxRelay alarmOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(alarmOutboxRepository.markDone(any(), anyString(), any(LocalDateTime.class))).thenReturn(1);
+        meterRegistry = new SimpleMeterRegistry();
+        alarmOutboxRelay = new AlarmOutboxRelay(
+                alarmOutboxRepository,
+                alarmRepository,
+                alarmFanoutEngine,
+                userAlarmBulkRepository,
+                alarmPushBroker,
+                alarmUnreadCounter,
+                transactionTemplate,
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        alarmOutboxRelay.shutdown();
+    }
+
+    private AlarmOutbox createOutbox(Long id, boolean isBroadcast, int attempts) {
+        AlarmOutbox outbox = new AlarmOutbox();
+        outbox.setId(id);
+        outbox.setTitle("제목");
+        outbox.setContent("내용");
+        outbox.setTargetType(AlarmType.NEWS);
+        outbox.setTargetId(1L);
+        outbox.setIsBroadcast(isBroadcast);
+        outbox.setReceiverIds(isBroadcast ? List.of() : List.of(1L, 2L));
+        outbox.setStatus(AlarmOutboxStatus.PROCESSING);
+        outbox.setAttempts(attempts);
+        outbox.setCreatedAt(LocalDateTime.now().minusSeconds(1));
+        return outbox;
+    }
+
+    private Alarm savedAlarm(Long id) {
+        Alarm alarm = new Alarm();
+        alarm.setId(id);
+        return alarm;
+    }
+
+    @Test
+    void 선점한_이벤트를_배포하고_완료_처리_검증() {
+        // given
+        AlarmOutbox outbox = createOutbox(1L, false, 0);
+        when(alarmOutboxRepository.claimBatch(anyString(), any(LocalDateTime.class), eq(AlarmServiceConstant.ALARM_OUTBOX_BATCH_SIZE)))
+                .thenReturn(1);
+        when(alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(anyString(), eq(AlarmOutboxStatus.PROCESSING)))
+                .thenReturn(List.of(outbox));
+        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm(10L));
+        when(userAlarmBulkRepository.findUserAlarmIdsByAlarmId(10L)).thenReturn(Map.of(1L, 100L, 2L, 101L));
+        when(alarmOutboxRepository.countByStatus(AlarmOutboxStatus.PENDING)).thenReturn(3L);
+
+        // when
+        alarmOutboxRelay.relay();
+
+        // then
+        verify(alarmFanoutEngine, times(1)).fanOut(10L, AlarmKind.GENERAL, List.of(1L, 2L), outbox.getCreatedAt());
+        verify(alarmOutboxRepository, times(1)).markDone(eq(1L), anyString(), any(LocalDateTime.class));
+        verify(alarmOutboxRepository, never()).save(any(AlarmOutbox.class));
+        assertEquals(AlarmOutboxStatus.DONE, outbox.getStatus());
+        assertNotNull(outbox.getProcessedAt());
+        assertEquals(1, meterRegistry.get("alarm.outbox.latency").timer().count());
+        assertEquals(3.0, meterRegistry.get("alarm.outbox.depth").gauge().value());
+
+        ArgumentCaptor<AlarmPushMessage> captor = ArgumentCaptor.forClass(AlarmPushMessage.class);
+        verify(alarmPushBroker, times(1)).publish(captor.capture());
+        assertEquals(10L, captor.getValue().getAlarmId());
+        assertEquals(Map.of(1L, 100L, 2L, 101L), captor.getValue().getUserAlarmIds());
+        verify(alarmUnreadCounter, times(1)).increment(Map.of(1L, 100L, 2L, 101L).keySet());
+    }
+
+    @Test
+    void 전체_알림_이벤트는_회원별_배포_없이_완료_처리_검증() {
+        // given
+        AlarmOutbox outbox = createOutbox(1L, true, 0);
+        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm(10L));
+
+        // when
+        alarmOutboxRelay.deliver(outbox);
+
+        // then
+        verify(alarmRepository).save(argThat(Alarm::getIsBroadcast));
+        verify(alarmFanoutEngine, never()).fanOut(any(), any(), anyList(), any());
+        verify(userAlarmBulkRepository, never()).findUserAlarmIdsByAlarmId(any());
+        assertEquals(AlarmOutboxStatus.DONE, outbox.getStatus());
+    }
+
+    @Test
+    void 선점이_만료되어_완료_처리되지_않으면_배포를_롤백_검증() {
+        // given
+        AlarmOutbox outbox = createOutbox(1L, false, 0);
+        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm(10L));
+        when(userAlarmBulkRepository.findUserAlarmIdsByAlarmId(10L)).thenReturn(Map.of(1L, 100L));
+        when(alarmOutboxRepository.markDone(eq(1L), anyString(), any(LocalDateTime.class))).thenReturn(0);
+
+        // when & then
+        assertThrows(AlarmOutboxRelay.ClaimLostException.class, () -> alarmOutboxRelay.deliver(outbox));
+        assertEquals(AlarmOutboxStatus.PROCESSING, outbox.getStatus());
+        assertNull(outbox.getProcessedAt());
+    }
+
+    @Test
+    void 선점이_만료된_이벤트는_재시도를_예약하지_않음_검증() {
+        // given
+        AlarmOutbox outbox = createOutbox(1L, true, 0);
+        when(alarmOutboxRepository.claimBatch(anyString(), any(LocalDateTime.class), anyInt())).thenReturn(1);
+        when(alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(anyString(), eq(AlarmOutboxStatus.PROCESSING)))
+                .thenReturn(List.of(outbox));
+        when(alarmRepository.save(any(Alarm.class))).thenReturn(savedAlarm(10L));
+        when(alarmOutboxRepository.markDone(eq(1L), anyString(), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        alarmOutboxRelay.relay();
+
+        // then
+        assertEquals(0, outbox.getAttempts());
+        verify(alarmOutboxRepository, never()).save(any(AlarmOutbox.class));
+        verify(alarmPushBroker, never()).publish(any());
+    }
+
+    @Test
+    void 배포_실패_시_백오프_후_재시도_예약_검증() {
+        // given
+        AlarmOutbox outbox = createOutbox(1L, false, 0);
+        when(alarmOutboxRepository.claimBatch(anyString(), any(LocalDateTime.class), anyInt())).thenReturn(1);
+        when(alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(anyString(), eq(AlarmOutboxStatus.PROCESSING)))
+                .thenReturn(List.of(outbox));
+        when(alarmRepository.save(any(Alarm.class))).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        alarmOutboxRelay.relay();
+
+        // then
+        assertEquals(AlarmOutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertEquals("DB 오류", outbox.getLastError());
+        assertTrue(outbox.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        verify(alarmOutboxRepository, times(1)).save(outbox);
+        verify(alarmPushBroker, never()).publish(any());
+        assertEquals(1.0, meterRegistry.get("alarm.outbox.retries").counter().count());
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘기면_실패_처리_검증() {
+        // given
+        AlarmOutbox outbox = createOutbox(1L, false, AlarmServiceConstant.ALARM_OUTBOX_MAX_ATTEMPTS - 1);
+        when(alarmOutboxRepository.claimBatch(anyString(), any(LocalDateTime.class), anyInt())).thenReturn(1);
+        when(alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(anyString(), eq(AlarmOutboxStatus.PROCESSING)))
+                .thenReturn(List.of(outbox));
+        when(alarmRepository.save(any(Alarm.class))).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        alarmOutboxRelay.relay();
+
+        // then
+        assertEquals(AlarmOutboxStatus.FAILED, outbox.getStatus());
+        assertEquals(1.0, meterRegistry.get("alarm.outbox.failed").counter().count());
+    }
+
+    @Test
+    void 처리할_이벤트가_없으면_배포하지_않음_검증() {
+        // given
+        when(alarmOutboxRepository.claimBatch(anyString(), any(LocalDateTime.class), anyInt())).thenReturn(0);
+
+        // when
+        alarmOutboxRelay.relay();
+
+        // then
+        verify(alarmOutboxRepository, never()).findByClaimedByAndStatusOrderByIdAsc(anyString(), any());
+        verify(alarmRepository, never()).save(any());
+    }
+}
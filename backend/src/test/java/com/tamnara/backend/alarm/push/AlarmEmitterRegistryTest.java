@@ -0,0 +1,61 @@
+package com.tamnara.backend.alarm.push;
+
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.dto.AlarmPushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class AlarmEmitterRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AlarmEmitterRegistry alarmEmitterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        alarmEmitterRegistry = new AlarmEmitterRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        alarmEmitterRegistry.shutdown();
+    }
+
+    @Test
+    void 회원별_구독_연결_수_집계_검증() {
+        // when
+        SseEmitter emitter1 = alarmEmitterRegistry.connect(1L, 0L);
+        SseEmitter emitter2 = alarmEmitterRegistry.connect(1L, 0L);
+        SseEmitter emitter3 = alarmEmitterRegistry.connect(2L, 3L);
+
+        // then
+        assertNotNull(emitter1);
+        assertNotNull(emitter2);
+        assertNotNull(emitter3);
+        assertEquals(3, alarmEmitterRegistry.getConnectionCnt());
+        assertEquals(3.0, meterRegistry.get("alarm.sse.connections").gauge().value());
+    }
+
+    @Test
+    void 연결되지_않은_회원의_알림은_무시_검증() {
+        // given
+        alarmEmitterRegistry.connect(1L, 0L);
+        AlarmPushMessage message = new AlarmPushMessage(
+                10L, "제목", "내용", LocalDateTime.now(), AlarmType.NEWS.toString(), 1L, false, Map.of(2L, 100L)
+        );
+
+        // when & then
+        assertDoesNotThrow(() -> alarmEmitterRegistry.dispatch(message));
+        assertEquals(1, alarmEmitterRegistry.getConnectionCnt());
+    }
+}
@@ -0,0 +1,111 @@
+package com.tamnara.backend.alarm.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.dto.AlarmPushMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmPushBrokerTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock private AlarmEmitterRegistry alarmEmitterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AlarmPushBroker alarmPushBroker;
+
+    @BeforeEach
+    void setUp() {
+        alarmPushBroker = new AlarmPushBroker(redisTemplate, redisMessageListenerContainer, objectMapper, alarmEmitterRegistry);
+    }
+
+    private AlarmPushMessage createMessage() {
+        return new AlarmPushMessage(
+                10L,
+                "제목",
+                "내용",
+                LocalDateTime.now(),
+                AlarmType.NEWS.toString(),
+                1L,
+                false,
+                Map.of(1L, 100L)
+        );
+    }
+
+    @Test
+    void 알림을_채널로_발행_검증() {
+        // given
+        AlarmPushMessage message = createMessage();
+
+        // when
+        alarmPushBroker.publish(message);
+
+        // then
+        verify(redisTemplate, times(1)).convertAndSend(eq(AlarmPushBroker.CHANNEL), anyString());
+    }
+
+    @Test
+    void 발행_실패_시_예외를_던지지_않음_검증() {
+        // given
+        when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        // when & then
+        assertDoesNotThrow(() -> alarmPushBroker.publish(createMessage()));
+    }
+
+    @Test
+    void 채널에서_수신한_알림을_연결된_회원에게_전달_검증() throws Exception {
+        // given
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+        byte[] body = objectMapper.writeValueAsString(createMessage()).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        alarmPushBroker.onMessage(new DefaultMessage(AlarmPushBroker.CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        ArgumentCaptor<AlarmPushMessage> captor = ArgumentCaptor.forClass(AlarmPushMessage.class);
+        verify(alarmEmitterRegistry, times(1)).dispatch(captor.capture());
+        assertEquals(10L, captor.getValue().getAlarmId());
+        assertEquals(100L, captor.getValue().getUserAlarmIds().get(1L));
+        assertFalse(captor.getValue().getIsBroadcast());
+    }
+
+    @Test
+    void 잘못된_메시지는_전달하지_않음_검증() {
+        // given
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+        byte[] body = "잘못된 메시지".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        alarmPushBroker.onMessage(new DefaultMessage(AlarmPushBroker.CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        verify(alarmEmitterRegistry, never()).dispatch(any());
+    }
+}
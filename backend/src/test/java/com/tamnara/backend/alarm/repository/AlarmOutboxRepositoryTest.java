@@ -0,0 +1,190 @@
+package com.tamnara.backend.alarm.repository;
+
+import com.tamnara.backend.alarm.domain.AlarmOutbox;
+import com.tamnara.backend.alarm.domain.AlarmOutboxStatus;
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.config.TestConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class AlarmOutboxRepositoryTest {
+
+    private static final String RELAY_ID = "relay-1";
+    private static final String OTHER_RELAY_ID = "relay-2";
+
+    @PersistenceContext private EntityManager em;
+
+    @Autowired private AlarmOutboxRepository alarmOutboxRepository;
+
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        alarmOutboxRepository.deleteAll();
+        em.clear();
+
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private AlarmOutbox createOutbox(LocalDateTime nextAttemptAt) {
+        AlarmOutbox outbox = new AlarmOutbox();
+        outbox.setTitle("제목");
+        outbox.setContent("내용");
+        outbox.setTargetType(AlarmType.NEWS);
+        outbox.setTargetId(1L);
+        outbox.setReceiverIds(List.of(1L, 2L));
+        outbox.setNextAttemptAt(nextAttemptAt);
+        return alarmOutboxRepository.saveAndFlush(outbox);
+    }
+
+    private AlarmOutbox createClaimedOutbox(String claimedBy, LocalDateTime claimedAt) {
+        AlarmOutbox outbox = new AlarmOutbox();
+        outbox.setTitle("제목");
+        outbox.setContent("내용");
+        outbox.setReceiverIds(List.of(1L));
+        outbox.setNextAttemptAt(claimedAt);
+        outbox.setStatus(AlarmOutboxStatus.PROCESSING);
+        outbox.setClaimedBy(claimedBy);
+        outbox.setClaimedAt(claimedAt);
+        return alarmOutboxRepository.saveAndFlush(outbox);
+    }
+
+    @Test
+    void 재시도_시각이_지나지_않은_이벤트는_선점하지_않음_검증() {
+        // given
+        AlarmOutbox due = createOutbox(now.minusSeconds(1));
+        AlarmOutbox notDue = createOutbox(now.plusMinutes(1));
+        em.clear();
+
+        // when
+        int claimed = alarmOutboxRepository.claimBatch(RELAY_ID, now, 10);
+        em.clear();
+
+        // then
+        assertEquals(1, claimed);
+        List<AlarmOutbox> claimedOutboxes = alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(RELAY_ID, AlarmOutboxStatus.PROCESSING);
+        assertEquals(List.of(due.getId()), claimedOutboxes.stream().map(AlarmOutbox::getId).toList());
+        assertEquals(now, claimedOutboxes.get(0).getClaimedAt());
+
+        AlarmOutbox untouched = alarmOutboxRepository.findById(notDue.getId()).get();
+        assertEquals(AlarmOutboxStatus.PENDING, untouched.getStatus());
+        assertNull(untouched.getClaimedBy());
+    }
+
+    @Test
+    void 선점_개수_제한과_오래된_순서_검증() {
+        // given
+        AlarmOutbox first = createOutbox(now.minusMinutes(1));
+        AlarmOutbox second = createOutbox(now.minusMinutes(1));
+        createOutbox(now.minusMinutes(1));
+        em.clear();
+
+        // when
+        int claimed = alarmOutboxRepository.claimBatch(RELAY_ID, now, 2);
+        em.clear();
+
+        // then
+        assertEquals(2, claimed);
+        assertEquals(List.of(first.getId(), second.getId()),
+                alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(RELAY_ID, AlarmOutboxStatus.PROCESSING)
+                        .stream().map(AlarmOutbox::getId).toList());
+        assertEquals(1, alarmOutboxRepository.countByStatus(AlarmOutboxStatus.PENDING));
+    }
+
+    @Test
+    void 이미_선점된_이벤트는_다른_서버가_선점하지_못함_검증() {
+        // given
+        createOutbox(now.minusMinutes(1));
+        createOutbox(now.minusMinutes(1));
+        alarmOutboxRepository.claimBatch(RELAY_ID, now, 10);
+        em.clear();
+
+        // when
+        int claimed = alarmOutboxRepository.claimBatch(OTHER_RELAY_ID, now, 10);
+        em.clear();
+
+        // then
+        assertEquals(0, claimed);
+        assertTrue(alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(OTHER_RELAY_ID, AlarmOutboxStatus.PROCESSING).isEmpty());
+        assertEquals(2, alarmOutboxRepository.findByClaimedByAndStatusOrderByIdAsc(RELAY_ID, AlarmOutboxStatus.PROCESSING).size());
+    }
+
+    @Test
+    void 만료된_선점만_처리_대기_상태로_되돌림_검증() {
+        // given
+        AlarmOutbox expired = createClaimedOutbox(RELAY_ID, now.minusMinutes(10));
+        AlarmOutbox active = createClaimedOutbox(OTHER_RELAY_ID, now);
+        em.clear();
+
+        // when
+        int released = alarmOutboxRepository.releaseExpiredClaims(now.minusMinutes(5));
+        em.clear();
+
+        // then
+        assertEquals(1, released);
+
+        AlarmOutbox releasedOutbox = alarmOutboxRepository.findById(expired.getId()).get();
+        assertEquals(AlarmOutboxStatus.PENDING, releasedOutbox.getStatus());
+        assertNull(releasedOutbox.getClaimedBy());
+
+        AlarmOutbox activeOutbox = alarmOutboxRepository.findById(active.getId()).get();
+        assertEquals(AlarmOutboxStatus.PROCESSING, activeOutbox.getStatus());
+        assertEquals(OTHER_RELAY_ID, activeOutbox.getClaimedBy());
+    }
+
+    @Test
+    void 선점한_서버만_완료_처리_검증() {
+        // given
+        AlarmOutbox outbox = createClaimedOutbox(RELAY_ID, now);
+        em.clear();
+
+        // when
+        int otherUpdated = alarmOutboxRepository.markDone(outbox.getId(), OTHER_RELAY_ID, now);
+        int updated = alarmOutboxRepository.markDone(outbox.getId(), RELAY_ID, now);
+        em.clear();
+
+        // then
+        assertEquals(0, otherUpdated);
+        assertEquals(1, updated);
+
+        AlarmOutbox doneOutbox = alarmOutboxRepository.findById(outbox.getId()).get();
+        assertEquals(AlarmOutboxStatus.DONE, doneOutbox.getStatus());
+        assertNotNull(doneOutbox.getProcessedAt());
+    }
+
+    @Test
+    void 선점이_풀린_이벤트는_완료_처리하지_않음_검증() {
+        // given
+        AlarmOutbox outbox = createClaimedOutbox(RELAY_ID, now.minusMinutes(10));
+        alarmOutboxRepository.releaseExpiredClaims(now.minusMinutes(5));
+        em.clear();
+
+        // when
+        int updated = alarmOutboxRepository.markDone(outbox.getId(), RELAY_ID, now);
+        em.clear();
+
+        // then
+        assertEquals(0, updated);
+        assertEquals(AlarmOutboxStatus.PENDING, alarmOutboxRepository.findById(outbox.getId()).get().getStatus());
+    }
+}
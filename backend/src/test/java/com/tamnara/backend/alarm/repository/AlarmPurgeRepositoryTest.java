@@ -0,0 +1,193 @@
+package com.tamnara.backend.alarm.repository;
+
+import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.domain.BroadcastAlarmRead;
+import com.tamnara.backend.alarm.domain.UserAlarm;
+import com.tamnara.backend.config.TestConfig;
+import com.tamnara.backend.user.domain.Role;
+import com.tamnara.backend.user.domain.State;
+import com.tamnara.backend.user.domain.User;
+import com.tamnara.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({TestConfig.class, AlarmPurgeRepository.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class AlarmPurgeRepositoryTest {
+
+    private static final int USER_CNT = 5;
+    private static final int BATCH_SIZE = 2;
+
+    @PersistenceContext private EntityManager em;
+
+    @Autowired private AlarmPurgeRepository alarmPurgeRepository;
+    @Autowired private UserAlarmRepository userAlarmRepository;
+    @Autowired private BroadcastAlarmReadRepository broadcastAlarmReadRepository;
+    @Autowired private AlarmRepository alarmRepository;
+    @Autowired private UserRepository userRepository;
+
+    Alarm expiredAlarm;
+    Alarm retainedAlarm;
+
+    @BeforeEach
+    void setUp() {
+        userAlarmRepository.deleteAll();
+        broadcastAlarmReadRepository.deleteAll();
+        alarmRepository.deleteAll();
+        userRepository.deleteAll();
+        em.clear();
+
+        expiredAlarm = createAlarm("만료 알림");
+        retainedAlarm = createAlarm("보관 알림");
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_CNT; i++) {
+            users.add(createUser("이메일" + i));
+        }
+        for (User user : users) {
+            userAlarmRepository.save(createUserAlarm(user, expiredAlarm));
+            userAlarmRepository.save(createUserAlarm(user, retainedAlarm));
+            broadcastAlarmReadRepository.save(createBroadcastAlarmRead(user, expiredAlarm));
+            broadcastAlarmReadRepository.save(createBroadcastAlarmRead(user, retainedAlarm));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private Alarm createAlarm(String title) {
+        Alarm alarm = new Alarm();
+        alarm.setTitle(title);
+        alarm.setContent("내용");
+        alarm.setTargetType(AlarmType.NEWS);
+        alarm.setTargetId(1L);
+        return alarmRepository.saveAndFlush(alarm);
+    }
+
+    private User createUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .password("비밀번호")
+                .username(email)
+                .provider("LOCAL")
+                .providerId(null)
+                .role(Role.USER)
+                .state(State.ACTIVE)
+                .build();
+        return userRepository.saveAndFlush(user);
+    }
+
+    private UserAlarm createUserAlarm(User user, Alarm alarm) {
+        UserAlarm userAlarm = new UserAlarm();
+        userAlarm.setUser(user);
+        userAlarm.setAlarm(alarm);
+        return userAlarm;
+    }
+
+    private BroadcastAlarmRead createBroadcastAlarmRead(User user, Alarm alarm) {
+        BroadcastAlarmRead broadcastAlarmRead = new BroadcastAlarmRead();
+        broadcastAlarmRead.setUser(user);
+        broadcastAlarmRead.setAlarm(alarm);
+        broadcastAlarmRead.setCheckedAt(LocalDateTime.now());
+        return broadcastAlarmRead;
+    }
+
+    private long countUserAlarms(Alarm alarm) {
+        return userAlarmRepository.findAll().stream()
+                .filter(userAlarm -> userAlarm.getAlarm().getId().equals(alarm.getId()))
+                .count();
+    }
+
+    private long countBroadcastAlarmReads(Alarm alarm) {
+        return broadcastAlarmReadRepository.findAll().stream()
+                .filter(broadcastAlarmRead -> broadcastAlarmRead.getAlarm().getId().equals(alarm.getId()))
+                .count();
+    }
+
+    @Test
+    void 회원알림_삭제는_한_번에_limit개까지만_검증() {
+        // when
+        int deleted = alarmPurgeRepository.deleteUserAlarms(List.of(expiredAlarm.getId()), BATCH_SIZE);
+        em.clear();
+
+        // then
+        assertEquals(BATCH_SIZE, deleted);
+        assertEquals(USER_CNT - BATCH_SIZE, countUserAlarms(expiredAlarm));
+        assertEquals(USER_CNT, countUserAlarms(retainedAlarm));
+    }
+
+    @Test
+    void 회원알림_반복_삭제로_대상_알림의_행만_모두_삭제_검증() {
+        // when
+        List<Integer> deletedCnts = new ArrayList<>();
+        int deleted;
+        do {
+            deleted = alarmPurgeRepository.deleteUserAlarms(List.of(expiredAlarm.getId()), BATCH_SIZE);
+            deletedCnts.add(deleted);
+        } while (deleted > 0);
+        em.clear();
+
+        // then
+        assertEquals(List.of(2, 2, 1, 0), deletedCnts);
+        assertEquals(0, countUserAlarms(expiredAlarm));
+        assertEquals(USER_CNT, countUserAlarms(retainedAlarm));
+    }
+
+    @Test
+    void 전체_알림_확인_기록_삭제는_한_번에_limit개까지만_검증() {
+        // when
+        int deleted = alarmPurgeRepository.deleteBroadcastAlarmReads(List.of(expiredAlarm.getId()), BATCH_SIZE);
+        em.clear();
+
+        // then
+        assertEquals(BATCH_SIZE, deleted);
+        assertEquals(USER_CNT - BATCH_SIZE, countBroadcastAlarmReads(expiredAlarm));
+        assertEquals(USER_CNT, countBroadcastAlarmReads(retainedAlarm));
+    }
+
+    @Test
+    void 전체_알림_확인_기록_반복_삭제로_대상_알림의_행만_모두_삭제_검증() {
+        // when
+        int totalDeleted = 0;
+        int deleted;
+        do {
+            deleted = alarmPurgeRepository.deleteBroadcastAlarmReads(List.of(expiredAlarm.getId()), BATCH_SIZE);
+            totalDeleted += deleted;
+        } while (deleted > 0);
+        em.clear();
+
+        // then
+        assertEquals(USER_CNT, totalDeleted);
+        assertEquals(0, countBroadcastAlarmReads(expiredAlarm));
+        assertEquals(USER_CNT, countBroadcastAlarmReads(retainedAlarm));
+    }
+
+    @Test
+    void 빈_알림_목록은_삭제하지_않음_검증() {
+        // when
+        int deletedUserAlarms = alarmPurgeRepository.deleteUserAlarms(List.of(), BATCH_SIZE);
+        int deletedReads = alarmPurgeRepository.deleteBroadcastAlarmReads(List.of(), BATCH_SIZE);
+        em.clear();
+
+        // then
+        assertEquals(0, deletedUserAlarms);
+        assertEquals(0, deletedReads);
+        assertEquals(USER_CNT, countUserAlarms(expiredAlarm));
+        assertEquals(USER_CNT, countBroadcastAlarmReads(expiredAlarm));
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -309,7 +310,7 @@ public class AlarmRepositoryTest {
     }
 
     @Test
-    void 생성일자가_기준보다_오래된_알림_일괄_삭제_검증() {
+    void 생성일자가_기준보다_오래된_알림_청크_삭제_검증() {
         // given
         Alarm alarm1 = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), 1L);
         alarmRepository.saveAndFlush(alarm1);
@@ -333,11 +334,14 @@ public class AlarmRepositoryTest {
         em.clear();
 
         // when
-        alarmRepository.deleteAllOlderThan(cutoff);
+        List<Long> alarmIds = alarmRepository.findIdsOlderThan(cutoff, alarm1.getId(), PageRequest.of(0, 10));
+        int deletedCnt = alarmRepository.deleteAllByIdInAndOlderThan(List.of(alarm1.getId(), alarm2.getId(), alarm3.getId()), cutoff);
         em.flush();
         em.clear();
 
         // then
+        assertEquals(List.of(alarm2.getId()), alarmIds);
+        assertEquals(2, deletedCnt);
         assertFalse(alarmRepository.findById(alarm1.getId()).isPresent());
         assertFalse(alarmRepository.findById(alarm2.getId()).isPresent());
         assertTrue(alarmRepository.findById(alarm3.getId()).isPresent());
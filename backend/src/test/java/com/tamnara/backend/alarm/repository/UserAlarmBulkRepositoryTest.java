@@ -0,0 +1,143 @@
+package com.tamnara.backend.alarm.repository;
+
+import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmKind;
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.domain.UserAlarm;
+import com.tamnara.backend.config.TestConfig;
+import com.tamnara.backend.user.domain.Role;
+import com.tamnara.backend.user.domain.State;
+import com.tamnara.backend.user.domain.User;
+import com.tamnara.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import({TestConfig.class, UserAlarmBulkRepository.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UserAlarmBulkRepositoryTest {
+
+    @PersistenceContext private EntityManager em;
+
+    @Autowired private UserAlarmBulkRepository userAlarmBulkRepository;
+    @Autowired private UserAlarmRepository userAlarmRepository;
+    @Autowired private AlarmRepository alarmRepository;
+    @Autowired private UserRepository userRepository;
+
+    Alarm alarm;
+
+    @BeforeEach
+    void setUp() {
+        userAlarmRepository.deleteAll();
+        alarmRepository.deleteAll();
+        userRepository.deleteAll();
+        em.clear();
+
+        alarm = new Alarm();
+        alarm.setTitle("제목");
+        alarm.setContent("내용");
+        alarm.setTargetType(AlarmType.NEWS);
+        alarm.setTargetId(1L);
+        alarmRepository.saveAndFlush(alarm);
+
+        em.clear();
+    }
+
+    private User createUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .password("비밀번호")
+                .username(email)
+                .provider("LOCAL")
+                .providerId(null)
+                .role(Role.USER)
+                .state(State.ACTIVE)
+                .build();
+        return userRepository.saveAndFlush(user);
+    }
+
+    @Test
+    void 존재하는_회원에게만_회원알림_저장_검증() {
+        // given
+        User user1 = createUser("이메일1");
+        User user2 = createUser("이메일2");
+        Long deletedUserId = createUser("이메일3").getId();
+        userRepository.deleteById(deletedUserId);
+        userRepository.flush();
+        Long missingUserId = deletedUserId + 1000L;
+        em.clear();
+
+        // when
+        int inserted = userAlarmBulkRepository.insertUserAlarms(
+                alarm.getId(), AlarmKind.BOOKMARK, List.of(user1.getId(), deletedUserId, user2.getId(), missingUserId));
+        em.clear();
+
+        // then
+        assertEquals(2, inserted);
+
+        List<UserAlarm> userAlarms = userAlarmRepository.findAll();
+        assertEquals(2, userAlarms.size());
+        assertEquals(Set.of(user1.getId(), user2.getId()),
+                userAlarms.stream().map(userAlarm -> userAlarm.getUser().getId()).collect(Collectors.toSet()));
+        assertTrue(userAlarms.stream().allMatch(userAlarm -> userAlarm.getKind() == AlarmKind.BOOKMARK));
+        assertTrue(userAlarms.stream().allMatch(userAlarm -> userAlarm.getAlarm().getId().equals(alarm.getId())));
+        assertTrue(userAlarms.stream().noneMatch(UserAlarm::getIsChecked));
+    }
+
+    @Test
+    void 빈_회원_목록은_저장하지_않음_검증() {
+        // when
+        int inserted = userAlarmBulkRepository.insertUserAlarms(alarm.getId(), AlarmKind.GENERAL, List.of());
+
+        // then
+        assertEquals(0, inserted);
+        assertTrue(userAlarmRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void 알림별_회원알림_ID_매핑_조회_검증() {
+        // given
+        User user1 = createUser("이메일1");
+        User user2 = createUser("이메일2");
+
+        Alarm otherAlarm = new Alarm();
+        otherAlarm.setTitle("다른 제목");
+        otherAlarm.setContent("다른 내용");
+        otherAlarm.setTargetType(AlarmType.NEWS);
+        otherAlarm.setTargetId(2L);
+        alarmRepository.saveAndFlush(otherAlarm);
+
+        userAlarmBulkRepository.insertUserAlarms(alarm.getId(), AlarmKind.GENERAL, List.of(user1.getId(), user2.getId()));
+        userAlarmBulkRepository.insertUserAlarms(otherAlarm.getId(), AlarmKind.GENERAL, List.of(user1.getId()));
+        em.clear();
+
+        // when
+        Map<Long, Long> userAlarmIds = userAlarmBulkRepository.findUserAlarmIdsByAlarmId(alarm.getId());
+
+        // then
+        Map<Long, Long> expected = userAlarmRepository.findAll().stream()
+                .filter(userAlarm -> userAlarm.getAlarm().getId().equals(alarm.getId()))
+                .collect(Collectors.toMap(userAlarm -> userAlarm.getUser().getId(), UserAlarm::getId));
+        assertEquals(2, userAlarmIds.size());
+        assertEquals(expected, userAlarmIds);
+        assertFalse(userAlarmIds.containsValue(
+                userAlarmBulkRepository.findUserAlarmIdsByAlarmId(otherAlarm.getId()).get(user1.getId())));
+    }
+}
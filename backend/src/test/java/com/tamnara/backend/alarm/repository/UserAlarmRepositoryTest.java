@@ -1,13 +1,10 @@
 package com.tamnara.backend.alarm.repository;
 
 import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmKind;
 import com.tamnara.backend.alarm.domain.AlarmType;
 import com.tamnara.backend.alarm.domain.UserAlarm;
-import com.tamnara.backend.bookmark.domain.Bookmark;
-import com.tamnara.backend.bookmark.repository.BookmarkRepository;
 import com.tamnara.backend.config.TestConfig;
-import com.tamnara.backend.news.domain.News;
-import com.tamnara.backend.news.repository.NewsRepository;
 import com.tamnara.backend.user.domain.Role;
 import com.tamnara.backend.user.domain.State;
 import com.tamnara.backend.user.domain.User;
@@ -24,6 +21,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -49,12 +47,9 @@ public class UserAlarmRepositoryTest {
     @Autowired private UserAlarmRepository userAlarmRepository;
     @Autowired private AlarmRepository alarmRepository;
     @Autowired private UserRepository userRepository;
-    @Autowired private NewsRepository newsRepository;
-    @Autowired private BookmarkRepository bookmarkRepository;
 
     User user;
     Alarm alarm;
-    News news;
 
     @BeforeEach
     void setUp() {
@@ -85,11 +80,16 @@ public class UserAlarmRepositoryTest {
     }
 
     private UserAlarm createUserAlarm(Alarm alarm, boolean isChecked) {
+        return createUserAlarm(alarm, isChecked, AlarmKind.GENERAL);
+    }
+
+    private UserAlarm createUserAlarm(Alarm alarm, boolean isChecked, AlarmKind kind) {
         UserAlarm userAlarm = new UserAlarm();
         userAlarm.setIsChecked(isChecked);
         userAlarm.setCheckedAt(isChecked ? LocalDateTime.now() : null);
         userAlarm.setUser(user);
         userAlarm.setAlarm(alarm);
+        userAlarm.setKind(kind);
         return userAlarm;
     }
 
@@ -103,21 +103,6 @@ public class UserAlarmRepositoryTest {
         return alarmRepository.saveAndFlush(alarm);
     }
 
-    private News createNews() {
-        news = new News();
-        news.setTitle("제목");
-        news.setSummary("미리보기 내용");
-        news.setIsHotissue(true);
-        return newsRepository.saveAndFlush(news);
-    }
-
-    private Bookmark createBookmark(News news) {
-        Bookmark bookmark = new Bookmark();
-        bookmark.setUser(user);
-        bookmark.setNews(news);
-        return bookmarkRepository.saveAndFlush(bookmark);
-    }
-
     @Test
     void 회원알림_생성_성공_검증() {
         // given
@@ -267,53 +252,40 @@ public class UserAlarmRepositoryTest {
     }
 
     @Test
-    void 북마크_알림_목록_조회_시_페이징과_ID_내림차순_정렬과_타겟_종류_검증() {
-        News news1 = createNews();
-        News news2 = createNews();
-        em.clear();
-
-        Bookmark bookmark1 = createBookmark(news1);
-        Bookmark bookmark2 = createBookmark(news2);
-
-        Alarm alarm1 = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), bookmark1.getNews().getId());
-        Alarm alarm2 = createAlarm("제목2", "내용2", AlarmType.NEWS.toString(), bookmark2.getNews().getId());
-        Alarm alarm3 = createAlarm("제목3", "내용3", AlarmType.NEWS.toString(), bookmark1.getNews().getId());
-        Alarm alarm4 = createAlarm("제목4", "내용4", AlarmType.NEWS.toString(), bookmark2.getNews().getId());
-        Alarm alarm5 = createAlarm("제목5", "내용5", AlarmType.NEWS.toString(), bookmark1.getNews().getId());
+    void 북마크_알림_목록_조회_시_종류_필터와_ID_내림차순_정렬과_슬라이스_검증() {
+        // given
+        Alarm alarm1 = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), 1L);
+        Alarm alarm2 = createAlarm("제목2", "내용2", AlarmType.NEWS.toString(), 2L);
+        Alarm alarm3 = createAlarm("제목3", "내용3", AlarmType.NEWS.toString(), 1L);
+        Alarm alarm4 = createAlarm("제목4", "내용4", AlarmType.POLLS.toString(), 1L);
+        Alarm alarm5 = createAlarm("제목5", "내용5", AlarmType.NEWS.toString(), 2L);
         em.clear();
 
-        UserAlarm userAlarm1 = createUserAlarm(alarm1, false);
+        UserAlarm userAlarm1 = createUserAlarm(alarm1, false, AlarmKind.BOOKMARK);
         userAlarmRepository.saveAndFlush(userAlarm1);
-        UserAlarm userAlarm2 = createUserAlarm(alarm2, false);
+        UserAlarm userAlarm2 = createUserAlarm(alarm2, false, AlarmKind.GENERAL);
         userAlarmRepository.saveAndFlush(userAlarm2);
-        UserAlarm userAlarm3 = createUserAlarm(alarm3, false);
+        UserAlarm userAlarm3 = createUserAlarm(alarm3, false, AlarmKind.BOOKMARK);
         userAlarmRepository.saveAndFlush(userAlarm3);
-        UserAlarm userAlarm4 = createUserAlarm(alarm4, false);
+        UserAlarm userAlarm4 = createUserAlarm(alarm4, false, AlarmKind.GENERAL);
         userAlarmRepository.saveAndFlush(userAlarm4);
-        UserAlarm userAlarm5 = createUserAlarm(alarm5, false);
+        UserAlarm userAlarm5 = createUserAlarm(alarm5, false, AlarmKind.BOOKMARK);
         userAlarmRepository.saveAndFlush(userAlarm5);
         em.clear();
 
         // when
-        int pageSize = 3;
+        int pageSize = 2;
         Pageable pageable = PageRequest.of(0, pageSize);
-        Page<UserAlarm> bookmarkAlarmPage = userAlarmRepository.findBookmarkAlarms(user.getId(), pageable);
-        List<UserAlarm> bookmarkAlarmList = bookmarkAlarmPage.getContent();
+        Slice<UserAlarm> bookmarkAlarmSlice = userAlarmRepository.findByUserIdAndKindOrderByIdDesc(user.getId(), AlarmKind.BOOKMARK, pageable);
+        List<UserAlarm> bookmarkAlarmList = bookmarkAlarmSlice.getContent();
 
         // then
-        assertEquals(5, bookmarkAlarmPage.getTotalElements());
+        assertTrue(bookmarkAlarmSlice.hasNext());
         assertEquals(pageSize, bookmarkAlarmList.size());
         assertEquals(userAlarm5.getId(), bookmarkAlarmList.get(0).getId());
-        assertEquals(userAlarm4.getId(), bookmarkAlarmList.get(1).getId());
-        assertEquals(userAlarm3.getId(), bookmarkAlarmList.get(2).getId());
-
-        assertEquals(AlarmType.NEWS, userAlarm5.getAlarm().getTargetType());
-        assertEquals(AlarmType.NEWS, userAlarm4.getAlarm().getTargetType());
-        assertEquals(AlarmType.NEWS, userAlarm3.getAlarm().getTargetType());
-
-        assertEquals(userAlarm5.getAlarm().getTargetId(), bookmark1.getNews().getId());
-        assertEquals(userAlarm4.getAlarm().getTargetId(), bookmark2.getNews().getId());
-        assertEquals(userAlarm3.getAlarm().getTargetId(), bookmark1.getNews().getId());
+        assertEquals(userAlarm3.getId(), bookmarkAlarmList.get(1).getId());
+        assertEquals(alarm5.getTitle(), bookmarkAlarmList.get(0).getAlarm().getTitle());
+        assertEquals(AlarmKind.BOOKMARK, bookmarkAlarmList.get(0).getKind());
     }
 
     @Test
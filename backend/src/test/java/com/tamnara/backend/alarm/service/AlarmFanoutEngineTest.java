@@ -0,0 +1,74 @@
+package com.tamnara.backend.alarm.service;
+
+import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
+import com.tamnara.backend.alarm.domain.AlarmKind;
+import com.tamnara.backend.alarm.repository.UserAlarmBulkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmFanoutEngineTest {
+
+    private static final int CHUNK_SIZE = AlarmServiceConstant.ALARM_FANOUT_CHUNK_SIZE;
+
+    @Mock private UserAlarmBulkRepository userAlarmBulkRepository;
+
+    private MeterRegistry meterRegistry;
+    private AlarmFanoutEngine alarmFanoutEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        alarmFanoutEngine = new AlarmFanoutEngine(userAlarmBulkRepository, meterRegistry);
+    }
+
+    private List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    @Test
+    void 수신자_목록을_중복_제거_후_청크_단위로_배포_검증() {
+        // given
+        List<Long> receivers = new ArrayList<>(ids(1, CHUNK_SIZE + 1));
+        receivers.add(1L);
+
+        when(userAlarmBulkRepository.insertUserAlarms(10L, AlarmKind.BOOKMARK, ids(1, CHUNK_SIZE))).thenReturn(CHUNK_SIZE);
+        when(userAlarmBulkRepository.insertUserAlarms(10L, AlarmKind.BOOKMARK, List.of(CHUNK_SIZE + 1L))).thenReturn(1);
+
+        // when
+        int inserted = alarmFanoutEngine.fanOut(10L, AlarmKind.BOOKMARK, receivers, LocalDateTime.now().minusSeconds(1));
+
+        // then
+        assertEquals(CHUNK_SIZE + 1, inserted);
+        assertEquals(CHUNK_SIZE + 1.0, meterRegistry.get("alarm.fanout.rows").counter().count());
+        assertEquals(1, meterRegistry.get("alarm.fanout.lag").timer().count());
+    }
+
+    @Test
+    void 수신자가_없으면_배포하지_않음_검증() {
+        // when
+        int inserted = alarmFanoutEngine.fanOut(10L, AlarmKind.GENERAL, List.of(), LocalDateTime.now());
+
+        // then
+        assertEquals(0, inserted);
+        verify(userAlarmBulkRepository, never()).insertUserAlarms(eq(10L), any(), anyList());
+    }
+}
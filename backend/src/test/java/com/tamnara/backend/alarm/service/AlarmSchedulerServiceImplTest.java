@@ -1,11 +1,19 @@
 package com.tamnara.backend.alarm.service;
 
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import com.tamnara.backend.global.scheduler.ScheduledJobRunner;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -13,10 +21,18 @@ import static org.mockito.Mockito.verify;
 public class AlarmSchedulerServiceImplTest {
 
     @Mock private AlarmService alarmService;
+    @Mock private ScheduledJobRunner scheduledJobRunner;
     @InjectMocks private AlarmSchedulerServiceImpl alarmSchedulerService;
 
     @Test
     void 오래된_알림_일괄_삭제_검증() {
+        // given
+        doAnswer(invocation -> {
+            LongSupplier job = invocation.getArgument(2);
+            job.getAsLong();
+            return null;
+        }).when(scheduledJobRunner).run(eq(ScheduledJobConstant.ALARM_PURGE_JOB), any(Duration.class), any(LongSupplier.class));
+
         // when
         alarmSchedulerService.deleteOldAlarms();
 
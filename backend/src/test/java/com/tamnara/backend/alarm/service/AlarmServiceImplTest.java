@@ -1,13 +1,21 @@
 package com.tamnara.backend.alarm.service;
 
+import com.tamnara.backend.alarm.cache.AlarmUnreadCounter;
+import com.tamnara.backend.alarm.constant.AlarmResponseMessage;
 import com.tamnara.backend.alarm.constant.AlarmServiceConstant;
 import com.tamnara.backend.alarm.domain.Alarm;
+import com.tamnara.backend.alarm.domain.AlarmKind;
 import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.domain.BroadcastAlarmRead;
 import com.tamnara.backend.alarm.domain.UserAlarm;
+import com.tamnara.backend.alarm.dto.AlarmCardDTO;
 import com.tamnara.backend.alarm.dto.response.AlarmListResponse;
+import com.tamnara.backend.alarm.repository.AlarmPurgeRepository;
 import com.tamnara.backend.alarm.repository.AlarmRepository;
+import com.tamnara.backend.alarm.repository.BroadcastAlarmReadRepository;
 import com.tamnara.backend.alarm.repository.UserAlarmRepository;
 import com.tamnara.backend.global.constant.ResponseMessage;
+import com.tamnara.backend.global.purge.RetentionPurgeEngine;
 import com.tamnara.backend.user.domain.Role;
 import com.tamnara.backend.user.domain.State;
 import com.tamnara.backend.user.domain.User;
@@ -22,6 +30,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -29,13 +39,19 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ToIntFunction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,7 +61,11 @@ public class AlarmServiceImplTest {
 
     @Mock AlarmRepository alarmRepository;
     @Mock UserAlarmRepository userAlarmRepository;
+    @Mock BroadcastAlarmReadRepository broadcastAlarmReadRepository;
     @Mock UserRepository userRepository;
+    @Mock AlarmPurgeRepository alarmPurgeRepository;
+    @Mock AlarmUnreadCounter alarmUnreadCounter;
+    @Mock RetentionPurgeEngine retentionPurgeEngine;
 
     @InjectMocks private AlarmServiceImpl alarmServiceImpl;
 
@@ -118,6 +138,49 @@ public class AlarmServiceImplTest {
         assertEquals(response.getAlarms().get(4).getId(), alarm1.getId());
     }
 
+    @Test
+    void 전체_알림_목록_조회_시_회원_알림과_전체_알림을_id_순으로_병합_검증() {
+        // given
+        Alarm personal1 = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), 1L);
+        personal1.setId(1L);
+        Alarm personal3 = createAlarm("제목3", "내용3", AlarmType.NEWS.toString(), 2L);
+        personal3.setId(3L);
+        UserAlarm userAlarm1 = createUserAlarm(false, personal1);
+        userAlarm1.setId(11L);
+        UserAlarm userAlarm3 = createUserAlarm(true, personal3);
+        userAlarm3.setId(13L);
+
+        Alarm broadcast2 = createAlarm("제목2", "내용2", AlarmType.NEWS.toString(), null);
+        broadcast2.setId(2L);
+        broadcast2.setIsBroadcast(true);
+        Alarm broadcast4 = createAlarm("제목4", "내용4", AlarmType.POLLS.toString(), null);
+        broadcast4.setId(4L);
+        broadcast4.setIsBroadcast(true);
+
+        Pageable pageable = PageRequest.of(0, AlarmServiceConstant.ALARM_LIST_SIZE);
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(userAlarmRepository.findByUserIdOrderByIdDesc(user.getId(), pageable))
+                .thenReturn(new PageImpl<>(List.of(userAlarm3, userAlarm1)));
+        when(alarmRepository.findBroadcastAlarms(any(LocalDateTime.class), eq(pageable)))
+                .thenReturn(List.of(broadcast4, broadcast2));
+        when(broadcastAlarmReadRepository.findReadAlarmIds(user.getId(), List.of(4L, 2L))).thenReturn(List.of(2L));
+
+        // when
+        AlarmListResponse response = alarmServiceImpl.getAllAlarmPageByUserId(user.getId());
+
+        // then
+        List<AlarmCardDTO> alarms = response.getAlarms();
+        assertEquals(4, alarms.size());
+        assertEquals(4L, alarms.get(0).getId());
+        assertTrue(alarms.get(0).getIsBroadcast());
+        assertFalse(alarms.get(0).getIsChecked());
+        assertEquals(13L, alarms.get(1).getId());
+        assertFalse(alarms.get(1).getIsBroadcast());
+        assertEquals(2L, alarms.get(2).getId());
+        assertTrue(alarms.get(2).getIsChecked());
+        assertEquals(11L, alarms.get(3).getId());
+    }
+
     @Test
     void 전체_알림_목록_조회_시_알림이_존재하지_않아도_성공_검증() {
         // given
@@ -167,10 +230,10 @@ public class AlarmServiceImplTest {
         UserAlarm userAlarm5 = createUserAlarm(false, alarm5);
 
         List<UserAlarm> userAlarmList = List.of(userAlarm1, userAlarm2, userAlarm3, userAlarm4, userAlarm5);
-        Page<UserAlarm> userAlarmPage = new PageImpl<>(userAlarmList);
+        Slice<UserAlarm> userAlarmSlice = new SliceImpl<>(userAlarmList);
 
         Pageable pageable = PageRequest.of(0, AlarmServiceConstant.ALARM_LIST_SIZE);
-        when(userAlarmRepository.findBookmarkAlarms(user.getId(), pageable)).thenReturn(userAlarmPage);
+        when(userAlarmRepository.findByUserIdAndKindOrderByIdDesc(user.getId(), AlarmKind.BOOKMARK, pageable)).thenReturn(userAlarmSlice);
         when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
 
         // when
@@ -190,10 +253,10 @@ public class AlarmServiceImplTest {
     void 북마크_알림_목록_조회_시_알림이_존재하지_않아도_성공_검증() {
         // given
         List<UserAlarm> userAlarmList = List.of();
-        Page<UserAlarm> userAlarmPage = new PageImpl<>(userAlarmList);
+        Slice<UserAlarm> userAlarmSlice = new SliceImpl<>(userAlarmList);
 
         Pageable pageable = PageRequest.of(0, AlarmServiceConstant.ALARM_LIST_SIZE);
-        when(userAlarmRepository.findBookmarkAlarms(user.getId(), pageable)).thenReturn(userAlarmPage);
+        when(userAlarmRepository.findByUserIdAndKindOrderByIdDesc(user.getId(), AlarmKind.BOOKMARK, pageable)).thenReturn(userAlarmSlice);
         when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
 
         // when
@@ -227,12 +290,52 @@ public class AlarmServiceImplTest {
 
         when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
         when(userAlarmRepository.findById(any(Long.class))).thenReturn(Optional.of(userAlarm));
+        when(userAlarmRepository.checkUserAlarm(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
         // when
         Long alarmId = alarmServiceImpl.checkUserAlarm(1L, user.getId());
 
         // then
         assertEquals(alarmId, userAlarm.getId());
+        verify(alarmUnreadCounter, times(1)).decrement(user.getId());
+    }
+
+    @Test
+    void 동시에_확인된_알림은_카운터를_중복으로_줄이지_않음_검증() {
+        // given
+        Alarm alarm = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), 1L);
+        UserAlarm userAlarm = createUserAlarm(false, alarm);
+
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(userAlarmRepository.findById(any(Long.class))).thenReturn(Optional.of(userAlarm));
+        when(userAlarmRepository.checkUserAlarm(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        alarmServiceImpl.checkUserAlarm(1L, user.getId());
+
+        // then
+        verify(alarmUnreadCounter, never()).decrement(anyLong());
+    }
+
+    @Test
+    void 다른_회원의_알림_확인_시_예외_처리_검증() {
+        // given
+        Alarm alarm = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), 1L);
+        UserAlarm userAlarm = createUserAlarm(false, alarm);
+
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(userAlarmRepository.findById(any(Long.class))).thenReturn(Optional.of(userAlarm));
+
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            alarmServiceImpl.checkUserAlarm(1L, 2L);
+        });
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        assertEquals(AlarmResponseMessage.ALARM_NOT_FOUND, exception.getReason());
+        verify(userAlarmRepository, never()).checkUserAlarm(anyLong(), any(LocalDateTime.class));
+        verify(alarmUnreadCounter, never()).decrement(anyLong());
     }
 
     @Test
@@ -249,6 +352,64 @@ public class AlarmServiceImplTest {
 
         // then
         assertEquals(alarmId, userAlarm.getId());
+        verify(userAlarmRepository, never()).checkUserAlarm(anyLong(), any(LocalDateTime.class));
+        verify(alarmUnreadCounter, never()).decrement(anyLong());
+    }
+
+    @Test
+    void 전체_알림_확인_시_확인_기록_저장_검증() {
+        // given
+        Alarm alarm = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), null);
+        alarm.setId(1L);
+        alarm.setIsBroadcast(true);
+
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(alarmRepository.findById(1L)).thenReturn(Optional.of(alarm));
+        when(broadcastAlarmReadRepository.existsByUserIdAndAlarmId(user.getId(), 1L)).thenReturn(false);
+
+        // when
+        Long alarmId = alarmServiceImpl.checkBroadcastAlarm(1L, user.getId());
+
+        // then
+        assertEquals(1L, alarmId);
+        verify(broadcastAlarmReadRepository, times(1)).save(any(BroadcastAlarmRead.class));
+    }
+
+    @Test
+    void 이미_확인한_전체_알림_확인_시_중복_저장하지_않음_검증() {
+        // given
+        Alarm alarm = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), null);
+        alarm.setId(1L);
+        alarm.setIsBroadcast(true);
+
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(alarmRepository.findById(1L)).thenReturn(Optional.of(alarm));
+        when(broadcastAlarmReadRepository.existsByUserIdAndAlarmId(user.getId(), 1L)).thenReturn(true);
+
+        // when
+        alarmServiceImpl.checkBroadcastAlarm(1L, user.getId());
+
+        // then
+        verify(broadcastAlarmReadRepository, never()).save(any(BroadcastAlarmRead.class));
+    }
+
+    @Test
+    void 전체_알림이_아닌_알림을_전체_알림으로_확인하면_예외_처리_검증() {
+        // given
+        Alarm alarm = createAlarm("제목1", "내용1", AlarmType.NEWS.toString(), 1L);
+        alarm.setId(1L);
+
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(alarmRepository.findById(1L)).thenReturn(Optional.of(alarm));
+
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                alarmServiceImpl.checkBroadcastAlarm(1L, user.getId())
+        );
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        assertEquals(AlarmResponseMessage.ALARM_NOT_FOUND, exception.getReason());
     }
 
     @Test
@@ -272,12 +433,78 @@ public class AlarmServiceImplTest {
         LocalDateTime cutoff = LocalDateTime.now()
                 .minusDays(AlarmServiceConstant.ALARM_DELETE_DAYS).truncatedTo(ChronoUnit.SECONDS);
 
+        List<Long> alarmIds = List.of(1L, 2L);
+        when(retentionPurgeEngine.getBatchSize()).thenReturn(2);
+        when(retentionPurgeEngine.purge(eq(AlarmServiceConstant.ALARM_PURGE_TARGET), any(), any())).thenAnswer(invocation -> {
+            RetentionPurgeEngine.ChunkSource source = invocation.getArgument(1);
+            ToIntFunction<List<Long>> deleter = invocation.getArgument(2);
+            return (long) deleter.applyAsInt(source.next(0L, 2));
+        });
+        when(alarmRepository.findIdsOlderThan(any(LocalDateTime.class), eq(0L), any(Pageable.class))).thenReturn(alarmIds);
+        when(alarmPurgeRepository.deleteUserAlarms(alarmIds, 2)).thenReturn(2, 1);
+        when(alarmPurgeRepository.deleteBroadcastAlarmReads(alarmIds, 2)).thenReturn(0);
+        when(alarmRepository.deleteAllByIdInAndOlderThan(eq(alarmIds), any(LocalDateTime.class))).thenReturn(2);
+
         // when
         alarmServiceImpl.deleteAlarms();
 
         // then
-        verify(alarmRepository, times(1)).deleteAllOlderThan(argThat(actualCutoff ->
+        verify(alarmRepository, times(1)).findIdsOlderThan(argThat(actualCutoff ->
+                actualCutoff.truncatedTo(ChronoUnit.SECONDS).equals(cutoff)
+        ), eq(0L), any(Pageable.class));
+        verify(alarmPurgeRepository, times(2)).deleteUserAlarms(alarmIds, 2);
+        verify(alarmPurgeRepository, times(1)).deleteBroadcastAlarmReads(alarmIds, 2);
+        verify(alarmRepository, times(1)).deleteAllByIdInAndOlderThan(eq(alarmIds), argThat(actualCutoff ->
                 actualCutoff.truncatedTo(ChronoUnit.SECONDS).equals(cutoff)
         ));
+        verify(alarmUnreadCounter, times(1)).evictAll();
+    }
+
+    @Test
+    void 확인하지_않은_알림_수_카운터_조회_검증() {
+        // given
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(alarmUnreadCounter.get(user.getId())).thenReturn(Optional.of(3L));
+        when(alarmRepository.countUnreadBroadcastAlarms(eq(user.getId()), any(LocalDateTime.class))).thenReturn(1L);
+
+        // when
+        Long unreadCount = alarmServiceImpl.getUnreadAlarmCount(user.getId());
+
+        // then
+        assertEquals(4L, unreadCount);
+        verify(userAlarmRepository, never()).countByUserIdAndIsCheckedFalse(anyLong());
+    }
+
+    @Test
+    void 카운터가_없으면_DB에서_세어_적재_검증() {
+        // given
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(alarmUnreadCounter.get(user.getId())).thenReturn(Optional.empty());
+        when(userAlarmRepository.countByUserIdAndIsCheckedFalse(user.getId())).thenReturn(5L);
+        when(alarmRepository.countUnreadBroadcastAlarms(eq(user.getId()), any(LocalDateTime.class))).thenReturn(0L);
+
+        // when
+        Long unreadCount = alarmServiceImpl.getUnreadAlarmCount(user.getId());
+
+        // then
+        assertEquals(5L, unreadCount);
+        verify(alarmUnreadCounter, times(1)).load(user.getId(), 5L);
+    }
+
+    @Test
+    void 모든_알림_일괄_확인_검증() {
+        // given
+        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        when(userAlarmRepository.checkAllUserAlarms(eq(user.getId()), any(LocalDateTime.class))).thenReturn(3);
+        when(broadcastAlarmReadRepository.checkAllBroadcastAlarms(eq(user.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        // when
+        Integer checkedCount = alarmServiceImpl.checkAllAlarms(user.getId());
+
+        // then
+        assertEquals(5, checkedCount);
+        verify(alarmUnreadCounter, times(1)).evict(user.getId());
+        verify(broadcastAlarmReadRepository, never()).save(any(BroadcastAlarmRead.class));
     }
 }
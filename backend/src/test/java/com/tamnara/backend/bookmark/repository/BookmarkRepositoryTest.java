@@ -2,6 +2,7 @@ package com.tamnara.backend.bookmark.repository;
 
 import com.tamnara.backend.bookmark.constant.BookmarkServiceConstant;
 import com.tamnara.backend.bookmark.domain.Bookmark;
+import com.tamnara.backend.bookmark.dto.BookmarkAlarmTargetDTO;
 import com.tamnara.backend.config.TestConfig;
 import com.tamnara.backend.news.domain.News;
 import com.tamnara.backend.news.repository.NewsRepository;
@@ -24,12 +25,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @Import(TestConfig.class)
@@ -199,18 +202,16 @@ public class BookmarkRepositoryTest {
         // given
         Bookmark bookmark1 = createBookmark(news, user);
         bookmarkRepository.saveAndFlush(bookmark1);
-        try { Thread.sleep(1000); } catch (InterruptedException e) {}
 
         Bookmark bookmark2 = createBookmark(news, user);
         bookmarkRepository.saveAndFlush(bookmark2);
-        try { Thread.sleep(1000); } catch (InterruptedException e) {}
 
         Bookmark bookmark3 = createBookmark(news, user);
         bookmarkRepository.saveAndFlush(bookmark3);
         em.clear();
 
         // when
-        Pageable pageable = PageRequest.of(0, BookmarkServiceConstant.PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(0, BookmarkServiceConstant.PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
         Page<Bookmark> bookmarkPage = bookmarkRepository.findByUser(user, pageable);
         List<Bookmark> bookmarkList = bookmarkPage.getContent();
 
@@ -247,6 +248,42 @@ public class BookmarkRepositoryTest {
         assertEquals(user3.getId(), receiverIdList.get(2));
     }
 
+    @Test
+    void 뉴스_ID_목록으로_북마크_알림_대상을_뉴스와_회원_순서로_조회_검증() {
+        // given
+        User user1 = createUser(1L);
+        User user2 = createUser(2L);
+
+        News news2 = new News();
+        news2.setTitle("제목2");
+        news2.setSummary("미리보기 내용2");
+        news2.setIsHotissue(true);
+        newsRepository.saveAndFlush(news2);
+        em.clear();
+
+        bookmarkRepository.saveAndFlush(createBookmark(news2, user1));
+        bookmarkRepository.saveAndFlush(createBookmark(news, user2));
+        bookmarkRepository.saveAndFlush(createBookmark(news, user1));
+        em.clear();
+
+        // when
+        List<BookmarkAlarmTargetDTO> targets = bookmarkRepository.findAlarmTargetsByNewsIdIn(
+                List.of(news.getId(), news2.getId()), LocalDateTime.now().plusDays(1));
+        List<BookmarkAlarmTargetDTO> expired = bookmarkRepository.findAlarmTargetsByNewsIdIn(
+                List.of(news.getId(), news2.getId()), LocalDateTime.now().minusDays(1));
+
+        // then
+        assertEquals(3, targets.size());
+        assertEquals(news.getId(), targets.get(0).getNewsId());
+        assertEquals(news.getTitle(), targets.get(0).getTitle());
+        assertEquals(user1.getId(), targets.get(0).getUserId());
+        assertEquals(news.getId(), targets.get(1).getNewsId());
+        assertEquals(user2.getId(), targets.get(1).getUserId());
+        assertEquals(news2.getId(), targets.get(2).getNewsId());
+        assertEquals(user1.getId(), targets.get(2).getUserId());
+        assertTrue(expired.isEmpty());
+    }
+
     @Test
     void 뉴스_삭제_시_연관된_북마크_CASCADE_검증() {
         // given
@@ -7,12 +7,11 @@ import com.tamnara.backend.bookmark.dto.response.BookmarkAddResponse;
 import com.tamnara.backend.bookmark.dto.response.BookmarkListResponse;
 import com.tamnara.backend.bookmark.repository.BookmarkRepository;
 import com.tamnara.backend.global.constant.ResponseMessage;
-import com.tamnara.backend.news.domain.Category;
-import com.tamnara.backend.news.domain.CategoryType;
+import com.tamnara.backend.global.util.CursorCodec;
 import com.tamnara.backend.news.domain.News;
-import com.tamnara.backend.news.domain.NewsImage;
-import com.tamnara.backend.news.repository.NewsImageRepository;
+import com.tamnara.backend.news.dto.NewsCardDTO;
 import com.tamnara.backend.news.repository.NewsRepository;
+import com.tamnara.backend.news.service.NewsCardAssembler;
 import com.tamnara.backend.user.domain.User;
 import com.tamnara.backend.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +24,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
@@ -35,8 +36,11 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +49,7 @@ public class BookmarkServiceImplTest {
     @Mock private BookmarkRepository bookmarkRepository;
     @Mock private UserRepository userRepository;
     @Mock private NewsRepository newsRepository;
-    @Mock private NewsImageRepository newsImageRepository;
+    @Mock private NewsCardAssembler newsCardAssembler;
 
     @InjectMocks private BookmarkServiceImpl bookmarkServiceImpl;
 
@@ -148,34 +152,21 @@ public class BookmarkServiceImplTest {
         News news3 = mock(News.class);
         when(news3.getId()).thenReturn(newsId + 3);
 
-        Category category = mock(Category.class);
-        category.setName(CategoryType.ECONOMY);
-        when(news1.getCategory()).thenReturn(category);
-        when(news2.getCategory()).thenReturn(null);
-        when(news3.getCategory()).thenReturn(category);
-
-        NewsImage newsImage1 = mock(NewsImage.class);
-        NewsImage newsImage2 = mock(NewsImage.class);
-
         Bookmark bookmark1 = createBookmark(1L, user, news1);
         Bookmark bookmark2 = createBookmark(2L, user, news2);
         Bookmark bookmark3 = createBookmark(3L, user, news3);
         List<Bookmark> bookmarkList = List.of(bookmark3, bookmark2, bookmark1);
 
-        Pageable pageable = PageRequest.of(0, BookmarkServiceConstant.PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(0, BookmarkServiceConstant.PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
         Page<Bookmark> bookmarkPage = new PageImpl<>(bookmarkList, pageable, bookmarkList.size());
 
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-
-        when(newsRepository.findById(news1.getId())).thenReturn(Optional.of(news1));
-        when(newsRepository.findById(news2.getId())).thenReturn(Optional.of(news2));
-        when(newsRepository.findById(news3.getId())).thenReturn(Optional.of(news3));
-
-        when(newsImageRepository.findByNewsId((news1.getId()))).thenReturn(Optional.of(newsImage1));
-        when(newsImageRepository.findByNewsId((news2.getId()))).thenReturn(Optional.of(newsImage2));
-        when(newsImageRepository.findByNewsId((news3.getId()))).thenReturn(Optional.empty());
+        List<NewsCardDTO> newsCardDTOList = bookmarkList.stream()
+                .map(b -> new NewsCardDTO(b.getNews().getId(), null, null, null, null, null, true, b.getCreatedAt()))
+                .toList();
 
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(bookmarkRepository.findByUser(user, pageable)).thenReturn(bookmarkPage);
+        when(newsCardAssembler.assembleBookmarked(bookmarkList)).thenReturn(newsCardDTOList);
 
         // when
         BookmarkListResponse response = bookmarkServiceImpl.getBookmarkedNewsList(user.getId(), 0);
@@ -187,6 +178,32 @@ public class BookmarkServiceImplTest {
         assertEquals(news1.getId(), response.getBookmarks().get(2).getId());
         assertEquals(BookmarkServiceConstant.PAGE_SIZE, response.getOffset());
         assertFalse(response.isHasNext());
+        verify(bookmarkRepository, times(1)).findByUser(user, pageable);
+    }
+
+    @Test
+    void 커서_기반_북마크한_뉴스_카드_목록_조회_검증() {
+        // given
+        News news1 = mock(News.class);
+        News news2 = mock(News.class);
+        Bookmark bookmark1 = createBookmark(5L, user, news1);
+        Bookmark bookmark2 = createBookmark(4L, user, news2);
+        List<Bookmark> bookmarkList = List.of(bookmark1, bookmark2);
+
+        Pageable pageable = PageRequest.of(0, BookmarkServiceConstant.PAGE_SIZE);
+        Slice<Bookmark> bookmarkSlice = new SliceImpl<>(bookmarkList, pageable, true);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(bookmarkRepository.findByUserIdAndIdLessThanOrderByIdDesc(user.getId(), 6L, pageable)).thenReturn(bookmarkSlice);
+        when(newsCardAssembler.assembleBookmarked(bookmarkList)).thenReturn(List.of(mock(NewsCardDTO.class), mock(NewsCardDTO.class)));
+
+        // when
+        BookmarkListResponse response = bookmarkServiceImpl.getBookmarkedNewsListByCursor(user.getId(), CursorCodec.encode(6L));
+
+        // then
+        assertEquals(2, response.getBookmarks().size());
+        assertTrue(response.isHasNext());
+        assertEquals(CursorCodec.encode(4L), response.getNextCursor());
     }
 
     @Test
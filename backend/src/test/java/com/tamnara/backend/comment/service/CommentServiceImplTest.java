@@ -6,6 +6,7 @@ import com.tamnara.backend.comment.domain.Comment;
 import com.tamnara.backend.comment.dto.request.CommentCreateRequest;
 import com.tamnara.backend.comment.dto.response.CommentListResponse;
 import com.tamnara.backend.comment.repository.CommentRepository;
+import com.tamnara.backend.global.util.CursorCodec;
 import com.tamnara.backend.news.domain.News;
 import com.tamnara.backend.news.repository.NewsRepository;
 import com.tamnara.backend.user.domain.User;
@@ -19,6 +20,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -28,6 +31,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -83,6 +87,35 @@ public class CommentServiceImplTest {
         assertFalse(response.isHasNext());
     }
 
+    @Test
+    void 커서_기반_댓글_목록_조회_검증() {
+        // given
+        Comment comment1 = createComment(user, news);
+        comment1.setId(9L);
+        Comment comment2 = createComment(user, news);
+        comment2.setId(8L);
+        Slice<Comment> commentSlice = new SliceImpl<>(Arrays.asList(comment1, comment2), PageRequest.of(0, CommentServiceConstant.PAGE_SIZE), true);
+
+        when(newsRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findByNewsIdAndIdLessThanOrderByIdDesc(news.getId(), 10L, PageRequest.of(0, CommentServiceConstant.PAGE_SIZE))).thenReturn(commentSlice);
+
+        // when
+        CommentListResponse response = commentServiceImpl.getCommentsByCursor(news.getId(), CursorCodec.encode(10L));
+
+        // then
+        assertEquals(2, response.getComments().size());
+        assertTrue(response.isHasNext());
+        assertEquals(CursorCodec.encode(8L), response.getNextCursor());
+    }
+
+    @Test
+    void 커서_형식이_올바르지_않으면_댓글_목록_조회_예외_처리_검증() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            commentServiceImpl.getCommentsByCursor(news.getId(), "잘못된커서");
+        });
+    }
+
     @Test
     void 댓글_저장_검증() {
         // given
@@ -0,0 +1,111 @@
+package com.tamnara.backend.global.purge;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetentionPurgeEngineTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private MeterRegistry meterRegistry;
+    private RetentionPurgeEngine retentionPurgeEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retentionPurgeEngine = new RetentionPurgeEngine(BATCH_SIZE, 0L, meterRegistry);
+    }
+
+    private RetentionPurgeEngine.ChunkSource sourceOf(List<Long> ids, List<Long> afterIds) {
+        return (afterId, limit) -> {
+            afterIds.add(afterId);
+            return ids.stream().filter(id -> id > afterId).limit(limit).toList();
+        };
+    }
+
+    @Test
+    void 기본_키_순서대로_청크_단위_삭제_검증() {
+        // given
+        List<Long> afterIds = new ArrayList<>();
+        List<List<Long>> chunks = new ArrayList<>();
+
+        // when
+        long deleted = retentionPurgeEngine.purge(
+                "test",
+                sourceOf(List.of(1L, 3L, 5L, 7L, 9L), afterIds),
+                ids -> {
+                    chunks.add(ids);
+                    return ids.size();
+                }
+        );
+
+        // then
+        assertEquals(5L, deleted);
+        assertEquals(List.of(List.of(1L, 3L), List.of(5L, 7L), List.of(9L)), chunks);
+        assertEquals(List.of(0L, 3L, 7L), afterIds);
+    }
+
+    @Test
+    void 청크가_가득_차면_빈_청크를_만날_때까지_조회_검증() {
+        // given
+        List<Long> afterIds = new ArrayList<>();
+
+        // when
+        long deleted = retentionPurgeEngine.purge("test", sourceOf(List.of(1L, 2L), afterIds), List::size);
+
+        // then
+        assertEquals(2L, deleted);
+        assertEquals(List.of(0L, 2L), afterIds);
+    }
+
+    @Test
+    void 삭제_대상이_없으면_삭제하지_않음_검증() {
+        // given
+        List<List<Long>> chunks = new ArrayList<>();
+
+        // when
+        long deleted = retentionPurgeEngine.purge(
+                "test",
+                sourceOf(List.of(), new ArrayList<>()),
+                ids -> {
+                    chunks.add(ids);
+                    return ids.size();
+                }
+        );
+
+        // then
+        assertEquals(0L, deleted);
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    void 조건이_바뀌어_남은_행은_삭제_수에서_제외하고_다음_청크로_진행_검증() {
+        // when
+        long deleted = retentionPurgeEngine.purge(
+                "test",
+                sourceOf(List.of(1L, 2L, 3L), new ArrayList<>()),
+                ids -> ids.contains(2L) ? ids.size() - 1 : ids.size()
+        );
+
+        // then
+        assertEquals(2L, deleted);
+    }
+
+    @Test
+    void 삭제_수와_청크_처리_시간_메트릭_기록_검증() {
+        // when
+        retentionPurgeEngine.purge("test", sourceOf(List.of(1L, 2L, 3L), new ArrayList<>()), List::size);
+
+        // then
+        assertEquals(3.0, meterRegistry.get("retention.purge.deleted").tag("target", "test").counter().count());
+        assertEquals(2L, meterRegistry.get("retention.purge.chunk.duration").tag("target", "test").timer().count());
+    }
+}
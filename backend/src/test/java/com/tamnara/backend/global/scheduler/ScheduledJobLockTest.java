@@ -0,0 +1,96 @@
+package com.tamnara.backend.global.scheduler;
+
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobLockTest {
+
+    private static final String KEY = "SCHEDULED_JOB_LOCK:test.job";
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks private ScheduledJobLock scheduledJobLock;
+
+    @Test
+    void 락_획득_검증() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(KEY, "token", Duration.ofMinutes(10))).thenReturn(true);
+
+        // when & then
+        assertTrue(scheduledJobLock.tryAcquire("test.job", "token", Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void 다른_서버가_락을_가지고_있으면_획득_실패_검증() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(KEY, "token", Duration.ofMinutes(10))).thenReturn(false);
+
+        // when & then
+        assertFalse(scheduledJobLock.tryAcquire("test.job", "token", Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void Redis_장애_시_락을_얻지_못한_것으로_처리_검증() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when & then
+        assertFalse(scheduledJobLock.tryAcquire("test.job", "token", Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void 최소_유지_시간보다_빨리_끝나면_남은_시간만큼_락_유지_검증() {
+        // given
+        Duration elapsed = Duration.ofMinutes(1);
+        String holdMs = String.valueOf(ScheduledJobConstant.JOB_LOCK_MIN_HOLD.minus(elapsed).toMillis());
+
+        // when
+        scheduledJobLock.release("test.job", "token", elapsed);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("token"), eq(holdMs));
+    }
+
+    @Test
+    void 최소_유지_시간이_지났으면_락_즉시_해제_검증() {
+        // when
+        scheduledJobLock.release("test.job", "token", ScheduledJobConstant.JOB_LOCK_MIN_HOLD.plusMinutes(1));
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("token"), eq("0"));
+    }
+
+    @Test
+    void 락_해제_실패_시_예외를_전파하지_않음_검증() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when & then
+        assertDoesNotThrow(() -> scheduledJobLock.release("test.job", "token", Duration.ZERO));
+    }
+}
@@ -0,0 +1,150 @@
+package com.tamnara.backend.global.scheduler;
+
+import com.tamnara.backend.global.scheduler.domain.ScheduledJobOutcome;
+import com.tamnara.backend.global.scheduler.domain.ScheduledJobRun;
+import com.tamnara.backend.global.scheduler.repository.ScheduledJobRunRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobRunnerTest {
+
+    private static final String JOB = "test.job";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Mock private ScheduledJobLock scheduledJobLock;
+    @Mock private ScheduledJobRunRepository scheduledJobRunRepository;
+
+    private MeterRegistry meterRegistry;
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduledJobRunner = new ScheduledJobRunner(scheduledJobLock, scheduledJobRunRepository, meterRegistry);
+    }
+
+    @Test
+    void 락을_얻으면_작업_실행_후_성공_기록_검증() {
+        // given
+        when(scheduledJobLock.tryAcquire(eq(JOB), anyString(), eq(LEASE))).thenReturn(true);
+
+        // when
+        scheduledJobRunner.run(JOB, LEASE, () -> 7L);
+
+        // then
+        ArgumentCaptor<ScheduledJobRun> captor = ArgumentCaptor.forClass(ScheduledJobRun.class);
+        verify(scheduledJobRunRepository, times(2)).save(captor.capture());
+
+        ScheduledJobRun run = captor.getValue();
+        assertEquals(JOB, run.getJobName());
+        assertEquals(ScheduledJobOutcome.SUCCESS, run.getOutcome());
+        assertEquals(7L, run.getItemsProcessed());
+        assertNotNull(run.getStartedAt());
+        assertNotNull(run.getFinishedAt());
+        assertNotNull(run.getDurationMs());
+
+        verify(scheduledJobLock, times(1)).release(eq(JOB), anyString(), any(Duration.class));
+        assertEquals(1L, meterRegistry.get("scheduled.job.duration").tag("job", JOB).tag("outcome", "SUCCESS").timer().count());
+        assertEquals(7.0, meterRegistry.get("scheduled.job.items").tag("job", JOB).counter().count());
+    }
+
+    @Test
+    void 락을_얻지_못하면_작업을_건너뜀_검증() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        when(scheduledJobLock.tryAcquire(eq(JOB), anyString(), eq(LEASE))).thenReturn(false);
+
+        // when
+        scheduledJobRunner.run(JOB, LEASE, executed::incrementAndGet);
+
+        // then
+        assertEquals(0, executed.get());
+        verify(scheduledJobRunRepository, never()).save(any(ScheduledJobRun.class));
+        verify(scheduledJobLock, never()).release(anyString(), anyString(), any(Duration.class));
+        assertEquals(1.0, meterRegistry.get("scheduled.job.skipped").tag("job", JOB).counter().count());
+    }
+
+    @Test
+    void 작업_실패_시_실패_기록_후_락_해제_검증() {
+        // given
+        when(scheduledJobLock.tryAcquire(eq(JOB), anyString(), eq(LEASE))).thenReturn(true);
+
+        // when
+        assertDoesNotThrow(() -> scheduledJobRunner.run(JOB, LEASE, () -> {
+            throw new IllegalStateException("작업 실패");
+        }));
+
+        // then
+        ArgumentCaptor<ScheduledJobRun> captor = ArgumentCaptor.forClass(ScheduledJobRun.class);
+        verify(scheduledJobRunRepository, times(2)).save(captor.capture());
+        assertEquals(ScheduledJobOutcome.FAILED, captor.getValue().getOutcome());
+        assertEquals("작업 실패", captor.getValue().getErrorMessage());
+
+        verify(scheduledJobLock, times(1)).release(eq(JOB), anyString(), any(Duration.class));
+        assertEquals(1L, meterRegistry.get("scheduled.job.duration").tag("job", JOB).tag("outcome", "FAILED").timer().count());
+    }
+
+    @Test
+    void 실행_기록_저장_실패해도_작업_실행_검증() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        when(scheduledJobLock.tryAcquire(eq(JOB), anyString(), eq(LEASE))).thenReturn(true);
+        when(scheduledJobRunRepository.save(any(ScheduledJobRun.class))).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        scheduledJobRunner.run(JOB, LEASE, executed::incrementAndGet);
+
+        // then
+        assertEquals(1, executed.get());
+        verify(scheduledJobLock, times(1)).release(eq(JOB), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void 이미_성공한_한_번만_실행할_작업은_건너뜀_검증() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        when(scheduledJobRunRepository.existsByJobNameAndOutcome(JOB, ScheduledJobOutcome.SUCCESS)).thenReturn(true);
+
+        // when
+        scheduledJobRunner.runOnce(JOB, LEASE, executed::incrementAndGet);
+
+        // then
+        assertEquals(0, executed.get());
+        verify(scheduledJobLock, never()).tryAcquire(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void 성공한_기록이_없으면_한_번만_실행할_작업을_실행_검증() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        when(scheduledJobRunRepository.existsByJobNameAndOutcome(JOB, ScheduledJobOutcome.SUCCESS)).thenReturn(false);
+        when(scheduledJobLock.tryAcquire(eq(JOB), anyString(), eq(LEASE))).thenReturn(true);
+
+        // when
+        scheduledJobRunner.runOnce(JOB, LEASE, executed::incrementAndGet);
+
+        // then
+        assertEquals(1, executed.get());
+    }
+}
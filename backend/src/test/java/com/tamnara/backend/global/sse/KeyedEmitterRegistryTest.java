@@ -0,0 +1,121 @@
+package com.tamnara.backend.global.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyedEmitterRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private KeyedEmitterRegistry keyedEmitterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        keyedEmitterRegistry = new KeyedEmitterRegistry("test", 1000L, meterRegistry, "test.sse.connections", "테스트 연결 수");
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyedEmitterRegistry.shutdown();
+    }
+
+    @Test
+    void 키별_연결_수_집계_검증() {
+        // when
+        keyedEmitterRegistry.register(1L);
+        keyedEmitterRegistry.register(1L);
+        keyedEmitterRegistry.register(2L);
+
+        // then
+        assertEquals(3, keyedEmitterRegistry.getConnectionCnt());
+        assertEquals(Set.of(1L, 2L), keyedEmitterRegistry.getKeys());
+        assertEquals(3.0, meterRegistry.get("test.sse.connections").gauge().value());
+    }
+
+    @Test
+    void 전송에_실패한_연결은_제거_검증() {
+        // given
+        SseEmitter emitter = keyedEmitterRegistry.register(1L);
+        emitter.complete();
+
+        // when
+        boolean sent = keyedEmitterRegistry.send(1L, emitter, SseEmitter.event().comment("heartbeat"));
+
+        // then
+        assertFalse(sent);
+        assertEquals(0, keyedEmitterRegistry.getConnectionCnt());
+        assertEquals(Set.of(), keyedEmitterRegistry.getKeys());
+    }
+
+    @Test
+    void 연결이_없는_키로의_전송은_무시_검증() {
+        // given
+        keyedEmitterRegistry.register(1L);
+
+        // when & then
+        assertDoesNotThrow(() -> keyedEmitterRegistry.sendAsync(2L, () -> SseEmitter.event().comment("heartbeat")));
+        assertEquals(1, keyedEmitterRegistry.getConnectionCnt());
+    }
+
+    @Test
+    void 같은_키의_연결과_해제가_동시에_일어나도_연결이_유실되지_않음_검증() throws InterruptedException {
+        // given
+        int taskCnt = 1000;
+        ConcurrentLinkedQueue<SseEmitter> keptEmitters = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(taskCnt);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < taskCnt; i++) {
+            boolean keep = i % 2 == 0;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    SseEmitter emitter = keyedEmitterRegistry.register(1L);
+                    if (keep) {
+                        keptEmitters.add(emitter);
+                    } else {
+                        emitter.complete();
+                        keyedEmitterRegistry.send(1L, emitter, SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertEquals(taskCnt / 2, keyedEmitterRegistry.getConnectionCnt());
+        assertEquals(Set.of(1L), keyedEmitterRegistry.getKeys());
+
+        // 남은 연결이 모두 맵에 있어야 해제 시 게이지가 0으로 돌아온다.
+        for (SseEmitter emitter : List.copyOf(keptEmitters)) {
+            emitter.complete();
+            keyedEmitterRegistry.send(1L, emitter, SseEmitter.event().comment("heartbeat"));
+        }
+        assertEquals(0, keyedEmitterRegistry.getConnectionCnt());
+        assertEquals(Set.of(), keyedEmitterRegistry.getKeys());
+    }
+}
@@ -0,0 +1,174 @@
+package com.tamnara.backend.news.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.domain.CategoryType;
+import com.tamnara.backend.news.dto.NewsDetailDTO;
+import com.tamnara.backend.news.dto.StatisticsDTO;
+import com.tamnara.backend.news.dto.TimelineCardDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsDetailCacheTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private MeterRegistry meterRegistry;
+    private NewsDetailCache newsDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        newsDetailCache = new NewsDetailCache(redisTemplate, objectMapper, meterRegistry);
+    }
+
+    private NewsDetailDTO createNewsDetail(Long newsId) {
+        TimelineCardDTO timelineCard = new TimelineCardDTO(
+                "제목",
+                "내용",
+                List.of("source1"),
+                "DAY",
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 1, 1)
+        );
+        return new NewsDetailDTO(
+                newsId,
+                "제목",
+                "url",
+                CategoryType.ECONOMY.toString(),
+                LocalDateTime.of(2025, 1, 1, 12, 0),
+                false,
+                List.of(timelineCard),
+                new StatisticsDTO(10, 20, 70)
+        );
+    }
+
+    private static final String TTL_MS = String.valueOf(NewsServiceConstant.NEWS_DETAIL_CACHE_TTL.toMillis());
+
+    private double count(String result) {
+        return meterRegistry.get("news.detail.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    void 캐시에_저장한_뉴스_상세_정보_조회_검증() throws Exception {
+        // given
+        NewsDetailDTO newsDetail = createNewsDetail(1L);
+        newsDetailCache.put(newsDetail, 0L);
+
+        ArgumentCaptor<String> valueCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of("NEWS_DETAIL:1", "NEWS_DETAIL_VERSION:1")),
+                eq("0"),
+                valueCaptor.capture(),
+                eq(TTL_MS)
+        );
+        when(valueOperations.get("NEWS_DETAIL:1")).thenReturn(valueCaptor.getValue());
+
+        // when
+        Optional<NewsDetailDTO> cached = newsDetailCache.get(1L);
+
+        // then
+        assertTrue(cached.isPresent());
+        assertEquals(newsDetail.getTitle(), cached.get().getTitle());
+        assertEquals(newsDetail.getUpdatedAt(), cached.get().getUpdatedAt());
+        assertEquals(1, cached.get().getTimeline().size());
+        assertEquals(70, cached.get().getStatistics().getNegative());
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    void 캐시에_없는_뉴스_상세_정보_조회_시_미스_처리_검증() {
+        // given
+        when(valueOperations.get("NEWS_DETAIL:1")).thenReturn(null);
+
+        // when
+        Optional<NewsDetailDTO> cached = newsDetailCache.get(1L);
+
+        // then
+        assertTrue(cached.isEmpty());
+        assertEquals(1.0, count("miss"));
+    }
+
+    @Test
+    void Redis_장애_시_미스_처리_검증() {
+        // given
+        when(valueOperations.get("NEWS_DETAIL:1")).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        Optional<NewsDetailDTO> cached = newsDetailCache.get(1L);
+
+        // then
+        assertTrue(cached.isEmpty());
+        assertEquals(1.0, count("miss"));
+    }
+
+    @Test
+    void 뉴스_상세_캐시_무효화_시_버전도_함께_증가_검증() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(2L);
+
+        // when
+        newsDetailCache.evict(List.of(1L, 2L));
+
+        // then
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of("NEWS_DETAIL:1", "NEWS_DETAIL_VERSION:1", "NEWS_DETAIL:2", "NEWS_DETAIL_VERSION:2")),
+                eq(TTL_MS)
+        );
+        assertEquals(2.0, count("eviction"));
+    }
+
+    @Test
+    void 캐시_버전이_없으면_0으로_조회_검증() {
+        // given
+        when(valueOperations.get("NEWS_DETAIL_VERSION:1")).thenReturn(null);
+
+        // when & then
+        assertEquals(0L, newsDetailCache.getVersion(1L));
+    }
+
+    @Test
+    void 캐시_버전을_알_수_없으면_저장하지_않음_검증() {
+        // given
+        when(valueOperations.get("NEWS_DETAIL_VERSION:1")).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        long version = newsDetailCache.getVersion(1L);
+        newsDetailCache.put(createNewsDetail(1L), version);
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+}
@@ -0,0 +1,87 @@
+package com.tamnara.backend.news.cache;
+
+import com.tamnara.backend.news.domain.Tag;
+import com.tamnara.backend.news.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock private TagRepository tagRepository;
+
+    private MeterRegistry meterRegistry;
+    private TagDictionary tagDictionary;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tagDictionary = new TagDictionary(tagRepository, meterRegistry);
+    }
+
+    private Tag createTag(Long id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        return tag;
+    }
+
+    @Test
+    void 캐시에_없는_태그만_DB에서_조회_검증() {
+        // given
+        when(tagRepository.findAllByNameIn(List.of("태그1", "태그2"))).thenReturn(List.of(createTag(1L, "태그1"), createTag(2L, "태그2")));
+        when(tagRepository.findAllByNameIn(List.of("태그3"))).thenReturn(List.of(createTag(3L, "태그3")));
+        tagDictionary.resolve(List.of("태그1", "태그2"));
+
+        // when
+        Set<Long> tagIds = tagDictionary.resolve(List.of("태그1", "태그2", "태그3"));
+
+        // then
+        assertEquals(Set.of(1L, 2L, 3L), tagIds);
+        verify(tagRepository, times(1)).findAllByNameIn(List.of("태그3"));
+        assertEquals(2.0, meterRegistry.get("news.tag.dictionary").tag("result", "hit").counter().count());
+        assertEquals(3.0, meterRegistry.get("news.tag.dictionary").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void 존재하지_않는_태그는_제외하고_캐싱하지_않음_검증() {
+        // given
+        when(tagRepository.findAllByNameIn(List.of("없는태그"))).thenReturn(List.of());
+
+        // when
+        Set<Long> first = tagDictionary.resolve(List.of("없는태그"));
+        Set<Long> second = tagDictionary.resolve(List.of("없는태그"));
+
+        // then
+        assertEquals(Set.of(), first);
+        assertEquals(Set.of(), second);
+        verify(tagRepository, times(2)).findAllByNameIn(List.of("없는태그"));
+    }
+
+    @Test
+    void 태그_사전_무효화_후_다시_조회_검증() {
+        // given
+        when(tagRepository.findAllByNameIn(List.of("태그1"))).thenReturn(List.of(createTag(1L, "태그1")));
+        tagDictionary.resolve(List.of("태그1"));
+
+        // when
+        tagDictionary.clear();
+        tagDictionary.resolve(List.of("태그1"));
+
+        // then
+        verify(tagRepository, times(2)).findAllByNameIn(List.of("태그1"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.tamnara.backend.news.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AiCircuitBreakerTest {
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private MutableClock clock;
+    private AiCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        circuitBreaker = new AiCircuitBreaker(3, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void 연속_실패가_임계치에_도달하면_열림_검증() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(AiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void 성공_시_연속_실패_횟수_초기화_검증() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(AiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void 대기_시간_이후_시험_요청_한_건만_허용_검증() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // when
+        clock.advance(Duration.ofSeconds(30));
+
+        // then
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(AiCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess();
+        assertEquals(AiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void 시험_요청_실패_시_다시_열림_검증() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        clock.advance(Duration.ofSeconds(30));
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(AiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void 취소된_요청은_실패로_세지_않음_검증() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onCancel();
+        circuitBreaker.onCancel();
+
+        // then
+        assertEquals(AiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void 시험_요청_취소_시_다음_요청이_시험_요청으로_허용_검증() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        clock.advance(Duration.ofSeconds(30));
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.onCancel();
+
+        // then
+        assertEquals(AiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(AiCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+}
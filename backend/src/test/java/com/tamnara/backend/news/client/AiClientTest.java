@@ -0,0 +1,209 @@
+package com.tamnara.backend.news.client;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tamnara.backend.global.dto.WrappedDTO;
+import com.tamnara.backend.global.exception.AIException;
+import com.tamnara.backend.news.constant.NewsExternalApiEndpoint;
+import com.tamnara.backend.news.dto.StatisticsDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AiClientTest {
+
+    private static final String SUCCESS_BODY = """
+            {"success":true,"message":"성공","data":{"positive":10,"neutral":20,"negative":70}}
+            """;
+    private static final String ERROR_BODY = """
+            {"success":false,"message":"실패"}
+            """;
+    private static final ParameterizedTypeReference<WrappedDTO<StatisticsDTO>> STATISTICS_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private record StubResponse(int status, String body) {}
+
+    private final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger hitCount = new AtomicInteger();
+
+    private HttpServer server;
+    private WebClient webClient;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 요청이 들어오면 미리 쌓아 둔 응답을 순서대로 돌려주는 로컬 AI 스텁 서버
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            hitCount.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+
+            StubResponse response = responses.poll();
+            if (response == null) {
+                response = new StubResponse(200, SUCCESS_BODY);
+            }
+
+            byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.start();
+
+        webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private AiClient createClient(int failureThreshold) {
+        AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(failureThreshold, Duration.ofMinutes(1), Clock.systemUTC());
+        return new AiClient(webClient, meterRegistry, circuitBreaker);
+    }
+
+    private double requestCount(String endpoint, String outcome) {
+        return meterRegistry.get("ai.client.requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    @Test
+    void AI_요청_성공_검증() {
+        // given
+        AiClient aiClient = createClient(5);
+
+        // when
+        WrappedDTO<StatisticsDTO> res = aiClient.post(
+                NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT, Map.of("keywords", List.of("키워드")), STATISTICS_TYPE, true
+        ).block();
+
+        // then
+        assertEquals(70, res.getData().getNegative());
+        assertEquals(1, hitCount.get());
+        assertEquals(1, requestCount(NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT, "success"));
+    }
+
+    @Test
+    void 멱등_요청_서버_오류_시_재시도_검증() {
+        // given
+        AiClient aiClient = createClient(5);
+        responses.add(new StubResponse(503, ERROR_BODY));
+
+        // when
+        WrappedDTO<StatisticsDTO> res = aiClient.post(
+                NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, true
+        ).block();
+
+        // then
+        assertEquals(10, res.getData().getPositive());
+        assertEquals(2, hitCount.get());
+        assertEquals(1.0, meterRegistry.get("ai.client.retries").tag("endpoint", NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT).counter().count());
+    }
+
+    @Test
+    void 클라이언트_오류는_재시도하지_않음_검증() {
+        // given
+        AiClient aiClient = createClient(5);
+        responses.add(new StubResponse(404, ERROR_BODY));
+
+        // when
+        AIException exception = assertThrows(AIException.class, () -> aiClient.post(
+                NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, true
+        ).block());
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+        assertEquals(1, hitCount.get());
+        assertEquals(1, requestCount(NewsExternalApiEndpoint.STATISTIC_AI_ENDPOINT, "error"));
+    }
+
+    @Test
+    void 멱등하지_않은_요청은_재시도하지_않음_검증() {
+        // given
+        AiClient aiClient = createClient(5);
+        responses.add(new StubResponse(500, ERROR_BODY));
+
+        // when
+        AIException exception = assertThrows(AIException.class, () -> aiClient.post(
+                NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, false
+        ).block());
+
+        // then
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatus());
+        assertEquals(1, hitCount.get());
+    }
+
+    @Test
+    void 연속_실패_시_서킷_브레이커가_요청_거절_검증() {
+        // given
+        AiClient aiClient = createClient(2);
+        responses.add(new StubResponse(500, ERROR_BODY));
+        responses.add(new StubResponse(500, ERROR_BODY));
+
+        assertThrows(AIException.class, () -> aiClient.post(
+                NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, false).block());
+        assertThrows(AIException.class, () -> aiClient.post(
+                NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, false).block());
+
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> aiClient.post(
+                NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, false).block());
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals(2, hitCount.get());
+        assertEquals(1.0, meterRegistry.get("ai.client.rejected").tag("endpoint", NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT).counter().count());
+    }
+
+    @Test
+    void 취소된_요청은_서킷_브레이커_실패로_세지_않음_검증() {
+        // given
+        AiClient aiClient = createClient(1);
+
+        // when
+        aiClient.post(NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, false)
+                .subscribe()
+                .dispose();
+        WrappedDTO<StatisticsDTO> res = aiClient.post(
+                NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, Map.of(), STATISTICS_TYPE, false
+        ).block();
+
+        // then
+        assertNotNull(res);
+        assertEquals(1, requestCount(NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, "cancelled"));
+        assertEquals(1, requestCount(NewsExternalApiEndpoint.TIMELINE_AI_ENDPOINT, "success"));
+    }
+}
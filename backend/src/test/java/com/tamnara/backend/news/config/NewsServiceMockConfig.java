@@ -1,5 +1,6 @@
 package com.tamnara.backend.news.config;
 
+import com.tamnara.backend.news.service.NewsJobService;
 import com.tamnara.backend.news.service.NewsService;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -11,4 +12,9 @@ public class NewsServiceMockConfig {
     public NewsService newsService() {
         return Mockito.mock(NewsService.class);
     }
+
+    @Bean
+    public NewsJobService newsJobService() {
+        return Mockito.mock(NewsJobService.class);
+    }
 }
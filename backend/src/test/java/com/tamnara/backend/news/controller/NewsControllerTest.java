@@ -6,9 +6,11 @@ import com.tamnara.backend.news.config.NewsServiceMockConfig;
 import com.tamnara.backend.news.constant.NewsResponseMessage;
 import com.tamnara.backend.news.constant.NewsServiceConstant;
 import com.tamnara.backend.news.domain.CategoryType;
+import com.tamnara.backend.news.domain.NewsJobStatus;
 import com.tamnara.backend.news.domain.TimelineCardType;
 import com.tamnara.backend.news.dto.NewsCardDTO;
 import com.tamnara.backend.news.dto.NewsDetailDTO;
+import com.tamnara.backend.news.dto.NewsJobDTO;
 import com.tamnara.backend.news.dto.StatisticsDTO;
 import com.tamnara.backend.news.dto.TimelineCardDTO;
 import com.tamnara.backend.news.dto.request.KtbNewsCreateRequest;
@@ -21,6 +23,7 @@ import com.tamnara.backend.news.dto.response.category.EntertainmentResponse;
 import com.tamnara.backend.news.dto.response.category.KtbResponse;
 import com.tamnara.backend.news.dto.response.category.MultiCategoryResponse;
 import com.tamnara.backend.news.dto.response.category.SportsResponse;
+import com.tamnara.backend.news.service.NewsJobService;
 import com.tamnara.backend.news.service.NewsService;
 import com.tamnara.backend.user.domain.Role;
 import com.tamnara.backend.user.domain.User;
@@ -49,6 +52,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -62,6 +66,7 @@ public class NewsControllerTest {
     @Autowired private ObjectMapper objectMapper;
 
     @Autowired private NewsService newsService;
+    @Autowired private NewsJobService newsJobService;
 
     private static final Long USER_ID = 1L;
 
@@ -89,6 +94,19 @@ public class NewsControllerTest {
         );
     }
 
+    private NewsJobDTO createNewsJobDTO(String id, NewsJobStatus status, Long newsId) {
+        return new NewsJobDTO(
+                id,
+                USER_ID,
+                status,
+                List.of("키워드1"),
+                newsId,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
     private NewsDetailDTO createNewsDetailDTO(Long id, boolean bookmarked) {
         TimelineCardDTO timelineCardDTO1 = createTimelineCardDTO();
         TimelineCardDTO timelineCardDTO2 = createTimelineCardDTO();
@@ -722,11 +740,10 @@ public class NewsControllerTest {
     }
 
     @Test
-    void 로그인_상태에서_뉴스_생성_검증() throws Exception {
+    void 로그인_상태에서_뉴스_생성_요청_접수_검증() throws Exception {
         // given
-        Long newsId = 1L;
-        NewsDetailDTO response = createNewsDetailDTO(newsId, true);
-        given(newsService.save(eq(USER_ID), eq(false), any(NewsCreateRequest.class))).willReturn(response);
+        NewsJobDTO job = createNewsJobDTO("job-1", NewsJobStatus.PENDING, null);
+        given(newsJobService.submit(eq(USER_ID), any(NewsCreateRequest.class))).willReturn(job);
 
         // when & then
         NewsCreateRequest request = new NewsCreateRequest(List.of("키워드1", "키워드1"));
@@ -735,11 +752,54 @@ public class NewsControllerTest {
                         .contentType("application/json")
                         .content(objectMapper.writeValueAsString(request))
                 )
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/news/jobs/job-1"))
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.message").value(NewsResponseMessage.NEWS_CREATED_SUCCESS))
-                .andExpect(jsonPath("$.data").isNotEmpty())
-                .andExpect(jsonPath("$.data.news.id").value(newsId));
+                .andExpect(jsonPath("$.message").value(NewsResponseMessage.NEWS_JOB_ACCEPTED))
+                .andExpect(jsonPath("$.data.job.id").value("job-1"))
+                .andExpect(jsonPath("$.data.job.status").value(NewsJobStatus.PENDING.name()));
+    }
+
+    @Test
+    void 뉴스_생성_대기열_초과_시_예외_처리_검증() throws Exception {
+        // given
+        given(newsJobService.submit(eq(USER_ID), any(NewsCreateRequest.class)))
+                .willThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, NewsResponseMessage.NEWS_JOB_QUEUE_FULL));
+
+        // when & then
+        NewsCreateRequest request = new NewsCreateRequest(List.of("키워드1"));
+        mockMvc.perform(
+                post("/news")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value(NewsResponseMessage.NEWS_JOB_QUEUE_FULL));
+    }
+
+    @Test
+    void 뉴스_생성_작업_상태_조회_검증() throws Exception {
+        // given
+        NewsJobDTO job = createNewsJobDTO("job-1", NewsJobStatus.SUCCEEDED, 10L);
+        given(newsJobService.getJob(USER_ID, "job-1")).willReturn(job);
+
+        // when & then
+        mockMvc.perform(get("/news/jobs/{jobId}", "job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value(NewsResponseMessage.NEWS_JOB_FETCH_SUCCESS))
+                .andExpect(jsonPath("$.data.job.status").value(NewsJobStatus.SUCCEEDED.name()))
+                .andExpect(jsonPath("$.data.job.newsId").value(10L));
+    }
+
+    @Test
+    void 로그아웃_상태에서_뉴스_생성_작업_상태_조회_불가_검증() throws Exception {
+        // given
+        SecurityContextHolder.clearContext();
+
+        // when & then
+        mockMvc.perform(get("/news/jobs/{jobId}", "job-1"))
+                .andExpect(status().isUnauthorized());
     }
 
     @Test
@@ -0,0 +1,164 @@
+package com.tamnara.backend.news.job;
+
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.domain.CategoryType;
+import com.tamnara.backend.news.dto.NewsDetailDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsCreationCoalescerTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private MeterRegistry meterRegistry;
+    private NewsCreationCoalescer newsCreationCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        newsCreationCoalescer = new NewsCreationCoalescer(redisTemplate, meterRegistry);
+    }
+
+    private NewsDetailDTO createNewsDetail(Long newsId) {
+        return new NewsDetailDTO(
+                newsId,
+                "제목",
+                "url",
+                CategoryType.ECONOMY.toString(),
+                LocalDateTime.of(2025, 1, 1, 12, 0),
+                false,
+                List.of(),
+                null
+        );
+    }
+
+    @Test
+    void 키워드_목록_정규화_검증() {
+        // when
+        String key = NewsCreationCoalescer.normalize(List.of(" 키워드2", "키워드1", "", "키워드2 "));
+
+        // then
+        assertEquals("키워드1,키워드2", key);
+    }
+
+    @Test
+    void 락_획득_후_생성하고_락_해제_검증() {
+        // given
+        NewsDetailDTO created = createNewsDetail(1L);
+        when(valueOperations.setIfAbsent(eq("NEWS_CREATE_LOCK:키워드1,키워드2"), anyString(), eq(NewsServiceConstant.NEWS_CREATE_LOCK_LEASE)))
+                .thenReturn(true);
+
+        // when
+        NewsDetailDTO result = newsCreationCoalescer.execute(List.of("키워드2", "키워드1"), () -> created, Optional::empty);
+
+        // then
+        assertSame(created, result);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("NEWS_CREATE_LOCK:키워드1,키워드2")), anyString());
+    }
+
+    @Test
+    void 같은_키워드의_동시_생성_요청은_한_번만_생성_검증() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+
+        NewsDetailDTO created = createNewsDetail(1L);
+        AtomicInteger generatorCalls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<NewsDetailDTO> leader = CompletableFuture.supplyAsync(() ->
+                newsCreationCoalescer.execute(List.of("키워드1", "키워드2"), () -> {
+                    generatorCalls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return created;
+                }, Optional::empty));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<NewsDetailDTO> follower = CompletableFuture.supplyAsync(() ->
+                newsCreationCoalescer.execute(List.of("키워드2", "키워드1"), () -> {
+                    generatorCalls.incrementAndGet();
+                    return createNewsDetail(2L);
+                }, Optional::empty));
+        while (meterRegistry.get("news.create.coalesced").counter().count() < 1) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        // then
+        assertSame(created, leader.get(5, TimeUnit.SECONDS));
+        assertSame(created, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, generatorCalls.get());
+    }
+
+    @Test
+    void Redis_장애_시_락_없이_생성_검증() {
+        // given
+        NewsDetailDTO created = createNewsDetail(1L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any())).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        NewsDetailDTO result = newsCreationCoalescer.execute(List.of("키워드1"), () -> created, Optional::empty);
+
+        // then
+        assertSame(created, result);
+    }
+
+    @Test
+    void 다른_서버의_생성을_기다린_후_생성된_뉴스_반환_검증() {
+        // given
+        NewsDetailDTO existing = createNewsDetail(1L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any())).thenReturn(false, true);
+        AtomicInteger generatorCalls = new AtomicInteger();
+
+        // when
+        NewsDetailDTO result = newsCreationCoalescer.execute(List.of("키워드1"), () -> {
+            generatorCalls.incrementAndGet();
+            return createNewsDetail(2L);
+        }, () -> Optional.of(existing));
+
+        // then
+        assertSame(existing, result);
+        assertEquals(0, generatorCalls.get());
+        assertEquals(1.0, meterRegistry.get("news.create.lock.wait").counter().count());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.tamnara.backend.news.repository;
+
+import com.tamnara.backend.config.TestConfig;
+import com.tamnara.backend.news.domain.News;
+import com.tamnara.backend.news.domain.NewsTag;
+import com.tamnara.backend.news.domain.Tag;
+import com.tamnara.backend.news.domain.TimelineCard;
+import com.tamnara.backend.news.domain.TimelineCardType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({TestConfig.class, NewsBulkWriteRepository.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class NewsBulkWriteRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired private NewsBulkWriteRepository newsBulkWriteRepository;
+    @Autowired private NewsRepository newsRepository;
+    @Autowired private TimelineCardRepository timelineCardRepository;
+    @Autowired private TagRepository tagRepository;
+    @Autowired private NewsTagRepository newsTagRepository;
+
+    News news;
+
+    @BeforeEach
+    void setUp() {
+        news = new News();
+        news.setTitle("제목");
+        news.setSummary("미리보기 내용");
+        newsRepository.saveAndFlush(news);
+
+        em.clear();
+    }
+
+    private TimelineCard createTimelineCard(String title, List<String> source, LocalDate startAt) {
+        TimelineCard timelineCard = new TimelineCard();
+        timelineCard.setTitle(title);
+        timelineCard.setContent("내용");
+        timelineCard.setSource(source);
+        timelineCard.setDuration(TimelineCardType.DAY);
+        timelineCard.setStartAt(startAt);
+        timelineCard.setEndAt(startAt);
+        return timelineCard;
+    }
+
+    @Test
+    void 타임라인_카드_일괄_저장_후_출처_변환_검증() {
+        // given
+        LocalDate today = LocalDate.now();
+        List<String> source = List.of("https://example.com/1", "https://example.com/2");
+        TimelineCard withSource = createTimelineCard("카드1", source, today);
+        TimelineCard withoutSource = createTimelineCard("카드2", List.of(), today.minusDays(1));
+
+        // when
+        newsBulkWriteRepository.insertTimelineCards(news.getId(), List.of(withSource, withoutSource));
+        em.clear();
+
+        // then
+        List<TimelineCard> timelineCards = timelineCardRepository.findAllByNewsIdOrderByStartAtDesc(news.getId());
+        assertEquals(2, timelineCards.size());
+
+        TimelineCard first = timelineCards.get(0);
+        assertEquals("카드1", first.getTitle());
+        assertEquals(source, first.getSource());
+        assertEquals(TimelineCardType.DAY, first.getDuration());
+        assertEquals(today, first.getStartAt());
+        assertEquals(today, first.getEndAt());
+
+        TimelineCard second = timelineCards.get(1);
+        assertEquals("카드2", second.getTitle());
+        assertEquals(List.of(), second.getSource());
+        assertEquals(today.minusDays(1), second.getStartAt());
+    }
+
+    @Test
+    void 이미_존재하는_태그는_중복_저장하지_않음_검증() {
+        // given
+        Tag existing = new Tag();
+        existing.setName("태그1");
+        tagRepository.saveAndFlush(existing);
+        em.clear();
+
+        // when
+        newsBulkWriteRepository.insertTagsIfAbsent(List.of("태그1", "태그2", "태그3"));
+        em.clear();
+
+        // then
+        List<Tag> tags = tagRepository.findAllByNameIn(List.of("태그1", "태그2", "태그3"));
+        assertEquals(3, tags.size());
+        assertEquals(existing.getId(), tagRepository.findByName("태그1").get().getId());
+        assertEquals(Set.of("태그1", "태그2", "태그3"), tags.stream().map(Tag::getName).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void 뉴스태그가_저장된_태그_ID를_가리킴_검증() {
+        // given
+        newsBulkWriteRepository.insertTagsIfAbsent(List.of("태그1", "태그2"));
+        em.clear();
+        Map<String, Long> tagIds = tagRepository.findAllByNameIn(List.of("태그1", "태그2")).stream()
+                .collect(Collectors.toMap(Tag::getName, Tag::getId));
+
+        // when
+        newsBulkWriteRepository.insertNewsTags(news.getId(), tagIds.values());
+        em.clear();
+
+        // then
+        List<NewsTag> newsTags = newsTagRepository.findByNewsId(news.getId());
+        assertEquals(2, newsTags.size());
+        assertEquals(Map.of("태그1", tagIds.get("태그1"), "태그2", tagIds.get("태그2")),
+                newsTags.stream().collect(Collectors.toMap(newsTag -> newsTag.getTag().getName(), newsTag -> newsTag.getTag().getId())));
+    }
+}
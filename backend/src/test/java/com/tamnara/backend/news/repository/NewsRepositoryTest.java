@@ -9,6 +9,7 @@ import com.tamnara.backend.news.domain.NewsImage;
 import com.tamnara.backend.news.domain.NewsTag;
 import com.tamnara.backend.news.domain.Tag;
 import com.tamnara.backend.news.domain.TimelineCard;
+import com.tamnara.backend.news.dto.NewsSearchHit;
 import com.tamnara.backend.user.domain.Role;
 import com.tamnara.backend.user.domain.State;
 import com.tamnara.backend.user.domain.User;
@@ -25,6 +26,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -259,7 +261,7 @@ public class NewsRepositoryTest {
     }
 
     @Test
-    void 뉴스_핫이슈_전환_시_수정일자_변경되지_않고_유지_검증() {
+    void 핫이슈_교체_시_이전_핫이슈는_해제되고_수정일자_변경되지_않고_유지_검증() {
         // given
         News news1 = createNews("제목1", "미리보기 내용1", user, category);
         news1.setIsHotissue(true);
@@ -274,11 +276,12 @@ public class NewsRepositoryTest {
         try { Thread.sleep(1000); } catch (InterruptedException e) {}
 
         // when
-        newsRepository.updateIsHotissue(news1.getId(), false);
-        newsRepository.updateIsHotissue(news2.getId(), true);
+        int changedCnt = newsRepository.replaceHotissues(List.of(news2.getId()));
         em.clear();
 
         // then
+        assertEquals(2, changedCnt);
+
         News updatedNews1 = newsRepository.findById(news1.getId()).get();
         assertFalse(updatedNews1.getIsHotissue());
         assertEquals(news1UpdatedAt.truncatedTo(ChronoUnit.SECONDS), updatedNews1.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS));
@@ -288,25 +291,6 @@ public class NewsRepositoryTest {
         assertEquals(news2UpdatedAt.truncatedTo(ChronoUnit.SECONDS), updatedNews2.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS));
     }
 
-    @Test
-    void 뉴스_조회수_증가_시_수정일자_변경되지_않고_유지_검증() {
-        // given
-        News news = createNews("제목", "미리보기 내용", user, category);
-        newsRepository.saveAndFlush(news);
-        Long viewCount = news.getViewCount();
-        LocalDateTime updateTime = news.getUpdatedAt();
-
-        // when
-        newsRepository.increaseViewCount(news.getId());
-        em.flush();
-        em.clear();
-
-        // then
-        News updatedNews = newsRepository.findById(news.getId()).get();
-        assertEquals(viewCount + 1, updatedNews.getViewCount());
-        assertEquals(updateTime.truncatedTo(ChronoUnit.SECONDS), updatedNews.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS));
-    }
-
     @Test
     void 뉴스_회원_필드_업데이트_불가_검증() {
         // given
@@ -336,7 +320,7 @@ public class NewsRepositoryTest {
     }
 
     @Test
-    void 수정시간이_기준시간보다_오래된_뉴스_일괄_조회_검증() {
+    void 수정시간이_기준시간보다_오래된_뉴스_ID_순서대로_나누어_조회_검증() {
         // given
         News news1 = createNews("제목", "미리보기 내용", user, category);
         news1.setIsHotissue(true);
@@ -360,16 +344,16 @@ public class NewsRepositoryTest {
         newsRepository.saveAndFlush(news3);
 
         // when
-        List<News> newsList = newsRepository.findAllOlderThan(cutoff);
+        List<Long> firstIds = newsRepository.findIdsOlderThan(cutoff, 0L, PageRequest.of(0, 1));
+        List<Long> nextIds = newsRepository.findIdsOlderThan(cutoff, firstIds.getLast(), PageRequest.of(0, 10));
 
         // then
-        assertEquals(2, newsList.size());
-        assertEquals(news1.getId(), newsList.get(0).getId());
-        assertEquals(news2.getId(), newsList.get(1).getId());
+        assertEquals(List.of(news1.getId()), firstIds);
+        assertEquals(List.of(news2.getId()), nextIds);
     }
 
     @Test
-    void 수정시간이_기준시간보다_오래된_뉴스_일괄_삭제_검증() {
+    void 수정시간이_기준시간보다_오래된_뉴스_청크_삭제_검증() {
         // given
         News news1 = createNews("제목", "미리보기 내용", user, category);
         news1.setIsHotissue(true);
@@ -393,11 +377,14 @@ public class NewsRepositoryTest {
         newsRepository.saveAndFlush(news3);
 
         // when
-        newsRepository.deleteAllOlderThan(cutoff);
+        List<Long> newsIds = newsRepository.findIdsOlderThan(cutoff, 0L, PageRequest.of(0, 10));
+        int deletedCnt = newsRepository.deleteAllByIdInAndOlderThan(List.of(news1.getId(), news2.getId(), news3.getId()), cutoff);
         em.flush();
         em.clear();
 
         // then
+        assertEquals(List.of(news1.getId(), news2.getId()), newsIds);
+        assertEquals(2, deletedCnt);
         assertFalse(newsRepository.findById(news1.getId()).isPresent());
         assertFalse(newsRepository.findById(news2.getId()).isPresent());
         assertTrue(newsRepository.findById(news3.getId()).isPresent());
@@ -491,6 +478,61 @@ public class NewsRepositoryTest {
         );
     }
 
+    @Test
+    void 일반_뉴스_목록_Slice_조회_시_다음_페이지_여부_검증() {
+        // given
+        News news1 = createNews("제목", "미리보기 내용", user, category);
+        newsRepository.saveAndFlush(news1);
+        News news2 = createNews("제목", "미리보기 내용", user, category);
+        newsRepository.saveAndFlush(news2);
+        News news3 = createNews("제목", "미리보기 내용", user, category);
+        newsRepository.saveAndFlush(news3);
+
+        // when
+        Slice<News> firstSlice = newsRepository.findSliceByIsHotissueFalse(PageRequest.of(0, 2));
+        Slice<News> lastSlice = newsRepository.findSliceByIsHotissueFalse(PageRequest.of(1, 2));
+        Slice<News> categorySlice = newsRepository.findSliceByIsHotissueFalseAndCategoryId(category.getId(), PageRequest.of(0, 3));
+
+        // then
+        assertEquals(2, firstSlice.getContent().size());
+        assertEquals(news3.getId(), firstSlice.getContent().get(0).getId());
+        assertEquals(news2.getId(), firstSlice.getContent().get(1).getId());
+        assertTrue(firstSlice.hasNext());
+
+        assertEquals(1, lastSlice.getContent().size());
+        assertEquals(news1.getId(), lastSlice.getContent().get(0).getId());
+        assertFalse(lastSlice.hasNext());
+
+        assertEquals(3, categorySlice.getContent().size());
+        assertFalse(categorySlice.hasNext());
+    }
+
+    @Test
+    void 커서_이후의_일반_뉴스_목록_조회_검증() {
+        // given
+        News news1 = createNews("제목", "미리보기 내용", user, category);
+        newsRepository.saveAndFlush(news1);
+        News news2 = createNews("제목", "미리보기 내용", user, category);
+        newsRepository.saveAndFlush(news2);
+        News news3 = createNews("제목", "미리보기 내용", user, category);
+        newsRepository.saveAndFlush(news3);
+        em.clear();
+
+        News cursorNews = newsRepository.findById(news2.getId()).orElseThrow();
+
+        // when
+        Slice<News> slice = newsRepository.findSliceByIsHotissueFalseAfter(cursorNews.getUpdatedAt(), cursorNews.getId(), PageRequest.of(0, 2));
+        Slice<News> categorySlice = newsRepository.findSliceByIsHotissueFalseAndCategoryIdAfter(category.getId(), cursorNews.getUpdatedAt(), cursorNews.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertEquals(1, slice.getContent().size());
+        assertEquals(news1.getId(), slice.getContent().get(0).getId());
+        assertFalse(slice.hasNext());
+
+        assertEquals(1, categorySlice.getContent().size());
+        assertEquals(news1.getId(), categorySlice.getContent().get(0).getId());
+    }
+
     @Test
     void 뉴스_삭제_시_연관관계_CASCADE_삭제_검증() {
         // given
@@ -631,15 +673,41 @@ public class NewsRepositoryTest {
         em.clear();
 
         // when
-        List<String> keywords = List.of(tag1.getName(), tag2.getName(), tag3.getName());
-        Page<News> newsPage = newsRepository.searchNewsPageByTags(keywords, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE));
-        List<News> newsList = newsPage.getContent();
+        List<Long> tagIds = List.of(tag1.getId(), tag2.getId(), tag3.getId());
+        Slice<NewsSearchHit> hitSlice = newsRepository.searchNewsSliceByTagIds(tagIds, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE));
+        List<NewsSearchHit> hits = hitSlice.getContent();
 
         // then
-        assertEquals(3, newsList.size());
-        assertEquals(news1.getId(), newsList.get(0).getId());
-        assertEquals(news3.getId(), newsList.get(1).getId());
-        assertEquals(news2.getId(), newsList.get(2).getId());
+        assertEquals(3, hits.size());
+        assertFalse(hitSlice.hasNext());
+        assertEquals(news1.getId(), hits.get(0).getNews().getId());
+        assertEquals(3L, hits.get(0).getMatchCount());
+        assertEquals(news3.getId(), hits.get(1).getNews().getId());
+        assertEquals(2L, hits.get(1).getMatchCount());
+        assertEquals(news2.getId(), hits.get(2).getNews().getId());
+    }
+
+    @Test
+    void 태그_id_기반_뉴스_검색_시_다음_페이지_존재_여부만_확인_검증() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            News news = createNews("제목" + i, "미리보기 내용" + i, user, category);
+            newsRepository.saveAndFlush(news);
+            newsTagRepository.saveAndFlush(createNewsTag(news, tag1));
+        }
+        em.clear();
+
+        // when
+        Slice<NewsSearchHit> firstSlice = newsRepository.searchNewsSliceByTagIds(List.of(tag1.getId()), PageRequest.of(0, 2));
+        NewsSearchHit last = firstSlice.getContent().get(1);
+        Slice<NewsSearchHit> nextSlice = newsRepository.searchNewsSliceByTagIdsAfter(
+                List.of(tag1.getId()), last.getMatchCount(), last.getNews().getUpdatedAt(), last.getNews().getId(), 2);
+
+        // then
+        assertEquals(2, firstSlice.getContent().size());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(1, nextSlice.getContent().size());
+        assertFalse(nextSlice.hasNext());
     }
 
     @Test
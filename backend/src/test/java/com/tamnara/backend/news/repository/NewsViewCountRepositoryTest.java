@@ -0,0 +1,76 @@
+package com.tamnara.backend.news.repository;
+
+import com.tamnara.backend.config.TestConfig;
+import com.tamnara.backend.news.domain.News;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest
+@Import({TestConfig.class, NewsViewCountRepository.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class NewsViewCountRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired private NewsRepository newsRepository;
+    @Autowired private NewsViewCountRepository newsViewCountRepository;
+
+    private News createNews(String title) {
+        News news = new News();
+        news.setTitle(title);
+        news.setSummary("미리보기 내용");
+        return newsRepository.saveAndFlush(news);
+    }
+
+    @Test
+    void 모아둔_조회수를_뉴스별로_한_번에_더하고_수정일자는_유지_검증() {
+        // given
+        News news1 = createNews("제목1");
+        News news2 = createNews("제목2");
+        em.clear();
+
+        // when
+        newsViewCountRepository.addViewCounts(Map.of(news1.getId(), 3L, news2.getId(), 5L));
+        em.clear();
+
+        // then
+        News updatedNews1 = newsRepository.findById(news1.getId()).get();
+        News updatedNews2 = newsRepository.findById(news2.getId()).get();
+        assertEquals(news1.getViewCount() + 3, updatedNews1.getViewCount());
+        assertEquals(news2.getViewCount() + 5, updatedNews2.getViewCount());
+        assertEquals(news1.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS), updatedNews1.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS));
+        assertEquals(news2.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS), updatedNews2.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void 삭제된_뉴스의_조회수는_무시_검증() {
+        // given
+        News news = createNews("제목");
+        Long deletedNewsId = createNews("삭제될 제목").getId();
+        newsRepository.deleteById(deletedNewsId);
+        newsRepository.flush();
+        em.clear();
+
+        // when
+        newsViewCountRepository.addViewCounts(Map.of(news.getId(), 2L, deletedNewsId, 4L));
+        em.clear();
+
+        // then
+        assertEquals(news.getViewCount() + 2, newsRepository.findById(news.getId()).get().getViewCount());
+        assertFalse(newsRepository.existsById(deletedNewsId));
+    }
+}
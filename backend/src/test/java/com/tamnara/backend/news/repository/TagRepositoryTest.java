@@ -13,8 +13,10 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -146,11 +148,14 @@ public class TagRepositoryTest {
         newsTagRepository.save(newsTag);
 
         // when
-        tagRepository.deleteAllOrphan();
+        List<Long> orphanIds = tagRepository.findOrphanIds(0L, PageRequest.of(0, 10));
+        int deletedCnt = tagRepository.deleteOrphanByIdIn(List.of(tag1.getId(), tag2.getId(), tag3.getId()));
         em.flush();
         em.clear();
 
         // then
+        assertEquals(List.of(tag2.getId(), tag3.getId()), orphanIds);
+        assertEquals(2, deletedCnt);
         assertTrue(tagRepository.existsById(tag1.getId()));
         assertFalse(tagRepository.existsById(tag2.getId()));
         assertFalse(tagRepository.existsById(tag3.getId()));
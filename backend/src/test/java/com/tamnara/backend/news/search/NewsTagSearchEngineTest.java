@@ -0,0 +1,73 @@
+package com.tamnara.backend.news.search;
+
+import com.tamnara.backend.news.cache.TagDictionary;
+import com.tamnara.backend.news.domain.News;
+import com.tamnara.backend.news.dto.NewsSearchHit;
+import com.tamnara.backend.news.repository.NewsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsTagSearchEngineTest {
+
+    @Mock private TagDictionary tagDictionary;
+    @Mock private NewsRepository newsRepository;
+
+    @InjectMocks private NewsTagSearchEngine newsTagSearchEngine;
+
+    @Test
+    void 태그_이름을_id로_바꾸어_검색_검증() {
+        // given
+        List<String> tags = List.of("태그1", "태그2");
+        Set<Long> tagIds = new LinkedHashSet<>(List.of(1L, 2L));
+        Pageable pageable = PageRequest.of(0, 20);
+        News news = new News();
+        news.setId(10L);
+        Slice<NewsSearchHit> hitSlice = new SliceImpl<>(List.of(new NewsSearchHit(news, 2L)), pageable, true);
+
+        when(tagDictionary.resolve(tags)).thenReturn(tagIds);
+        when(newsRepository.searchNewsSliceByTagIds(tagIds, pageable)).thenReturn(hitSlice);
+
+        // when
+        Slice<NewsSearchHit> result = newsTagSearchEngine.search(tags, pageable);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    void 존재하는_태그가_없으면_DB_조회_없이_빈_결과_반환_검증() {
+        // given
+        List<String> tags = List.of("없는태그");
+        when(tagDictionary.resolve(tags)).thenReturn(Set.of());
+
+        // when
+        Slice<NewsSearchHit> result = newsTagSearchEngine.search(tags, PageRequest.of(0, 20));
+
+        // then
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.hasNext());
+        verify(newsRepository, never()).searchNewsSliceByTagIds(anyCollection(), any(Pageable.class));
+    }
+}
@@ -0,0 +1,111 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.news.client.AiClient;
+import com.tamnara.backend.news.constant.NewsServiceConstant;
+import com.tamnara.backend.news.domain.TimelineCardType;
+import com.tamnara.backend.news.dto.TimelineCardDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AiServiceImplTest {
+
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+    private AiServiceImpl aiService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 병합 요청마다 100ms 뒤에 응답하며, 첫 단계(DAY)에는 WEEK 카드, 두 번째 단계(WEEK)에는 MONTH 카드를 돌려준다.
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    int call = callCount.incrementAndGet();
+                    String duration = call <= 4 ? TimelineCardType.WEEK.name() : TimelineCardType.MONTH.name();
+                    LocalDate startAt = LocalDate.now().minusDays(30 - call);
+                    String body = """
+                            {"success":true,"message":"병합 성공","data":{"title":"병합 %d","content":"내용","source":["source"],"duration":"%s","startAt":"%s","endAt":"%s"}}
+                            """.formatted(call, duration, startAt, startAt);
+
+                    return Mono.delay(Duration.ofMillis(100))
+                            .map(t -> ClientResponse.create(HttpStatus.OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(body)
+                                    .build())
+                            .doFinally(signal -> inFlight.decrementAndGet());
+                }))
+                .build();
+
+        aiService = new AiServiceImpl(new AiClient(webClient, meterRegistry), meterRegistry);
+    }
+
+    private List<TimelineCardDTO> createDayCards(int count) {
+        List<TimelineCardDTO> timeline = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            LocalDate date = today.minusDays(i);
+            timeline.add(new TimelineCardDTO("제목" + i, "내용", List.of("source"), TimelineCardType.DAY.name(), date, date));
+        }
+        return timeline;
+    }
+
+    @Test
+    void 타임라인_카드_병합_그룹_동시_요청_검증() {
+        // given
+        List<TimelineCardDTO> timeline = createDayCards(30);
+
+        // when
+        List<TimelineCardDTO> result = aiService.mergeTimelineCards(timeline);
+
+        // then
+        assertEquals(5, callCount.get());
+        assertTrue(maxInFlight.get() > 1);
+        assertTrue(maxInFlight.get() <= NewsServiceConstant.TIMELINE_MERGE_CONCURRENCY);
+
+        assertEquals(3, result.size());
+        assertEquals(1, result.stream().filter(tc -> tc.getDuration().equals(TimelineCardType.MONTH.name())).count());
+        assertEquals(2, result.stream().filter(tc -> tc.getDuration().equals(TimelineCardType.DAY.name())).count());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(!result.get(i - 1).getStartAt().isBefore(result.get(i).getStartAt()));
+        }
+
+        assertEquals(4.0, meterRegistry.get("ai.timeline.merge.fanout").tag("duration", "DAY").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get("ai.timeline.merge.fanout").tag("duration", "WEEK").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("ai.timeline.merge.latency").timer().count());
+    }
+
+    @Test
+    void 병합할_그룹이_없으면_요청_생략_검증() {
+        // given
+        List<TimelineCardDTO> timeline = createDayCards(6);
+
+        // when
+        List<TimelineCardDTO> result = aiService.mergeTimelineCards(timeline);
+
+        // then
+        assertEquals(0, callCount.get());
+        assertEquals(6, result.size());
+        assertEquals(LocalDate.now(), result.get(0).getStartAt());
+    }
+}
@@ -0,0 +1,164 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.bookmark.domain.Bookmark;
+import com.tamnara.backend.bookmark.repository.BookmarkRepository;
+import com.tamnara.backend.news.domain.Category;
+import com.tamnara.backend.news.domain.CategoryType;
+import com.tamnara.backend.news.domain.News;
+import com.tamnara.backend.news.domain.NewsImage;
+import com.tamnara.backend.news.dto.NewsCardDTO;
+import com.tamnara.backend.news.repository.CategoryRepository;
+import com.tamnara.backend.news.repository.NewsImageRepository;
+import com.tamnara.backend.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsCardAssemblerTest {
+
+    @Mock private NewsImageRepository newsImageRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private BookmarkRepository bookmarkRepository;
+
+    @InjectMocks private NewsCardAssembler newsCardAssembler;
+
+    User user;
+    Category economy;
+
+    @BeforeEach
+    void setUp() {
+        user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(1L);
+
+        economy = new Category();
+        economy.setId(1L);
+        economy.setName(CategoryType.ECONOMY);
+    }
+
+    private News createNews(Long id, Category category) {
+        News news = new News();
+        news.setId(id);
+        news.setTitle("제목");
+        news.setSummary("미리보기 내용");
+        news.setCategory(category);
+        return news;
+    }
+
+    private NewsImage createNewsImage(Long id, News news, String url) {
+        NewsImage newsImage = new NewsImage();
+        newsImage.setId(id);
+        newsImage.setNews(news);
+        newsImage.setUrl(url);
+        return newsImage;
+    }
+
+    private Bookmark createBookmark(Long id, News news, LocalDateTime createdAt) {
+        Bookmark bookmark = new Bookmark();
+        bookmark.setId(id);
+        bookmark.setUser(user);
+        bookmark.setNews(news);
+        bookmark.setCreatedAt(createdAt);
+        return bookmark;
+    }
+
+    @Test
+    void 뉴스_카드_목록_일괄_조립_검증() {
+        // given
+        News news1 = createNews(1L, economy);
+        News news2 = createNews(2L, null);
+        LocalDateTime bookmarkedAt = LocalDateTime.now();
+
+        when(newsImageRepository.findAllByNewsIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(createNewsImage(1L, news1, "url1"), createNewsImage(2L, news1, "url2")));
+        when(categoryRepository.findAll()).thenReturn(List.of(economy));
+        when(bookmarkRepository.findAllByUserIdAndNewsIdIn(user.getId(), List.of(1L, 2L)))
+                .thenReturn(List.of(createBookmark(1L, news2, bookmarkedAt)));
+
+        // when
+        List<NewsCardDTO> result = newsCardAssembler.assemble(user.getId(), List.of(news1, news2));
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals("url1", result.get(0).getImage());
+        assertEquals(CategoryType.ECONOMY.toString(), result.get(0).getCategory());
+        assertFalse(result.get(0).isBookmarked());
+        assertNull(result.get(1).getImage());
+        assertNull(result.get(1).getCategory());
+        assertTrue(result.get(1).isBookmarked());
+        assertEquals(bookmarkedAt, result.get(1).getBookmarkedAt());
+        verify(newsImageRepository, times(1)).findAllByNewsIdIn(anyList());
+    }
+
+    @Test
+    void 비회원일_경우_북마크_조회_생략_검증() {
+        // given
+        News news = createNews(1L, economy);
+        when(newsImageRepository.findAllByNewsIdIn(List.of(1L))).thenReturn(List.of());
+        when(categoryRepository.findAll()).thenReturn(List.of(economy));
+
+        // when
+        List<NewsCardDTO> result = newsCardAssembler.assemble(null, List.of(news));
+
+        // then
+        assertEquals(1, result.size());
+        assertFalse(result.get(0).isBookmarked());
+        verify(bookmarkRepository, never()).findAllByUserIdAndNewsIdIn(any(), anyList());
+    }
+
+    @Test
+    void 빈_목록일_경우_조회_생략_검증() {
+        // when
+        List<NewsCardDTO> result = newsCardAssembler.assemble(user.getId(), List.of());
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(newsImageRepository, never()).findAllByNewsIdIn(anyList());
+        verify(categoryRepository, never()).findAll();
+    }
+
+    @Test
+    void 북마크_뉴스_카드_목록_조립_검증() {
+        // given
+        News news1 = createNews(1L, economy);
+        News news2 = createNews(2L, economy);
+        LocalDateTime bookmarkedAt1 = LocalDateTime.now().minusDays(1);
+        LocalDateTime bookmarkedAt2 = LocalDateTime.now();
+        List<Bookmark> bookmarks = List.of(createBookmark(2L, news2, bookmarkedAt2), createBookmark(1L, news1, bookmarkedAt1));
+
+        when(newsImageRepository.findAllByNewsIdIn(List.of(2L, 1L))).thenReturn(List.of(createNewsImage(1L, news2, "url")));
+        when(categoryRepository.findAll()).thenReturn(List.of(economy));
+
+        // when
+        List<NewsCardDTO> result = newsCardAssembler.assembleBookmarked(bookmarks);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(news2.getId(), result.get(0).getId());
+        assertEquals("url", result.get(0).getImage());
+        assertTrue(result.get(0).isBookmarked());
+        assertEquals(bookmarkedAt2, result.get(0).getBookmarkedAt());
+        assertEquals(news1.getId(), result.get(1).getId());
+        assertNull(result.get(1).getImage());
+        verify(bookmarkRepository, never()).findAllByUserIdAndNewsIdIn(any(), anyList());
+    }
+}
@@ -0,0 +1,183 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.alarm.constant.AlarmMessage;
+import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.event.AlarmEvent;
+import com.tamnara.backend.news.constant.NewsResponseMessage;
+import com.tamnara.backend.news.domain.CategoryType;
+import com.tamnara.backend.news.domain.NewsJobStatus;
+import com.tamnara.backend.news.dto.NewsDetailDTO;
+import com.tamnara.backend.news.dto.NewsJobDTO;
+import com.tamnara.backend.news.dto.StatisticsDTO;
+import com.tamnara.backend.news.dto.request.NewsCreateRequest;
+import com.tamnara.backend.news.job.NewsJobStore;
+import com.tamnara.backend.news.job.NewsJobWorker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsJobServiceImplTest {
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private NewsService newsService;
+    @Mock private NewsJobStore newsJobStore;
+    @Mock private NewsJobWorker newsJobWorker;
+
+    @InjectMocks private NewsJobServiceImpl newsJobService;
+
+    private static final Long USER_ID = 1L;
+    private final NewsCreateRequest req = new NewsCreateRequest(List.of("키워드1", "키워드2"));
+
+    @BeforeEach
+    void setUp() {
+        // 작업자 풀 대신 호출한 스레드에서 바로 실행한다.
+        lenient().doAnswer(invocation -> {
+            Runnable task = invocation.getArgument(0);
+            task.run();
+            return null;
+        }).when(newsJobWorker).execute(any(Runnable.class));
+    }
+
+    private NewsDetailDTO createNewsDetailDTO(Long id) {
+        return new NewsDetailDTO(
+                id,
+                "제목",
+                "이미지 링크",
+                CategoryType.ECONOMY.name(),
+                LocalDateTime.now(),
+                true,
+                List.of(),
+                new StatisticsDTO(0, 0, 0)
+        );
+    }
+
+    private List<NewsJobDTO> savedJobs() {
+        ArgumentCaptor<NewsJobDTO> captor = ArgumentCaptor.forClass(NewsJobDTO.class);
+        verify(newsJobStore, times(3)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    void 뉴스_생성_작업_성공_검증() {
+        // given
+        when(newsService.save(USER_ID, false, req)).thenReturn(createNewsDetailDTO(10L));
+
+        // when
+        NewsJobDTO job = newsJobService.submit(USER_ID, req);
+
+        // then
+        assertEquals(NewsJobStatus.PENDING, job.getStatus());
+
+        List<NewsJobDTO> saved = savedJobs();
+        assertEquals(NewsJobStatus.RUNNING, saved.get(1).getStatus());
+        assertEquals(NewsJobStatus.SUCCEEDED, saved.get(2).getStatus());
+        assertEquals(10L, saved.get(2).getNewsId());
+
+        ArgumentCaptor<AlarmEvent> alarmCaptor = ArgumentCaptor.forClass(AlarmEvent.class);
+        verify(eventPublisher).publishEvent(alarmCaptor.capture());
+        assertEquals(List.of(USER_ID), alarmCaptor.getValue().getReceiverId());
+        assertEquals(AlarmMessage.NEWS_CREATE_SUCCESS_TITLE, alarmCaptor.getValue().getTitle());
+        assertEquals(AlarmType.NEWS, alarmCaptor.getValue().getTargetType());
+        assertEquals(10L, alarmCaptor.getValue().getTargetId());
+    }
+
+    @Test
+    void 관련_뉴스가_없으면_작업_실패_처리_검증() {
+        // given
+        when(newsService.save(USER_ID, false, req)).thenReturn(null);
+
+        // when
+        newsJobService.submit(USER_ID, req);
+
+        // then
+        NewsJobDTO result = savedJobs().get(2);
+        assertEquals(NewsJobStatus.FAILED, result.getStatus());
+        assertEquals(NewsResponseMessage.NEWS_JOB_NO_RESULT, result.getMessage());
+        assertNull(result.getNewsId());
+
+        ArgumentCaptor<AlarmEvent> alarmCaptor = ArgumentCaptor.forClass(AlarmEvent.class);
+        verify(eventPublisher).publishEvent(alarmCaptor.capture());
+        assertEquals(AlarmMessage.NEWS_CREATE_FAILURE_TITLE, alarmCaptor.getValue().getTitle());
+        assertEquals(String.format(AlarmMessage.NEWS_CREATE_FAILURE_CONTENT, "키워드1, 키워드2"), alarmCaptor.getValue().getContent());
+    }
+
+    @Test
+    void 뉴스_생성_중_예외_발생_시_작업_실패_처리_검증() {
+        // given
+        when(newsService.save(USER_ID, false, req)).thenThrow(new IllegalStateException("AI 서버 오류"));
+
+        // when
+        newsJobService.submit(USER_ID, req);
+
+        // then
+        NewsJobDTO result = savedJobs().get(2);
+        assertEquals(NewsJobStatus.FAILED, result.getStatus());
+        assertEquals(NewsResponseMessage.NEWS_JOB_FAILED, result.getMessage());
+    }
+
+    @Test
+    void 대기열_초과_시_작업_거절_검증() {
+        // given
+        doThrow(new RejectedExecutionException()).when(newsJobWorker).execute(any(Runnable.class));
+
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> newsJobService.submit(USER_ID, req));
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        ArgumentCaptor<NewsJobDTO> captor = ArgumentCaptor.forClass(NewsJobDTO.class);
+        verify(newsJobStore, times(2)).save(captor.capture());
+        assertEquals(NewsJobStatus.FAILED, captor.getAllValues().get(1).getStatus());
+    }
+
+    @Test
+    void 뉴스_생성_작업_상태_조회_검증() {
+        // given
+        NewsJobDTO job = new NewsJobDTO("job-1", USER_ID, NewsJobStatus.RUNNING, req.getKeywords(), null, null, LocalDateTime.now(), LocalDateTime.now());
+        when(newsJobStore.findById("job-1")).thenReturn(Optional.of(job));
+
+        // when
+        NewsJobDTO result = newsJobService.getJob(USER_ID, "job-1");
+
+        // then
+        assertEquals(NewsJobStatus.RUNNING, result.getStatus());
+    }
+
+    @Test
+    void 다른_회원의_뉴스_생성_작업_조회_불가_검증() {
+        // given
+        NewsJobDTO job = new NewsJobDTO("job-1", 2L, NewsJobStatus.RUNNING, req.getKeywords(), null, null, LocalDateTime.now(), LocalDateTime.now());
+        when(newsJobStore.findById("job-1")).thenReturn(Optional.of(job));
+
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> newsJobService.getJob(USER_ID, "job-1"));
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        assertEquals(NewsResponseMessage.NEWS_JOB_NOT_FOUND, exception.getReason());
+    }
+}
@@ -1,11 +1,21 @@
 package com.tamnara.backend.news.service;
 
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import com.tamnara.backend.global.scheduler.ScheduledJobRunner;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -13,15 +23,27 @@ import static org.mockito.Mockito.verify;
 public class NewsSchedulerServiceImplTest {
 
     @Mock private NewsService newsService;
+    @Mock private ScheduledJobRunner scheduledJobRunner;
 
     @InjectMocks private NewsSchedulerServiceImpl newsSchedulerService;
 
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            LongSupplier job = invocation.getArgument(2);
+            job.getAsLong();
+            return null;
+        }).when(scheduledJobRunner).run(anyString(), any(Duration.class), any(LongSupplier.class));
+    }
+
     @Test
     void 핫이슈_뉴스_생성_검증() {
         // when
         newsSchedulerService.createHotissueNews();
 
         // then
+        verify(scheduledJobRunner, times(1)).run(
+                eq(ScheduledJobConstant.NEWS_HOTISSUE_JOB), eq(ScheduledJobConstant.NEWS_HOTISSUE_LOCK_LEASE), any(LongSupplier.class));
         verify(newsService, times(1)).createHotissueNews();
     }
 
@@ -31,6 +53,8 @@ public class NewsSchedulerServiceImplTest {
         newsSchedulerService.deleteOldNewsAndOrphanTags();
 
         // then
+        verify(scheduledJobRunner, times(1)).run(
+                eq(ScheduledJobConstant.NEWS_PURGE_JOB), eq(ScheduledJobConstant.NEWS_PURGE_LOCK_LEASE), any(LongSupplier.class));
         verify(newsService, times(1)).deleteOldNewsAndOrphanTags();
     }
 
@@ -40,6 +64,8 @@ public class NewsSchedulerServiceImplTest {
         newsSchedulerService.makeNewsPublic();
 
         // then
+        verify(scheduledJobRunner, times(1)).run(
+                eq(ScheduledJobConstant.NEWS_PUBLIC_JOB), eq(ScheduledJobConstant.NEWS_PUBLIC_LOCK_LEASE), any(LongSupplier.class));
         verify(newsService, times(1)).makeNewsPublic();
     }
 }
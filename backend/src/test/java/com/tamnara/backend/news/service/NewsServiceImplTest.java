@@ -1,11 +1,17 @@
 package com.tamnara.backend.news.service;
 
 import com.tamnara.backend.alarm.constant.AlarmMessage;
+import com.tamnara.backend.alarm.domain.AlarmKind;
 import com.tamnara.backend.alarm.domain.AlarmType;
+import com.tamnara.backend.alarm.event.AlarmBatchEvent;
 import com.tamnara.backend.alarm.event.AlarmEvent;
+import com.tamnara.backend.bookmark.dto.BookmarkAlarmTargetDTO;
 import com.tamnara.backend.bookmark.repository.BookmarkRepository;
 import com.tamnara.backend.global.dto.WrappedDTO;
 import com.tamnara.backend.global.exception.AIException;
+import com.tamnara.backend.global.purge.RetentionPurgeEngine;
+import com.tamnara.backend.global.util.CursorCodec;
+import com.tamnara.backend.news.cache.NewsDetailCache;
 import com.tamnara.backend.news.constant.NewsResponseMessage;
 import com.tamnara.backend.news.constant.NewsServiceConstant;
 import com.tamnara.backend.news.domain.Category;
@@ -16,7 +22,9 @@ import com.tamnara.backend.news.domain.NewsTag;
 import com.tamnara.backend.news.domain.Tag;
 import com.tamnara.backend.news.domain.TimelineCard;
 import com.tamnara.backend.news.domain.TimelineCardType;
+import com.tamnara.backend.news.dto.NewsCardDTO;
 import com.tamnara.backend.news.dto.NewsDetailDTO;
+import com.tamnara.backend.news.dto.NewsSearchHit;
 import com.tamnara.backend.news.dto.StatisticsDTO;
 import com.tamnara.backend.news.dto.TimelineCardDTO;
 import com.tamnara.backend.news.dto.request.KtbNewsCreateRequest;
@@ -31,12 +39,16 @@ import com.tamnara.backend.news.dto.response.category.EntertainmentResponse;
 import com.tamnara.backend.news.dto.response.category.KtbResponse;
 import com.tamnara.backend.news.dto.response.category.MultiCategoryResponse;
 import com.tamnara.backend.news.dto.response.category.SportsResponse;
+import com.tamnara.backend.news.event.NewsChangedEvent;
+import com.tamnara.backend.news.job.NewsCreationCoalescer;
 import com.tamnara.backend.news.repository.CategoryRepository;
+import com.tamnara.backend.news.repository.NewsBulkWriteRepository;
 import com.tamnara.backend.news.repository.NewsImageRepository;
 import com.tamnara.backend.news.repository.NewsRepository;
 import com.tamnara.backend.news.repository.NewsTagRepository;
 import com.tamnara.backend.news.repository.TagRepository;
 import com.tamnara.backend.news.repository.TimelineCardRepository;
+import com.tamnara.backend.news.search.NewsTagSearchEngine;
 import com.tamnara.backend.user.domain.Role;
 import com.tamnara.backend.user.domain.User;
 import com.tamnara.backend.user.repository.UserRepository;
@@ -52,30 +64,41 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -86,6 +109,13 @@ class NewsServiceImplTest {
     @Mock private ApplicationEventPublisher eventPublisher;
 
     @Mock private AiService aiService;
+    @Mock private NewsCardAssembler newsCardAssembler;
+    @Mock private NewsDetailCache newsDetailCache;
+    @Mock private NewsViewCounter newsViewCounter;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private NewsCreationCoalescer newsCreationCoalescer;
+    @Mock private RetentionPurgeEngine retentionPurgeEngine;
+    @Mock private NewsTagSearchEngine newsTagSearchEngine;
 
     @Mock private NewsRepository newsRepository;
     @Mock private TimelineCardRepository timelineCardRepository;
@@ -93,6 +123,7 @@ class NewsServiceImplTest {
     @Mock private CategoryRepository categoryRepository;
     @Mock private TagRepository tagRepository;
     @Mock private NewsTagRepository newsTagRepository;
+    @Mock private NewsBulkWriteRepository newsBulkWriteRepository;
 
     @Mock private UserRepository userRepository;
     @Mock private BookmarkRepository bookmarkRepository;
@@ -135,6 +166,31 @@ class NewsServiceImplTest {
         lenient().when(ktb.getName()).thenReturn(CategoryType.KTB);
         lenient().when(ktb.getId()).thenReturn(4L);
         lenient().when(categoryRepository.findByName(CategoryType.KTB)).thenReturn(Optional.of(ktb));
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(tagRepository.findAllByNameIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            long id = 1L;
+            List<Tag> tags = new ArrayList<>();
+            for (String name : names) {
+                tags.add(createTag(id++, name));
+            }
+            return tags;
+        });
+        lenient().when(newsCreationCoalescer.execute(any(), any(), any())).thenAnswer(invocation -> {
+            Supplier<NewsDetailDTO> generator = invocation.getArgument(1);
+            return generator.get();
+        });
+
+        lenient().when(newsCardAssembler.assemble(any(), anyList())).thenAnswer(invocation -> {
+            List<News> newsList = invocation.getArgument(1);
+            return newsList.stream()
+                    .map(n -> new NewsCardDTO(n.getId(), n.getTitle(), n.getSummary(), null, null, n.getUpdatedAt(), false, null))
+                    .toList();
+        });
     }
 
     private News createNews(Long id, String title, String summary, Boolean isHotissue, User user, Category category) {
@@ -148,6 +204,31 @@ class NewsServiceImplTest {
         return news;
     }
 
+    private void stubNewsIdAssignment() {
+        AtomicLong sequence = new AtomicLong(100L);
+        when(newsRepository.save(any(News.class))).thenAnswer(invocation -> {
+            News news = invocation.getArgument(0);
+            if (news.getId() == null) {
+                news.setId(sequence.incrementAndGet());
+            }
+            return news;
+        });
+    }
+
+    private Slice<NewsSearchHit> toHitSlice(List<News> newsList, boolean hasNext) {
+        List<NewsSearchHit> hits = newsList.stream().map(news -> new NewsSearchHit(news, 1L)).toList();
+        return new SliceImpl<>(hits, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE), hasNext);
+    }
+
+    private void stubRetentionPurge() {
+        when(retentionPurgeEngine.purge(anyString(), any(), any())).thenAnswer(invocation -> {
+            RetentionPurgeEngine.ChunkSource source = invocation.getArgument(1);
+            ToIntFunction<List<Long>> deleter = invocation.getArgument(2);
+            List<Long> ids = source.next(0L, NewsServiceConstant.PAGE_SIZE);
+            return ids.isEmpty() ? 0L : (long) deleter.applyAsInt(ids);
+        });
+    }
+
     private TimelineCard createTimelineCard(News news, String title, String content, List<String> source, String duration, LocalDate startAt, LocalDate endAt) {
         TimelineCard timelineCard = new TimelineCard();
         timelineCard.setNews(news);
@@ -217,20 +298,14 @@ class NewsServiceImplTest {
         int offset = 0;
         int page = offset / NewsServiceConstant.PAGE_SIZE;
 
-        when(newsRepository.findByIsHotissueFalseOrderByUpdatedAtDescIdDesc(eq(PageRequest.of(page, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of(news1, news2, news3, news4, news5)));
-        when(newsRepository.findByIsHotissueFalseOrderByUpdatedAtDescIdDesc(eq(PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of()));
-
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(economy.getId()), eq(PageRequest.of(page, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of(news1)));
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(economy.getId()), eq(PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of()));
-
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(entertainment.getId()), eq(PageRequest.of(page, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of(news2)));
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(entertainment.getId()), eq(PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of()));
-
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(sports.getId()), eq(PageRequest.of(page, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of(news3)));
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(sports.getId()), eq(PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of()));
+        Pageable pageable = PageRequest.of(page, NewsServiceConstant.PAGE_SIZE);
+        when(categoryRepository.findAll()).thenReturn(List.of(economy, entertainment, sports, ktb));
 
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(ktb.getId()), eq(PageRequest.of(page, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of(news4)));
-        when(newsRepository.findByIsHotissueFalseAndCategoryId(eq(ktb.getId()), eq(PageRequest.of(page + 1, NewsServiceConstant.PAGE_SIZE)))).thenReturn(new PageImpl<>(List.of()));
+        when(newsRepository.findSliceByIsHotissueFalse(eq(pageable))).thenReturn(new SliceImpl<>(List.of(news1, news2, news3, news4, news5), pageable, false));
+        when(newsRepository.findSliceByIsHotissueFalseAndCategoryId(eq(economy.getId()), eq(pageable))).thenReturn(new SliceImpl<>(List.of(news1), pageable, false));
+        when(newsRepository.findSliceByIsHotissueFalseAndCategoryId(eq(entertainment.getId()), eq(pageable))).thenReturn(new SliceImpl<>(List.of(news2), pageable, false));
+        when(newsRepository.findSliceByIsHotissueFalseAndCategoryId(eq(sports.getId()), eq(pageable))).thenReturn(new SliceImpl<>(List.of(news3), pageable, true));
+        when(newsRepository.findSliceByIsHotissueFalseAndCategoryId(eq(ktb.getId()), eq(pageable))).thenReturn(new SliceImpl<>(List.of(news4), pageable, false));
 
         // when
         MultiCategoryResponse response = newsServiceImpl.getMultiCategoryPage(user.getId(), offset);
@@ -250,11 +325,30 @@ class NewsServiceImplTest {
 
         assertEquals(1, response.getSports().getNewsList().size());
         assertEquals(offset + NewsServiceConstant.PAGE_SIZE, response.getSports().getOffset());
-        assertFalse(response.getSports().isHasNext());
+        assertTrue(response.getSports().isHasNext());
 
         assertEquals(1, response.getKtb().getNewsList().size());
         assertEquals(offset + NewsServiceConstant.PAGE_SIZE, response.getKtb().getOffset());
         assertFalse(response.getKtb().isHasNext());
+
+        verify(categoryRepository, times(1)).findAll();
+        verify(categoryRepository, never()).findByName(any(CategoryType.class));
+    }
+
+    @Test
+    void 모든_카테고리_뉴스_카드_목록_조회_시_카테고리가_없으면_예외_처리_검증() {
+        // given
+        when(categoryRepository.findAll()).thenReturn(List.of(economy, entertainment, sports));
+
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            newsServiceImpl.getMultiCategoryPage(user.getId(), 0);
+        });
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals(NewsResponseMessage.CATEGORY_NOT_FOUND, exception.getReason());
+        verify(newsRepository, never()).findSliceByIsHotissueFalse(any(Pageable.class));
     }
 
     @Test
@@ -280,6 +374,41 @@ class NewsServiceImplTest {
         assertFalse(response.getAll().isHasNext());
     }
 
+    @Test
+    void 커서_기반_경제_카테고리_뉴스_카드_목록_조회_검증() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        News news1 = createNews(2L, "제목", "미리보기 내용", false, user, economy);
+        news1.setUpdatedAt(updatedAt);
+        News news2 = createNews(1L, "제목", "미리보기 내용", false, user, economy);
+        news2.setUpdatedAt(updatedAt.minusHours(1));
+
+        String cursor = CursorCodec.encode(updatedAt.plusHours(1), 3L);
+        Pageable pageable = PageRequest.of(0, NewsServiceConstant.PAGE_SIZE);
+        when(newsRepository.findSliceByIsHotissueFalseAndCategoryIdAfter(economy.getId(), updatedAt.plusHours(1), 3L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(news1, news2), pageable, true));
+
+        // when
+        EconomyResponse response = (EconomyResponse) newsServiceImpl.getSingleCategoryPageByCursor(user.getId(), economy.getName().toString(), cursor);
+
+        // then
+        assertEquals(2, response.getEconomy().getNewsList().size());
+        assertTrue(response.getEconomy().isHasNext());
+        assertEquals(CursorCodec.encode(news2.getUpdatedAt(), news2.getId()), response.getEconomy().getNextCursor());
+        verify(newsRepository, never()).findByIsHotissueFalseAndCategoryId(any(), any(Pageable.class));
+    }
+
+    @Test
+    void 커서_형식이_올바르지_않으면_뉴스_카드_목록_조회_예외_처리_검증() {
+        // given
+        String cursor = CursorCodec.encode("잘못된 날짜", 3L);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            newsServiceImpl.getSingleCategoryPageByCursor(user.getId(), null, cursor);
+        });
+    }
+
     @Test
     void 경제_카테고리_뉴스_카드_목록_조회_검증() {
         // given
@@ -374,10 +503,9 @@ class NewsServiceImplTest {
         News news3 = createNews(3L, "제목3", "미리보기 내용3", false, user, sports);
         News news4 = createNews(4L, "제목4", "미리보기 내용4", false, user, sports);
         List<News> newsList = List.of(news1, news2, news3, news4);
-        Page<News> newsPage = new PageImpl<>(newsList);
 
-        when(newsRepository.searchNewsPageByTags(tags, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE)))
-                .thenReturn(newsPage);
+        when(newsTagSearchEngine.search(tags, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE)))
+                .thenReturn(toHitSlice(newsList, false));
 
         // when
         NewsListResponse response = newsServiceImpl.getSearchNewsCardPage(user.getId(), tags, 0);
@@ -386,6 +514,33 @@ class NewsServiceImplTest {
         assertEquals(newsList.size(), response.getNewsList().size());
         assertEquals(NewsServiceConstant.PAGE_SIZE, response.getOffset());
         assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void 커서_기반_뉴스_검색_결과_조회_검증() {
+        // given
+        List<String> tags = List.of("태그1", "태그2", "태그3");
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+        News news1 = createNews(2L, "제목1", "미리보기 내용1", false, user, sports);
+        news1.setUpdatedAt(updatedAt);
+        News news2 = createNews(1L, "제목2", "미리보기 내용2", false, user, sports);
+        news2.setUpdatedAt(updatedAt);
+
+        String cursor = CursorCodec.encode(3L, updatedAt, 5L);
+        List<NewsSearchHit> hits = List.of(new NewsSearchHit(news1, 3L), new NewsSearchHit(news2, 2L));
+        when(newsTagSearchEngine.searchAfter(tags, 3L, updatedAt, 5L, NewsServiceConstant.PAGE_SIZE))
+                .thenReturn(new SliceImpl<>(hits, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE), true));
+
+        // when
+        NewsListResponse response = newsServiceImpl.getSearchNewsCardPageByCursor(user.getId(), tags, cursor);
+
+        // then
+        assertEquals(2, response.getNewsList().size());
+        assertTrue(response.isHasNext());
+        assertEquals(CursorCodec.encode(2L, updatedAt, news2.getId()), response.getNextCursor());
+        verify(newsTagSearchEngine, never()).search(anyList(), any(Pageable.class));
     }
 
     @Test
@@ -421,10 +576,9 @@ class NewsServiceImplTest {
         News news3 = createNews(3L, "제목3", "미리보기 내용3", false, user, sports);
         News news4 = createNews(4L, "제목4", "미리보기 내용4", false, user, sports);
         List<News> newsList = List.of(news1, news2, news3, news4);
-        Page<News> newsPage = new PageImpl<>(newsList);
 
-        when(newsRepository.searchNewsPageByTags(tags, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE)))
-                .thenReturn(newsPage);
+        when(newsTagSearchEngine.search(tags, PageRequest.of(0, NewsServiceConstant.PAGE_SIZE)))
+                .thenReturn(toHitSlice(newsList, false));
 
         // when
         NewsListResponse response1 = newsServiceImpl.getSearchNewsCardPage(user.getId(), tagsWithDuplicates, 0);
@@ -457,11 +611,13 @@ class NewsServiceImplTest {
         when(newsRepository.findById(news.getId())).thenReturn(Optional.of(news));
         when(newsImageRepository.findByNewsId(news.getId())).thenReturn(Optional.of(newsImage));
         when(timelineCardRepository.findAllByNewsIdOrderByStartAtDesc(news.getId())).thenReturn(List.of(timelineCard1, timelineCard2, timelineCard3));
+        when(newsDetailCache.getVersion(news.getId())).thenReturn(3L);
 
         // when
         NewsDetailDTO response = newsServiceImpl.getNewsDetail(news.getId(), user.getId());
 
         // then
+        verify(newsDetailCache).put(any(NewsDetailDTO.class), eq(3L));
         assertEquals(response.getId(), news.getId());
         assertEquals(response.getTitle(), news.getTitle());
         assertEquals(response.getImage(), newsImage.getUrl());
@@ -470,6 +626,34 @@ class NewsServiceImplTest {
         assertEquals(response.getTimeline().get(2).getTitle(), timelineCard3.getTitle());
     }
 
+    @Test
+    void 뉴스_상세_정보_캐시_적중_시_DB_조회_생략_검증() {
+        // given
+        Long newsId = 1L;
+        NewsDetailDTO cachedNewsDetail = new NewsDetailDTO(
+                newsId,
+                "제목",
+                "url",
+                CategoryType.SPORTS.toString(),
+                LocalDateTime.now(),
+                false,
+                List.of(),
+                new StatisticsDTO(0, 0, 0)
+        );
+        when(newsDetailCache.get(newsId)).thenReturn(Optional.of(cachedNewsDetail));
+        when(bookmarkRepository.existsByUserIdAndNewsId(user.getId(), newsId)).thenReturn(true);
+
+        // when
+        NewsDetailDTO response = newsServiceImpl.getNewsDetail(newsId, user.getId());
+
+        // then
+        assertEquals(cachedNewsDetail.getTitle(), response.getTitle());
+        assertTrue(response.isBookmarked());
+        verify(newsRepository, never()).findById(any());
+        verify(newsDetailCache, never()).put(any(NewsDetailDTO.class), anyLong());
+        verify(newsViewCounter).increment(newsId);
+    }
+
     @Test
     void 뉴스_생성_검증() {
         // given
@@ -533,12 +717,6 @@ class NewsServiceImplTest {
         CompletableFuture<WrappedDTO<StatisticsDTO>> statsAiResponse = CompletableFuture.completedFuture(statisticsDTO);
         when(aiService.getAIStatistics(query)).thenReturn(statsAiResponse);
 
-        // 뉴스 태그 저장
-        Tag tag = new Tag();
-        tag.setId(1L);
-        tag.setName("태그명");
-        when(tagRepository.findByName(any(String.class))).thenReturn(Optional.of(tag));
-
         // when
         NewsDetailDTO response = newsServiceImpl.save(user.getId(), false, newsCreateRequest);
 
@@ -546,11 +724,47 @@ class NewsServiceImplTest {
         verify(aiService, atLeastOnce()).createAINews(query, localDate.minusDays(NewsServiceConstant.NEWS_CREATE_DAYS), localDate);
         verify(aiService, atLeastOnce()).mergeTimelineCards(dayCardDTOs);
         verify(aiService, times(1)).getAIStatistics(query);
+        verify(newsBulkWriteRepository, times(1)).insertTimelineCards(any(), argThat(cards -> cards.size() == 1));
+        verify(newsBulkWriteRepository, never()).insertTagsIfAbsent(anyCollection());
+        verify(newsBulkWriteRepository, times(1)).insertNewsTags(any(), argThat(tagIds -> tagIds.size() == query.size()));
         assertEquals(statisticsDTO.getData().getPositive(), response.getStatistics().getPositive());
         assertEquals(statisticsDTO.getData().getNeutral(), response.getStatistics().getNeutral());
         assertEquals(statisticsDTO.getData().getNegative(), response.getStatistics().getNegative());
     }
 
+    @Test
+    void 진행_중인_뉴스_생성에_합류하면_AI_생성_없이_북마크만_설정_검증() {
+        // given
+        List<String> query = List.of("키워드1", "키워드2", "키워드3");
+        NewsCreateRequest newsCreateRequest = new NewsCreateRequest(query);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(newsRepository.findNewsByExactlyMatchingTags(query, query.size())).thenReturn(Optional.empty());
+
+        NewsDetailDTO created = new NewsDetailDTO(
+                1L,
+                "제목",
+                "url",
+                CategoryType.ECONOMY.toString(),
+                LocalDateTime.now(),
+                false,
+                List.of(),
+                new StatisticsDTO(10, 20, 70)
+        );
+        when(newsCreationCoalescer.execute(eq(query), any(), any())).thenReturn(created);
+        when(bookmarkRepository.existsByUserIdAndNewsId(user.getId(), 1L)).thenReturn(false);
+        News news = createNews(1L, "제목", "미리보기 내용", false, user, economy);
+        when(newsRepository.getReferenceById(1L)).thenReturn(news);
+
+        // when
+        NewsDetailDTO response = newsServiceImpl.save(user.getId(), false, newsCreateRequest);
+
+        // then
+        verify(aiService, never()).createAINews(any(), any(), any());
+        verify(bookmarkRepository, times(1)).save(argThat(bookmark -> bookmark.getNews() == news && bookmark.getUser() == user));
+        assertEquals(1L, response.getId());
+        assertTrue(response.isBookmarked());
+    }
+
     @Test
     void 입력_키워드_목록과_태그_목록이_동일한_뉴스가_존재하면_뉴스_생성_대신_업데이트_검증() {
         // given
@@ -726,12 +940,6 @@ class NewsServiceImplTest {
                 CompletableFuture.failedFuture(new AIException(HttpStatus.NOT_FOUND, statisticsDTO))
         );
 
-        // 뉴스 태그 저장
-        Tag tag = new Tag();
-        tag.setId(1L);
-        tag.setName("태그명");
-        when(tagRepository.findByName(any(String.class))).thenReturn(Optional.of(tag));
-
         // when
         NewsDetailDTO response = newsServiceImpl.save(user.getId(), false, newsCreateRequest);
 
@@ -1174,12 +1382,8 @@ class NewsServiceImplTest {
                 )
         );
 
-        Tag tag = new Tag();
-        tag.setId(1L);
-        tag.setName("태그명");
-
         when(aiService.createAIHotissueKeywords()).thenReturn(WrappedResponse);
-        when(newsRepository.findAllByIsHotissueTrueOrderByIdAsc(Pageable.unpaged())).thenReturn(Page.empty());
+        stubNewsIdAssignment();
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(0)), 1)).thenReturn(Optional.empty());
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(1)), 1)).thenReturn(Optional.empty());
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(2)), 1)).thenReturn(Optional.empty());
@@ -1194,19 +1398,22 @@ class NewsServiceImplTest {
         when(aiService.getAIStatistics(List.of(keywords.get(0)))).thenReturn(statsAiResponse);
         when(aiService.getAIStatistics(List.of(keywords.get(1)))).thenReturn(statsAiResponse);
         when(aiService.getAIStatistics(List.of(keywords.get(2)))).thenReturn(statsAiResponse);
-        when(tagRepository.findByName(any(String.class))).thenReturn(Optional.of(tag));
 
         // when
         newsServiceImpl.createHotissueNews();
 
         // then
-        verify(newsRepository, times(3)).save(any(News.class));
+        ArgumentCaptor<News> newsCaptor = ArgumentCaptor.forClass(News.class);
+        verify(newsRepository, times(3)).save(newsCaptor.capture());
+        assertTrue(newsCaptor.getAllValues().stream().noneMatch(News::getIsHotissue));
         verify(timelineCardRepository, atLeastOnce()).save(any(TimelineCard.class));
         verify(newsImageRepository, times(3)).save(any(NewsImage.class));
         verify(newsTagRepository, times(3)).save(any(NewsTag.class));
         verify(aiService, times(3)).getAIStatistics(anyList());
         verify(aiService, times(3)).createAINews(anyList(), any(LocalDate.class), any(LocalDate.class));
         verify(aiService, times(3)).mergeTimelineCards(anyList());
+
+        verify(newsRepository).replaceHotissues(argThat(newsIds -> newsIds.size() == 3));
     }
 
     @Test
@@ -1279,16 +1486,12 @@ class NewsServiceImplTest {
                 )
         );
 
-        Tag tag = new Tag();
-        tag.setId(1L);
-        tag.setName("태그명");
-
         List<String> keywords = List.of("키워드1", "키워드2", "키워드3");
         AIHotissueResponse aiHotissueResponse = new AIHotissueResponse(keywords);
         WrappedDTO<AIHotissueResponse> WrappedResponse = new WrappedDTO<>(true, "메시지", aiHotissueResponse);
 
         when(aiService.createAIHotissueKeywords()).thenReturn(WrappedResponse);
-        when(newsRepository.findAllByIsHotissueTrueOrderByIdAsc(Pageable.unpaged())).thenReturn(Page.empty());
+        stubNewsIdAssignment();
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(0)), 1)).thenReturn(Optional.empty());
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(1)), 1)).thenReturn(Optional.of(news1));
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(2)), 1)).thenReturn(Optional.of(news2));
@@ -1305,14 +1508,13 @@ class NewsServiceImplTest {
 
         CompletableFuture<WrappedDTO<StatisticsDTO>> statsAiResponse = CompletableFuture.completedFuture(statisticsDTO);
         when(aiService.getAIStatistics(anyList())).thenReturn(statsAiResponse);
-        when(tagRepository.findByName(any(String.class))).thenReturn(Optional.of(tag));
 
         // when
         newsServiceImpl.createHotissueNews();
 
         // then
         verify(userRepository, times(0)).findById(any(Long.class));
-        verify(newsRepository, times(3)).save(any(News.class));
+        verify(newsRepository, times(2)).save(any(News.class));
         verify(newsRepository, times(2)).findById(any(Long.class));
         verify(timelineCardRepository, atLeastOnce()).save(any(TimelineCard.class));
         verify(aiService, times(2)).createAINews(anyList(), any(LocalDate.class), any(LocalDate.class));
@@ -1321,41 +1523,121 @@ class NewsServiceImplTest {
         verify(newsImageRepository, times(2)).save(any(NewsImage.class));
         verify(newsTagRepository, times(1)).save(any(NewsTag.class));
 
-        assertTrue(news1.getIsHotissue());
-        assertTrue(news2.getIsHotissue());
+        // 핫이슈 지정은 replaceHotissues 한 문장에서만 처리된다.
+        assertFalse(news1.getIsHotissue());
+        assertFalse(news2.getIsHotissue());
+        verify(newsRepository).replaceHotissues(argThat(newsIds ->
+                newsIds.size() == 3 && newsIds.contains(news1.getId()) && newsIds.contains(news2.getId())));
     }
 
     @Test
-    void 핫이슈_생성_시_기존_핫이슈_뉴스들은_일반_뉴스로_전환_검증() {
+    void 핫이슈_키워드의_뉴스_생성_결과가_없으면_건너뜀_검증() {
         // given
-        AIHotissueResponse aiHotissueResponse = new AIHotissueResponse(List.of());
+        List<String> keywords = List.of("키워드1");
+        AIHotissueResponse aiHotissueResponse = new AIHotissueResponse(keywords);
         WrappedDTO<AIHotissueResponse> WrappedResponse = new WrappedDTO<>(true, "메시지", aiHotissueResponse);
 
-        News news1 = createNews(1L, "제목1", "미리보기 내용2", true, user, ktb);
-        News news2 = createNews(2L, "제목2", "미리보기 내용2", true, user, economy);
-        News news3 = createNews(3L, "제목3", "미리보기 내용3", true, user, sports);
-        Page<News> previousNewsPage = new PageImpl<>(Arrays.asList(news1, news2, news3));
+        when(aiService.createAIHotissueKeywords()).thenReturn(WrappedResponse);
+        when(newsRepository.findNewsByExactlyMatchingTags(keywords, 1)).thenReturn(Optional.empty());
+        when(aiService.getAIStatistics(keywords)).thenReturn(CompletableFuture.completedFuture(null));
+        when(aiService.createAINews(eq(keywords), any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new AIException(HttpStatus.NOT_FOUND, new WrappedDTO<>(false, "메시지", null)));
+
+        // when
+        int createdCnt = newsServiceImpl.createHotissueNews();
+
+        // then
+        assertEquals(0, createdCnt);
+        verify(newsRepository, never()).save(any(News.class));
+        verify(newsRepository, never()).replaceHotissues(anyCollection());
+    }
+
+    @Test
+    void 핫이슈_생성_시_기존_핫이슈_해제와_새_핫이슈_지정을_한_번에_처리_검증() {
+        // given
+        List<String> keywords = List.of("키워드1", "키워드2");
+        AIHotissueResponse aiHotissueResponse = new AIHotissueResponse(keywords);
+        WrappedDTO<AIHotissueResponse> WrappedResponse = new WrappedDTO<>(true, "메시지", aiHotissueResponse);
+
+        News news1 = createNews(1L, "제목1", "미리보기 내용1", false, user, ktb);
+        news1.setUpdatedAt(LocalDateTime.now());
+        News news2 = createNews(2L, "제목2", "미리보기 내용2", false, user, economy);
+        news2.setUpdatedAt(LocalDateTime.now());
+
+        when(aiService.createAIHotissueKeywords()).thenReturn(WrappedResponse);
+        when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(0)), 1)).thenReturn(Optional.of(news1));
+        when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(1)), 1)).thenReturn(Optional.of(news2));
+        when(newsRepository.findById(news1.getId())).thenReturn(Optional.of(news1));
+        when(newsRepository.findById(news2.getId())).thenReturn(Optional.of(news2));
+
+        // when
+        int createdCnt = newsServiceImpl.createHotissueNews();
+
+        // then
+        assertEquals(2, createdCnt);
+        verify(newsRepository, times(1)).replaceHotissues(List.of(news1.getId(), news2.getId()));
+        verify(newsRepository, never()).findAllByIsHotissueTrueOrderByIdAsc(any(Pageable.class));
+    }
+
+    @Test
+    void 핫이슈_키워드_일부_생성_실패_시_성공한_뉴스만_핫이슈로_지정_검증() {
+        // given
+        List<String> keywords = List.of("키워드1", "키워드2");
+        AIHotissueResponse aiHotissueResponse = new AIHotissueResponse(keywords);
+        WrappedDTO<AIHotissueResponse> WrappedResponse = new WrappedDTO<>(true, "메시지", aiHotissueResponse);
+
+        News news = createNews(2L, "제목2", "미리보기 내용2", false, user, economy);
+        news.setUpdatedAt(LocalDateTime.now());
 
         when(aiService.createAIHotissueKeywords()).thenReturn(WrappedResponse);
-        when(newsRepository.findAllByIsHotissueTrueOrderByIdAsc(Pageable.unpaged())).thenReturn(previousNewsPage);
+        when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(0)), 1)).thenThrow(new RuntimeException("조회 실패"));
+        when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(1)), 1)).thenReturn(Optional.of(news));
+        when(newsRepository.findById(news.getId())).thenReturn(Optional.of(news));
 
         // when
-        newsServiceImpl.createHotissueNews();
+        int createdCnt = newsServiceImpl.createHotissueNews();
 
         // then
-        verify(newsRepository).updateIsHotissue(news1.getId(), false);
-        verify(newsRepository).updateIsHotissue(news2.getId(), false);
-        verify(newsRepository).updateIsHotissue(news3.getId(), false);
+        assertEquals(1, createdCnt);
+        verify(newsRepository, times(1)).replaceHotissues(List.of(news.getId()));
+        verify(eventPublisher, times(1)).publishEvent(any(AlarmEvent.class));
+    }
+
+    @Test
+    void 생성된_핫이슈_뉴스가_없으면_기존_핫이슈_유지_검증() {
+        // given
+        AIHotissueResponse aiHotissueResponse = new AIHotissueResponse(List.of());
+        WrappedDTO<AIHotissueResponse> WrappedResponse = new WrappedDTO<>(true, "메시지", aiHotissueResponse);
+
+        when(aiService.createAIHotissueKeywords()).thenReturn(WrappedResponse);
+
+        // when
+        int createdCnt = newsServiceImpl.createHotissueNews();
+
+        // then
+        assertEquals(0, createdCnt);
+        verify(newsRepository, never()).replaceHotissues(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void 오래된_뉴스_및_고아_태그_삭제_검증() {
+        // given
+        stubRetentionPurge();
+        when(newsRepository.findIdsOlderThan(any(LocalDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(newsRepository.deleteAllByIdInAndOlderThan(eq(List.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(2);
+        when(tagRepository.findOrphanIds(eq(0L), any(Pageable.class))).thenReturn(List.of(3L));
+        when(tagRepository.deleteOrphanByIdIn(List.of(3L))).thenReturn(1);
+
         // when
         newsServiceImpl.deleteOldNewsAndOrphanTags();
 
         // then
-        verify(newsRepository, times(1)).deleteAllOlderThan(any(LocalDateTime.class));
-        verify(tagRepository, times(1)).deleteAllOrphan();
+        verify(newsRepository, times(1)).deleteAllByIdInAndOlderThan(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(tagRepository, times(1)).deleteOrphanByIdIn(List.of(3L));
+        verify(retentionPurgeEngine).purge(eq(NewsServiceConstant.NEWS_PURGE_TARGET), any(), any());
+        verify(retentionPurgeEngine).purge(eq(NewsServiceConstant.ORPHAN_TAG_PURGE_TARGET), any(), any());
+        verify(newsTagSearchEngine, times(1)).evictTags();
     }
 
     @Test
@@ -1433,12 +1715,8 @@ class NewsServiceImplTest {
                 )
         );
 
-        Tag tag = new Tag();
-        tag.setId(1L);
-        tag.setName("태그명");
-
         when(aiService.createAIHotissueKeywords()).thenReturn(WrappedResponse);
-        when(newsRepository.findAllByIsHotissueTrueOrderByIdAsc(Pageable.unpaged())).thenReturn(Page.empty());
+        stubNewsIdAssignment();
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(0)), 1)).thenReturn(Optional.empty());
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(1)), 1)).thenReturn(Optional.empty());
         when(newsRepository.findNewsByExactlyMatchingTags(List.of(keywords.get(2)), 1)).thenReturn(Optional.empty());
@@ -1453,13 +1731,12 @@ class NewsServiceImplTest {
         when(aiService.getAIStatistics(List.of(keywords.get(0)))).thenReturn(statsAiResponse);
         when(aiService.getAIStatistics(List.of(keywords.get(1)))).thenReturn(statsAiResponse);
         when(aiService.getAIStatistics(List.of(keywords.get(2)))).thenReturn(statsAiResponse);
-        when(tagRepository.findByName(any(String.class))).thenReturn(Optional.of(tag));
 
         // when
         newsServiceImpl.createHotissueNews();
 
         // then
-        verify(userRepository).findAll();
+        verify(userRepository, never()).findAll();
 
         ArgumentCaptor<AlarmEvent> captor = ArgumentCaptor.forClass(AlarmEvent.class);
         verify(eventPublisher).publishEvent(captor.capture());
@@ -1467,6 +1744,7 @@ class NewsServiceImplTest {
         AlarmEvent event = captor.getValue();
         assertEquals(AlarmMessage.HOTISSUE_CREATE_TITLE, event.getTitle());
         assertEquals(AlarmMessage.HOTISSUE_CREATE_CONTENT, event.getContent());
+        assertTrue(event.isBroadcast());
         assertEquals(AlarmType.NEWS, event.getTargetType());
         assertNull(event.getTargetId());
     }
@@ -1583,6 +1861,7 @@ class NewsServiceImplTest {
         assertEquals(String.format(AlarmMessage.BOOKMARK_UPDATE_CONTENT, news.getTitle()), event.getContent());
         assertEquals(AlarmType.NEWS, event.getTargetType());
         assertEquals(news.getId(), event.getTargetId());
+        assertEquals(AlarmKind.BOOKMARK, event.getKind());
     }
 
     @Test
@@ -1609,54 +1888,79 @@ class NewsServiceImplTest {
         assertEquals(String.format(AlarmMessage.BOOKMARK_DELETION_CONTENT, news.getTitle()), event.getContent());
         assertNull(event.getTargetType());
         assertNull(event.getTargetId());
+        assertEquals(AlarmKind.BOOKMARK, event.getKind());
+
+        ArgumentCaptor<NewsChangedEvent> changedCaptor = ArgumentCaptor.forClass(NewsChangedEvent.class);
+        verify(eventPublisher).publishEvent(changedCaptor.capture());
+        assertEquals(List.of(news.getId()), changedCaptor.getValue().getNewsIds());
     }
 
     @Test
     void 오래된_뉴스_및_고아_태그_삭제_시_삭제_예정이거나_삭제된_북마크_알림_발행_검증() {
         // given
-        News news1 = createNews(1L, "제목", "미리보기 내용", true, user, economy);
-        News news2 = createNews(2L, "제목", "미리보기 내용", true, user, entertainment);
+        List<BookmarkAlarmTargetDTO> targets = List.of(
+                new BookmarkAlarmTargetDTO(1L, "제목1", 10L),
+                new BookmarkAlarmTargetDTO(1L, "제목1", 11L),
+                new BookmarkAlarmTargetDTO(2L, "제목2", 10L)
+        );
 
-        when(newsRepository.findAllOlderThan(any(LocalDateTime.class))).thenReturn(List.of(news1, news2));
-        when(bookmarkRepository.findUsersByNews(any(News.class))).thenReturn(List.of(news1.getId(), news2.getId()));
+        stubRetentionPurge();
+        when(newsRepository.findIdsOlderThan(any(LocalDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(newsRepository.deleteAllByIdInAndOlderThan(eq(List.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(2);
+        when(bookmarkRepository.findAlarmTargetsByNewsIdIn(eq(List.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(targets);
 
         // when
         newsServiceImpl.deleteOldNewsAndOrphanTags();
 
         // then
-        verify(newsRepository, times(2)).findAllOlderThan(any(LocalDateTime.class));
-        verify(bookmarkRepository, times(4)).findUsersByNews(any(News.class));
+        verify(bookmarkRepository, times(2)).findAlarmTargetsByNewsIdIn(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(bookmarkRepository, never()).findUsersByNews(any(News.class));
+        verify(newsRepository, times(1)).deleteAllByIdInAndOlderThan(eq(List.of(1L, 2L)), any(LocalDateTime.class));
 
-        ArgumentCaptor<AlarmEvent> captor = ArgumentCaptor.forClass(AlarmEvent.class);
-        verify(eventPublisher, times(4)).publishEvent(captor.capture());
+        ArgumentCaptor<AlarmBatchEvent> captor = ArgumentCaptor.forClass(AlarmBatchEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
 
-        List<AlarmEvent> events = captor.getAllValues();
-        assertEquals(4, events.size());
+        List<AlarmEvent> warnings = captor.getAllValues().get(0).getEvents();
+        List<AlarmEvent> deletions = captor.getAllValues().get(1).getEvents();
+        assertEquals(2, warnings.size());
+        assertEquals(2, deletions.size());
 
-        AlarmEvent event1 = events.get(0);
-        AlarmEvent event2 = events.get(1);
-        AlarmEvent event3 = events.get(2);
-        AlarmEvent event4 = events.get(3);
+        AlarmEvent event1 = warnings.get(0);
+        AlarmEvent event2 = warnings.get(1);
+        AlarmEvent event3 = deletions.get(0);
+        AlarmEvent event4 = deletions.get(1);
 
         assertEquals(AlarmMessage.BOOKMARK_DELETE_WARNING_TITLE, event1.getTitle());
         assertEquals(AlarmMessage.BOOKMARK_DELETE_WARNING_TITLE, event2.getTitle());
         assertEquals(AlarmMessage.BOOKMARK_DELETION_TITLE, event3.getTitle());
         assertEquals(AlarmMessage.BOOKMARK_DELETION_TITLE, event4.getTitle());
 
-        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETE_WARNING_CONTENT, news1.getTitle()), event1.getContent());
-        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETE_WARNING_CONTENT, news2.getTitle()), event2.getContent());
-        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETION_CONTENT, news1.getTitle()), event3.getContent());
-        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETION_CONTENT, news1.getTitle()), event4.getContent());
+        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETE_WARNING_CONTENT, "제목1"), event1.getContent());
+        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETE_WARNING_CONTENT, "제목2"), event2.getContent());
+        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETION_CONTENT, "제목1"), event3.getContent());
+        assertEquals(String.format(AlarmMessage.BOOKMARK_DELETION_CONTENT, "제목2"), event4.getContent());
+
+        assertEquals(List.of(10L, 11L), event1.getReceiverId());
+        assertEquals(List.of(10L), event2.getReceiverId());
+        assertEquals(List.of(10L, 11L), event3.getReceiverId());
+        assertEquals(List.of(10L), event4.getReceiverId());
 
         assertEquals(AlarmType.NEWS, event1.getTargetType());
         assertEquals(AlarmType.NEWS, event2.getTargetType());
         assertNull(event3.getTargetType());
         assertNull(event4.getTargetType());
 
-        assertInstanceOf(Long.class, event1.getTargetId());
-        assertInstanceOf(Long.class, event2.getTargetId());
+        assertEquals(1L, event1.getTargetId());
+        assertEquals(2L, event2.getTargetId());
         assertNull(event3.getTargetId());
         assertNull(event4.getTargetId());
+
+        ArgumentCaptor<NewsChangedEvent> changedCaptor = ArgumentCaptor.forClass(NewsChangedEvent.class);
+        verify(eventPublisher).publishEvent(changedCaptor.capture());
+        assertEquals(List.of(1L, 2L), changedCaptor.getValue().getNewsIds());
+
+        Stream.concat(warnings.stream(), deletions.stream())
+                .forEach(event -> assertEquals(AlarmKind.BOOKMARK, event.getKind()));
     }
 
     @Test
@@ -1676,7 +1980,7 @@ class NewsServiceImplTest {
         newsServiceImpl.makeNewsPublic();
 
         // then
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, never()).findAll();
 
         ArgumentCaptor<AlarmEvent> captor = ArgumentCaptor.forClass(AlarmEvent.class);
         verify(eventPublisher, times(1)).publishEvent(captor.capture());
@@ -1684,6 +1988,7 @@ class NewsServiceImplTest {
         AlarmEvent event = captor.getValue();
         assertEquals(AlarmMessage.POLL_RESULT_TITLE, event.getTitle());
         assertEquals(String.format(AlarmMessage.POLL_RESULT_CONTENT, news1.getTitle()), event.getContent());
+        assertTrue(event.isBroadcast());
         assertEquals(AlarmType.NEWS, event.getTargetType());
         assertEquals(news1.getId(), event.getTargetId());
     }
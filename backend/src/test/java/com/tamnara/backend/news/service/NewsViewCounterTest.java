@@ -0,0 +1,109 @@
+package com.tamnara.backend.news.service;
+
+import com.tamnara.backend.news.repository.NewsViewCountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsViewCounterTest {
+
+    @Mock private NewsViewCountRepository newsViewCountRepository;
+
+    private MeterRegistry meterRegistry;
+    private NewsViewCounter newsViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        newsViewCounter = new NewsViewCounter(newsViewCountRepository, meterRegistry);
+    }
+
+    @Test
+    void 누적된_조회수_일괄_반영_검증() {
+        // given
+        newsViewCounter.increment(1L);
+        newsViewCounter.increment(1L);
+        newsViewCounter.increment(2L);
+
+        // when
+        newsViewCounter.flush();
+
+        // then
+        verify(newsViewCountRepository, times(1)).addViewCounts(Map.of(1L, 2L, 2L, 1L));
+        assertEquals(1, meterRegistry.get("news.view.count.flush.batch.size").summary().count());
+    }
+
+    @Test
+    void 반영할_조회수가_없으면_DB_갱신_생략_검증() {
+        // given
+        newsViewCounter.increment(1L);
+        newsViewCounter.flush();
+
+        // when
+        newsViewCounter.flush();
+
+        // then
+        verify(newsViewCountRepository, times(1)).addViewCounts(anyMap());
+    }
+
+    @Test
+    void 조회가_없던_뉴스는_다음_반영_때_정리되고_이후_조회수도_반영_검증() {
+        // given
+        newsViewCounter.increment(1L);
+        newsViewCounter.flush();
+
+        // when
+        newsViewCounter.flush();
+        int pendingNewsCnt = newsViewCounter.getPendingNewsCnt();
+        newsViewCounter.increment(1L);
+        newsViewCounter.flush();
+
+        // then
+        assertEquals(0, pendingNewsCnt);
+        verify(newsViewCountRepository, times(2)).addViewCounts(Map.of(1L, 1L));
+    }
+
+    @Test
+    void 반영_실패_시_다음_주기에_재반영_검증() {
+        // given
+        newsViewCounter.increment(1L);
+        doThrow(new DataAccessResourceFailureException("DB 장애"))
+                .doNothing()
+                .when(newsViewCountRepository).addViewCounts(anyMap());
+
+        // when
+        newsViewCounter.flush();
+        newsViewCounter.increment(1L);
+        newsViewCounter.flush();
+
+        // then
+        verify(newsViewCountRepository, times(2)).addViewCounts(anyMap());
+        verify(newsViewCountRepository).addViewCounts(Map.of(1L, 2L));
+    }
+
+    @Test
+    void 종료_시_남은_조회수_반영_검증() {
+        // given
+        newsViewCounter.increment(3L);
+
+        // when
+        newsViewCounter.flushOnShutdown();
+
+        // then
+        verify(newsViewCountRepository).addViewCounts(Map.of(3L, 1L));
+    }
+}
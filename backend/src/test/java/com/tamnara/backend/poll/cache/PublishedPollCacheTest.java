@@ -0,0 +1,111 @@
+package com.tamnara.backend.poll.cache;
+
+import com.tamnara.backend.poll.domain.Poll;
+import com.tamnara.backend.poll.domain.PollOption;
+import com.tamnara.backend.poll.domain.PollState;
+import com.tamnara.backend.poll.dto.PollInfoDTO;
+import com.tamnara.backend.poll.repository.PollOptionRepository;
+import com.tamnara.backend.poll.repository.PollRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublishedPollCacheTest {
+
+    @Mock private PollRepository pollRepository;
+    @Mock private PollOptionRepository pollOptionRepository;
+
+    private MeterRegistry meterRegistry;
+    private PublishedPollCache publishedPollCache;
+
+    private Poll poll;
+    private PollOption option;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publishedPollCache = new PublishedPollCache(pollRepository, pollOptionRepository, meterRegistry);
+
+        poll = Poll.builder()
+                .id(1L)
+                .title("투표 제목")
+                .minChoices(1)
+                .maxChoices(1)
+                .startAt(LocalDateTime.now().minusDays(1))
+                .endAt(LocalDateTime.now().plusDays(1))
+                .state(PollState.PUBLISHED)
+                .build();
+        option = PollOption.builder()
+                .id(101L)
+                .title("선택지")
+                .poll(poll)
+                .build();
+    }
+
+    @Test
+    void 공개_투표와_선택지를_한_번만_조회하고_이후_캐시에서_반환_검증() {
+        // given
+        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.of(poll));
+        when(pollOptionRepository.findByPollId(poll.getId())).thenReturn(List.of(option));
+
+        // when
+        Optional<PollInfoDTO> first = publishedPollCache.get();
+        Optional<PollInfoDTO> second = publishedPollCache.get();
+
+        // then
+        assertTrue(first.isPresent());
+        assertEquals(poll.getId(), second.get().getId());
+        assertEquals(option.getId(), second.get().getOptions().getFirst().getId());
+        verify(pollRepository, times(1)).findLatestPollByPublishedPoll();
+        verify(pollOptionRepository, times(1)).findByPollId(poll.getId());
+        assertEquals(1.0, meterRegistry.get("poll.published.cache").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("poll.published.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void 공개_투표가_없다는_결과도_캐싱_검증() {
+        // given
+        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.empty());
+
+        // when
+        publishedPollCache.get();
+        Optional<PollInfoDTO> result = publishedPollCache.get();
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(pollRepository, times(1)).findLatestPollByPublishedPoll();
+        verify(pollOptionRepository, never()).findByPollId(anyLong());
+    }
+
+    @Test
+    void 캐시_무효화_후_다시_조회_검증() {
+        // given
+        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.of(poll));
+        when(pollOptionRepository.findByPollId(poll.getId())).thenReturn(List.of(option));
+        publishedPollCache.get();
+
+        // when
+        publishedPollCache.evict();
+        publishedPollCache.get();
+
+        // then
+        verify(pollRepository, times(2)).findLatestPollByPublishedPoll();
+    }
+}
@@ -1,5 +1,6 @@
 package com.tamnara.backend.poll.config;
 
+import com.tamnara.backend.poll.push.PollResultEmitterRegistry;
 import com.tamnara.backend.poll.service.PollService;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -13,4 +14,9 @@ public class PollTestConfig {
         return Mockito.mock(PollService.class);
     }
 
+    @Bean
+    public PollResultEmitterRegistry pollResultEmitterRegistry() {
+        return Mockito.mock(PollResultEmitterRegistry.class);
+    }
+
 }
@@ -11,6 +11,7 @@ import com.tamnara.backend.poll.dto.request.VoteRequest;
 import com.tamnara.backend.poll.dto.response.PollIdResponse;
 import com.tamnara.backend.poll.dto.response.PollInfoResponse;
 import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import com.tamnara.backend.poll.push.PollResultEmitterRegistry;
 import com.tamnara.backend.poll.service.PollService;
 import com.tamnara.backend.poll.util.PollCreateRequestTestBuilder;
 import com.tamnara.backend.user.domain.Role;
@@ -29,6 +30,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -41,6 +43,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = PollController.class)
@@ -53,6 +56,7 @@ class PollControllerIntegrationTest {
     @Autowired private ObjectMapper objectMapper;
 
     @Autowired private PollService pollService;
+    @Autowired private PollResultEmitterRegistry pollResultEmitterRegistry;
 
     User user;
     @BeforeEach
@@ -108,11 +112,12 @@ class PollControllerIntegrationTest {
     void vote_success() throws Exception {
         // given
         VoteRequest voteRequest = new VoteRequest(List.of(1L, 2L));
-        given(pollService.vote(user, voteRequest)).willReturn(new PollIdResponse(1L));
+        given(pollService.vote(user, voteRequest, "key-1")).willReturn(new PollIdResponse(1L));
 
         // when & then
 
         mockMvc.perform(post("/polls/vote")
+                        .header("Idempotency-Key", "key-1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(voteRequest)))
                 .andExpect(status().isCreated())
@@ -147,4 +152,17 @@ class PollControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value(PollResponseMessage.VOTE_STATISTICS))
                 .andExpect(jsonPath("$.data").exists());
     }
+
+    @Test
+    @DisplayName("실시간 투표 결과 구독 성공")
+    void subscribeVoteStatistics_success() throws Exception {
+        PollStatisticsResponse pollStatisticsResponse = new PollStatisticsResponse(1L, List.of(), 0L);
+        given(pollService.getVoteStatistics(1L)).willReturn(pollStatisticsResponse);
+        given(pollResultEmitterRegistry.connect(1L, pollStatisticsResponse)).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/polls/{pollId}/stats/stream", 1L))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
 }
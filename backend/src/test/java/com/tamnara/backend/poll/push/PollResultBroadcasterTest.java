@@ -0,0 +1,168 @@
+package com.tamnara.backend.poll.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tamnara.backend.poll.dto.OptionResult;
+import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import com.tamnara.backend.poll.repository.PollRepository;
+import com.tamnara.backend.poll.repository.VoteStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PollResultBroadcasterTest {
+
+    private static final Long POLL_ID = 1L;
+    private static final String SNAPSHOT_KEY = "POLL_RESULT:1";
+    private static final String LOCK_KEY = "POLL_RESULT_LOCK:1";
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private VoteStatisticsRepository voteStatisticsRepository;
+    @Mock private PollRepository pollRepository;
+    @Mock private PollResultEmitterRegistry pollResultEmitterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PollResultBroadcaster pollResultBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        pollResultBroadcaster = new PollResultBroadcaster(stringRedisTemplate, objectMapper, voteStatisticsRepository, pollRepository, pollResultEmitterRegistry);
+    }
+
+    private PollStatisticsResponse statistics(long count) {
+        return new PollStatisticsResponse(POLL_ID, List.of(new OptionResult(101L, "선택지", count)), count);
+    }
+
+    @Test
+    void 다른_서버가_공유한_결과는_DB_집계_없이_전송_검증() throws Exception {
+        // given
+        String shared = objectMapper.writeValueAsString(statistics(3L));
+        when(pollResultEmitterRegistry.getPollIds()).thenReturn(Set.of(POLL_ID));
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(shared);
+
+        // when
+        pollResultBroadcaster.tick();
+
+        // then
+        verify(pollResultEmitterRegistry, times(1)).broadcast(POLL_ID, shared);
+        verify(voteStatisticsRepository, never()).findOptionResultsByPollId(anyLong());
+    }
+
+    @Test
+    void 공유된_결과가_없으면_한_서버만_집계해_공유_검증() throws Exception {
+        // given
+        String expected = objectMapper.writeValueAsString(statistics(5L));
+        when(pollResultEmitterRegistry.getPollIds()).thenReturn(Set.of(POLL_ID));
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(voteStatisticsRepository.findOptionResultsByPollId(POLL_ID)).thenReturn(statistics(5L).getResults());
+
+        // when
+        pollResultBroadcaster.tick();
+
+        // then
+        verify(valueOperations, times(1)).set(eq(SNAPSHOT_KEY), eq(expected), any(Duration.class));
+        verify(pollResultEmitterRegistry, times(1)).broadcast(POLL_ID, expected);
+        verify(pollRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void 다른_서버가_집계_중이면_이번_주기는_건너뜀_검증() {
+        // given
+        when(pollResultEmitterRegistry.getPollIds()).thenReturn(Set.of(POLL_ID));
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        pollResultBroadcaster.tick();
+
+        // then
+        verify(voteStatisticsRepository, never()).findOptionResultsByPollId(anyLong());
+        verify(pollResultEmitterRegistry, never()).broadcast(anyLong(), anyString());
+    }
+
+    @Test
+    void 결과가_바뀌지_않으면_다시_전송하지_않음_검증() throws Exception {
+        // given
+        String shared = objectMapper.writeValueAsString(statistics(3L));
+        when(pollResultEmitterRegistry.getPollIds()).thenReturn(Set.of(POLL_ID));
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(shared);
+
+        // when
+        pollResultBroadcaster.tick();
+        pollResultBroadcaster.tick();
+
+        // then
+        verify(pollResultEmitterRegistry, times(1)).broadcast(POLL_ID, shared);
+    }
+
+    @Test
+    void Redis_장애_시_직접_집계해_전송_검증() throws Exception {
+        // given
+        String expected = objectMapper.writeValueAsString(statistics(2L));
+        when(pollResultEmitterRegistry.getPollIds()).thenReturn(Set.of(POLL_ID));
+        when(valueOperations.get(SNAPSHOT_KEY)).thenThrow(new RedisConnectionFailureException("연결 실패"));
+        when(voteStatisticsRepository.findOptionResultsByPollId(POLL_ID)).thenReturn(statistics(2L).getResults());
+
+        // when
+        pollResultBroadcaster.tick();
+
+        // then
+        verify(pollResultEmitterRegistry, times(1)).broadcast(POLL_ID, expected);
+    }
+
+    @Test
+    void 투표가_삭제되면_구독_종료_검증() {
+        // given
+        when(pollResultEmitterRegistry.getPollIds()).thenReturn(Set.of(POLL_ID));
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(voteStatisticsRepository.findOptionResultsByPollId(POLL_ID)).thenReturn(List.of());
+        when(pollRepository.existsById(POLL_ID)).thenReturn(false);
+
+        // when
+        pollResultBroadcaster.tick();
+
+        // then
+        verify(pollResultEmitterRegistry, times(1)).close(POLL_ID);
+    }
+
+    @Test
+    void 아직_투표가_없는_투표는_빈_결과를_전송_검증() throws Exception {
+        // given
+        String expected = objectMapper.writeValueAsString(new PollStatisticsResponse(POLL_ID, List.of(), 0L));
+        when(pollResultEmitterRegistry.getPollIds()).thenReturn(Set.of(POLL_ID));
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(voteStatisticsRepository.findOptionResultsByPollId(POLL_ID)).thenReturn(List.of());
+        when(pollRepository.existsById(POLL_ID)).thenReturn(true);
+
+        // when
+        pollResultBroadcaster.tick();
+
+        // then
+        verify(pollResultEmitterRegistry, times(1)).broadcast(POLL_ID, expected);
+        verify(pollResultEmitterRegistry, never()).close(anyLong());
+    }
+}
@@ -0,0 +1,57 @@
+package com.tamnara.backend.poll.push;
+
+import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PollResultEmitterRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PollResultEmitterRegistry pollResultEmitterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pollResultEmitterRegistry = new PollResultEmitterRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pollResultEmitterRegistry.shutdown();
+    }
+
+    private PollStatisticsResponse emptyStatistics(Long pollId) {
+        return new PollStatisticsResponse(pollId, List.of(), 0L);
+    }
+
+    @Test
+    void 투표별_구독_연결_수_집계_검증() {
+        // when
+        pollResultEmitterRegistry.connect(1L, emptyStatistics(1L));
+        pollResultEmitterRegistry.connect(1L, emptyStatistics(1L));
+        pollResultEmitterRegistry.connect(2L, emptyStatistics(2L));
+
+        // then
+        assertEquals(3, pollResultEmitterRegistry.getConnectionCnt());
+        assertEquals(Set.of(1L, 2L), pollResultEmitterRegistry.getPollIds());
+        assertEquals(3.0, meterRegistry.get("poll.result.sse.connections").gauge().value());
+    }
+
+    @Test
+    void 구독자가_없는_투표의_결과는_무시_검증() {
+        // given
+        pollResultEmitterRegistry.connect(1L, emptyStatistics(1L));
+
+        // when & then
+        assertDoesNotThrow(() -> pollResultEmitterRegistry.broadcast(2L, "{}"));
+        assertEquals(1, pollResultEmitterRegistry.getConnectionCnt());
+    }
+}
@@ -0,0 +1,113 @@
+package com.tamnara.backend.poll.repository;
+
+import com.tamnara.backend.config.TestConfig;
+import com.tamnara.backend.poll.domain.Ballot;
+import com.tamnara.backend.poll.domain.Poll;
+import com.tamnara.backend.poll.domain.PollOption;
+import com.tamnara.backend.poll.util.PollOptionTestBuilder;
+import com.tamnara.backend.poll.util.PollTestBuilder;
+import com.tamnara.backend.poll.util.VoteTestBuilder;
+import com.tamnara.backend.user.domain.User;
+import com.tamnara.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static com.tamnara.backend.global.util.CreateUserUtil.createActiveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BallotRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired private PollRepository pollRepository;
+    @Autowired private BallotRepository ballotRepository;
+    @Autowired private PollOptionRepository pollOptionRepository;
+    @Autowired private VoteRepository voteRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User savedUser;
+    private Poll savedPoll;
+
+    @BeforeEach
+    void setup() {
+        this.savedUser = userRepository.saveAndFlush(createActiveUser(
+                "test@user.com", "tester", "KAKAO", "123"));
+        this.savedPoll = pollRepository.saveAndFlush(PollTestBuilder.defaultPoll());
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("참여 기록이 없으면 삽입하고 1을 반환")
+    void insertIfAbsent_inserted() {
+        // when
+        int insertedCnt = ballotRepository.insertIfAbsent(savedPoll.getId(), savedUser.getId(), "key-1");
+        em.clear();
+
+        // then
+        assertThat(insertedCnt).isEqualTo(1);
+        Optional<Ballot> ballot = ballotRepository.findByPollIdAndUserId(savedPoll.getId(), savedUser.getId());
+        assertThat(ballot).isPresent();
+        assertThat(ballot.get().getIdempotencyKey()).isEqualTo("key-1");
+    }
+
+    @Test
+    @DisplayName("같은 투표에 참여 기록이 이미 있으면 삽입하지 않고 0을 반환")
+    void insertIfAbsent_duplicated() {
+        // given
+        ballotRepository.insertIfAbsent(savedPoll.getId(), savedUser.getId(), "key-1");
+        em.clear();
+
+        // when
+        int insertedCnt = ballotRepository.insertIfAbsent(savedPoll.getId(), savedUser.getId(), "key-2");
+        em.clear();
+
+        // then
+        assertThat(insertedCnt).isZero();
+        assertThat(ballotRepository.findByPollIdAndUserId(savedPoll.getId(), savedUser.getId()))
+                .get()
+                .extracting(Ballot::getIdempotencyKey)
+                .isEqualTo("key-1");
+    }
+
+    @Test
+    @DisplayName("투표 기록만 있는 회원의 참여 기록을 회원당 한 행으로 채우고, 이미 있는 기록은 건너뜀")
+    void backfillFromVotes() {
+        // given
+        User otherUser = userRepository.saveAndFlush(createActiveUser(
+                "other@user.com", "other", "KAKAO", "456"));
+        PollOption option1 = pollOptionRepository.saveAndFlush(PollOptionTestBuilder.defaultOption(savedPoll));
+        PollOption option2 = pollOptionRepository.saveAndFlush(PollOptionTestBuilder.defaultOption(savedPoll));
+        voteRepository.saveAndFlush(VoteTestBuilder.build(savedUser, savedPoll, option1));
+        voteRepository.saveAndFlush(VoteTestBuilder.build(savedUser, savedPoll, option2));
+        voteRepository.saveAndFlush(VoteTestBuilder.build(otherUser, savedPoll, option1));
+        ballotRepository.insertIfAbsent(savedPoll.getId(), otherUser.getId(), "key-1");
+        em.clear();
+
+        // when
+        int insertedCnt = ballotRepository.backfillFromVotes();
+        em.clear();
+
+        // then
+        assertThat(insertedCnt).isEqualTo(1);
+        assertThat(ballotRepository.findByPollIdAndUserId(savedPoll.getId(), savedUser.getId())).isPresent();
+        assertThat(ballotRepository.findByPollIdAndUserId(savedPoll.getId(), otherUser.getId()))
+                .get()
+                .extracting(Ballot::getIdempotencyKey)
+                .isEqualTo("key-1");
+    }
+}
@@ -18,12 +18,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 
 import static com.tamnara.backend.global.util.CreateUserUtil.createActiveUser;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DataJpaTest
@@ -106,8 +108,8 @@ class VoteRepositoryTest {
     }
 
     @Test
-    @DisplayName("UserId로 최신 공개 투표에 대한 투표 여부 조회 성공")
-    void hasVotedLatestPublishedPoll() {
+    @DisplayName("같은 회원이 같은 선택지에 두 번 투표하면 유니크 제약으로 저장 실패")
+    void saveVote_duplicated() {
         // given
         Poll poll = pollRepository.saveAndFlush(PollTestBuilder.defaultPoll());
         em.clear();
@@ -115,17 +117,15 @@ class VoteRepositoryTest {
         em.clear();
         voteRepository.saveAndFlush(VoteTestBuilder.build(savedUser, poll, option));
         em.clear();
-        
-        // when
-        Boolean hasVoted = voteRepository.hasVotedLatestPublishedPoll(savedUser.getId());
 
-        // then
-        assertThat(hasVoted).isTrue();
+        // when & then
+        assertThatThrownBy(() -> voteRepository.saveAndFlush(VoteTestBuilder.build(savedUser, poll, option)))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
-    @DisplayName("UserId로 최신 공개 투표에 참여했을 때 선택한 선택지들의 ID 조회 성공")
-    void findVotedOptionIdsOfLatestPublishedPoll_voted() {
+    @DisplayName("UserId와 PollId로 투표에 참여했을 때 선택한 선택지들의 ID 조회 성공")
+    void findOptionIdsByUserIdAndPollId_voted() {
         // given
         Poll poll = pollRepository.saveAndFlush(PollTestBuilder.defaultPoll());
         em.clear();
@@ -135,7 +135,7 @@ class VoteRepositoryTest {
         em.clear();
 
         // when
-        List<Long> votedOptions = voteRepository.findVotedOptionIdsOfLatestPublishedPoll(savedUser.getId());
+        List<Long> votedOptions = voteRepository.findOptionIdsByUserIdAndPollId(savedUser.getId(), poll.getId());
 
         // then
         assertEquals(1, votedOptions.size());
@@ -143,8 +143,8 @@ class VoteRepositoryTest {
     }
 
     @Test
-    @DisplayName("UserId로 최신 공개 투표에 참여하지 않았을 때 선택한 선택지들의 ID 조회 성공")
-    void findVotedOptionIdsOfLatestPublishedPoll_notVoted() {
+    @DisplayName("UserId와 PollId로 투표에 참여하지 않았을 때 선택한 선택지들의 ID 조회 성공")
+    void findOptionIdsByUserIdAndPollId_notVoted() {
         // given
         Poll poll = pollRepository.saveAndFlush(PollTestBuilder.defaultPoll());
         em.clear();
@@ -152,7 +152,7 @@ class VoteRepositoryTest {
         em.clear();
 
         // when
-        List<Long> votedOptions = voteRepository.findVotedOptionIdsOfLatestPublishedPoll(savedUser.getId());
+        List<Long> votedOptions = voteRepository.findOptionIdsByUserIdAndPollId(savedUser.getId(), poll.getId());
 
         // then
         assertEquals(0, votedOptions.size());
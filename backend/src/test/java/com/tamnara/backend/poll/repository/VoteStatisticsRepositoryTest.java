@@ -4,8 +4,12 @@ import com.tamnara.backend.config.TestConfig;
 import com.tamnara.backend.poll.domain.Poll;
 import com.tamnara.backend.poll.domain.PollOption;
 import com.tamnara.backend.poll.domain.VoteStatistics;
+import com.tamnara.backend.poll.dto.OptionResult;
 import com.tamnara.backend.poll.util.PollOptionTestBuilder;
 import com.tamnara.backend.poll.util.PollTestBuilder;
+import com.tamnara.backend.poll.util.VoteTestBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,8 +31,12 @@ class VoteStatisticsRepositoryTest {
 
     @Autowired private PollRepository pollRepository;
     @Autowired private PollOptionRepository pollOptionRepository;
+    @Autowired private VoteRepository voteRepository;
     @Autowired private VoteStatisticsRepository voteStatisticsRepository;
 
+    @PersistenceContext
+    private EntityManager em;
+
     @Test
     @DisplayName("기본 통계 객체 생성과 저장, 조회 성공")
     void saveAndFindByPollId() {
@@ -77,4 +85,65 @@ class VoteStatisticsRepositoryTest {
                 () -> voteStatisticsRepository.saveAndFlush(duplicate)
         );
     }
+
+    @Test
+    @DisplayName("통계 행이 없으면 1로 생성하고, 있으면 1씩 증가")
+    void incrementCount() {
+        // given
+        Poll poll = pollRepository.save(PollTestBuilder.defaultPoll());
+        PollOption option = pollOptionRepository.saveAndFlush(PollOptionTestBuilder.defaultOption(poll));
+
+        // when
+        voteStatisticsRepository.incrementCount(poll.getId(), option.getId());
+        voteStatisticsRepository.incrementCount(poll.getId(), option.getId());
+        em.clear();
+
+        // then
+        Optional<VoteStatistics> result = voteStatisticsRepository.findByPollIdAndOptionId(poll.getId(), option.getId());
+        assertThat(result).isPresent();
+        assertThat(result.get().getCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("투표 기록으로 통계를 재계산하고, 득표가 없는 선택지는 0으로 생성")
+    void reconcileCounts() {
+        // given
+        Poll poll = pollRepository.save(PollTestBuilder.defaultPoll());
+        PollOption votedOption = pollOptionRepository.save(PollOptionTestBuilder.defaultOption(poll));
+        PollOption emptyOption = pollOptionRepository.save(PollOptionTestBuilder.build("득표 없는 옵션", 1, "https://example.com/image.png", poll));
+        voteRepository.save(VoteTestBuilder.build(null, poll, votedOption));
+        voteRepository.saveAndFlush(VoteTestBuilder.build(null, poll, votedOption));
+        voteStatisticsRepository.incrementCount(poll.getId(), votedOption.getId());
+        em.clear();
+
+        // when
+        voteStatisticsRepository.reconcileCounts(poll.getId());
+        em.clear();
+
+        // then
+        assertThat(voteStatisticsRepository.findByPollIdAndOptionId(poll.getId(), votedOption.getId()))
+                .get().extracting(VoteStatistics::getCount).isEqualTo(2L);
+        assertThat(voteStatisticsRepository.findByPollIdAndOptionId(poll.getId(), emptyOption.getId()))
+                .get().extracting(VoteStatistics::getCount).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("선택지 제목과 득표 수를 득표 수 내림차순으로 한 번에 조회")
+    void findOptionResultsByPollId() {
+        // given
+        Poll poll = pollRepository.save(PollTestBuilder.defaultPoll());
+        PollOption first = pollOptionRepository.save(PollOptionTestBuilder.build("첫 번째", 0, null, poll));
+        PollOption second = pollOptionRepository.saveAndFlush(PollOptionTestBuilder.build("두 번째", 1, null, poll));
+        voteStatisticsRepository.incrementCount(poll.getId(), first.getId());
+        voteStatisticsRepository.incrementCount(poll.getId(), second.getId());
+        voteStatisticsRepository.incrementCount(poll.getId(), second.getId());
+
+        // when
+        List<OptionResult> results = voteStatisticsRepository.findOptionResultsByPollId(poll.getId());
+
+        // then
+        assertThat(results).extracting(OptionResult::getOptionId).containsExactly(second.getId(), first.getId());
+        assertThat(results).extracting(OptionResult::getTitle).containsExactly("두 번째", "첫 번째");
+        assertThat(results).extracting(OptionResult::getCount).containsExactly(2L, 1L);
+    }
 }
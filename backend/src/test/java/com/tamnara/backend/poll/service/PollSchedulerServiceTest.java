@@ -1,5 +1,7 @@
 package com.tamnara.backend.poll.service;
 
+import com.tamnara.backend.global.constant.ScheduledJobConstant;
+import com.tamnara.backend.global.scheduler.ScheduledJobRunner;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,6 +9,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -14,6 +22,7 @@ import static org.mockito.Mockito.verify;
 class PollSchedulerServiceTest {
 
     @Mock private PollService pollService;
+    @Mock private ScheduledJobRunner scheduledJobRunner;
 
     @InjectMocks private PollSchedulerServiceImpl pollSchedulerService;
 
@@ -21,6 +30,11 @@ class PollSchedulerServiceTest {
     @DisplayName("투표 상태 전환 자동화 스케줄링 메서드 처리 성공")
     void updatePollStates() {
         // given
+        doAnswer(invocation -> {
+            LongSupplier job = invocation.getArgument(2);
+            job.getAsLong();
+            return null;
+        }).when(scheduledJobRunner).run(eq(ScheduledJobConstant.POLL_STATE_JOB), any(Duration.class), any(LongSupplier.class));
 
         // when
         pollSchedulerService.updatePollStates();
@@ -28,4 +42,38 @@ class PollSchedulerServiceTest {
         // then
         verify(pollService, times(1)).updatePollStates();
     }
+
+    @Test
+    @DisplayName("투표 결과 통계 재계산 스케줄링 메서드 처리 성공")
+    void reconcileVoteStatistics() {
+        // given
+        doAnswer(invocation -> {
+            LongSupplier job = invocation.getArgument(2);
+            job.getAsLong();
+            return null;
+        }).when(scheduledJobRunner).run(eq(ScheduledJobConstant.POLL_STATISTICS_RECONCILE_JOB), any(Duration.class), any(LongSupplier.class));
+
+        // when
+        pollSchedulerService.reconcileVoteStatistics();
+
+        // then
+        verify(pollService, times(1)).reconcileVoteStatistics();
+    }
+
+    @Test
+    @DisplayName("참여 기록 이관은 한 번만 성공하면 되는 작업으로 실행")
+    void backfillBallots() {
+        // given
+        doAnswer(invocation -> {
+            LongSupplier job = invocation.getArgument(2);
+            job.getAsLong();
+            return null;
+        }).when(scheduledJobRunner).runOnce(eq(ScheduledJobConstant.POLL_BALLOT_BACKFILL_JOB), any(Duration.class), any(LongSupplier.class));
+
+        // when
+        pollSchedulerService.backfillBallots();
+
+        // then
+        verify(pollService, times(1)).backfillBallots();
+    }
 }
@@ -3,15 +3,22 @@ package com.tamnara.backend.poll.service;
 import com.tamnara.backend.alarm.constant.AlarmMessage;
 import com.tamnara.backend.alarm.domain.AlarmType;
 import com.tamnara.backend.alarm.event.AlarmEvent;
+import com.tamnara.backend.poll.cache.PublishedPollCache;
 import com.tamnara.backend.poll.constant.PollResponseMessage;
+import com.tamnara.backend.poll.domain.Ballot;
 import com.tamnara.backend.poll.domain.Poll;
 import com.tamnara.backend.poll.domain.PollOption;
 import com.tamnara.backend.poll.domain.PollState;
-import com.tamnara.backend.poll.domain.VoteStatistics;
+import com.tamnara.backend.poll.dto.OptionResult;
+import com.tamnara.backend.poll.dto.PollInfoDTO;
 import com.tamnara.backend.poll.dto.request.PollCreateRequest;
 import com.tamnara.backend.poll.dto.request.PollOptionCreateRequest;
 import com.tamnara.backend.poll.dto.request.VoteRequest;
+import com.tamnara.backend.poll.dto.response.PollIdResponse;
 import com.tamnara.backend.poll.dto.response.PollInfoResponse;
+import com.tamnara.backend.poll.dto.response.PollStatisticsResponse;
+import com.tamnara.backend.poll.event.PollChangedEvent;
+import com.tamnara.backend.poll.repository.BallotRepository;
 import com.tamnara.backend.poll.repository.PollOptionRepository;
 import com.tamnara.backend.poll.repository.PollRepository;
 import com.tamnara.backend.poll.repository.VoteRepository;
@@ -19,12 +26,12 @@ import com.tamnara.backend.poll.repository.VoteStatisticsRepository;
 import com.tamnara.backend.poll.util.PollCreateRequestTestBuilder;
 import com.tamnara.backend.poll.util.PollTestBuilder;
 import com.tamnara.backend.user.domain.User;
-import com.tamnara.backend.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -42,8 +49,10 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
@@ -56,11 +65,13 @@ class PollServiceImplTest {
 
     @Mock private ApplicationEventPublisher eventPublisher;
 
-    @Mock private UserRepository userRepository;
     @Mock private PollRepository pollRepository;
     @Mock private PollOptionRepository pollOptionRepository;
     @Mock private VoteRepository voteRepository;
     @Mock private VoteStatisticsRepository voteStatisticsRepository;
+    @Mock private BallotRepository ballotRepository;
+
+    @Mock private PublishedPollCache publishedPollCache;
 
     @InjectMocks private PollServiceImpl pollServiceImpl;
 
@@ -71,9 +82,9 @@ class PollServiceImplTest {
     private PollOption option1;
     private PollOption option2;
     private PollOption option3;
-    private VoteStatistics optionStats1;
-    private VoteStatistics optionStats2;
-    private VoteStatistics optionStats3;
+    private OptionResult optionResult1;
+    private OptionResult optionResult2;
+    private OptionResult optionResult3;
 
     @BeforeEach
     void setUp() {
@@ -133,29 +144,9 @@ class PollServiceImplTest {
         poll.getOptions().add(option2);
         poll.getOptions().add(option3);
 
-        optionStats1 = VoteStatistics.builder()
-                .id(11L)
-                .count(10L)
-                .createdAt(LocalDateTime.now())
-                .poll(poll)
-                .option(option1)
-                .build();
-
-        optionStats2 = VoteStatistics.builder()
-                .id(12L)
-                .count(9L)
-                .createdAt(LocalDateTime.now())
-                .poll(poll)
-                .option(option2)
-                .build();
-
-        optionStats3 = VoteStatistics.builder()
-                .id(11L)
-                .count(8L)
-                .createdAt(LocalDateTime.now())
-                .poll(poll)
-                .option(option3)
-                .build();
+        optionResult1 = new OptionResult(option1.getId(), option1.getTitle(), 10L);
+        optionResult2 = new OptionResult(option2.getId(), option2.getTitle(), 9L);
+        optionResult3 = new OptionResult(option3.getId(), option3.getTitle(), 8L);
     }
 
     @Test
@@ -202,20 +193,39 @@ class PollServiceImplTest {
     @DisplayName("getLatestPublishedPoll 실행에서 정상적으로 Poll 반환")
     void getLatestPublishedPoll_returnsPoll_whenPollExists() {
         // given
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.ofNullable(poll));
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(voteRepository.findOptionIdsByUserIdAndPollId(user.getId(), poll.getId())).thenReturn(List.of());
 
         // when
         PollInfoResponse response = pollServiceImpl.getLatestPublishedPoll(user.getId());
 
         // then
         assertEquals(response.getPoll().getId(), poll.getId());
+        assertEquals(3, response.getPoll().getOptions().size());
+        assertFalse(response.getHasVoted());
+        verify(pollRepository, never()).findLatestPollByPublishedPoll();
+    }
+
+    @Test
+    @DisplayName("getLatestPublishedPoll 실행에서 회원이 선택한 선택지와 투표 여부 반환")
+    void getLatestPublishedPoll_returnsVotedOptions_whenUserVoted() {
+        // given
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(voteRepository.findOptionIdsByUserIdAndPollId(user.getId(), poll.getId())).thenReturn(List.of(option1.getId()));
+
+        // when
+        PollInfoResponse response = pollServiceImpl.getLatestPublishedPoll(user.getId());
+
+        // then
+        assertTrue(response.getHasVoted());
+        assertEquals(List.of(option1.getId()), response.getVotedOptions());
     }
 
     @Test
     @DisplayName("getLatestPublishedPoll 실행에서 PollId가 존재하지 않는 경우 예외 발생")
     void getLatestPublishedPoll_returnsNull_whenPollDoesNotExist() {
         // given
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.empty());
+        when(publishedPollCache.get()).thenReturn(Optional.empty());
 
         // when
         ResponseStatusException exception = assertThrows(
@@ -279,7 +289,8 @@ class PollServiceImplTest {
 
         // then
         verify(pollRepository, times(2)).save(any(Poll.class));
-
+        verify(voteStatisticsRepository, times(1)).reconcileCounts(pollToPublish.getId());
+        verify(eventPublisher, times(1)).publishEvent(any(PollChangedEvent.class));
     }
 
     @Test
@@ -321,14 +332,13 @@ class PollServiceImplTest {
         pollServiceImpl.updatePollStates();
 
         // then
-        verify(userRepository, times(1)).findAll();
-
         ArgumentCaptor<AlarmEvent> captor = ArgumentCaptor.forClass(AlarmEvent.class);
         verify(eventPublisher).publishEvent(captor.capture());
 
         AlarmEvent event = captor.getValue();
         assertEquals(AlarmMessage.POLL_START_TITLE, event.getTitle());
         assertEquals(String.format(AlarmMessage.POLL_START_CONTENT, pollToPublish.getTitle()), event.getContent());
+        assertTrue(event.isBroadcast());
         assertEquals(AlarmType.POLLS, event.getTargetType());
         assertNull(event.getTargetId());
     }
@@ -337,46 +347,53 @@ class PollServiceImplTest {
     @DisplayName("투표 기록 저장에 성공")
     void vote_success() {
         // given
-        VoteRequest voteRequest = new VoteRequest(List.of(option1.getId(), option2.getId()));
+        VoteRequest voteRequest = new VoteRequest(List.of(option2.getId(), option1.getId()));
 
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.of(poll));
-        when(pollOptionRepository.findAllById(any())).thenReturn(List.of(option1, option2));
-        when(voteRepository.hasVotedLatestPublishedPoll(user.getId())).thenReturn(false);
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(ballotRepository.insertIfAbsent(poll.getId(), user.getId(), "key-1")).thenReturn(1);
 
         // when
-        pollServiceImpl.vote(user, voteRequest);
+        PollIdResponse response = pollServiceImpl.vote(user, voteRequest, "key-1");
 
         // then
+        assertEquals(poll.getId(), response.getPollId());
         verify(voteRepository, times(1)).saveAll(any());
+        InOrder inOrder = Mockito.inOrder(voteStatisticsRepository);
+        inOrder.verify(voteStatisticsRepository).incrementCount(poll.getId(), option1.getId());
+        inOrder.verify(voteStatisticsRepository).incrementCount(poll.getId(), option2.getId());
+        verify(pollRepository, never()).findLatestPollByPublishedPoll();
+        verify(pollOptionRepository, never()).findAllById(any());
     }
 
     @Test
     @DisplayName("투표 대상 투표가 존재하지 않는 경우 404 예외를 반환한다")
     void vote_pollNotFound() {
         // given
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.empty());
+        when(publishedPollCache.get()).thenReturn(Optional.empty());
 
         // when
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
-            pollServiceImpl.vote(user, new VoteRequest());
+            pollServiceImpl.vote(user, new VoteRequest(), null);
         });
 
         // then
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
         assertEquals(PollResponseMessage.POLL_NOT_FOUND, exception.getReason());
+        verify(ballotRepository, never()).insertIfAbsent(any(), any(), any());
     }
 
     @Test
-    @DisplayName("투표가 PUBLISHED 상태가 아닌 경우 403 예외를 반환한다")
-    void vote_pollNotPublished() {
-        // given
-        poll.changeState(PollState.SCHEDULED);
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.of(poll));
-
-        // when & then
-        assertThrows(ResponseStatusException.class, () -> {
-            pollServiceImpl.vote(user, new VoteRequest());
+    @DisplayName("Idempotency-Key가 64자를 넘는 경우 400 예외를 반환한다")
+    void vote_idempotencyKeyTooLong() {
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            pollServiceImpl.vote(user, new VoteRequest(List.of(101L)), "k".repeat(65));
         });
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals(PollResponseMessage.POLL_INVALID_IDEMPOTENCY_KEY, exception.getReason());
+        verify(publishedPollCache, never()).get();
     }
 
     @Test
@@ -385,46 +402,108 @@ class PollServiceImplTest {
         // given
         LocalDateTime now = LocalDateTime.now();
         poll = PollTestBuilder.build("test", 1, 2, now.plusDays(1), now.plusDays(3), PollState.PUBLISHED);
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.of(poll));
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(ballotRepository.insertIfAbsent(any(), any(), any())).thenReturn(1);
 
         // when
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
-            pollServiceImpl.vote(user, new VoteRequest());
+            pollServiceImpl.vote(user, new VoteRequest(List.of(101L)), null);
         });
 
         // then
         assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
         assertEquals(PollResponseMessage.POLL_NOT_IN_VOTING_PERIOD, exception.getReason());
+        verify(voteRepository, never()).saveAll(any());
     }
 
     @Test
     @DisplayName("이미 투표한 경우 409 예외를 반환한다")
     void vote_alreadyVoted() {
         // given
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.of(poll));
-        when(voteRepository.hasVotedLatestPublishedPoll(user.getId())).thenReturn(true);
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(ballotRepository.insertIfAbsent(poll.getId(), user.getId(), "key-2")).thenReturn(0);
+        when(ballotRepository.findByPollIdAndUserId(poll.getId(), user.getId()))
+                .thenReturn(Optional.of(Ballot.builder().poll(poll).user(user).idempotencyKey("key-1").build()));
 
         // when
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
-            pollServiceImpl.vote(user, new VoteRequest(List.of(101L)));
+            pollServiceImpl.vote(user, new VoteRequest(List.of(101L)), "key-2");
         });
 
         // then
         assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
         assertEquals(PollResponseMessage.POLL_ALREADY_VOTED, exception.getReason());
+        verify(voteRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 요청한 경우 투표를 중복 저장하지 않고 처음 결과를 반환한다")
+    void vote_retryWithSameIdempotencyKey() {
+        // given
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(ballotRepository.insertIfAbsent(poll.getId(), user.getId(), "key-1")).thenReturn(0);
+        when(ballotRepository.findByPollIdAndUserId(poll.getId(), user.getId()))
+                .thenReturn(Optional.of(Ballot.builder().poll(poll).user(user).idempotencyKey("key-1").build()));
+
+        // when
+        PollIdResponse response = pollServiceImpl.vote(user, new VoteRequest(List.of(101L)), "key-1");
+
+        // then
+        assertEquals(poll.getId(), response.getPollId());
+        verify(voteRepository, never()).saveAll(any());
+        verify(voteStatisticsRepository, never()).incrementCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 없이 다시 요청한 경우 409 예외를 반환한다")
+    void vote_retryWithoutIdempotencyKey() {
+        // given
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(ballotRepository.insertIfAbsent(poll.getId(), user.getId(), null)).thenReturn(0);
+        when(ballotRepository.findByPollIdAndUserId(poll.getId(), user.getId()))
+                .thenReturn(Optional.of(Ballot.builder().poll(poll).user(user).build()));
+
+        // when
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            pollServiceImpl.vote(user, new VoteRequest(List.of(101L)), null);
+        });
+
+        // then
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("투표에 속하지 않은 선택지나 중복된 선택지를 고른 경우 404 예외를 반환한다")
+    void vote_optionNotInPoll() {
+        // given
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(ballotRepository.insertIfAbsent(any(), any(), any())).thenReturn(1);
+
+        // when
+        ResponseStatusException notInPoll = assertThrows(ResponseStatusException.class, () -> {
+            pollServiceImpl.vote(user, new VoteRequest(List.of(101L, 999L)), null);
+        });
+        ResponseStatusException duplicated = assertThrows(ResponseStatusException.class, () -> {
+            pollServiceImpl.vote(user, new VoteRequest(List.of(101L, 101L)), null);
+        });
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, notInPoll.getStatusCode());
+        assertEquals(PollResponseMessage.POLL_OR_OPTION_NOT_FOUND, notInPoll.getReason());
+        assertEquals(HttpStatus.NOT_FOUND, duplicated.getStatusCode());
+        verify(voteRepository, never()).saveAll(any());
     }
 
     @Test
     @DisplayName("선택된 옵션 수가 범위를 벗어나는 경우 400 예외를 반환한다")
     void vote_optionCountInvalid() {
         // given
-        when(pollRepository.findLatestPollByPublishedPoll()).thenReturn(Optional.of(poll));
-        when(pollOptionRepository.findAllById(List.of(101L, 102L, 103L)))
-                .thenReturn(List.of(option1, option2, option3));
+        when(publishedPollCache.get()).thenReturn(Optional.of(new PollInfoDTO(poll)));
+        when(ballotRepository.insertIfAbsent(any(), any(), any())).thenReturn(1);
 
         // when
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
-            pollServiceImpl.vote(user, new VoteRequest(List.of(101L, 102L, 103L)));
+            pollServiceImpl.vote(user, new VoteRequest(List.of(101L, 102L, 103L)), null);
         });
 
         // then
@@ -432,19 +511,50 @@ class PollServiceImplTest {
         assertEquals(PollResponseMessage.POLL_INVALID_SELECTION_COUNT, exception.getReason());
     }
 
+    @Test
+    @DisplayName("공개 중인 투표의 결과 통계를 투표 기록으로 재계산한다.")
+    void reconcileVoteStatistics_success() {
+        // given
+        when(pollRepository.findByState(PollState.PUBLISHED)).thenReturn(List.of(poll));
+        when(voteStatisticsRepository.reconcileCounts(poll.getId())).thenReturn(2);
+
+        // when
+        int reconciledCnt = pollServiceImpl.reconcileVoteStatistics();
+
+        // then
+        assertEquals(1, reconciledCnt);
+        verify(voteStatisticsRepository, times(1)).reconcileCounts(poll.getId());
+    }
+
+    @Test
+    @DisplayName("투표 기록으로 참여 기록을 채운다.")
+    void backfillBallots_success() {
+        // given
+        when(ballotRepository.backfillFromVotes()).thenReturn(3);
+
+        // when
+        int insertedCnt = pollServiceImpl.backfillBallots();
+
+        // then
+        assertEquals(3, insertedCnt);
+        verify(ballotRepository, times(1)).backfillFromVotes();
+    }
+
     @Test
     @DisplayName("투표 결과 통계 조회에 성공한다.")
     void voteStatistics_success() {
         // given
-        List<VoteStatistics> voteStatisticsList = List.of(optionStats1, optionStats2,  optionStats3);
+        List<OptionResult> optionResults = List.of(optionResult1, optionResult2, optionResult3);
         when(pollRepository.findById(poll.getId())).thenReturn(Optional.of(poll));
-        when(voteStatisticsRepository.findByPollId(poll.getId())).thenReturn(voteStatisticsList);
+        when(voteStatisticsRepository.findOptionResultsByPollId(poll.getId())).thenReturn(optionResults);
 
         // when
-        pollServiceImpl.getVoteStatistics(poll.getId());
+        PollStatisticsResponse response = pollServiceImpl.getVoteStatistics(poll.getId());
 
         // then
-        verify(voteStatisticsRepository, times(1)).findByPollId(any());
+        verify(voteStatisticsRepository, times(1)).findOptionResultsByPollId(any());
+        assertEquals(optionResults, response.getResults());
+        assertEquals(27L, response.getTotalVotes());
     }
 
     @Test